@@ -0,0 +1,77 @@
+package com.example.villagerservice.config.events;
+
+import com.example.villagerservice.config.events.codec.BinaryEventCodec;
+import com.example.villagerservice.config.events.codec.JsonEventCodec;
+import com.example.villagerservice.config.events.codec.PartyCreatedEventSchema;
+import com.example.villagerservice.notification.dto.PartyCreatedMessage;
+import com.example.villagerservice.party.domain.PartyCreatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PartyCreatedEvent 인코딩/디코딩 : JSON(Jackson2JsonMessageConverter 와 같은 본문) vs 바이너리
+ * 본문 크기는 Setup 에서 태그 수별로 출력한다. ("[event-codec] tags=.. json=..B binary=..B")
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventCodecBenchmark {
+
+    @Param({"0", "3", "10"})
+    private int tagCount;
+
+    private JsonEventCodec jsonEventCodec;
+    private BinaryEventCodec binaryEventCodec;
+    private PartyCreatedEvent event;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonEventCodec = new JsonEventCodec(new ObjectMapper());
+        binaryEventCodec = new BinaryEventCodec(List.of(new PartyCreatedEventSchema()));
+
+        List<String> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add("태그" + i);
+        }
+        event = PartyCreatedEvent.createEvent(1168010100L, 37.4979, 127.0276, 36, 4, 123456L,
+                10000, "주말 아침 한강 러닝 모임", tags);
+        json = jsonEventCodec.encode(event);
+        binary = binaryEventCodec.encode(event);
+        System.out.printf("%n[event-codec] tags=%d json=%dB binary=%dB (%.0f%%)%n",
+                tagCount, json.length, binary.length, binary.length * 100.0 / json.length);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return jsonEventCodec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return binaryEventCodec.encode(event);
+    }
+
+    @Benchmark
+    public PartyCreatedMessage jsonDecode() {
+        return jsonEventCodec.decode(json, PartyCreatedMessage.class);
+    }
+
+    @Benchmark
+    public PartyCreatedMessage binaryDecode() {
+        return binaryEventCodec.decode(binary, PartyCreatedMessage.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.villagerservice.events;
+
+import com.example.villagerservice.config.events.EventMessageHandler;
+import com.example.villagerservice.config.events.EventType;
+import com.example.villagerservice.config.events.codec.BinaryEventCodec;
+import com.example.villagerservice.config.events.codec.EventCodecRegistry;
+import com.example.villagerservice.config.events.codec.JsonEventCodec;
+import com.example.villagerservice.config.events.codec.PartyCreatedEventSchema;
+import com.example.villagerservice.events.domain.EventOutbox;
+import com.example.villagerservice.events.infra.InProcessEventBus;
+import com.example.villagerservice.notification.dto.PartyCreatedMessage;
+import com.example.villagerservice.party.domain.PartyCreatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 브로커 없이 이벤트 전달 : 저장된 이벤트 묶음을 InProcessEventBus 에 넣고 핸들러가 모두 받을 때까지의 처리량 (ops/s = 이벤트/s)
+ * EventPublishLoadTest(브로커 confirm)와 비교할 네트워크 없는 기준값이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InProcessEventBusBenchmark {
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"1", "4"})
+    private int consumers;
+
+    @Param({"json", "binary"})
+    private String codec;
+
+    private InProcessEventBus eventBus;
+    private List<EventOutbox> outboxList;
+    private final LongAdder handled = new LongAdder();
+    private long expected;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EventCodecRegistry registry = new EventCodecRegistry(new JsonEventCodec(new ObjectMapper()),
+                new BinaryEventCodec(List.of(new PartyCreatedEventSchema())), codec);
+        EventMessageHandler<PartyCreatedMessage> handler = new EventMessageHandler<>() {
+            @Override
+            public EventType getEventType() {
+                return EventType.PARTY_CREATED_EVENT;
+            }
+
+            @Override
+            public Class<PartyCreatedMessage> getMessageClass() {
+                return PartyCreatedMessage.class;
+            }
+
+            @Override
+            public void handle(PartyCreatedMessage message) {
+                handled.increment();
+            }
+        };
+        eventBus = new InProcessEventBus(registry, List.of(handler), new SimpleMeterRegistry(), 1024, consumers, 5000);
+        eventBus.start();
+
+        outboxList = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= BATCH_SIZE; id++) {
+            PartyCreatedEvent event = PartyCreatedEvent.createEvent(1168010100L, 37.4979, 127.0276, 36, 4, id,
+                    10000, "주말 아침 한강 러닝 모임", List.of("러닝", "주말", "한강"));
+            outboxList.add(EventOutbox.builder()
+                    .eventType(event.getEventType())
+                    .typeId(PartyCreatedEvent.class.getName())
+                    .contentType(registry.getWriteCodec().getContentType())
+                    .payload(registry.getWriteCodec().encode(event))
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        eventBus.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long publishAndHandle() {
+        int confirmed = eventBus.publishConfirmed(outboxList);
+        if (confirmed != BATCH_SIZE) {
+            throw new IllegalStateException("버퍼에 넣지 못한 이벤트가 있습니다. : " + confirmed);
+        }
+        expected += BATCH_SIZE;
+        while (handled.sum() < expected) {
+            Thread.onSpinWait();
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.villagerservice.party;
+
+import com.example.villagerservice.party.dto.PartyChatMessageDto;
+import com.example.villagerservice.party.infra.PartyChatMessageWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메세지 저장 : 메세지마다 채팅방 조회 + 메세지 insert + 연결 테이블 insert vs PartyChatMessageWriter
+ * PartyChatMessageWriter 는 큐를 작게 두어 큐가 차면 저장 속도에 맞춰지므로 초당 처리량이 실제 저장 속도이다.
+ * 10k msgs/s 를 견디는지 보려면 두 경로의 ops/s 를 비교한다. (H2 인메모리 DB 기준)
+ * 측정 (JDK 17, 1 core, 8 threads, -f 2 -wi 5 -i 8, ops/s) : perMessage 36,668 ± 9,387 / writer 270,827 ± 92,390
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class PartyChatWriteBenchmark {
+    private static final long ROOM_ID = 1L;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private PartyChatMessageWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:party-chat-bench;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table party_chat_room (id bigint primary key, room_name varchar(255), host_nickname varchar(255))");
+        jdbcTemplate.execute("create table party_chat_message (id bigint auto_increment primary key, party_chat_room_id bigint, " +
+                "room_id bigint, seq bigint, writer_nickname varchar(255), message varchar(255), created_by varchar(255), " +
+                "modified_by varchar(255), created_at timestamp, modified_at timestamp)");
+        jdbcTemplate.execute("create table party_chat_room_party_chat_message_list (party_chat_room_id bigint, " +
+                "party_chat_message_list_id bigint)");
+        jdbcTemplate.update("insert into party_chat_room values (?, 'room', 'host')", ROOM_ID);
+
+        writer = new PartyChatMessageWriter(jdbcTemplate, new SimpleMeterRegistry(), 1000, 500, 5, 50, 3, 100);
+        writer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        writer.stop();
+        jdbcTemplate.execute("drop all objects");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public int perMessage() {
+        Map<String, Object> room = jdbcTemplate.queryForMap("select * from party_chat_room where id = ?", ROOM_ID);
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("insert into party_chat_message (party_chat_room_id, room_id, writer_nickname, message, " +
+                "created_at, modified_at) values (?, ?, 'writer', 'message', ?, ?)", room.get("id"), ROOM_ID, now, now);
+        Long messageId = jdbcTemplate.queryForObject("select max(id) from party_chat_message", Long.class);
+        return jdbcTemplate.update("insert into party_chat_room_party_chat_message_list values (?, ?)", ROOM_ID, messageId);
+    }
+
+    @Benchmark
+    public void writer() {
+        writer.write(PartyChatMessageDto.builder()
+                .roomId(ROOM_ID)
+                .writerNickname("writer")
+                .message("message")
+                .build());
+    }
+}
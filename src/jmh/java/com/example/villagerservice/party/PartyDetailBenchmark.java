@@ -0,0 +1,148 @@
+package com.example.villagerservice.party;
+
+import com.example.villagerservice.party.dto.PartyCommentDTO;
+import com.example.villagerservice.party.dto.PartyDTO;
+import com.example.villagerservice.party.repository.impl.PartyQueryRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모임 상세 조회 : 엔티티 지연 로딩 경로(모임, 주최자, 주최자 상세, 태그, 전체 댓글, 관심모임 각각 조회) vs 상세 조회 쿼리
+ * 지연 로딩 경로는 JPA 가 보내는 쿼리를 같은 순서로 JdbcTemplate 으로 재현한다.
+ * H2 인메모리 DB 기준이므로 절대값보다는 두 경로의 비율을 본다.
+ * 측정 (JDK 17, 1 core, -f 2 -wi 5 -i 8, us/op) : 댓글 10개 지연 로딩 21.8 ± 8.0 / 상세 쿼리 11.3 ± 0.6,
+ * 댓글 200개 지연 로딩 73.4 ± 12.1 / 상세 쿼리 51.6 ± 12.1 (상세 쿼리는 댓글 첫 페이지 20개만 읽는다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartyDetailBenchmark {
+    private static final String EMAIL = "bench@gmail.com";
+    private static final int PARTY_COUNT = 1000;
+
+    @Param({"10", "200"})
+    private int commentCount;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private PartyQueryRepositoryImpl partyQueryRepository;
+    private long partyId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:party-detail-bench;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        createSchema();
+        insertParties();
+
+        partyQueryRepository = new PartyQueryRepositoryImpl(jdbcTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("drop all objects");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public PartyDTO.Response lazyLoadingDetail() {
+        long id = nextPartyId();
+        Map<String, Object> party = jdbcTemplate.queryForMap("select * from party where party_id = ?", id);
+        Object memberId = party.get("member_id");
+        jdbcTemplate.queryForMap("select * from member where member_id = ?", memberId);
+        Map<String, Object> memberDetail = jdbcTemplate.queryForMap("select * from member_detail where member_id = ?", memberId);
+        List<String> tagNameList = jdbcTemplate.queryForList(
+                "select tag_name from party_tag where party_id = ? order by party_tag_id", String.class, id);
+        List<PartyCommentDTO.Response> commentList = new ArrayList<>();
+        jdbcTemplate.query("select * from party_comment where party_id = ?",
+                (RowCallbackHandler) rs -> commentList.add(PartyCommentDTO.Response.builder()
+                        .partyCommentId(rs.getLong("party_comment_id"))
+                        .contents(rs.getString("contents"))
+                        .partyId(rs.getLong("party_id"))
+                        .build()),
+                id);
+        Boolean partyLike = jdbcTemplate.queryForObject("select count(*) > 0 from party_like as pl " +
+                "join member as m on m.member_id = pl.member_id where pl.party_id = ? and m.email = ?",
+                Boolean.class, id, EMAIL);
+
+        return PartyDTO.Response.builder()
+                .partyName((String) party.get("party_name"))
+                .tagNameList(tagNameList)
+                .commentList(commentList)
+                .nickname((String) memberDetail.get("nickname"))
+                .PartyLike(partyLike)
+                .build();
+    }
+
+    @Benchmark
+    public PartyDTO.Response detailQuery() {
+        return partyQueryRepository.getParty(nextPartyId(), EMAIL).orElseThrow();
+    }
+
+    private long nextPartyId() {
+        partyId = partyId % PARTY_COUNT + 1;
+        return partyId;
+    }
+
+    private void createSchema() {
+        jdbcTemplate.execute("create table member (member_id bigint primary key, email varchar(255))");
+        jdbcTemplate.execute("create table member_detail (member_id bigint primary key, nickname varchar(255), point int)");
+        jdbcTemplate.execute("create table party (party_id bigint primary key, party_name varchar(255), score int, " +
+                "start_dt date, end_dt date, amount int, number_people int, content varchar(255), location varchar(255), " +
+                "member_id bigint)");
+        jdbcTemplate.execute("create table party_tag (party_tag_id bigint auto_increment primary key, " +
+                "tag_name varchar(255), party_id bigint)");
+        jdbcTemplate.execute("create index idx_party_tag_party on party_tag (party_id)");
+        jdbcTemplate.execute("create table party_like (party_like_id bigint auto_increment primary key, " +
+                "member_id bigint, party_id bigint)");
+        jdbcTemplate.execute("create index idx_party_like_party on party_like (party_id)");
+        jdbcTemplate.execute("create table party_comment (party_comment_id bigint auto_increment primary key, " +
+                "contents varchar(255), party_id bigint)");
+        jdbcTemplate.execute("create index idx_party_comment_party on party_comment (party_id)");
+    }
+
+    private void insertParties() {
+        jdbcTemplate.update("insert into member values (1, ?)", EMAIL);
+        jdbcTemplate.update("insert into member_detail values (1, 'bench', 50)");
+
+        Date startDt = Date.valueOf(LocalDate.now());
+        Date endDt = Date.valueOf(LocalDate.now().plusDays(7));
+        List<Object[]> partyArgs = new ArrayList<>();
+        List<Object[]> tagArgs = new ArrayList<>();
+        List<Object[]> likeArgs = new ArrayList<>();
+        List<Object[]> commentArgs = new ArrayList<>();
+        for (long id = 1; id <= PARTY_COUNT; id++) {
+            partyArgs.add(new Object[]{id, "party" + id, 50, startDt, endDt, 10000, 4, "content", "location", 1L});
+            tagArgs.add(new Object[]{"낚시", id});
+            tagArgs.add(new Object[]{"볼링", id});
+            if (id % 10 == 0) {
+                likeArgs.add(new Object[]{1L, id});
+            }
+            for (int i = 0; i < commentCount; i++) {
+                commentArgs.add(new Object[]{"comment" + i, id});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into party values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", partyArgs);
+        jdbcTemplate.batchUpdate("insert into party_tag (tag_name, party_id) values (?, ?)", tagArgs);
+        jdbcTemplate.batchUpdate("insert into party_like (member_id, party_id) values (?, ?)", likeArgs);
+        jdbcTemplate.batchUpdate("insert into party_comment (contents, party_id) values (?, ?)", commentArgs);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.villagerservice.party;
+
+import com.example.villagerservice.common.utils.GeoHashUtils;
+import com.example.villagerservice.party.domain.Party;
+import com.example.villagerservice.party.dto.PartyListDTO;
+import com.example.villagerservice.party.infra.PartyGeoIndex;
+import com.example.villagerservice.party.repository.impl.PartyQueryRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근처 모임 조회 : DB(geohash) 조회 vs 메모리 KD-tree 조회
+ * H2 인메모리 DB 기준이므로 절대값보다는 두 경로의 비율을 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartyListBenchmark {
+    private static final String EMAIL = "bench@gmail.com";
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"10000", "100000"})
+    private int partyCount;
+
+    private SingleConnectionDataSource dataSource;
+    private PartyQueryRepositoryImpl partyQueryRepository;
+    private PartyGeoIndex partyGeoIndex;
+    private double[][] queryList;
+    private int queryIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:party-bench;DB_CLOSE_DELAY=-1", "sa", "", true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        createSchema(jdbcTemplate);
+        insertParties(jdbcTemplate);
+
+        partyQueryRepository = new PartyQueryRepositoryImpl(jdbcTemplate);
+        partyGeoIndex = new PartyGeoIndex(jdbcTemplate, 30, 256);
+        partyGeoIndex.load();
+
+        Random random = new Random(7);
+        queryList = new double[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queryList[i] = new double[]{37.4 + random.nextDouble() * 0.3, 126.8 + random.nextDouble() * 0.4};
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new JdbcTemplate(dataSource).execute("drop all objects");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<PartyListDTO> sqlPartyList() {
+        double[] query = nextQuery();
+        return partyQueryRepository.getPartyList(EMAIL, query[0], query[1], null).getPartyList();
+    }
+
+    @Benchmark
+    public List<Long> indexSearch() {
+        double[] query = nextQuery();
+        return partyGeoIndex.search(query[0], query[1], 5);
+    }
+
+    @Benchmark
+    public List<PartyListDTO> indexPartyList() {
+        double[] query = nextQuery();
+        return partyQueryRepository.getPartyListByIds(EMAIL, partyGeoIndex.search(query[0], query[1], 5));
+    }
+
+    private double[] nextQuery() {
+        queryIndex = (queryIndex + 1) & (QUERY_COUNT - 1);
+        return queryList[queryIndex];
+    }
+
+    private void createSchema(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("create table member (member_id bigint primary key, email varchar(255))");
+        jdbcTemplate.execute("create table member_detail (member_id bigint primary key, nickname varchar(255))");
+        jdbcTemplate.execute("create table party (party_id bigint primary key, party_name varchar(255), " +
+                "start_dt date, end_dt date, content varchar(255), location varchar(255), " +
+                "latitude double, longitude double, geohash varchar(" + Party.GEOHASH_PRECISION + "), member_id bigint)");
+        jdbcTemplate.execute("create index idx_party_geohash on party (geohash)");
+        jdbcTemplate.execute("create table party_tag (party_tag_id bigint auto_increment primary key, " +
+                "tag_name varchar(255), party_id bigint)");
+        jdbcTemplate.execute("create index idx_party_tag_party on party_tag (party_id)");
+        jdbcTemplate.execute("create table party_like (party_like_id bigint auto_increment primary key, " +
+                "member_id bigint, party_id bigint)");
+        jdbcTemplate.execute("create index idx_party_like_party on party_like (party_id)");
+    }
+
+    private void insertParties(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("insert into member values (1, ?)", EMAIL);
+        jdbcTemplate.update("insert into member_detail values (1, 'bench')");
+
+        Random random = new Random(1);
+        Date startDt = Date.valueOf(LocalDate.now());
+        Date endDt = Date.valueOf(LocalDate.now().plusDays(7));
+        List<Object[]> partyArgs = new ArrayList<>();
+        List<Object[]> tagArgs = new ArrayList<>();
+        List<Object[]> likeArgs = new ArrayList<>();
+        for (long id = 1; id <= partyCount; id++) {
+            // 서울 + 인천 일대
+            double latitude = 37.3 + random.nextDouble() * 0.5;
+            double longitude = 126.6 + random.nextDouble() * 0.8;
+            partyArgs.add(new Object[]{id, "party" + id, startDt, endDt, "content", "location",
+                    latitude, longitude, GeoHashUtils.encode(latitude, longitude, Party.GEOHASH_PRECISION), 1L});
+            tagArgs.add(new Object[]{"낚시", id});
+            tagArgs.add(new Object[]{"볼링", id});
+            if (id % 10 == 0) {
+                likeArgs.add(new Object[]{1L, id});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into party values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", partyArgs);
+        jdbcTemplate.batchUpdate("insert into party_tag (tag_name, party_id) values (?, ?)", tagArgs);
+        jdbcTemplate.batchUpdate("insert into party_like (member_id, party_id) values (?, ?)", likeArgs);
+    }
+}
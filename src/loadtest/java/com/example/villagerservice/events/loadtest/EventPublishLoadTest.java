@@ -0,0 +1,205 @@
+package com.example.villagerservice.events.loadtest;
+
+import com.example.villagerservice.config.events.EventProducer;
+import com.example.villagerservice.events.domain.EventOutbox;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 발행 부하 테스트 (로컬 RabbitMQ 필요)
+ * 모임 생성이 몰렸을 때 쌓인 이벤트 --events 개를 아래 방식으로 보내고 처리량(events/s)을 비교한다.
+ *   no-confirm  : 메세지마다 convertAndSend (confirm 없음, 브로커가 받았는지 모른다)
+ *   sync-confirm: 메세지마다 보내고 confirm 을 기다린다
+ *   async-batch : EventProducer.publishConfirmed 로 --batch 개씩 보내고 confirm 을 한 번에 기다린다 (correlated confirm)
+ * 테스트용 exchange 와 자동 삭제 queue 를 만들어 보내고 끝나면 지운다.
+ * ./gradlew eventLoadTest -PloadArgs="--events=100000 --batch=500 --max-in-flight=1000"
+ */
+public class EventPublishLoadTest {
+    private static final String EXCHANGE = "loadtest.events";
+    private static final String ROUTING_KEY = "party-created";
+    private static final String PAYLOAD = "{\"eventType\":\"PARTY_CREATED_EVENT\",\"timestamp\":0,\"body\":{\"townId\":1," +
+            "\"latitude\":37.5,\"longitude\":127.0,\"mannerPoint\":3,\"memberCount\":4,\"partyId\":%d,\"amount\":10000," +
+            "\"partyName\":\"loadtest\",\"tags\":[\"운동\",\"독서\"]}}";
+
+    private final Options options;
+
+    public EventPublishLoadTest(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new EventPublishLoadTest(Options.parse(args)).run();
+    }
+
+    public void run() throws Exception {
+        List<EventOutbox> outboxList = createOutboxList(options.events);
+
+        CachingConnectionFactory simpleFactory = connectionFactory(CachingConnectionFactory.ConfirmType.SIMPLE);
+        CachingConnectionFactory correlatedFactory = connectionFactory(CachingConnectionFactory.ConfirmType.CORRELATED);
+        RabbitAdmin rabbitAdmin = new RabbitAdmin(simpleFactory);
+        DirectExchange exchange = new DirectExchange(EXCHANGE, false, true);
+        Queue queue = new AnonymousQueue();
+        rabbitAdmin.declareExchange(exchange);
+        rabbitAdmin.declareQueue(queue);
+        rabbitAdmin.declareBinding(BindingBuilder.bind(queue).to(exchange).with(ROUTING_KEY));
+        try {
+            RabbitTemplate simpleTemplate = new RabbitTemplate(simpleFactory);
+            RabbitTemplate correlatedTemplate = new RabbitTemplate(correlatedFactory);
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            EventProducer eventProducer = new EventProducer(correlatedTemplate, meterRegistry, EXCHANGE, ROUTING_KEY,
+                    options.confirmTimeoutMillis, options.maxInFlight);
+
+            // 워밍업
+            publishAsyncBatch(eventProducer, outboxList.subList(0, Math.min(outboxList.size(), options.batch * 4)));
+            rabbitAdmin.purgeQueue(queue.getName(), false);
+
+            report("no-confirm", outboxList.size(), measure(() -> {
+                for (EventOutbox outbox : outboxList) {
+                    simpleTemplate.send(EXCHANGE, ROUTING_KEY, toMessage(outbox));
+                }
+            }));
+            rabbitAdmin.purgeQueue(queue.getName(), false);
+
+            report("sync-confirm", outboxList.size(), measure(() -> {
+                for (EventOutbox outbox : outboxList) {
+                    simpleTemplate.invoke(operations -> {
+                        operations.send(EXCHANGE, ROUTING_KEY, toMessage(outbox));
+                        operations.waitForConfirmsOrDie(options.confirmTimeoutMillis);
+                        return null;
+                    });
+                }
+            }));
+            rabbitAdmin.purgeQueue(queue.getName(), false);
+
+            meterRegistry.clear();
+            eventProducer = new EventProducer(correlatedTemplate, meterRegistry, EXCHANGE, ROUTING_KEY,
+                    options.confirmTimeoutMillis, options.maxInFlight);
+            EventProducer producer = eventProducer;
+            report("async-batch", outboxList.size(), measure(() -> publishAsyncBatch(producer, outboxList)));
+            Timer confirmTimer = meterRegistry.timer("events.publish.confirm");
+            print("async-batch confirm latency mean=%.2fms max=%.2fms nack=%.0f timeout=%.0f",
+                    confirmTimer.mean(TimeUnit.MILLISECONDS), confirmTimer.max(TimeUnit.MILLISECONDS),
+                    meterRegistry.counter("events.publish.nack").count(),
+                    meterRegistry.counter("events.publish.timeout").count());
+        } finally {
+            rabbitAdmin.deleteQueue(queue.getName());
+            rabbitAdmin.deleteExchange(EXCHANGE);
+            simpleFactory.destroy();
+            correlatedFactory.destroy();
+        }
+    }
+
+    // EventOutboxRelay 와 같이 확인되지 않은 이벤트부터 다시 보낸다
+    private void publishAsyncBatch(EventProducer eventProducer, List<EventOutbox> outboxList) {
+        int from = 0;
+        while (from < outboxList.size()) {
+            List<EventOutbox> batch = outboxList.subList(from, Math.min(outboxList.size(), from + options.batch));
+            int confirmed = eventProducer.publishConfirmed(batch);
+            if (confirmed == 0) {
+                throw new IllegalStateException("events not confirmed from " + batch.get(0).getId());
+            }
+            from += confirmed;
+        }
+    }
+
+    private long measure(Runnable runnable) {
+        long startedAt = System.nanoTime();
+        runnable.run();
+        return System.nanoTime() - startedAt;
+    }
+
+    private void report(String name, int events, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        print("%-12s events=%d elapsed=%.2fs throughput=%.0f events/s", name, events, seconds, events / seconds);
+    }
+
+    private CachingConnectionFactory connectionFactory(CachingConnectionFactory.ConfirmType confirmType) {
+        CachingConnectionFactory connectionFactory = new CachingConnectionFactory(options.host, options.port);
+        connectionFactory.setUsername(options.username);
+        connectionFactory.setPassword(options.password);
+        connectionFactory.setPublisherConfirmType(confirmType);
+        connectionFactory.setChannelCacheSize(options.channelCacheSize);
+        return connectionFactory;
+    }
+
+    private static Message toMessage(EventOutbox outbox) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setMessageId("outbox-" + outbox.getId());
+        return new Message(outbox.getPayload(), properties);
+    }
+
+    // 저장된 이벤트처럼 id 를 넣는다
+    private static List<EventOutbox> createOutboxList(int events) throws ReflectiveOperationException {
+        Field idField = EventOutbox.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        List<EventOutbox> outboxList = new ArrayList<>(events);
+        for (long id = 1; id <= events; id++) {
+            EventOutbox outbox = EventOutbox.builder()
+                    .eventType("PARTY_CREATED_EVENT")
+                    .typeId("com.example.villagerservice.party.domain.PartyCreatedEvent")
+                    .contentType(MessageProperties.CONTENT_TYPE_JSON)
+                    .payload(String.format(PAYLOAD, id).getBytes(StandardCharsets.UTF_8))
+                    .build();
+            idField.set(outbox, id);
+            outboxList.add(outbox);
+        }
+        return outboxList;
+    }
+
+    private static void print(String format, Object... args) {
+        System.out.println("[event-loadtest] " + String.format(format, args));
+    }
+
+    static class Options {
+        String host = "localhost";
+        int port = 5672;
+        String username = "guest";
+        String password = "guest";
+        int events = 50000;
+        int batch = 500;
+        int maxInFlight = 1000;
+        int channelCacheSize = 8;
+        long confirmTimeoutMillis = 5000;
+
+        // --name=value
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("unknown argument : " + arg);
+                }
+                String name = arg.substring(2, arg.indexOf('='));
+                String value = arg.substring(arg.indexOf('=') + 1);
+                switch (name) {
+                    case "host": options.host = value; break;
+                    case "port": options.port = Integer.parseInt(value); break;
+                    case "username": options.username = value; break;
+                    case "password": options.password = value; break;
+                    case "events": options.events = Integer.parseInt(value); break;
+                    case "batch": options.batch = Integer.parseInt(value); break;
+                    case "max-in-flight": options.maxInFlight = Integer.parseInt(value); break;
+                    case "channel-cache-size": options.channelCacheSize = Integer.parseInt(value); break;
+                    case "confirm-timeout": options.confirmTimeoutMillis = Long.parseLong(value); break;
+                    default: throw new IllegalArgumentException("unknown argument : " + arg);
+                }
+            }
+            return options;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.villagerservice.party.loadtest;
+
+import com.example.villagerservice.VillagerServiceApplication;
+import com.example.villagerservice.party.domain.PartyChatRoom;
+import com.example.villagerservice.party.repository.PartyChatRoomRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * /stomp/chat 부하 테스트
+ * 세션을 여러 개 열어 채팅방에 나눠 구독, 입장(/pub/api/v1/parties/chat/enter)시킨 뒤 정해진 속도로 메세지를 보내고
+ * 보낸 시점부터 각 구독자가 받기까지의 시간(fan-out 지연) 분포를 출력한다.
+ *
+ * url 을 주지 않으면 local 프로필(H2)로 서버를 같은 JVM 에 띄우고 채팅방을 만들어서 테스트한다. (Redis, RabbitMQ 불필요)
+ * ./gradlew chatLoadTest -PloadArgs="--sessions=2000 --rooms=100 --rate=1000 --duration=60"
+ * 이미 떠 있는 서버 : --url=ws://host:8080/stomp/chat/websocket --room-ids=1,2,3 --token=[access token]
+ */
+public class PartyChatLoadTest {
+    private static final String ENTER_DESTINATION = "/pub/api/v1/parties/chat/enter";
+    private static final String MESSAGE_DESTINATION = "/pub/api/v1/parties/chat/message";
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+    // 부하 테스트 메세지 : loadtest:[보낸 시각 nanoTime]
+    private static final String MESSAGE_PREFIX = "loadtest:";
+
+    private final Options options;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder expected = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder sendFailed = new LongAdder();
+    private final LongAdder transportErrors = new LongAdder();
+    // 측정 시작 전에 보낸 메세지는 지연에 넣지 않는다
+    private volatile long measureFrom = Long.MAX_VALUE;
+
+    private final List<ClientSession> sessions = new ArrayList<>();
+    private final Map<Long, Integer> subscriberCounts = new HashMap<>();
+
+    public PartyChatLoadTest(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        ConfigurableApplicationContext context = null;
+        try {
+            if (options.url == null) {
+                context = startServer();
+                options.url = "ws://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                        + "/stomp/chat/websocket";
+                options.roomIds = createRooms(context, options.rooms);
+            }
+            new PartyChatLoadTest(options).run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    public void run() throws Exception {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("loadtest-stomp-");
+        scheduler.initialize();
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        stompClient.setTaskScheduler(scheduler);
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+
+        try {
+            connect(stompClient);
+            publish();
+            report();
+        } finally {
+            sessions.forEach(session -> {
+                if (session.stompSession.isConnected()) {
+                    session.stompSession.disconnect();
+                }
+            });
+            stompClient.stop();
+            scheduler.shutdown();
+        }
+    }
+
+    // 세션을 채팅방에 돌아가며 배정, 동시에 여는 연결 수는 connect-concurrency 로 제한
+    private void connect(WebSocketStompClient stompClient) throws Exception {
+        log("connect %d sessions to %s (%d rooms)", options.sessions, options.url, options.roomIds.size());
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        if (options.token != null) {
+            handshakeHeaders.add("Authorization", "Bearer " + options.token);
+        }
+
+        Semaphore permits = new Semaphore(options.connectConcurrency);
+        List<CompletableFuture<ClientSession>> futures = new ArrayList<>();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < options.sessions; i++) {
+            Long roomId = options.roomIds.get(i % options.roomIds.size());
+            String nickname = "loadtest" + i;
+            permits.acquire();
+            CompletableFuture<ClientSession> future = stompClient
+                    .connect(options.url, handshakeHeaders, new SessionHandler())
+                    .completable()
+                    .thenApply(stompSession -> join(stompSession, roomId, nickname));
+            future.whenComplete((session, e) -> permits.release());
+            futures.add(future);
+        }
+
+        int failed = 0;
+        for (CompletableFuture<ClientSession> future : futures) {
+            try {
+                ClientSession session = future.get(options.connectTimeoutSeconds, TimeUnit.SECONDS);
+                sessions.add(session);
+                subscriberCounts.merge(session.roomId, 1, Integer::sum);
+            } catch (Exception e) {
+                failed++;
+            }
+        }
+        log("connected %d sessions in %d ms (failed %d)", sessions.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), failed);
+        if (sessions.isEmpty()) {
+            throw new IllegalStateException("no session connected");
+        }
+    }
+
+    private ClientSession join(StompSession stompSession, Long roomId, String nickname) {
+        stompSession.subscribe(ROOM_DESTINATION_PREFIX + roomId, new RoomFrameHandler());
+        stompSession.send(ENTER_DESTINATION, payload(roomId, nickname, ""));
+        return new ClientSession(stompSession, roomId, nickname);
+    }
+
+    // 10ms 마다 rate 에 맞는 수만큼 임의의 세션에서 메세지 전송
+    private void publish() throws InterruptedException {
+        log("publish %d msg/s for %d s (warmup %d s)", options.rate, options.durationSeconds, options.warmupSeconds);
+        ScheduledExecutorService publisher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "loadtest-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicLong due = new AtomicLong();
+        long startedAt = System.nanoTime();
+        publisher.scheduleAtFixedRate(() -> {
+            long elapsed = System.nanoTime() - startedAt;
+            long shouldHaveSent = elapsed * options.rate / TimeUnit.SECONDS.toNanos(1);
+            while (due.get() < shouldHaveSent) {
+                due.incrementAndGet();
+                sendOne();
+            }
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        TimeUnit.SECONDS.sleep(options.warmupSeconds);
+        measureFrom = System.nanoTime();
+        TimeUnit.SECONDS.sleep(options.durationSeconds);
+        publisher.shutdownNow();
+        publisher.awaitTermination(5, TimeUnit.SECONDS);
+
+        // 전달 중인 메세지 대기
+        TimeUnit.SECONDS.sleep(options.drainSeconds);
+    }
+
+    private void sendOne() {
+        ClientSession session = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+        long now = System.nanoTime();
+        try {
+            session.stompSession.send(MESSAGE_DESTINATION,
+                    payload(session.roomId, session.nickname, MESSAGE_PREFIX + now));
+            if (now >= measureFrom) {
+                sent.increment();
+                expected.add(subscriberCounts.get(session.roomId));
+            }
+        } catch (RuntimeException e) {
+            sendFailed.increment();
+        }
+    }
+
+    private void report() {
+        double seconds = options.durationSeconds;
+        long deliveries = received.sum();
+        log("sent %d (%.1f msg/s), send failed %d, transport errors %d", sent.sum(), sent.sum() / seconds,
+                sendFailed.sum(), transportErrors.sum());
+        log("delivered %d / %d expected (%.1f deliveries/s, lost %d)", deliveries, expected.sum(),
+                deliveries / seconds, Math.max(0, expected.sum() - deliveries));
+        log("fan-out latency (ms) p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f",
+                toMillis(latency.getValueAtPercentile(50)), toMillis(latency.getValueAtPercentile(90)),
+                toMillis(latency.getValueAtPercentile(99)), toMillis(latency.getValueAtPercentile(99.9)),
+                toMillis(latency.getMax()));
+    }
+
+    private void onMessage(Map<?, ?> payload) {
+        Object message = payload.get("message");
+        if (!(message instanceof String) || !((String) message).startsWith(MESSAGE_PREFIX)) {
+            return;
+        }
+        long sentAt = Long.parseLong(((String) message).substring(MESSAGE_PREFIX.length()));
+        if (sentAt < measureFrom) {
+            return;
+        }
+        received.increment();
+        latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAt));
+    }
+
+    private static Map<String, Object> payload(Long roomId, String nickname, String message) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("roomId", roomId);
+        payload.put("writerNickname", nickname);
+        payload.put("message", message);
+        return payload;
+    }
+
+    private static ConfigurableApplicationContext startServer() {
+        return new SpringApplicationBuilder(VillagerServiceApplication.class)
+                .profiles("local")
+                .properties(
+                        "server.port=0",
+                        "jwt.active=false",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "decorator.datasource.p6spy.enable-logging=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    private static List<Long> createRooms(ConfigurableApplicationContext context, int rooms) {
+        PartyChatRoomRepository repository = context.getBean(PartyChatRoomRepository.class);
+        List<Long> roomIds = new ArrayList<>();
+        for (int i = 0; i < rooms; i++) {
+            roomIds.add(repository.save(PartyChatRoom.toEntity("loadtest", "loadtest" + i)).getId());
+        }
+        return roomIds;
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println("[chat-loadtest] " + String.format(format, args));
+    }
+
+    private class SessionHandler extends StompSessionHandlerAdapter {
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            transportErrors.increment();
+        }
+    }
+
+    private class RoomFrameHandler implements StompFrameHandler {
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            onMessage((Map<?, ?>) payload);
+        }
+    }
+
+    private static class ClientSession {
+        private final StompSession stompSession;
+        private final Long roomId;
+        private final String nickname;
+
+        private ClientSession(StompSession stompSession, Long roomId, String nickname) {
+            this.stompSession = stompSession;
+            this.roomId = roomId;
+            this.nickname = nickname;
+        }
+    }
+
+    static class Options {
+        String url;
+        String token;
+        List<Long> roomIds;
+        int sessions = 1000;
+        int rooms = 50;
+        int rate = 500;
+        int durationSeconds = 30;
+        int warmupSeconds = 5;
+        int drainSeconds = 3;
+        int connectConcurrency = 200;
+        int connectTimeoutSeconds = 30;
+
+        // --name=value
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("unknown argument : " + arg);
+                }
+                String name = arg.substring(2, arg.indexOf('='));
+                String value = arg.substring(arg.indexOf('=') + 1);
+                switch (name) {
+                    case "url": options.url = value; break;
+                    case "token": options.token = value; break;
+                    case "room-ids":
+                        options.roomIds = Arrays.stream(value.split(","))
+                                .map(String::trim)
+                                .map(Long::valueOf)
+                                .collect(Collectors.toList());
+                        break;
+                    case "sessions": options.sessions = Integer.parseInt(value); break;
+                    case "rooms": options.rooms = Integer.parseInt(value); break;
+                    case "rate": options.rate = Integer.parseInt(value); break;
+                    case "duration": options.durationSeconds = Integer.parseInt(value); break;
+                    case "warmup": options.warmupSeconds = Integer.parseInt(value); break;
+                    case "drain": options.drainSeconds = Integer.parseInt(value); break;
+                    case "connect-concurrency": options.connectConcurrency = Integer.parseInt(value); break;
+                    case "connect-timeout": options.connectTimeoutSeconds = Integer.parseInt(value); break;
+                    default: throw new IllegalArgumentException("unknown argument : " + arg);
+                }
+            }
+            if (options.url != null && (options.roomIds == null || options.roomIds.isEmpty())) {
+                throw new IllegalArgumentException("--room-ids is required with --url");
+            }
+            return options;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class VillagerServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(VillagerServiceApplication.class, args);
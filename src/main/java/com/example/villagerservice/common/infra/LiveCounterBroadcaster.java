@@ -0,0 +1,106 @@
+package com.example.villagerservice.common.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수, 좋아요 수 같은 카운터를 /sub/counters/{type}/{id} 구독자에게 알려준다.
+ * 값이 바뀔 때마다 보내지 않고 마지막 값만 모아 두었다가 주기(live-counter.interval-ms)마다 한 번씩 보낸다.
+ * 다른 서버에 연결된 구독자에게는 LiveCounterFanout 으로 전달한다.
+ */
+@Slf4j
+@Component
+public class LiveCounterBroadcaster {
+    public static final String DESTINATION_PREFIX = "/sub/counters/";
+
+    private final LiveCounterFanout liveCounterFanout;
+
+    private final Counter updateCounter;
+    private final Counter broadcastCounter;
+
+    // 보내지 않은 마지막 값
+    private final Map<Key, Long> pendingMap = new ConcurrentHashMap<>();
+
+    public LiveCounterBroadcaster(LiveCounterFanout liveCounterFanout, MeterRegistry meterRegistry) {
+        this.liveCounterFanout = liveCounterFanout;
+
+        this.updateCounter = meterRegistry.counter("live.counter.update");
+        this.broadcastCounter = meterRegistry.counter("live.counter.broadcast");
+        Gauge.builder("live.counter.pending", pendingMap, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 바뀐 값 (다음 주기에 마지막 값만 전송)
+     * @param type
+     * @param id
+     * @param value
+     */
+    public void update(LiveCounterType type, Long id, long value) {
+        pendingMap.put(new Key(type, id), value);
+        updateCounter.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${live-counter.interval-ms:1000}")
+    public void broadcast() {
+        List<Payload> payloadList = new ArrayList<>();
+        for (Key key : pendingMap.keySet()) {
+            Long value = pendingMap.remove(key);
+            if (value != null) {
+                payloadList.add(new Payload(key.type.getPath(), key.id, value));
+            }
+        }
+        if (payloadList.isEmpty()) {
+            return;
+        }
+
+        // 실패하면 이번 주기의 값은 버린다 (다음 변경 때 다시 보낸다)
+        try {
+            liveCounterFanout.publish(payloadList);
+            broadcastCounter.increment(payloadList.size());
+        } catch (RuntimeException e) {
+            log.warn("LiveCounterBroadcaster broadcast failed : {}", payloadList.size(), e);
+        }
+    }
+
+    public int getPendingSize() {
+        return pendingMap.size();
+    }
+
+    public static String destinationOf(LiveCounterType type, Long id) {
+        return DESTINATION_PREFIX + type.getPath() + "/" + id;
+    }
+
+    public static String destinationOf(Payload payload) {
+        return DESTINATION_PREFIX + payload.getType() + "/" + payload.getId();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Payload {
+        private String type;
+        private Long id;
+        private Long value;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final LiveCounterType type;
+        private final Long id;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.villagerservice.common.infra;
+
+import java.util.List;
+
+/**
+ * 카운터 구독자에게 값을 전달하는 방법 (party.chat.fanout 과 같은 설정)
+ * local : 이 서버의 SimpleBroker 로 바로 전달 (서버 1대)
+ * redis : 공용 Redis 채널로 발행하고, 모든 서버가 받아서 자기 구독자에게 전달 (서버 여러 대)
+ */
+public interface LiveCounterFanout {
+
+    /**
+     * 한 주기 동안 바뀐 카운터 값을 /sub/counters/{type}/{id} 구독자 전체에게 전달
+     * @param payloadList
+     */
+    void publish(List<LiveCounterBroadcaster.Payload> payloadList);
+}
@@ -0,0 +1,16 @@
+package com.example.villagerservice.common.infra;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 실시간으로 알려주는 카운터 종류 (/sub/counters/{path}/{id})
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LiveCounterType {
+    POST_VIEW("post-view"),
+    PARTY_LIKE("party-like");
+
+    private final String path;
+}
@@ -0,0 +1,25 @@
+package com.example.villagerservice.common.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 서버가 1대일 때 사용하는 전달 방식 (이 서버에 연결된 구독자에게만 전달)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "party.chat.fanout", havingValue = "local", matchIfMissing = true)
+public class LocalLiveCounterFanout implements LiveCounterFanout {
+    private final SimpMessagingTemplate template;
+
+    @Override
+    public void publish(List<LiveCounterBroadcaster.Payload> payloadList) {
+        for (LiveCounterBroadcaster.Payload payload : payloadList) {
+            template.convertAndSend(LiveCounterBroadcaster.destinationOf(payload), payload);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.villagerservice.common.infra;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 서버가 여러 대일 때 사용하는 전달 방식
+ * 한 주기 동안 바뀐 값을 묶어 공용 Redis 채널(live:counters)로 한 번 발행하고, 모든 서버가 받아서 자기 구독자에게 전달한다.
+ * 주기마다 1건이라 채팅방처럼 카운터별 채널로 나누지 않는다. (보낸 서버도 Redis 를 거쳐 받는다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "party.chat.fanout", havingValue = "redis")
+public class RedisLiveCounterFanout implements LiveCounterFanout {
+    private static final String CHANNEL = "live:counters";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final SimpMessagingTemplate template;
+    private final ObjectMapper objectMapper;
+
+    private final Counter publishCounter;
+    private final Counter receiveCounter;
+
+    public RedisLiveCounterFanout(RedisTemplate<String, Object> redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  SimpMessagingTemplate template,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.template = template;
+        this.objectMapper = objectMapper;
+
+        this.publishCounter = meterRegistry.counter("live.counter.fanout", "type", "publish");
+        this.receiveCounter = meterRegistry.counter("live.counter.fanout", "type", "receive");
+
+        listenerContainer.addMessageListener((message, pattern) -> deliver(message.getBody()), new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void publish(List<LiveCounterBroadcaster.Payload> payloadList) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(payloadList);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+        redisTemplate.convertAndSend(CHANNEL, body);
+        publishCounter.increment();
+    }
+
+    private void deliver(byte[] body) {
+        List<LiveCounterBroadcaster.Payload> payloadList;
+        try {
+            payloadList = objectMapper.readValue(body, new TypeReference<List<LiveCounterBroadcaster.Payload>>() {});
+        } catch (IOException e) {
+            log.warn("RedisLiveCounterFanout read failed : {}", new String(body, StandardCharsets.UTF_8), e);
+            return;
+        }
+        for (LiveCounterBroadcaster.Payload payload : payloadList) {
+            try {
+                template.convertAndSend(LiveCounterBroadcaster.destinationOf(payload), payload);
+                receiveCounter.increment();
+            } catch (RuntimeException e) {
+                log.warn("RedisLiveCounterFanout deliver failed : {} {}", payload.getType(), payload.getId(), e);
+            }
+        }
+    }
+}
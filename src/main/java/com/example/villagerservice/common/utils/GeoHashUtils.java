@@ -0,0 +1,166 @@
+package com.example.villagerservice.common.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public abstract class GeoHashUtils {
+
+    public static final int MAX_PRECISION = 12;
+    public static final double EARTH_RADIUS_KM = 6371;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final int[] BASE32_INDEX = new int[128];
+
+    static {
+        Arrays.fill(BASE32_INDEX, -1);
+        for (int i = 0; i < BASE32.length; i++) {
+            BASE32_INDEX[BASE32[i]] = i;
+        }
+    }
+
+    /**
+     * 위경도를 지정한 길이의 geohash 문자열로 변환
+     * @param latitude
+     * @param longitude
+     * @param precision
+     * @return
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision : " + precision);
+        }
+
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * geohash 셀의 경계 반환 [minLat, minLng, maxLat, maxLng]
+     * @param geohash
+     * @return
+     */
+    public static double[] bounds(String geohash) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        boolean evenBit = true;
+
+        for (int i = 0; i < geohash.length(); i++) {
+            char c = geohash.charAt(i);
+            int index = c < BASE32_INDEX.length ? BASE32_INDEX[c] : -1;
+            if (index < 0) {
+                throw new IllegalArgumentException("geohash : " + geohash);
+            }
+            for (int n = 4; n >= 0; n--) {
+                int bitN = (index >> n) & 1;
+                if (evenBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (bitN == 1) {
+                        minLng = mid;
+                    } else {
+                        maxLng = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (bitN == 1) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{minLat, minLng, maxLat, maxLng};
+    }
+
+    /**
+     * 중심 셀과 주변 8개 셀 반환 (극지방을 넘어가는 셀은 제외)
+     * @param geohash
+     * @return
+     */
+    public static List<String> cellWithNeighbours(String geohash) {
+        double[] bounds = bounds(geohash);
+        double latSpan = bounds[2] - bounds[0];
+        double lngSpan = bounds[3] - bounds[1];
+        double centerLat = (bounds[0] + bounds[2]) / 2;
+        double centerLng = (bounds[1] + bounds[3]) / 2;
+
+        List<String> cells = new ArrayList<>(9);
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            double lat = centerLat + dLat * latSpan;
+            if (lat <= -90 || lat >= 90) {
+                continue;
+            }
+            for (int dLng = -1; dLng <= 1; dLng++) {
+                String cell = encode(lat, normalizeLongitude(centerLng + dLng * lngSpan), geohash.length());
+                if (!cells.contains(cell)) {
+                    cells.add(cell);
+                }
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 중심 셀과 주변 8개 셀이 보장하는 탐색 반경(km)
+     * 이 반경 안에 있는 지점은 반드시 9개 셀 중 하나에 포함된다.
+     * @param latitude
+     * @param precision
+     * @return
+     */
+    public static double coveredRadiusKm(double latitude, int precision) {
+        double[] bounds = bounds(encode(latitude, 0, precision));
+        double latSpan = bounds[2] - bounds[0];
+        double lngSpan = Math.min(bounds[3] - bounds[1], 90);
+
+        double latRadius = EARTH_RADIUS_KM * Math.toRadians(latSpan);
+        double lngRadius = EARTH_RADIUS_KM * Math.asin(
+                Math.cos(Math.toRadians(latitude)) * Math.sin(Math.toRadians(lngSpan)));
+        return Math.min(latRadius, lngRadius);
+    }
+
+    private static double normalizeLongitude(double longitude) {
+        if (longitude >= 180) {
+            return longitude - 360;
+        }
+        if (longitude < -180) {
+            return longitude + 360;
+        }
+        return longitude;
+    }
+}
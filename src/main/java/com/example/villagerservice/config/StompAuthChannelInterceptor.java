@@ -0,0 +1,98 @@
+package com.example.villagerservice.config;
+
+import com.example.villagerservice.common.jwt.JwtTokenException;
+import com.example.villagerservice.common.jwt.JwtTokenProvider;
+import com.example.villagerservice.member.domain.Member;
+import com.example.villagerservice.party.exception.PartyException;
+import com.example.villagerservice.party.infra.PartyChatFanout;
+import com.example.villagerservice.party.infra.PartyChatMembershipCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Principal;
+
+import static com.example.villagerservice.common.jwt.JwtTokenErrorCode.JWT_ACCESS_TOKEN_NOT_EXIST;
+import static com.example.villagerservice.party.exception.PartyErrorCode.PARTY_CHAT_ROOM_FORBIDDEN;
+
+/**
+ * STOMP 인증, 채팅방 권한 검사
+ * CONNECT 에서 Authorization 헤더의 JWT 를 한 번 검증해서 세션 사용자로 저장하고,
+ * 이후 프레임은 저장된 사용자로 검사한다. (채팅방 구독 권한은 PartyChatMembershipCache 로 확인)
+ * 메세지 전송 권한은 채팅방 id 가 본문에 있어 PartyChatController 에서 확인한다.
+ */
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final PartyChatMembershipCache partyChatMembershipCache;
+    private final boolean jwtActive;
+
+    public StompAuthChannelInterceptor(JwtTokenProvider jwtTokenProvider,
+                                       PartyChatMembershipCache partyChatMembershipCache,
+                                       @Value("${jwt.active:true}") boolean jwtActive) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.partyChatMembershipCache = partyChatMembershipCache;
+        this.jwtActive = jwtActive;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (!jwtActive || accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader(AUTHORIZATION_HEADER)));
+        } else if (command == StompCommand.SUBSCRIBE) {
+            Member member = getAuthenticatedMember(accessor.getUser());
+            Long roomId = PartyChatFanout.roomIdOf(accessor.getDestination());
+            if (roomId != null && !partyChatMembershipCache.isMember(roomId, member.getId())) {
+                throw new PartyException(PARTY_CHAT_ROOM_FORBIDDEN);
+            }
+        } else if (command == StompCommand.SEND) {
+            getAuthenticatedMember(accessor.getUser());
+        }
+        return message;
+    }
+
+    /**
+     * 세션 사용자 (인증하지 않은 세션이면 null)
+     * @param user
+     * @return
+     */
+    public static Member getMember(Principal user) {
+        if (user instanceof Authentication && ((Authentication) user).getPrincipal() instanceof Member) {
+            return (Member) ((Authentication) user).getPrincipal();
+        }
+        return null;
+    }
+
+    private Authentication authenticate(String authorization) {
+        if (!StringUtils.hasText(authorization) || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new JwtTokenException(JWT_ACCESS_TOKEN_NOT_EXIST);
+        }
+        String accessToken = authorization.substring(BEARER_PREFIX.length());
+        jwtTokenProvider.validateAccessToken(accessToken);
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    private Member getAuthenticatedMember(Principal user) {
+        Member member = getMember(user);
+        if (member == null) {
+            throw new JwtTokenException(JWT_ACCESS_TOKEN_NOT_EXIST);
+        }
+        return member;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.villagerservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션별 전송 제한(시간, 버퍼 크기)을 넘은 느린 세션 처리 정책을 적용하는 WebSocket 핸들러
+ * TERMINATE : 세션을 끊는다. (클라이언트가 다시 접속해서 대화내용을 받는다)
+ * DROP : 버퍼에 쌓인 오래된 메세지부터 버리고 세션은 유지한다. (전송 시간 제한을 넘으면 DROP 이어도 끊는다)
+ */
+public class StompSessionHandler extends SubProtocolWebSocketHandler {
+    private static final String METRIC_PREFIX = "party.chat.outbound";
+
+    private final OverflowStrategy overflowStrategy;
+    private final Timer sendTimer;
+    private final Counter droppedMessageCounter;
+    private final Counter timeLimitCounter;
+    private final Counter bufferLimitCounter;
+
+    public StompSessionHandler(MessageChannel clientInboundChannel,
+                               SubscribableChannel clientOutboundChannel,
+                               OverflowStrategy overflowStrategy,
+                               MeterRegistry meterRegistry) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.overflowStrategy = overflowStrategy;
+
+        this.sendTimer = meterRegistry.timer(METRIC_PREFIX + ".send");
+        this.droppedMessageCounter = meterRegistry.counter(METRIC_PREFIX + ".dropped");
+        this.timeLimitCounter = meterRegistry.counter("party.chat.session.dropped", "reason", "send-time");
+        this.bufferLimitCounter = meterRegistry.counter("party.chat.session.dropped", "reason", "buffer-size");
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        return new MeteredSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit(), overflowStrategy);
+    }
+
+    private class MeteredSessionDecorator extends ConcurrentWebSocketSessionDecorator {
+
+        private MeteredSessionDecorator(WebSocketSession session, int sendTimeLimit, int bufferSizeLimit,
+                                        OverflowStrategy overflowStrategy) {
+            super(session, sendTimeLimit, bufferSizeLimit, overflowStrategy);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            // 버퍼가 제한을 넘으면 DROP 정책에서는 오래된 메세지를 버린다 (대략적인 수)
+            if (overflowStrategy == OverflowStrategy.DROP
+                    && getBufferSize() + message.getPayloadLength() > getBufferSizeLimit()) {
+                droppedMessageCounter.increment();
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                super.sendMessage(message);
+            } catch (SessionLimitExceededException e) {
+                if (getTimeSinceSendStarted() > getSendTimeLimit()) {
+                    timeLimitCounter.increment();
+                } else {
+                    bufferLimitCounter.increment();
+                }
+                throw e;
+            } finally {
+                sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -1,15 +1,64 @@
 package com.example.villagerservice.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 //Stomp를 사용하기위해 선언하는 어노테이션
 @EnableWebSocketMessageBroker
 @Configuration
+@RequiredArgsConstructor
 public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final MeterRegistry meterRegistry;
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Value("${party.chat.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${party.chat.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${party.chat.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${party.chat.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${party.chat.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${party.chat.outbound.queue-capacity:5000}")
+    private int outboundQueueCapacity;
+
+    @Value("${party.chat.outbound.overflow:TERMINATE}")
+    private OverflowStrategy overflowStrategy;
+
+    @Value("${party.chat.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${party.chat.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimit;
+
+    @Value("${party.chat.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
     /*어플리케이션 내부에서 사용할 path를 지정할 수 있음*/
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
@@ -25,4 +74,60 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
             .setAllowedOrigins("*")
             .withSockJS();
     }
-}
\ No newline at end of file
+
+    // 클라이언트가 보낸 메세지 처리 (큐가 가득 차면 거절해서 클라이언트에 에러를 보낸다)
+    // 인증, 권한 검사는 보내는 스레드에서 실행되므로 실패한 프레임은 큐에 들어가지 않는다
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+        registration.taskExecutor(createExecutor("stomp-inbound-", inboundCorePoolSize, inboundMaxPoolSize,
+            inboundQueueCapacity, new ThreadPoolExecutor.AbortPolicy()));
+    }
+
+    // 클라이언트로 보낼 메세지 처리 (큐가 가득 차면 보내는 스레드가 직접 처리해서 발행 속도를 늦춘다)
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(createExecutor("stomp-outbound-", outboundCorePoolSize, outboundMaxPoolSize,
+            outboundQueueCapacity, new ThreadPoolExecutor.CallerRunsPolicy()));
+    }
+
+    // 세션별 전송 제한, 넘으면 overflow 정책에 따라 처리 (StompSessionHandler)
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimit)
+            .setSendTimeLimit(sendTimeLimit)
+            .setSendBufferSizeLimit(sendBufferSizeLimit);
+    }
+
+    // 기본 SubProtocolWebSocketHandler 를 느린 세션 처리 정책이 있는 핸들러로 교체
+    @Bean
+    public WebSocketHandler subProtocolWebSocketHandler(
+            @Qualifier("clientInboundChannel") AbstractSubscribableChannel clientInboundChannel,
+            @Qualifier("clientOutboundChannel") AbstractSubscribableChannel clientOutboundChannel) {
+        return new StompSessionHandler(clientInboundChannel, clientOutboundChannel, overflowStrategy, meterRegistry);
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize,
+                                                  int queueCapacity, RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+
+        Gauge.builder("party.chat.channel.queue", executor, StompWebSocketConfig::getQueueSize)
+            .tag("channel", threadNamePrefix.substring(0, threadNamePrefix.length() - 1))
+            .register(meterRegistry);
+        return executor;
+    }
+
+    // 초기화 전에는 0
+    private static int getQueueSize(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.villagerservice.config.events;
+
+/**
+ * 받은 이벤트 처리 (브로커로 받든 InProcessEventBus 로 받든 같은 핸들러를 쓴다)
+ * @param <M> 받는 쪽 이벤트 형식 (EventCodec 으로 읽는다)
+ */
+public interface EventMessageHandler<M> {
+
+    EventType getEventType();
+
+    Class<M> getMessageClass();
+
+    /**
+     * @param message
+     * @throws java.util.concurrent.RejectedExecutionException 지금은 받을 수 없음 (잠시 뒤 다시 전달한다)
+     */
+    void handle(M message);
+}
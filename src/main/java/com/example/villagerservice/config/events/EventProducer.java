@@ -1,26 +1,172 @@
 package com.example.villagerservice.config.events;
 
-import com.example.villagerservice.party.domain.PartyCreatedEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.example.villagerservice.events.domain.EventOutbox;
+import com.example.villagerservice.events.infra.EventOutboxPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-@Component
-@RequiredArgsConstructor
-public class EventProducer {
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
-    @Value("${spring.rabbitmq.template.exchange}")
-    private String exchangeName;
-    @Value("${spring.rabbitmq.template.routing-key}")
-    private String routingKey;
+/**
+ * 이벤트를 브로커로 보낸다.
+ * 메세지마다 confirm 을 기다리지 않고 보내고(correlated confirm), confirm 은 비동기로 받는다.
+ * confirm 을 기다리는 메세지(in-flight)가 max-in-flight 에 닿으면 confirm 이 올 때까지 보내지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "events.transport", havingValue = "rabbitmq", matchIfMissing = true)
+public class EventProducer implements EventOutboxPublisher {
+    private static final String METRIC_PREFIX = "events.publish";
+    private static final String OUTBOX_MESSAGE_ID_PREFIX = "outbox-";
 
     private final RabbitTemplate rabbitTemplate;
-    private final ObjectMapper objectMapper;
+    private final String exchangeName;
+    private final String routingKey;
+    private final long confirmTimeoutMillis;
+    private final Semaphore inFlight;
+
+    private final Timer confirmTimer;
+    private final Counter nackCounter;
+    private final Counter timeoutCounter;
+
+    public EventProducer(RabbitTemplate rabbitTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${spring.rabbitmq.template.exchange}") String exchangeName,
+                         @Value("${spring.rabbitmq.template.routing-key}") String routingKey,
+                         @Value("${events.publisher.confirm-timeout-ms:5000}") long confirmTimeoutMillis,
+                         @Value("${events.publisher.max-in-flight:1000}") int maxInFlight) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchangeName = exchangeName;
+        this.routingKey = routingKey;
+        this.confirmTimeoutMillis = confirmTimeoutMillis;
+        this.inFlight = new Semaphore(maxInFlight);
+
+        this.confirmTimer = meterRegistry.timer(METRIC_PREFIX + ".confirm");
+        this.nackCounter = meterRegistry.counter(METRIC_PREFIX + ".nack");
+        this.timeoutCounter = meterRegistry.counter(METRIC_PREFIX + ".timeout");
+        Gauge.builder(METRIC_PREFIX + ".in-flight", inFlight, semaphore -> maxInFlight - semaphore.availablePermits())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장해 둔 이벤트를 순서대로 보낸 뒤 confirm 을 한 번에 기다리고, 앞에서부터 연속으로 ack 된 이벤트 수를 돌려준다.
+     * nack 이거나 confirm-timeout-ms 안에 확인되지 않은 이벤트부터는 호출한 쪽이 다시 보낸다.
+     * 그 뒤 이벤트는 이미 도착했을 수 있어 같은 이벤트를 두 번 이상 받을 수 있다. (messageId 는 outbox-{id} 로 같다)
+     * 받는 쪽은 messageId 로 거르지 않으므로 처리 결과가 중복에 영향을 받지 않아야 한다.
+     * (모임 생성 알림은 notification_inbox 의 모임 id, 회원 id 유니크 키로 한 번만 저장된다)
+     * @param outboxList
+     * @return
+     */
+    @Override
+    public int publishConfirmed(List<EventOutbox> outboxList) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMillis);
+        List<CorrelationData> pendingList = new ArrayList<>(outboxList.size());
+        for (EventOutbox outbox : outboxList) {
+            CorrelationData correlationData = send(OUTBOX_MESSAGE_ID_PREFIX + outbox.getId(),
+                    data -> rabbitTemplate.send(exchangeName, routingKey, toMessage(outbox), data));
+            if (correlationData == null) {
+                break;
+            }
+            pendingList.add(correlationData);
+        }
+
+        int confirmed = 0;
+        for (CorrelationData correlationData : pendingList) {
+            Confirm confirm = await(correlationData, deadline);
+            if (confirm == null || !confirm.isAck()) {
+                break;
+            }
+            confirmed++;
+        }
+        return confirmed;
+    }
+
+    // in-flight 자리를 얻어 보낸다 (자리가 나지 않거나 보내기에 실패하면 null)
+    private CorrelationData send(String correlationId, Consumer<CorrelationData> sender) {
+        try {
+            if (!inFlight.tryAcquire(confirmTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeoutCounter.increment();
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        CorrelationData correlationData = new CorrelationData(correlationId);
+        // 보내기 실패와 confirm 이 겹쳐도 자리는 한 번만 돌려준다
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                inFlight.release();
+            }
+        };
+        long sentAt = System.nanoTime();
+        correlationData.getFuture().addCallback(confirm -> {
+            release.run();
+            confirmTimer.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+            if (confirm == null || !confirm.isAck()) {
+                nackCounter.increment();
+                log.warn("EventProducer nack : {} {}", correlationId, confirm == null ? null : confirm.getReason());
+            }
+        }, e -> release.run());
+
+        try {
+            sender.accept(correlationData);
+            return correlationData;
+        } catch (AmqpException e) {
+            release.run();
+            log.warn("EventProducer send failed : {}", correlationId, e);
+            return null;
+        }
+    }
+
+    private Confirm await(CorrelationData correlationData, long deadline) {
+        try {
+            return correlationData.getFuture().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeoutCounter.increment();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
 
-    public void eventPublish(Event event) {
-        rabbitTemplate.convertAndSend(exchangeName, routingKey, event);
+    // JSON 이면 Jackson2JsonMessageConverter 로 보내던 메세지와 같은 형식
+    private Message toMessage(EventOutbox outbox) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(outbox.getContentType());
+        if (MessageProperties.CONTENT_TYPE_JSON.equals(outbox.getContentType())) {
+            properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        }
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setMessageId(OUTBOX_MESSAGE_ID_PREFIX + outbox.getId());
+        properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, outbox.getTypeId());
+        return new Message(outbox.getPayload(), properties);
     }
 }
@@ -1,5 +1,23 @@
 package com.example.villagerservice.config.events;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
 public enum EventType {
-    PARTY_CREATED_EVENT
+    PARTY_CREATED_EVENT(1)
+    ;
+
+    // 바이너리 인코딩에 쓰는 번호 (한 번 쓴 번호는 바꾸거나 다시 쓰지 않는다)
+    private final int code;
+
+    public static EventType fromCode(int code) {
+        for (EventType eventType : values()) {
+            if (eventType.code == code) {
+                return eventType;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 이벤트 번호입니다. : " + code);
+    }
 }
@@ -0,0 +1,83 @@
+package com.example.villagerservice.config.events.codec;
+
+import com.example.villagerservice.config.events.Event;
+import com.example.villagerservice.config.events.EventType;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필드 이름 없이 값만 순서대로 쓰는 이벤트 형식
+ * magic(1) + 형식 version(1) + 이벤트 번호(varint) + 본문 version(varint) + timestamp(varint) + 본문(EventSchema)
+ * 본문 version 이 읽는 쪽보다 새로우면 아는 필드까지만 읽고 나머지는 버리므로, 받는 쪽을 먼저 배포하지 않아도 된다.
+ */
+@Component
+public class BinaryEventCodec implements EventCodec {
+    public static final String CONTENT_TYPE = "application/x-villager-event";
+    static final int MAGIC = 0x56;
+    static final int FORMAT_VERSION = 1;
+
+    private final Map<EventType, EventSchema<?, ?>> schemaByType = new EnumMap<>(EventType.class);
+    private final Map<Class<?>, EventSchema<?, ?>> schemaByClass = new HashMap<>();
+
+    public BinaryEventCodec(List<EventSchema<?, ?>> schemaList) {
+        for (EventSchema<?, ?> schema : schemaList) {
+            schemaByType.put(schema.getEventType(), schema);
+            schemaByClass.put(schema.getEventClass(), schema);
+        }
+    }
+
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(Event event) {
+        EventSchema<?, ?> schema = schemaByClass.get(event.getClass());
+        if (schema == null) {
+            throw new IllegalStateException("바이너리 형식이 없는 이벤트입니다. : " + event.getClass().getName());
+        }
+
+        BinaryEventWriter writer = new BinaryEventWriter(128)
+                .writeByte(MAGIC)
+                .writeByte(FORMAT_VERSION)
+                .writeUnsignedVarInt(schema.getEventType().getCode())
+                .writeUnsignedVarInt(schema.getVersion())
+                .writeVarLong(event.getTimestamp());
+        write(schema, event, writer);
+        return writer.toByteArray();
+    }
+
+    @Override
+    public <T> T decode(byte[] payload, Class<T> type) {
+        BinaryEventReader reader = new BinaryEventReader(payload);
+        if (reader.readByte() != MAGIC) {
+            throw new IllegalArgumentException("바이너리 이벤트가 아닙니다.");
+        }
+        int formatVersion = reader.readByte();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 형식 version 입니다. : " + formatVersion);
+        }
+
+        EventType eventType = EventType.fromCode(reader.readUnsignedInt());
+        EventSchema<?, ?> schema = schemaByType.get(eventType);
+        if (schema == null || !type.isAssignableFrom(schema.getMessageClass())) {
+            throw new IllegalArgumentException(eventType + " 을 " + type.getSimpleName() + " 으로 읽을 수 없습니다.");
+        }
+        int version = reader.readUnsignedInt();
+        if (version == 0) {
+            throw new IllegalArgumentException("잘못된 본문 version 입니다. : " + eventType);
+        }
+        long timestamp = reader.readVarLong();
+        return type.cast(schema.read(version, timestamp, reader));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Event> void write(EventSchema<E, ?> schema, Event event, BinaryEventWriter writer) {
+        schema.write((E) event, writer);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.villagerservice.config.events.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 바이너리 이벤트 본문 읽기 (BinaryEventWriter 형식)
+ * 본문이 중간에 끝나면 IllegalArgumentException
+ */
+public class BinaryEventReader {
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryEventReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readUnsignedVarInt() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 varint 입니다. : " + position);
+    }
+
+    public int readUnsignedInt() {
+        long value = readUnsignedVarInt();
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("int 범위를 넘었습니다. : " + value);
+        }
+        return (int) value;
+    }
+
+    public long readVarLong() {
+        long value = readUnsignedVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public int readVarInt() {
+        long value = readVarLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("int 범위를 넘었습니다. : " + value);
+        }
+        return (int) value;
+    }
+
+    public double readDouble() {
+        require(8);
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits = (bits << 8) | (buffer[position++] & 0xFF);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    public String readString() {
+        int length = readUnsignedInt();
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public List<String> readStringList() {
+        int count = readUnsignedInt();
+        // 개수만 큰 잘못된 본문으로 큰 리스트를 만들지 않는다 (문자열은 최소 1 byte)
+        require(count);
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    public int remaining() {
+        return buffer.length - position;
+    }
+
+    private void require(int length) {
+        if (length < 0 || buffer.length - position < length) {
+            throw new IllegalArgumentException("이벤트 본문이 중간에 끝났습니다. : " + position);
+        }
+    }
+}
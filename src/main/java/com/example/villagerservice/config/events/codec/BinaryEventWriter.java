@@ -0,0 +1,76 @@
+package com.example.villagerservice.config.events.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 바이너리 이벤트 본문 쓰기
+ * 정수는 zigzag varint (작은 수는 1 byte), 실수는 8 byte, 문자열은 길이 + UTF-8
+ */
+public class BinaryEventWriter {
+    private byte[] buffer;
+    private int size;
+
+    public BinaryEventWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public BinaryEventWriter writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    // 0 이상의 수 (길이, 번호)
+    public BinaryEventWriter writeUnsignedVarInt(long value) {
+        ensureCapacity(10);
+        long v = value;
+        while ((v & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buffer[size++] = (byte) v;
+        return this;
+    }
+
+    public BinaryEventWriter writeVarLong(long value) {
+        return writeUnsignedVarInt((value << 1) ^ (value >> 63));
+    }
+
+    public BinaryEventWriter writeDouble(double value) {
+        ensureCapacity(8);
+        long bits = Double.doubleToLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[size++] = (byte) (bits >>> shift);
+        }
+        return this;
+    }
+
+    public BinaryEventWriter writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsignedVarInt(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+        return this;
+    }
+
+    public BinaryEventWriter writeStringList(List<String> values) {
+        writeUnsignedVarInt(values.size());
+        for (String value : values) {
+            writeString(value);
+        }
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
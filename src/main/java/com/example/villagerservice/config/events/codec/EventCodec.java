@@ -0,0 +1,20 @@
+package com.example.villagerservice.config.events.codec;
+
+import com.example.villagerservice.config.events.Event;
+
+/**
+ * 이벤트를 메세지 본문으로 바꾸는 방식 (메세지의 content type 으로 구분한다)
+ */
+public interface EventCodec {
+
+    String getContentType();
+
+    byte[] encode(Event event);
+
+    /**
+     * @param payload
+     * @param type 받는 쪽 이벤트 형식
+     * @throws IllegalArgumentException 읽을 수 없는 본문
+     */
+    <T> T decode(byte[] payload, Class<T> type);
+}
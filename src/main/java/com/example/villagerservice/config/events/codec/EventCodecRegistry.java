@@ -0,0 +1,52 @@
+package com.example.villagerservice.config.events.codec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보낼 때는 events.codec 으로 고른 형식(json, binary)을 쓰고,
+ * 받을 때는 메세지의 content type 으로 형식을 고른다. (형식을 바꾸는 동안 쌓여 있던 메세지도 읽는다)
+ */
+@Component
+public class EventCodecRegistry {
+    private final Map<String, EventCodec> codecByContentType = new HashMap<>();
+    private final EventCodec writeCodec;
+    private final EventCodec defaultCodec;
+
+    public EventCodecRegistry(JsonEventCodec jsonEventCodec,
+                              BinaryEventCodec binaryEventCodec,
+                              @Value("${events.codec:json}") String codec) {
+        for (EventCodec eventCodec : List.of(jsonEventCodec, binaryEventCodec)) {
+            codecByContentType.put(eventCodec.getContentType(), eventCodec);
+        }
+        this.defaultCodec = jsonEventCodec;
+        this.writeCodec = "binary".equalsIgnoreCase(codec) ? binaryEventCodec : jsonEventCodec;
+    }
+
+    public EventCodec getWriteCodec() {
+        return writeCodec;
+    }
+
+    /**
+     * @param contentType 없으면 JSON
+     * @throws IllegalArgumentException 모르는 content type 이거나 읽을 수 없는 본문
+     */
+    public <T> T decode(String contentType, byte[] payload, Class<T> type) {
+        return getCodec(contentType).decode(payload, type);
+    }
+
+    public EventCodec getCodec(String contentType) {
+        if (contentType == null) {
+            return defaultCodec;
+        }
+        EventCodec eventCodec = codecByContentType.get(contentType);
+        if (eventCodec == null) {
+            throw new IllegalArgumentException("지원하지 않는 content type 입니다. : " + contentType);
+        }
+        return eventCodec;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.villagerservice.config.events.codec;
+
+import com.example.villagerservice.config.events.Event;
+import com.example.villagerservice.config.events.EventType;
+
+/**
+ * 이벤트 종류별 바이너리 본문 형식
+ * 필드는 뒤에만 추가하고 그때마다 version 을 올린다.
+ * read 는 지금까지의 모든 version 을 읽을 수 있어야 하고, 더 새 version 은 아는 필드까지만 읽는다. (남은 필드는 BinaryEventCodec 이 버린다)
+ * @param <E> 보내는 쪽 이벤트
+ * @param <M> 받는 쪽 이벤트
+ */
+public interface EventSchema<E extends Event, M> {
+
+    EventType getEventType();
+
+    // 지금 쓰는 본문 version
+    int getVersion();
+
+    Class<E> getEventClass();
+
+    Class<M> getMessageClass();
+
+    void write(E event, BinaryEventWriter writer);
+
+    M read(int version, long timestamp, BinaryEventReader reader);
+}
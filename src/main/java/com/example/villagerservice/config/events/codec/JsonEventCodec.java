@@ -0,0 +1,42 @@
+package com.example.villagerservice.config.events.codec;
+
+import com.example.villagerservice.config.events.Event;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Jackson2JsonMessageConverter 로 보내던 것과 같은 JSON
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonEventCodec implements EventCodec {
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String getContentType() {
+        return MessageProperties.CONTENT_TYPE_JSON;
+    }
+
+    @Override
+    public byte[] encode(Event event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트를 JSON 으로 바꿀 수 없습니다. : " + event.getEventType(), e);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("JSON 이벤트를 읽을 수 없습니다.", e);
+        }
+    }
+}
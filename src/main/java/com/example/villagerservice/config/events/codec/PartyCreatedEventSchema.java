@@ -0,0 +1,95 @@
+package com.example.villagerservice.config.events.codec;
+
+import com.example.villagerservice.config.events.EventType;
+import com.example.villagerservice.notification.dto.PartyCreatedMessage;
+import com.example.villagerservice.party.domain.PartyCreatedEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * PartyCreatedEvent 본문
+ * version 1 : 값이 있는 필드 표시(1) + townId, latitude, longitude, mannerPoint, memberCount, partyId, amount, partyName, tags
+ * 값이 없는(null) 필드는 표시만 하고 쓰지 않는다.
+ */
+@Component
+public class PartyCreatedEventSchema implements EventSchema<PartyCreatedEvent, PartyCreatedMessage> {
+    private static final int VERSION = 1;
+
+    private static final int TOWN_ID = 1;
+    private static final int LATITUDE = 1 << 1;
+    private static final int LONGITUDE = 1 << 2;
+    private static final int PARTY_ID = 1 << 3;
+    private static final int PARTY_NAME = 1 << 4;
+    private static final int TAGS = 1 << 5;
+
+    @Override
+    public EventType getEventType() {
+        return EventType.PARTY_CREATED_EVENT;
+    }
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public Class<PartyCreatedEvent> getEventClass() {
+        return PartyCreatedEvent.class;
+    }
+
+    @Override
+    public Class<PartyCreatedMessage> getMessageClass() {
+        return PartyCreatedMessage.class;
+    }
+
+    @Override
+    public void write(PartyCreatedEvent event, BinaryEventWriter writer) {
+        PartyCreatedEvent.Body body = event.getBody();
+        int present = (body.getTownId() != null ? TOWN_ID : 0)
+                | (body.getLatitude() != null ? LATITUDE : 0)
+                | (body.getLongitude() != null ? LONGITUDE : 0)
+                | (body.getPartyId() != null ? PARTY_ID : 0)
+                | (body.getPartyName() != null ? PARTY_NAME : 0)
+                | (body.getTags() != null ? TAGS : 0);
+        writer.writeByte(present);
+
+        if (body.getTownId() != null) {
+            writer.writeVarLong(body.getTownId());
+        }
+        if (body.getLatitude() != null) {
+            writer.writeDouble(body.getLatitude());
+        }
+        if (body.getLongitude() != null) {
+            writer.writeDouble(body.getLongitude());
+        }
+        writer.writeVarLong(body.getMannerPoint())
+                .writeVarLong(body.getMemberCount());
+        if (body.getPartyId() != null) {
+            writer.writeVarLong(body.getPartyId());
+        }
+        writer.writeVarLong(body.getAmount());
+        if (body.getPartyName() != null) {
+            writer.writeString(body.getPartyName());
+        }
+        if (body.getTags() != null) {
+            writer.writeStringList(body.getTags());
+        }
+    }
+
+    @Override
+    public PartyCreatedMessage read(int version, long timestamp, BinaryEventReader reader) {
+        int present = reader.readByte();
+        PartyCreatedMessage.Body body = PartyCreatedMessage.Body.builder()
+                .townId((present & TOWN_ID) != 0 ? reader.readVarLong() : null)
+                .latitude((present & LATITUDE) != 0 ? reader.readDouble() : null)
+                .longitude((present & LONGITUDE) != 0 ? reader.readDouble() : null)
+                .mannerPoint(reader.readVarInt())
+                .memberCount(reader.readVarInt())
+                .partyId((present & PARTY_ID) != 0 ? reader.readVarLong() : null)
+                .amount(reader.readVarInt())
+                .partyName((present & PARTY_NAME) != 0 ? reader.readString() : null)
+                .tags((present & TAGS) != 0 ? reader.readStringList() : null)
+                .build();
+        // version 2 부터 추가되는 필드는 여기서 version 을 보고 읽는다
+        return new PartyCreatedMessage(getEventType().name(), timestamp, body);
+    }
+}
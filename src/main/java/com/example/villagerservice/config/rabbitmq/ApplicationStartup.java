@@ -3,11 +3,13 @@ package com.example.villagerservice.config.rabbitmq;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "events.transport", havingValue = "rabbitmq", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class ApplicationStartup implements ApplicationListener<ApplicationReadyEvent> {
@@ -0,0 +1,57 @@
+package com.example.villagerservice.config.rabbitmq;
+
+import com.example.villagerservice.config.events.Event;
+import com.example.villagerservice.config.events.codec.BinaryEventCodec;
+import com.example.villagerservice.config.events.codec.EventCodec;
+import com.example.villagerservice.config.events.codec.EventCodecRegistry;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이벤트는 events.codec 형식으로 바꾸고, 그 밖의 객체와 JSON 메세지는 delegate 에 맡긴다.
+ * 바이너리 메세지는 이벤트 종류별 받는 쪽 형식(EventSchema)으로 읽는다.
+ */
+public class EventMessageConverter implements MessageConverter {
+    private final EventCodecRegistry eventCodecRegistry;
+    private final MessageConverter delegate;
+
+    public EventMessageConverter(EventCodecRegistry eventCodecRegistry, MessageConverter delegate) {
+        this.eventCodecRegistry = eventCodecRegistry;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        if (!(object instanceof Event)) {
+            return delegate.toMessage(object, messageProperties);
+        }
+
+        EventCodec eventCodec = eventCodecRegistry.getWriteCodec();
+        messageProperties.setContentType(eventCodec.getContentType());
+        if (MessageProperties.CONTENT_TYPE_JSON.equals(eventCodec.getContentType())) {
+            messageProperties.setContentEncoding(StandardCharsets.UTF_8.name());
+        }
+        messageProperties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, object.getClass().getName());
+        byte[] body = eventCodec.encode((Event) object);
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        String contentType = message.getMessageProperties().getContentType();
+        if (!BinaryEventCodec.CONTENT_TYPE.equals(contentType)) {
+            return delegate.fromMessage(message);
+        }
+        try {
+            return eventCodecRegistry.decode(contentType, message.getBody(), Object.class);
+        } catch (IllegalArgumentException e) {
+            throw new MessageConversionException("바이너리 이벤트를 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.villagerservice.config.rabbitmq;
 
+import com.example.villagerservice.config.events.codec.EventCodecRegistry;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
@@ -11,10 +12,13 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+// 이벤트를 브로커로 주고받을 때만 사용 (events.transport: rabbitmq)
 @Configuration
+@ConditionalOnProperty(name = "events.transport", havingValue = "rabbitmq", matchIfMissing = true)
 public class RabbitmqConfig {
     @Value("${spring.rabbitmq.host}")
     private String host;
@@ -37,6 +41,12 @@ public class RabbitmqConfig {
     @Value("${spring.rabbitmq.template.routing-key}")
     private String routingKey;
 
+    @Value("${events.publisher.channel-cache-size:8}")
+    private int channelCacheSize;
+
+    @Value("${events.publisher.channel-checkout-timeout-ms:5000}")
+    private long channelCheckoutTimeout;
+
     @Bean
     Queue queue() {
         return new Queue(queueName, false);
@@ -66,12 +76,19 @@ public class RabbitmqConfig {
         connectionFactory.setPort(port);
         connectionFactory.setUsername(username);
         connectionFactory.setPassword(password);
+        // 메세지마다 confirm 을 기다리지 않고 CorrelationData 로 비동기로 받는다 (EventProducer)
+        connectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.CORRELATED);
+        // 채널은 보내는 동안만 쓰고 confirm 을 기다리는 동안에는 캐시로 돌아가므로 보내는 스레드 수만큼만 둔다
+        // checkout timeout 이 있으면 캐시 크기가 채널 수 상한이 되어, 몰릴 때 채널을 새로 만들지 않고 기다린다
+        connectionFactory.setChannelCacheSize(channelCacheSize);
+        connectionFactory.setChannelCheckoutTimeout(channelCheckoutTimeout);
         return connectionFactory;
     }
 
+    // 이벤트 본문 형식은 events.codec (json, binary)
     @Bean
-    MessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+    MessageConverter messageConverter(EventCodecRegistry eventCodecRegistry) {
+        return new EventMessageConverter(eventCodecRegistry, new Jackson2JsonMessageConverter());
     }
 
     @Bean
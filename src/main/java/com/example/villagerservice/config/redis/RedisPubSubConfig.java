@@ -0,0 +1,20 @@
+package com.example.villagerservice.config.redis;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 채팅 메세지, 조회수/좋아요 수를 서버 간에 전달할 때만 사용 (party.chat.fanout: redis)
+@Configuration
+@ConditionalOnProperty(name = "party.chat.fanout", havingValue = "redis")
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+}
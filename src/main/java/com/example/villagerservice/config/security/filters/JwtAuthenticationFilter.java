@@ -68,6 +68,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 (path.contains("/api/v1/auth/email-cert") && httpMethod.equals("POST")) ||
                 (path.contains("/api/v1/posts") && httpMethod.equals("GET")) ||
                 path.equals("/h2-console") ||
+                path.startsWith("/stomp/chat") || // 브라우저는 핸드셰이크에 헤더를 넣을 수 없어 STOMP CONNECT 에서 인증 (StompAuthChannelInterceptor)
                 path.contains("/docs")
                 ;
     }
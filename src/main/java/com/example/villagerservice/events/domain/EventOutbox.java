@@ -0,0 +1,52 @@
+package com.example.villagerservice.events.domain;
+
+import com.example.villagerservice.common.domain.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+
+/**
+ * 아직 브로커로 보내지 않은 이벤트
+ * 이벤트를 발생시킨 트랜잭션 안에서 저장하고, EventOutboxRelay 가 id 순서대로 보낸 뒤 지운다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_outbox_id")
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    // 메세지 변환기가 __TypeId__ 헤더로 보내던 이벤트 클래스 이름
+    @Column(nullable = false)
+    private String typeId;
+
+    // 저장할 때 고른 형식 (EventCodec), 보낼 때 그대로 메세지 content type 이 된다
+    @Column(nullable = false, length = 50)
+    private String contentType;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Builder
+    private EventOutbox(String eventType, String typeId, String contentType, byte[] payload) {
+        this.eventType = eventType;
+        this.typeId = typeId;
+        this.contentType = contentType;
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.villagerservice.events.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 이벤트 저장소를 보내는 서버 (EventOutboxRelay 는 lease 를 가진 서버 한 대에서만 보낸다)
+ * EventOutboxLeader 가 jdbc 로 저장한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventOutboxLease {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    // lease 를 가진 서버
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    // lease 만료 시각 (epoch millis), 지나면 다른 서버가 가져갈 수 있다
+    @Column(nullable = false)
+    private long expiresAt;
+}
@@ -0,0 +1,85 @@
+package com.example.villagerservice.events.infra;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 여러 서버 중 이벤트 저장소를 보낼 서버 한 대를 정하는 lease (event_outbox_lease)
+ * lease 는 가진 서버가 만료 전에 갱신하고, 만료되면 (서버가 내려가면) 다른 서버가 가져간다.
+ * 가진 서버는 lease-ms 의 절반이 지나기 전까지만 자기를 리더로 보고 그 뒤에는 DB 에서 갱신하므로,
+ * 서버 간 시계 차이와 한 묶음을 보내는 시간의 합이 lease-ms 의 절반보다 작으면 두 서버가 동시에 보내지 않는다.
+ */
+@Slf4j
+@Component
+public class EventOutboxLeader {
+    private static final String LEASE_NAME = "event-outbox-relay";
+    private static final String UPDATE_SQL = " update event_outbox_lease set owner = ? , expires_at = ? " +
+            " where name = ? and (owner = ? or expires_at < ?)";
+    private static final String INSERT_SQL = " insert into event_outbox_lease (name , owner , expires_at) values (? , ? , ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long leaseMillis;
+    private final String owner = UUID.randomUUID().toString();
+
+    // 이 서버의 lease 만료 시각
+    private long leaseUntil;
+    // 리더가 아닐 때 다시 시도할 시각
+    private long nextAttemptAt;
+
+    public EventOutboxLeader(JdbcTemplate jdbcTemplate,
+                             @Value("${events.outbox.relay.lease-ms:30000}") long leaseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * lease 를 가져오거나 갱신
+     * @return 이 서버가 보내도 되면 true
+     */
+    public synchronized boolean acquire() {
+        long now = System.currentTimeMillis();
+        if (now < leaseUntil - leaseMillis / 2) {
+            return true;
+        }
+        if (leaseUntil == 0 && now < nextAttemptAt) {
+            return false;
+        }
+
+        long expiresAt = now + leaseMillis;
+        boolean acquired;
+        try {
+            acquired = jdbcTemplate.update(UPDATE_SQL, owner, expiresAt, LEASE_NAME, owner, now) == 1
+                    || insert(expiresAt);
+        } catch (DataAccessException e) {
+            log.warn("EventOutboxLeader acquire failed", e);
+            acquired = false;
+        }
+
+        if (acquired) {
+            leaseUntil = expiresAt;
+            return true;
+        }
+        if (leaseUntil != 0) {
+            log.info("EventOutboxLeader lost lease : {}", owner);
+        }
+        leaseUntil = 0;
+        nextAttemptAt = now + leaseMillis / 2;
+        return false;
+    }
+
+    // 처음 사용할 때만 행이 없다 (동시에 넣으면 하나만 성공)
+    private boolean insert(long expiresAt) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, LEASE_NAME, owner, expiresAt);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
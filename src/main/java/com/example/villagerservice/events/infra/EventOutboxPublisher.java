@@ -0,0 +1,20 @@
+package com.example.villagerservice.events.infra;
+
+import com.example.villagerservice.events.domain.EventOutbox;
+
+import java.util.List;
+
+/**
+ * 저장해 둔 이벤트를 받는 쪽으로 전달하는 방법 (events.transport)
+ * rabbitmq : 브로커로 보내고 confirm 을 받는다 (EventProducer)
+ * in-process : 이 서버의 링 버퍼에 넣고 consumer 스레드가 처리한다 (InProcessEventBus, 브로커 없이 서버 1대)
+ */
+public interface EventOutboxPublisher {
+
+    /**
+     * 순서대로 전달하고, 앞에서부터 연속으로 전달이 확인된 이벤트 수를 돌려준다. (그 뒤 이벤트부터는 다시 전달한다)
+     * @param outboxList
+     * @return
+     */
+    int publishConfirmed(List<EventOutbox> outboxList);
+}
@@ -0,0 +1,151 @@
+package com.example.villagerservice.events.infra;
+
+import com.example.villagerservice.events.domain.EventOutbox;
+import com.example.villagerservice.events.repository.EventOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 저장소(event_outbox)를 id 순서대로 batch-size 개씩 읽어 EventOutboxPublisher 로 보내고, 전달이 확인된 이벤트를 지운다.
+ * 묶음 안에서는 confirm 을 기다리지 않고 보내고, 앞에서부터 연속으로 ack 된 이벤트까지만 지운다.
+ * 확인되지 않은 이벤트부터 다시 보내므로 순서가 바뀌지 않는다. (연속 실패 시 backoff 만큼 쉬었다가 재시도)
+ * 서버가 여러 대면 EventOutboxLeader 의 lease 를 가진 서버 한 대만 보낸다. (다른 서버는 lease 가 만료될 때까지 기다린다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "events.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class EventOutboxRelay {
+    private static final String METRIC_PREFIX = "events.outbox";
+
+    private final EventOutboxRepository eventOutboxRepository;
+    private final EventOutboxPublisher eventOutboxPublisher;
+    private final EventOutboxLeader eventOutboxLeader;
+    private final int batchSize;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer publishTimer;
+    private final Timer delayTimer;
+    private final DistributionSummary batchSummary;
+    // 가장 오래 기다린 이벤트의 대기 시간
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    // 스케줄러 스레드에서만 사용
+    private int failures;
+    private long nextAttemptAt;
+
+    public EventOutboxRelay(EventOutboxRepository eventOutboxRepository,
+                            EventOutboxPublisher eventOutboxPublisher,
+                            EventOutboxLeader eventOutboxLeader,
+                            MeterRegistry meterRegistry,
+                            @Value("${events.outbox.relay.batch-size:500}") int batchSize,
+                            @Value("${events.outbox.relay.initial-backoff-ms:500}") long initialBackoffMillis,
+                            @Value("${events.outbox.relay.max-backoff-ms:30000}") long maxBackoffMillis) {
+        this.eventOutboxRepository = eventOutboxRepository;
+        this.eventOutboxPublisher = eventOutboxPublisher;
+        this.eventOutboxLeader = eventOutboxLeader;
+        this.batchSize = batchSize;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+
+        this.publishedCounter = meterRegistry.counter(METRIC_PREFIX + ".published");
+        this.failedCounter = meterRegistry.counter(METRIC_PREFIX + ".failed");
+        this.publishTimer = meterRegistry.timer(METRIC_PREFIX + ".publish");
+        this.delayTimer = meterRegistry.timer(METRIC_PREFIX + ".delay");
+        this.batchSummary = meterRegistry.summary(METRIC_PREFIX + ".batch");
+        Gauge.builder(METRIC_PREFIX + ".lag", lagMillis, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${events.outbox.relay.poll-ms:200}")
+    public void relay() {
+        drain();
+    }
+
+    /**
+     * 쌓인 이벤트를 모두 보낼 때까지 반복 (실패하면 다음 재시도 시각까지 멈춘다)
+     * 묶음마다 lease 를 확인하고, lease 가 없으면 보내지 않는다.
+     * @return 보낸 이벤트 수
+     */
+    public int drain() {
+        if (System.currentTimeMillis() < nextAttemptAt) {
+            return 0;
+        }
+
+        int total = 0;
+        while (true) {
+            if (!eventOutboxLeader.acquire()) {
+                return total;
+            }
+            List<EventOutbox> outboxList = eventOutboxRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+            LocalDateTime now = LocalDateTime.now();
+            lagMillis.set(outboxList.isEmpty() ? 0 : ageMillis(outboxList.get(0), now));
+            if (outboxList.isEmpty()) {
+                return total;
+            }
+
+            Timer.Sample sample = Timer.start();
+            int confirmed;
+            try {
+                confirmed = eventOutboxPublisher.publishConfirmed(outboxList);
+            } catch (RuntimeException e) {
+                log.warn("EventOutboxRelay publish failed : {} events", outboxList.size(), e);
+                confirmed = 0;
+            }
+            sample.stop(publishTimer);
+
+            // 앞에서부터 confirm 된 이벤트만 지운다
+            List<EventOutbox> confirmedList = outboxList.subList(0, confirmed);
+            if (!confirmedList.isEmpty()) {
+                eventOutboxRepository.deleteAllByIdInBatch(confirmedList.stream()
+                        .map(EventOutbox::getId)
+                        .collect(Collectors.toList()));
+                LocalDateTime confirmedAt = LocalDateTime.now();
+                confirmedList.forEach(outbox -> delayTimer.record(Duration.ofMillis(ageMillis(outbox, confirmedAt))));
+                publishedCounter.increment(confirmed);
+                batchSummary.record(confirmed);
+                total += confirmed;
+            }
+
+            if (confirmed < outboxList.size()) {
+                failedCounter.increment(outboxList.size() - confirmed);
+                long backoff = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(failures, 20));
+                failures++;
+                nextAttemptAt = System.currentTimeMillis() + backoff;
+                log.warn("EventOutboxRelay {} events not confirmed, retry in {} ms", outboxList.size() - confirmed, backoff);
+                return total;
+            }
+            failures = 0;
+            nextAttemptAt = 0;
+            if (outboxList.size() < batchSize) {
+                lagMillis.set(0);
+                return total;
+            }
+        }
+    }
+
+    private static long ageMillis(EventOutbox outbox, LocalDateTime now) {
+        if (outbox.getCreatedAt() == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(outbox.getCreatedAt(), now).toMillis());
+    }
+}
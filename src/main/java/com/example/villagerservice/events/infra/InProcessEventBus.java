@@ -0,0 +1,242 @@
+package com.example.villagerservice.events.infra;
+
+import com.example.villagerservice.config.events.EventMessageHandler;
+import com.example.villagerservice.config.events.codec.EventCodecRegistry;
+import com.example.villagerservice.events.domain.EventOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 브로커 대신 이 서버의 링 버퍼로 이벤트를 전달한다. (events.transport: in-process)
+ * 여러 consumer 스레드가 다음 칸 번호를 나눠 가져가 처리하고, 가장 느린 consumer 가 처리한 칸까지만 다시 쓴다.
+ * 버퍼가 가득 차면 publish-timeout-ms 까지 기다렸다가 넣지 못한 이벤트부터 EventOutboxRelay 가 다시 보낸다.
+ * 버퍼에 넣은 이벤트는 이벤트 저장소에서 지워지므로, 서버가 비정상 종료되면 처리하지 못한 이벤트는 사라진다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "events.transport", havingValue = "in-process")
+public class InProcessEventBus implements EventOutboxPublisher {
+    private static final String METRIC_PREFIX = "events.in-process";
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+    private static final long REJECTED_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final EventCodecRegistry eventCodecRegistry;
+    private final Map<String, EventMessageHandler<?>> handlerByType = new HashMap<>();
+    private final long publishTimeoutNanos;
+
+    private final EventOutbox[] entries;
+    // 칸마다 마지막으로 쓴 바퀴 수 (번호 >>> indexShift), 같으면 그 번호의 이벤트가 들어 있다
+    private final AtomicIntegerArray published;
+    private final int mask;
+    private final int indexShift;
+    // 마지막으로 받은 번호 (보내는 쪽)
+    private final AtomicLong claimSequence = new AtomicLong(-1);
+    // 마지막으로 가져간 번호 (consumer 끼리 나눠 가진다)
+    private final AtomicLong workSequence = new AtomicLong(-1);
+    // consumer 별로 처리를 마친 번호
+    private final AtomicLong[] consumerSequences;
+    private final Thread[] consumers;
+    private volatile boolean running;
+
+    private final Counter handledCounter;
+    private final Counter failedCounter;
+    private final Counter fullCounter;
+
+    public InProcessEventBus(EventCodecRegistry eventCodecRegistry,
+                             List<EventMessageHandler<?>> handlerList,
+                             MeterRegistry meterRegistry,
+                             @Value("${events.in-process.buffer-size:1024}") int bufferSize,
+                             @Value("${events.in-process.consumers:2}") int consumerCount,
+                             @Value("${events.in-process.publish-timeout-ms:1000}") long publishTimeoutMillis) {
+        this.eventCodecRegistry = eventCodecRegistry;
+        for (EventMessageHandler<?> handler : handlerList) {
+            handlerByType.put(handler.getEventType().name(), handler);
+        }
+        this.publishTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(publishTimeoutMillis);
+
+        int capacity = bufferSize <= 1 ? 1 : Integer.highestOneBit(bufferSize - 1) << 1;
+        this.entries = new EventOutbox[capacity];
+        this.published = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.mask = capacity - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(capacity);
+
+        this.consumerSequences = new AtomicLong[consumerCount];
+        this.consumers = new Thread[consumerCount];
+        for (int i = 0; i < consumerCount; i++) {
+            consumerSequences[i] = new AtomicLong(-1);
+        }
+
+        this.handledCounter = meterRegistry.counter(METRIC_PREFIX + ".handled");
+        this.failedCounter = meterRegistry.counter(METRIC_PREFIX + ".failed");
+        this.fullCounter = meterRegistry.counter(METRIC_PREFIX + ".full");
+        Gauge.builder(METRIC_PREFIX + ".backlog", this, InProcessEventBus::getBacklog)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < consumers.length; i++) {
+            AtomicLong sequence = consumerSequences[i];
+            consumers[i] = new Thread(() -> consume(sequence), "event-bus-" + (i + 1));
+            consumers[i].setDaemon(true);
+            consumers[i].start();
+        }
+    }
+
+    /**
+     * 버퍼에 남은 이벤트를 STOP_TIMEOUT_MILLIS 까지 처리한 뒤 멈춘다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + STOP_TIMEOUT_MILLIS;
+        while (getBacklog() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        running = false;
+        for (Thread consumer : consumers) {
+            if (consumer != null) {
+                consumer.join(Math.max(1, deadline - System.currentTimeMillis()));
+            }
+        }
+    }
+
+    @Override
+    public int publishConfirmed(List<EventOutbox> outboxList) {
+        long deadline = System.nanoTime() + publishTimeoutNanos;
+        int confirmed = 0;
+        for (EventOutbox outbox : outboxList) {
+            if (!publish(outbox, deadline)) {
+                fullCounter.increment();
+                break;
+            }
+            confirmed++;
+        }
+        return confirmed;
+    }
+
+    // 처리를 기다리는 이벤트 수
+    public long getBacklog() {
+        return Math.max(0, claimSequence.get() - minimumSequence());
+    }
+
+    private boolean publish(EventOutbox outbox, long deadline) {
+        long next;
+        while (true) {
+            long current = claimSequence.get();
+            next = current + 1;
+            // 같은 칸의 한 바퀴 전 이벤트를 아직 처리하지 않았으면 기다린다
+            if (next - entries.length > minimumSequence()) {
+                if (!running || System.nanoTime() > deadline) {
+                    return false;
+                }
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+                continue;
+            }
+            if (claimSequence.compareAndSet(current, next)) {
+                break;
+            }
+        }
+
+        int index = (int) next & mask;
+        entries[index] = outbox;
+        published.set(index, (int) (next >>> indexShift));
+        return true;
+    }
+
+    private void consume(AtomicLong sequence) {
+        boolean processed = true;
+        long next = sequence.get();
+        int idle = 0;
+        while (true) {
+            if (processed) {
+                processed = false;
+                next = workSequence.incrementAndGet();
+                // 앞에서 가져간 번호까지는 처리를 마쳤다
+                sequence.set(next - 1);
+            }
+
+            int index = (int) next & mask;
+            if (published.get(index) == (int) (next >>> indexShift)) {
+                dispatch(entries[index]);
+                processed = true;
+                idle = 0;
+            } else if (!running) {
+                return;
+            } else {
+                idle = await(idle);
+            }
+        }
+    }
+
+    // 잠깐은 바쁘게 기다리고, 오래 비어 있으면 쉰다
+    private static int await(int idle) {
+        if (idle < 100) {
+            Thread.onSpinWait();
+        } else if (idle < 200) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        return idle + 1;
+    }
+
+    private void dispatch(EventOutbox outbox) {
+        EventMessageHandler<?> handler = handlerByType.get(outbox.getEventType());
+        if (handler == null) {
+            failedCounter.increment();
+            log.warn("InProcessEventBus no handler : {} {}", outbox.getEventType(), outbox.getId());
+            return;
+        }
+        handle(handler, outbox);
+    }
+
+    private <M> void handle(EventMessageHandler<M> handler, EventOutbox outbox) {
+        try {
+            M message = eventCodecRegistry.decode(outbox.getContentType(), outbox.getPayload(), handler.getMessageClass());
+            while (true) {
+                try {
+                    handler.handle(message);
+                    handledCounter.increment();
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // 핸들러가 바쁘면 이 consumer 가 기다려서 버퍼가 차고, 버퍼가 차면 이벤트 저장소에 남는다
+                    if (!running) {
+                        throw e;
+                    }
+                    LockSupport.parkNanos(REJECTED_RETRY_NANOS);
+                }
+            }
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("InProcessEventBus handle failed : {} {}", outbox.getEventType(), outbox.getId(), e);
+        }
+    }
+
+    private long minimumSequence() {
+        long minimum = workSequence.get();
+        for (AtomicLong sequence : consumerSequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.villagerservice.events.repository;
+
+import com.example.villagerservice.events.domain.EventOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface EventOutboxRepository extends JpaRepository<EventOutbox, Long> {
+    List<EventOutbox> findAllByOrderByIdAsc(Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package com.example.villagerservice.events.service;
+
+import com.example.villagerservice.config.events.Event;
+
+public interface EventOutboxService {
+    void append(Event event);
+}
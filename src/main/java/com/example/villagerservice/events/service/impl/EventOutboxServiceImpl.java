@@ -0,0 +1,36 @@
+package com.example.villagerservice.events.service.impl;
+
+import com.example.villagerservice.config.events.Event;
+import com.example.villagerservice.config.events.codec.EventCodec;
+import com.example.villagerservice.config.events.codec.EventCodecRegistry;
+import com.example.villagerservice.events.domain.EventOutbox;
+import com.example.villagerservice.events.repository.EventOutboxRepository;
+import com.example.villagerservice.events.service.EventOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class EventOutboxServiceImpl implements EventOutboxService {
+    private final EventOutboxRepository eventOutboxRepository;
+    private final EventCodecRegistry eventCodecRegistry;
+
+    /**
+     * 이벤트를 발생시킨 트랜잭션에 참여해서 저장 (트랜잭션이 롤백되면 이벤트도 남지 않는다)
+     * 본문은 events.codec 형식으로 저장하고 보낼 때 바꾸지 않는다.
+     * @param event
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Event event) {
+        EventCodec eventCodec = eventCodecRegistry.getWriteCodec();
+        eventOutboxRepository.save(EventOutbox.builder()
+                .eventType(event.getEventType())
+                .typeId(event.getClass().getName())
+                .contentType(eventCodec.getContentType())
+                .payload(eventCodec.encode(event))
+                .build());
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import javax.swing.text.html.Option;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -19,4 +21,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
             " join fetch m.memberDetail " +
             " where m.id = :memberId")
     Optional<Member> findByMemberWithTag(@Param("memberId") Long memberId);
+
+    @Query("select distinct m.id from Member m " +
+            " join m.tagCollection.tags t " +
+            " where m.id in :memberIds " +
+            " and t.name in :tagNames")
+    List<Long> findIdByIdInAndTagNameIn(@Param("memberIds") Collection<Long> memberIds,
+                                        @Param("tagNames") Collection<String> tagNames);
 }
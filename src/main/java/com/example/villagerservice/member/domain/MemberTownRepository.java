@@ -1,5 +1,6 @@
 package com.example.villagerservice.member.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,9 +19,24 @@ public interface MemberTownRepository extends JpaRepository<MemberTown, Long> {
             " where mt.town.id = :townId")
     List<MemberTown> getMemberTownFetchJoinByTownId(@Param("townId") Long townId);
 
+    // 동네를 등록한 회원을 member_town id 순서로 나눠 읽는다 (엔티티 대신 id 만)
+    @Query("select mt.id as memberTownId, mt.member.id as memberId from MemberTown mt " +
+            " where mt.town.id = :townId " +
+            " and mt.member.isDeleted = false " +
+            " and mt.id > :lastMemberTownId " +
+            " order by mt.id")
+    List<TownMember> getTownMemberPage(@Param("townId") Long townId,
+                                       @Param("lastMemberTownId") Long lastMemberTownId,
+                                       Pageable pageable);
+
     @Query("select mt from MemberTown  mt" +
             " join fetch mt.member " +
             " where mt.id = :memberTownId")
     Optional<MemberTown> getMemberTownWithMember(@Param("memberTownId") Long memberTownId);
     List<MemberTown> findByMember(Member member);
+
+    interface TownMember {
+        Long getMemberTownId();
+        Long getMemberId();
+    }
 }
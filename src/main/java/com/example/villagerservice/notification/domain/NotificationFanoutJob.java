@@ -0,0 +1,35 @@
+package com.example.villagerservice.notification.domain;
+
+import com.example.villagerservice.common.domain.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+
+/**
+ * 아직 끝나지 않은 모임 생성 알림 작업 (모임 하나에 한 건)
+ * 이벤트 처리를 마치기 전에 저장하고, PartyNotificationFanout 이 회원을 읽을 때마다 진행 위치를 옮기다가 끝나면 지운다.
+ * PartyNotificationFanout 이 jdbc 로 저장한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationFanoutJob extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "party_id")
+    private Long partyId;
+
+    // PartyCreatedMessage.Body (JSON)
+    @Lob
+    @Column(nullable = false)
+    private String body;
+
+    // 알림을 저장한 마지막 member_town id, 다시 실행하면 여기서부터 읽는다
+    @Column(nullable = false)
+    private long lastMemberTownId;
+}
@@ -0,0 +1,51 @@
+package com.example.villagerservice.notification.domain;
+
+import com.example.villagerservice.common.domain.BaseTimeEntity;
+import com.example.villagerservice.notification.type.NotificationType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+/**
+ * 회원별 알림함
+ * 모임 생성 알림은 PartyNotificationFanout 이 여러 행 insert 로 저장한다. (모임 하나에 회원별 한 건)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_notification_inbox_party_member",
+        columnNames = {"party_id", "member_id"}),
+        indexes = @Index(name = "idx_notification_inbox_member", columnList = "member_id, notification_inbox_id"))
+public class NotificationInbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_inbox_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "party_id")
+    private Long partyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private NotificationType notificationType;
+
+    private String message;
+
+    private boolean isRead;
+}
@@ -0,0 +1,37 @@
+package com.example.villagerservice.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 브로커로 받은 PartyCreatedEvent (발행 쪽 이벤트는 역직렬화할 수 없어 받는 쪽 형식을 따로 둔다)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PartyCreatedMessage {
+    private String eventType;
+    private long timestamp;
+    private Body body;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Body {
+        private Long townId;
+        private Double latitude;
+        private Double longitude;
+        private int mannerPoint;
+        private int memberCount;
+        private Long partyId;
+        private int amount;
+        private String partyName;
+        private List<String> tags;
+    }
+}
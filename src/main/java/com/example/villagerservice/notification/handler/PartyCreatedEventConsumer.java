@@ -0,0 +1,39 @@
+package com.example.villagerservice.notification.handler;
+
+import com.example.villagerservice.config.events.EventMessageHandler;
+import com.example.villagerservice.config.events.EventType;
+import com.example.villagerservice.notification.dto.PartyCreatedMessage;
+import com.example.villagerservice.notification.infra.PartyNotificationFanout;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 받은 모임 생성 이벤트를 동네 회원 알림 작업으로 넘긴다. (작업은 PartyNotificationFanout 스레드에서 실행)
+ * 작업을 DB 에 저장한 뒤 돌아오고, 저장에 실패하면 예외로 이벤트를 되돌려 다시 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartyCreatedEventConsumer implements EventMessageHandler<PartyCreatedMessage> {
+    private final PartyNotificationFanout partyNotificationFanout;
+
+    @Override
+    public EventType getEventType() {
+        return EventType.PARTY_CREATED_EVENT;
+    }
+
+    @Override
+    public Class<PartyCreatedMessage> getMessageClass() {
+        return PartyCreatedMessage.class;
+    }
+
+    @Override
+    public void handle(PartyCreatedMessage event) {
+        if (event.getBody() == null) {
+            log.warn("PartyCreatedEventConsumer empty body : {}", event.getEventType());
+            return;
+        }
+        partyNotificationFanout.submit(event.getBody());
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.villagerservice.notification.handler;
+
+import com.example.villagerservice.config.events.codec.EventCodecRegistry;
+import com.example.villagerservice.notification.dto.PartyCreatedMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브로커로 받은 모임 생성 이벤트를 PartyCreatedEventConsumer 로 넘긴다. (events.transport: rabbitmq)
+ * 본문 형식(JSON, 바이너리)은 메세지의 content type 으로 고른다.
+ */
+@Component
+@ConditionalOnProperty(name = "events.transport", havingValue = "rabbitmq", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PartyCreatedEventListener {
+    private final PartyCreatedEventConsumer partyCreatedEventConsumer;
+    private final EventCodecRegistry eventCodecRegistry;
+
+    @RabbitListener(queues = "${spring.rabbitmq.template.default-receive-queue}",
+            autoStartup = "${events.consumer.enabled:true}")
+    public void receive(Message message) {
+        PartyCreatedMessage event;
+        try {
+            event = eventCodecRegistry.decode(message.getMessageProperties().getContentType(),
+                    message.getBody(), PartyCreatedMessage.class);
+        } catch (IllegalArgumentException e) {
+            // 다시 받아도 읽을 수 없으므로 버린다
+            throw new AmqpRejectAndDontRequeueException("PartyCreatedEvent 를 읽을 수 없습니다. : "
+                    + message.getMessageProperties().getMessageId(), e);
+        }
+        partyCreatedEventConsumer.handle(event);
+    }
+}
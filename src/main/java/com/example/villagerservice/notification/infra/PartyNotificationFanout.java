@@ -0,0 +1,285 @@
+package com.example.villagerservice.notification.infra;
+
+import com.example.villagerservice.member.domain.MemberRepository;
+import com.example.villagerservice.member.domain.MemberTownRepository;
+import com.example.villagerservice.notification.dto.PartyCreatedMessage;
+import com.example.villagerservice.notification.type.NotificationType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 모임이 생긴 동네를 등록한 회원 중 관심 태그가 모임 태그와 하나라도 맞는 회원의 알림함에 저장한다. (모임에 태그가 없으면 모두)
+ * 회원은 member_town id 순서로 page-size 명씩 id 만 읽고, 알림은 insert-chunk-size 개씩 여러 행 insert 로 저장하므로
+ * 동네 회원 수와 상관없이 메모리는 page-size 만큼만 쓴다.
+ * 작업은 notification_fanout_job 에 저장한 뒤 전용 스레드에서 실행되어 이벤트를 받는 스레드를 잡고 있지 않는다.
+ * 회원 page 마다 진행 위치를 저장하므로, 서버가 중간에 내려가거나 대기 작업이 queue-capacity 를 넘어 거절된 작업은
+ * recover 가 진행 위치부터 이어서 실행한다. 같은 알림을 다시 저장하면 uk_notification_inbox_party_member 로 건너뛴다.
+ */
+@Slf4j
+@Component
+public class PartyNotificationFanout {
+    private static final String METRIC_PREFIX = "notification.fanout";
+    private static final String INSERT_SQL = " insert into notification_inbox " +
+            " (member_id , party_id , notification_type , message , is_read , created_at , modified_at) values ";
+    private static final String INSERT_VALUES = "(? , ? , ? , ? , false , ? , ?)";
+    private static final String INSERT_JOB_SQL = " insert into notification_fanout_job " +
+            " (party_id , body , last_member_town_id , created_at , modified_at) values (? , ? , 0 , ? , ?)";
+    private static final String SELECT_JOB_SQL = " select body , last_member_town_id from notification_fanout_job " +
+            " where party_id = ?";
+    private static final String UPDATE_JOB_SQL = " update notification_fanout_job " +
+            " set last_member_town_id = ? , modified_at = ? where party_id = ?";
+    private static final String DELETE_JOB_SQL = " delete from notification_fanout_job where party_id = ?";
+    private static final String SELECT_STALE_JOB_SQL = " select party_id from notification_fanout_job " +
+            " where modified_at < ? order by party_id";
+
+    private final MemberTownRepository memberTownRepository;
+    private final MemberRepository memberRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+    private final int insertChunkSize;
+    private final long staleMillis;
+    private final ThreadPoolExecutor executor;
+    // 이 서버에서 대기 중이거나 실행 중인 작업의 모임 id
+    private final Set<Long> runningPartyIdSet = ConcurrentHashMap.newKeySet();
+
+    private final Timer runTimer;
+    private final Counter insertedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public PartyNotificationFanout(MemberTownRepository memberTownRepository,
+                                   MemberRepository memberRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${notification.fanout.page-size:1000}") int pageSize,
+                                   @Value("${notification.fanout.insert-chunk-size:500}") int insertChunkSize,
+                                   @Value("${notification.fanout.threads:2}") int threads,
+                                   @Value("${notification.fanout.queue-capacity:1000}") int queueCapacity,
+                                   @Value("${notification.fanout.stale-ms:60000}") long staleMillis) {
+        this.memberTownRepository = memberTownRepository;
+        this.memberRepository = memberRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+        this.insertChunkSize = insertChunkSize;
+        this.staleMillis = staleMillis;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "notification-fanout-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        this.runTimer = meterRegistry.timer(METRIC_PREFIX + ".run");
+        this.insertedCounter = meterRegistry.counter(METRIC_PREFIX + ".inserted");
+        this.rejectedCounter = meterRegistry.counter(METRIC_PREFIX + ".rejected");
+        this.failedCounter = meterRegistry.counter(METRIC_PREFIX + ".failed");
+        Gauge.builder(METRIC_PREFIX + ".queue", executor.getQueue(), BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 알림 작업을 저장하고 실행 등록 (저장까지 마치고 돌아오므로 이후 이벤트를 ack 해도 작업은 남는다)
+     * 같은 모임의 작업이 이미 있으면 그 작업이 끝까지 저장한다.
+     * @param party
+     */
+    public void submit(PartyCreatedMessage.Body party) {
+        if (party.getTownId() == null || party.getPartyId() == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.update(INSERT_JOB_SQL, party.getPartyId(), toJson(party), now, now);
+        } catch (DuplicateKeyException e) {
+            return;
+        }
+        execute(party.getPartyId());
+    }
+
+    /**
+     * stale-ms 동안 진행되지 않은 작업을 다시 실행 (서버가 내려갔거나 대기 작업이 가득 차 거절된 작업)
+     */
+    @Scheduled(fixedDelayString = "${notification.fanout.recover-delay-ms:60000}")
+    public void recover() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(staleMillis));
+        jdbcTemplate.queryForList(SELECT_STALE_JOB_SQL, Long.class, staleBefore)
+                .forEach(this::execute);
+    }
+
+    /**
+     * 알림 저장 (처음부터)
+     * @param party
+     * @return 저장한 알림 수
+     */
+    public int fanout(PartyCreatedMessage.Body party) {
+        return fanout(party, 0);
+    }
+
+    private void execute(Long partyId) {
+        if (!runningPartyIdSet.add(partyId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    runTimer.record(() -> run(partyId));
+                } catch (RuntimeException e) {
+                    failedCounter.increment();
+                    log.error("PartyNotificationFanout failed : {}", partyId, e);
+                } finally {
+                    runningPartyIdSet.remove(partyId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 작업은 저장되어 있으므로 recover 가 다시 실행한다
+            runningPartyIdSet.remove(partyId);
+            rejectedCounter.increment();
+        }
+    }
+
+    // 저장된 진행 위치부터 이어서 저장하고 작업을 지운다
+    private void run(Long partyId) {
+        List<Object[]> jobList = jdbcTemplate.query(SELECT_JOB_SQL,
+                (rs, rowNum) -> new Object[]{rs.getString(1), rs.getLong(2)}, partyId);
+        if (jobList.isEmpty()) {
+            return;
+        }
+        fanout(fromJson((String) jobList.get(0)[0]), (Long) jobList.get(0)[1]);
+        jdbcTemplate.update(DELETE_JOB_SQL, partyId);
+    }
+
+    private int fanout(PartyCreatedMessage.Body party, long lastMemberTownId) {
+        if (party.getTownId() == null || party.getPartyId() == null) {
+            return 0;
+        }
+
+        List<String> tagNames = party.getTags() == null ? Collections.emptyList() : party.getTags();
+        String message = toMessage(party);
+        int total = 0;
+        while (true) {
+            List<MemberTownRepository.TownMember> page = memberTownRepository
+                    .getTownMemberPage(party.getTownId(), lastMemberTownId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                return total;
+            }
+            lastMemberTownId = page.get(page.size() - 1).getMemberTownId();
+
+            Set<Long> memberIdSet = page.stream()
+                    .map(MemberTownRepository.TownMember::getMemberId)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            List<Long> targetList = tagNames.isEmpty() ? new ArrayList<>(memberIdSet)
+                    : matchTags(memberIdSet, tagNames);
+            total += insert(party.getPartyId(), message, targetList);
+            jdbcTemplate.update(UPDATE_JOB_SQL, lastMemberTownId, LocalDateTime.now(), party.getPartyId());
+
+            if (page.size() < pageSize) {
+                return total;
+            }
+        }
+    }
+
+    // 쿼리 결과 순서는 정해져 있지 않으므로 page 순서로 되돌린다
+    private List<Long> matchTags(Set<Long> memberIdSet, List<String> tagNames) {
+        Set<Long> matchedSet = new HashSet<>(memberRepository.findIdByIdInAndTagNameIn(memberIdSet, tagNames));
+        return memberIdSet.stream()
+                .filter(matchedSet::contains)
+                .collect(Collectors.toList());
+    }
+
+    private int insert(Long partyId, String message, List<Long> memberIdList) {
+        int inserted = 0;
+        for (int from = 0; from < memberIdList.size(); from += insertChunkSize) {
+            List<Long> chunk = memberIdList.subList(from, Math.min(memberIdList.size(), from + insertChunkSize));
+            try {
+                inserted += insertChunk(partyId, message, chunk);
+            } catch (DuplicateKeyException e) {
+                // 같은 모임 이벤트를 다시 받았거나 중간에 멈춘 작업을 이어서 실행한 경우 한 건씩 저장하며 이미 있는 알림은 건너뛴다
+                for (Long memberId : chunk) {
+                    try {
+                        inserted += insertChunk(partyId, message, Collections.singletonList(memberId));
+                    } catch (DuplicateKeyException ignored) {
+                    }
+                }
+            }
+        }
+        insertedCounter.increment(inserted);
+        return inserted;
+    }
+
+    private int insertChunk(Long partyId, String message, List<Long> memberIdList) {
+        String sql = INSERT_SQL + String.join(" , ", Collections.nCopies(memberIdList.size(), INSERT_VALUES));
+        LocalDateTime now = LocalDateTime.now();
+        List<Object> args = new ArrayList<>(memberIdList.size() * 6);
+        for (Long memberId : memberIdList) {
+            args.add(memberId);
+            args.add(partyId);
+            args.add(NotificationType.PARTY_CREATED.name());
+            args.add(message);
+            args.add(now);
+            args.add(now);
+        }
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    private String toJson(PartyCreatedMessage.Body party) {
+        try {
+            return objectMapper.writeValueAsString(party);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private PartyCreatedMessage.Body fromJson(String body) {
+        try {
+            return objectMapper.readValue(body, PartyCreatedMessage.Body.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String toMessage(PartyCreatedMessage.Body party) {
+        if (party.getTags() == null || party.getTags().isEmpty()) {
+            return "동네에 새 모임 '" + party.getPartyName() + "' 이 생겼습니다.";
+        }
+        return "관심 태그 " + String.join(", ", party.getTags()) + " 모임 '" + party.getPartyName() + "' 이 생겼습니다.";
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.villagerservice.notification.repository;
+
+import com.example.villagerservice.notification.domain.NotificationInbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationInboxRepository extends JpaRepository<NotificationInbox, Long> {
+    long countByPartyId(Long partyId);
+}
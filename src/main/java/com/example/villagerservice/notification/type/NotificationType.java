@@ -0,0 +1,5 @@
+package com.example.villagerservice.notification.type;
+
+public enum NotificationType {
+    PARTY_CREATED   // 등록한 동네에 관심 태그가 맞는 모임이 생김
+}
@@ -1,8 +1,10 @@
 package com.example.villagerservice.party.api;
 
 import com.example.villagerservice.member.domain.Member;
+import com.example.villagerservice.party.dto.PartyCommentDTO;
 import com.example.villagerservice.party.dto.PartyDTO;
-import com.example.villagerservice.party.dto.PartyListDTO;
+import com.example.villagerservice.party.dto.PartyListPageDTO;
+import com.example.villagerservice.party.dto.PartySearchCond;
 import com.example.villagerservice.party.dto.UpdatePartyDTO;
 import com.example.villagerservice.party.dto.PartyApplyDto;
 import com.example.villagerservice.party.dto.PartyLikeDto;
@@ -36,9 +38,11 @@ public class PartyApiController {
     }
 
     @GetMapping("/{LAT}/{LNT}")
-    public List<PartyListDTO> getAllParty(@AuthenticationPrincipal Member member ,@PathVariable("LAT") Double LAT , @PathVariable("LNT") Double LNT) {
+    public PartyListPageDTO getAllParty(@AuthenticationPrincipal Member member ,@PathVariable("LAT") Double LAT , @PathVariable("LNT") Double LNT ,
+                                        @RequestParam(value = "cursor", required = false) String cursor ,
+                                        @ModelAttribute PartySearchCond searchCond) {
 
-        return partyQueryService.getPartyList(member.getEmail() , LAT, LNT);
+        return partyQueryService.getPartyList(member.getEmail() , LAT, LNT , cursor , searchCond);
 
     }
 
@@ -95,6 +99,12 @@ public class PartyApiController {
 
     }
 
+    @GetMapping("/{partyId}/comment")
+    public PartyCommentDTO.PageResponse getPartyCommentList(@PathVariable Long partyId ,
+                                                            @RequestParam(value = "cursor", required = false) Long cursor) {
+        return partyQueryService.getPartyCommentList(partyId , cursor);
+    }
+
     @PatchMapping("/{partyCommentId}/comment")
     public String updateComment(@PathVariable Long partyCommentId , @RequestBody String contents) {
         return partyCommentService.updateComment(partyCommentId , contents);
@@ -1,15 +1,25 @@
 package com.example.villagerservice.party.api;
 
+import com.example.villagerservice.config.StompAuthChannelInterceptor;
 import com.example.villagerservice.member.domain.Member;
 import com.example.villagerservice.party.dto.PartyChatMessageDto;
+import com.example.villagerservice.party.dto.PartyChatPresenceDto;
+import com.example.villagerservice.party.exception.PartyErrorCode;
+import com.example.villagerservice.party.exception.PartyException;
+import com.example.villagerservice.party.infra.PartyChatMembershipCache;
 import com.example.villagerservice.party.service.PartyChatService;
+import java.security.Principal;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 @Controller
 @RequiredArgsConstructor
@@ -17,24 +27,90 @@ import org.springframework.web.bind.annotation.RequestMapping;
 @MessageMapping("/api/v1/parties")
 public class PartyChatController {
     private final PartyChatService partyChatService;
+    private final PartyChatMembershipCache partyChatMembershipCache;
 
     //Client 가 SEND 할 수 있는 경로
     //stompConfig 에서 설정한 applicationDestinationPrefixes 와 @MessageMapping 경로가 병합됨
     //"/pub/chat/enter" 새로 들어왔으니 가공하여(pub) 메세지 전송
     @MessageMapping(value = "/chat/enter")
-    public void enter(PartyChatMessageDto message) {
+    public void enter(PartyChatMessageDto message, Principal user) {
+        authorize(message, user);
         partyChatService.enter(message);
     }
 
     @MessageMapping(value = "/chat/message")
-    public void message(PartyChatMessageDto message) {
-        partyChatService.message(message);
+    public void message(PartyChatMessageDto message, Principal user) {
+        Member member = authorize(message, user);
+        partyChatService.message(message, member == null ? null : member.getId());
     }
 
-    //채팅방 개설
+    //채팅방 개설 (모임 채팅방이면 partyId)
     @PostMapping(value = "/room/{roomName}")
-    public void create(@AuthenticationPrincipal Member member, @PathVariable String roomName){
-        partyChatService.create(member.getMemberDetail().getNickname(), roomName);
+    public void create(@AuthenticationPrincipal Member member, @PathVariable String roomName,
+                       @RequestParam(value = "partyId", required = false) Long partyId){
+        partyChatService.create(member.getId(), member.getMemberDetail().getNickname(), roomName, partyId);
+    }
+
+    //채팅방 대화내용 조회 (커서가 없으면 최근 메세지)
+    @ResponseBody
+    @GetMapping(value = "/chat/room/{roomId}/message")
+    public PartyChatMessageDto.PageResponse getMessageList(@AuthenticationPrincipal Member member, @PathVariable Long roomId,
+                                                           @RequestParam(value = "cursor", required = false) Long cursor) {
+        checkMember(roomId, member);
+        return partyChatService.getMessageList(roomId, cursor);
+    }
+
+    //재접속 시 마지막으로 받은 seq 이후 대화내용 이어받기
+    @ResponseBody
+    @GetMapping(value = "/chat/room/{roomId}/message/resume")
+    public PartyChatMessageDto.PageResponse resume(@AuthenticationPrincipal Member member, @PathVariable Long roomId,
+                                                   @RequestParam(value = "after") Long after) {
+        checkMember(roomId, member);
+        return partyChatService.getMessageListAfter(roomId, after);
+    }
+
+    //참여한 채팅방 전체의 안 읽은 메세지 수
+    @ResponseBody
+    @GetMapping(value = "/chat/unread")
+    public List<PartyChatPresenceDto.UnreadResponse> getUnreadList(@AuthenticationPrincipal Member member) {
+        return partyChatService.getUnreadList(member.getId());
+    }
+
+    //읽은 위치 저장 (seq 가 없으면 마지막 메세지까지 읽음)
+    @ResponseBody
+    @PostMapping(value = "/chat/room/{roomId}/read")
+    public void read(@AuthenticationPrincipal Member member, @PathVariable Long roomId,
+                     @RequestParam(value = "seq", required = false) Long seq) {
+        checkMember(roomId, member);
+        partyChatService.read(member.getId(), roomId, seq);
+    }
+
+    //채팅방 접속자
+    @ResponseBody
+    @GetMapping(value = "/chat/room/{roomId}/online")
+    public PartyChatPresenceDto.OnlineResponse getOnline(@AuthenticationPrincipal Member member, @PathVariable Long roomId) {
+        checkMember(roomId, member);
+        return partyChatService.getOnline(roomId);
+    }
+
+    //채팅방을 사용할 수 있는 회원인지 확인 (캐시로 확인, DB 조회 없음)
+    private void checkMember(Long roomId, Member member) {
+        if (!partyChatMembershipCache.isMember(roomId, member.getId())) {
+            throw new PartyException(PartyErrorCode.PARTY_CHAT_ROOM_FORBIDDEN);
+        }
+    }
+
+    //STOMP 로 인증한 회원이면 채팅방 권한을 확인하고 작성자를 회원 닉네임으로 바꾼다 (캐시로 확인, DB 조회 없음)
+    private Member authorize(PartyChatMessageDto message, Principal user) {
+        Member member = StompAuthChannelInterceptor.getMember(user);
+        if (member == null) {
+            return null;
+        }
+        checkMember(message.getRoomId(), member);
+        if (member.getMemberDetail() != null) {
+            message.setWriterNickname(member.getMemberDetail().getNickname());
+        }
+        return member;
     }
 //    @MessageMapping 을 통해 WebSocket 으로 들어오는 메세지 발행을 처리한다.
 //    Client 에서는 prefix 를 붙여 "/pub/chat/enter"로 발행 요청을 하면
@@ -1,6 +1,7 @@
 package com.example.villagerservice.party.domain;
 
 import com.example.villagerservice.common.domain.BaseTimeEntity;
+import com.example.villagerservice.common.utils.GeoHashUtils;
 import com.example.villagerservice.member.domain.Member;
 import com.example.villagerservice.party.dto.PartyDTO;
 import com.example.villagerservice.party.dto.UpdatePartyDTO;
@@ -26,8 +27,11 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_party_geohash", columnList = "geohash"))
 public class Party extends BaseTimeEntity {
 
+    public static final int GEOHASH_PRECISION = 9;
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "party_id")
     private Long id;
@@ -48,12 +52,24 @@ public class Party extends BaseTimeEntity {
 
     private Integer numberPeople;
 
+    // 허락된 인원 (numberPeople 을 넘지 않도록 조건부 update 로만 증가)
+    @Column(name = "accept_count")
+    private Integer acceptCount;
+
+    // 좋아요 수 (PartyLikeCounter 가 모아서 반영하므로 엔티티 수정 시에는 덮어쓰지 않는다)
+    @Column(name = "like_count", updatable = false)
+    private Integer likeCount;
+
     private String location;
 
     private Double latitude;
 
     private Double longitude;
 
+    // 위경도로 계산한 geohash (근처 모임 탐색용 인덱스)
+    @Column(length = GEOHASH_PRECISION)
+    private String geohash;
+
     private String content;
 
     //Member와 연결 필요
@@ -72,6 +88,8 @@ public class Party extends BaseTimeEntity {
                 .endDt(request.getEndDt())
                 .amount(request.getAmount())
                 .numberPeople(request.getNumberPeople())
+                .acceptCount(0)
+                .likeCount(0)
                 .location(request.getLocation())
                 .latitude(request.getLatitude())
                 .longitude(request.getLongitude())
@@ -81,6 +99,7 @@ public class Party extends BaseTimeEntity {
                 .build();
 
         party.updateTagInfo();
+        party.updateGeohash();
         return party;
     }
 
@@ -122,6 +141,10 @@ public class Party extends BaseTimeEntity {
             this.longitude = request.getLongitude();
         }
 
+        if (request.getLatitude() != null || request.getLongitude() != null) {
+            updateGeohash();
+        }
+
         if (request.getContent() != null) {
             this.content = request.getContent();
         }
@@ -132,6 +155,14 @@ public class Party extends BaseTimeEntity {
         }
     }
 
+    public void updateGeohash() {
+        if (latitude == null || longitude == null) {
+            this.geohash = null;
+            return;
+        }
+        this.geohash = GeoHashUtils.encode(latitude, longitude, GEOHASH_PRECISION);
+    }
+
     private void updateTagInfo(){
         for (PartyTag partyTag : tagList) {
             partyTag.updateParty(this);
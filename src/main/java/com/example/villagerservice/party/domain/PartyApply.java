@@ -14,6 +14,9 @@ import lombok.Setter;
 @Getter
 @Setter
 @Builder
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "uk_party_apply_member",
+    columnNames = {"party_id", "target_member_id"}))
 public class PartyApply extends BaseTimeEntity {
 
     @Id
@@ -0,0 +1,13 @@
+package com.example.villagerservice.party.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모임 정보가 수정, 삭제되거나 모임원이 바뀜 (서버 내부 캐시 정리용)
+ */
+@Getter
+@AllArgsConstructor
+public class PartyChangedEvent {
+    private final Long partyId;
+}
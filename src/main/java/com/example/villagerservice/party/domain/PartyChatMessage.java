@@ -7,8 +7,10 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,16 +23,24 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+    @Index(name = "idx_party_chat_message_room", columnList = "room_id, id"),
+    @Index(name = "idx_party_chat_message_room_seq", columnList = "room_id, seq"),
+    @Index(name = "idx_party_chat_message_created", columnList = "created_at")
+})
 public class PartyChatMessage extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "party_chat_room_id")
     private PartyChatRoom partyChatRoom;
     private Long roomId;
 
+    // 채팅방 안에서의 순서 (1 부터 증가)
+    private Long seq;
+
     private String writerNickname;
 
     private String message;
@@ -39,6 +49,7 @@ public class PartyChatMessage extends BaseEntity {
         return PartyChatMessage.builder()
             .partyChatRoom(room)
             .roomId(room.getId())
+            .seq(message.getSeq())
             .writerNickname(message.getWriterNickname())
             .message(message.getMessage())
             .build();
@@ -0,0 +1,53 @@
+package com.example.villagerservice.party.domain;
+
+import com.example.villagerservice.common.domain.BaseTimeEntity;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 기간이 지난 채팅 메세지 묶음 (채팅방, 월별)
+ * party_chat_message 에서 옮긴 메세지 최대 batch-size 개를 id 순서대로 압축해서 한 행에 저장한다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {
+    @Index(name = "idx_party_chat_message_archive_room_id", columnList = "room_id, first_id"),
+    @Index(name = "idx_party_chat_message_archive_room_seq", columnList = "room_id, last_seq")
+})
+public class PartyChatMessageArchive extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long roomId;
+
+    // 메세지 작성 월 (yyyyMM)
+    private Integer archiveMonth;
+
+    private Long firstId;
+    private Long lastId;
+
+    // seq 가 없는 메세지만 있으면 null
+    private Long firstSeq;
+    private Long lastSeq;
+
+    private Integer messageCount;
+
+    // gzip 으로 압축한 메세지 목록 (json)
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+}
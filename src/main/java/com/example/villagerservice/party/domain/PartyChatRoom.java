@@ -1,12 +1,9 @@
 package com.example.villagerservice.party.domain;
 
-import java.util.ArrayList;
-import java.util.List;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.OneToMany;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,19 +25,26 @@ public class PartyChatRoom {
 
     private String hostNickname;
 
-    @OneToMany
-    private List<PartyChatMessage> partyChatMessageList = new ArrayList<>();
+    // 개설한 회원 id (모임과 연결되지 않은 채팅방은 이 회원만 사용 가능)
+    private Long hostMemberId;
 
-    // 새로운 메세지를 업데이트
-    public PartyChatRoom update(PartyChatMessage message) {
-        this.partyChatMessageList.add(message);
-        return this;
-    }
+    // 모임 채팅방이면 모임 id (모임장과 모임원만 구독, 전송 가능)
+    private Long partyId;
 
     public static PartyChatRoom toEntity(String hostMemberNickname, String roomName){
+        return toEntity(hostMemberNickname, roomName, null);
+    }
+
+    public static PartyChatRoom toEntity(String hostMemberNickname, String roomName, Long partyId){
+        return toEntity(null, hostMemberNickname, roomName, partyId);
+    }
+
+    public static PartyChatRoom toEntity(Long hostMemberId, String hostMemberNickname, String roomName, Long partyId){
         return PartyChatRoom.builder()
             .roomName(roomName)
             .hostNickname(hostMemberNickname)
+            .hostMemberId(hostMemberId)
+            .partyId(partyId)
             .build();
     }
 }
\ No newline at end of file
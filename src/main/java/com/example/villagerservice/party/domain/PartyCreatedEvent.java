@@ -41,7 +41,7 @@ public class PartyCreatedEvent extends Event {
 
     @AllArgsConstructor
     @Getter
-    static class Body {
+    public static class Body {
         private Long townId;
         private Double latitude;
         private Double longitude;
@@ -32,4 +32,14 @@ public class PartyApplyDto {
                 .build();
         }
     }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Builder
+    public static class Count{
+        private long acceptCount;
+
+        private long rejectCount;
+    }
 }
@@ -7,6 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -15,6 +17,8 @@ import lombok.Setter;
 public class PartyChatMessageDto {
     private Long id;
     private Long roomId;
+    // 채팅방 안에서의 순서, 재접속 시 마지막으로 받은 seq 이후 메세지만 조회한다 (입장 알림은 없음)
+    private Long seq;
     private String writerNickname;
     private String message;
 
@@ -23,7 +27,30 @@ public class PartyChatMessageDto {
             .id(partyChatMessage.getId())
             .message(partyChatMessage.getMessage())
             .roomId(partyChatMessage.getRoomId())
+            .seq(partyChatMessage.getSeq())
             .writerNickname(partyChatMessage.getWriterNickname())
             .build();
     }
+
+    public PartyChatMessageDto copy() {
+        return PartyChatMessageDto.builder()
+            .id(id)
+            .roomId(roomId)
+            .seq(seq)
+            .writerNickname(writerNickname)
+            .message(message)
+            .build();
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class PageResponse {
+        // 오래된 메세지부터
+        private List<PartyChatMessageDto> messageList;
+        // 대화내용 조회 : 더 오래된 메세지 조회용 커서, 이어받기 : 다음 이어받기에 넣을 seq (더 없으면 null)
+        private Long nextCursor;
+    }
 }
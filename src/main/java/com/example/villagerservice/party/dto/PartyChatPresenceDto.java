@@ -0,0 +1,36 @@
+package com.example.villagerservice.party.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+public class PartyChatPresenceDto {
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class UnreadResponse {
+        private Long roomId;
+        // 채팅방의 마지막 seq
+        private Long lastSeq;
+        // 회원이 읽은 seq
+        private Long readSeq;
+        private Long unreadCount;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class OnlineResponse {
+        private Long roomId;
+        private List<String> nicknameList;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.validation.constraints.NotEmpty;
+import java.util.List;
 
 @Getter
 public class PartyCommentDTO {
@@ -34,4 +35,17 @@ public class PartyCommentDTO {
         private Long partyId;
 
     }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class PageResponse{
+
+        private List<Response> commentList;
+
+        // 다음 댓글 조회 토큰 (마지막 댓글 id, 남은 댓글이 없으면 null)
+        private Long nextCursor;
+
+    }
 }
@@ -87,6 +87,9 @@ public class PartyDTO {
 
         private Long memberId;
 
+        // 다음 댓글 조회 토큰 (마지막 댓글 id, 남은 댓글이 없으면 null)
+        private Long commentNextCursor;
+
         public static PartyDTO.Response createPartyResponse(Party party , List<PartyComment> partyCommentList , Boolean PartyLike) {
             Response response = Response.builder()
                     .partyName(party.getPartyName())
@@ -0,0 +1,41 @@
+package com.example.villagerservice.party.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 검색 필터 항목별 모임 수
+ * 각 항목의 수는 다른 항목의 필터만 적용한 결과라서, 선택을 바꿨을 때 조회될 모임 수를 보여줄 수 있다.
+ * 거리 조건은 적용하지 않은 진행중인 모임 전체 기준의 수다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PartyFacetDTO {
+
+    private List<Count> tagList;
+
+    private List<Count> amountList;
+
+    private List<Count> numberPeopleList;
+
+    private List<Count> scoreList;
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Count {
+
+        private String value;
+
+        private String description;
+
+        private int count;
+    }
+}
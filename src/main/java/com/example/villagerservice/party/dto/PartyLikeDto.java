@@ -18,10 +18,12 @@ public class PartyLikeDto {
     @Builder
     public static class Response{
         private PartyLikeResponseType response;
+        private Long likeCount;
 
-        public static PartyLikeDto.Response toDto(boolean result){
+        public static PartyLikeDto.Response toDto(boolean result, long likeCount){
             return Response.builder()
                 .response(result ? 관심모임등록 : 관심모임취소)
+                .likeCount(likeCount)
                 .build();
         }
     }
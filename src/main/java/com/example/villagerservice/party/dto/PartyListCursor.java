@@ -0,0 +1,108 @@
+package com.example.villagerservice.party.dto;
+
+import com.example.villagerservice.party.exception.PartyErrorCode;
+import com.example.villagerservice.party.exception.PartyException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 거리순 모임 목록의 다음 페이지 위치 (마지막 모임의 거리(km), 모임 id, 조회 기준 위경도)
+ * 다음 페이지는 (거리, 모임 id) 가 이 값보다 큰 모임부터 조회하므로 중간에 모임이 등록되어도 중복, 누락이 없다.
+ * 거리는 조회 기준 위치에서 잰 값이라 다른 위치로 이어서 조회하면 거부한다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(of = {"distance", "partyId"})
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PartyListCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final double distance;
+
+    private final long partyId;
+
+    private final Double latitude;
+
+    private final Double longitude;
+
+    public static PartyListCursor of(double distance, long partyId) {
+        return new PartyListCursor(distance, partyId, null, null);
+    }
+
+    /**
+     * 조회 기준 위치를 담은 위치로 변환 (클라이언트에 전달하기 전에 지정)
+     * @param latitude
+     * @param longitude
+     * @return
+     */
+    public PartyListCursor withOrigin(double latitude, double longitude) {
+        return new PartyListCursor(distance, partyId, latitude, longitude);
+    }
+
+    /**
+     * 토큰을 발급한 조회 기준 위치와 같은지 확인
+     * @param latitude
+     * @param longitude
+     */
+    public void validateOrigin(double latitude, double longitude) {
+        if (this.latitude == null || this.longitude == null
+                || Double.compare(this.latitude, latitude) != 0
+                || Double.compare(this.longitude, longitude) != 0) {
+            throw new PartyException(PartyErrorCode.PARTY_INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 이 위치보다 뒤에 오는 모임인지 확인
+     * @param distance
+     * @param partyId
+     * @return
+     */
+    public boolean isBefore(double distance, long partyId) {
+        return this.distance < distance || (this.distance == distance && this.partyId < partyId);
+    }
+
+    /**
+     * 클라이언트에 전달할 토큰으로 변환
+     * @return
+     */
+    public String encode() {
+        String value = distance + DELIMITER + partyId + DELIMITER + latitude + DELIMITER + longitude;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 다음 페이지 위치로 변환 (토큰이 없으면 첫 페이지)
+     * @param token
+     * @return
+     */
+    public static PartyListCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] values = value.split(DELIMITER);
+            if (values.length != 4) {
+                throw new PartyException(PartyErrorCode.PARTY_INVALID_CURSOR);
+            }
+
+            double distance = Double.parseDouble(values[0]);
+            if (Double.isNaN(distance) || Double.isInfinite(distance) || distance < 0) {
+                throw new PartyException(PartyErrorCode.PARTY_INVALID_CURSOR);
+            }
+            return new PartyListCursor(distance, Long.parseLong(values[1]),
+                    Double.valueOf(values[2]), Double.valueOf(values[3]));
+        } catch (IllegalArgumentException e) {
+            throw new PartyException(PartyErrorCode.PARTY_INVALID_CURSOR);
+        }
+    }
+}
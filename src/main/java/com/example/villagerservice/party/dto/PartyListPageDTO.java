@@ -0,0 +1,24 @@
+package com.example.villagerservice.party.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PartyListPageDTO {
+
+    private List<PartyListDTO> partyList;
+
+    // 다음 페이지 조회 토큰 (마지막 페이지면 null)
+    private String nextCursor;
+
+    // 검색 필터 항목별 모임 수 (첫 페이지에만 포함)
+    private PartyFacetDTO facets;
+
+}
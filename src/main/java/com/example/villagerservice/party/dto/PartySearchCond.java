@@ -0,0 +1,33 @@
+package com.example.villagerservice.party.dto;
+
+import com.example.villagerservice.party.type.PartyAmountType;
+import com.example.villagerservice.party.type.PartyNumberPeopleType;
+import com.example.villagerservice.party.type.PartyScoreType;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모임 목록 검색 조건
+ * 같은 항목 안에서는 하나라도 일치하면(OR), 항목끼리는 모두 일치해야(AND) 조회된다.
+ */
+@Data
+public class PartySearchCond {
+
+    private List<String> tagList = new ArrayList<>();
+
+    private List<PartyAmountType> amountList = new ArrayList<>();
+
+    private List<PartyNumberPeopleType> numberPeopleList = new ArrayList<>();
+
+    private List<PartyScoreType> scoreList = new ArrayList<>();
+
+    public boolean hasFilter() {
+        return !isEmpty(tagList) || !isEmpty(amountList) || !isEmpty(numberPeopleList) || !isEmpty(scoreList);
+    }
+
+    private static boolean isEmpty(List<?> list) {
+        return list == null || list.isEmpty();
+    }
+}
@@ -11,7 +11,8 @@ public enum PartyApplyErrorCode {
     ALREADY_BEAN_APPLIED("INFO-701","이미 신청된 모임입니다."),
     DIFFERENT_HOST("INFO-702","사용자가 등록한 모임이 아닙니다."),
     PARTY_APPLY_NOT_FOUND("INFO-703","일치하는 모임 신청이 없습니다."),
-    ALREADY_ACCEPT_APPLY("INFO-704","이미 허락된 신청입니다.")
+    ALREADY_ACCEPT_APPLY("INFO-704","이미 허락된 신청입니다."),
+    PARTY_IS_FULL("INFO-705","모집 인원이 다 찼습니다.")
     ;
 
     private final String errorCode;
@@ -13,7 +13,11 @@ public enum PartyErrorCode {
     PARTY_NOT_REGISTERED("INFO-602" , "모임이 등록되어 있지 않습니다."),
     PARTY_CHAT_ROOM_NOT_FOUND("INFO-603" , "모임 채팅방이 없습니다."),
     PARTY_IS_NOT_TIME("INFO-604" , "모임 시작시간이 아닙니다."),
-    PARTY_MEMBER_EMPTY("INFO-605" , "모임원이 없습니다.")
+    PARTY_MEMBER_EMPTY("INFO-605" , "모임원이 없습니다."),
+    PARTY_INVALID_CURSOR("INFO-606" , "잘못된 페이지 정보입니다."),
+    PARTY_SEARCH_NOT_READY("INFO-607" , "모임 검색을 준비중입니다. 잠시 후 다시 시도해주세요."),
+    PARTY_CHAT_ROOM_FORBIDDEN("INFO-608" , "모임 채팅방에 참여한 회원이 아닙니다."),
+    PARTY_CHAT_ROOM_NOT_HOST("INFO-609" , "모임장만 모임 채팅방을 개설할 수 있습니다.")
     ;
 
     private final String errorCode;
@@ -0,0 +1,39 @@
+package com.example.villagerservice.party.handler;
+
+import com.example.villagerservice.party.domain.PartyChangedEvent;
+import com.example.villagerservice.party.infra.PartyChatMembershipCache;
+import com.example.villagerservice.party.infra.PartyFacetIndex;
+import com.example.villagerservice.party.infra.PartyGeoIndex;
+import com.example.villagerservice.party.infra.PartyListCache;
+import com.example.villagerservice.party.infra.PartySeatCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class PartyChangedEventHandler {
+    private final PartyListCache partyListCache;
+    private final PartySeatCounter partySeatCounter;
+    private final PartyChatMembershipCache partyChatMembershipCache;
+    private final PartyGeoIndex partyGeoIndex;
+    private final PartyFacetIndex partyFacetIndex;
+
+    /**
+     * 커밋 후에 비워야 그 사이 이전 값을 읽어 다시 캐시하는 일이 없다.
+     * 인덱스도 커밋된 값을 다시 읽어 반영하므로 롤백된 변경은 남지 않는다.
+     * @param event
+     */
+    @TransactionalEventListener(
+            classes = PartyChangedEvent.class,
+            phase = TransactionPhase.AFTER_COMMIT
+    )
+    public void handle(PartyChangedEvent event) {
+        partyListCache.evict(event.getPartyId());
+        partySeatCounter.evict(event.getPartyId());
+        partyChatMembershipCache.evictParty(event.getPartyId());
+        partyGeoIndex.refresh(event.getPartyId());
+        partyFacetIndex.refresh(event.getPartyId());
+    }
+}
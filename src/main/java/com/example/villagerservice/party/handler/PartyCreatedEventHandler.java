@@ -1,7 +1,7 @@
 package com.example.villagerservice.party.handler;
 
 import com.example.villagerservice.config.events.Event;
-import com.example.villagerservice.config.events.EventProducer;
+import com.example.villagerservice.events.service.EventOutboxService;
 import com.example.villagerservice.party.domain.PartyCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,16 +9,19 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 모임 생성 트랜잭션 안에서 이벤트 저장소에 저장 (브로커로는 EventOutboxRelay 가 보낸다)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PartyCreatedEventHandler {
-    private final EventProducer producer;
+    private final EventOutboxService eventOutboxService;
     @TransactionalEventListener(
             classes = PartyCreatedEvent.class,
-            phase = TransactionPhase.AFTER_COMMIT
+            phase = TransactionPhase.BEFORE_COMMIT
     )
     public void handle(Event event) {
-        producer.eventPublish(event);
+        eventOutboxService.append(event);
     }
 }
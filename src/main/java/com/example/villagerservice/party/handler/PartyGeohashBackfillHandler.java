@@ -0,0 +1,62 @@
+package com.example.villagerservice.party.handler;
+
+import com.example.villagerservice.party.domain.Party;
+import com.example.villagerservice.party.repository.PartyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+/**
+ * geohash 컬럼 추가 이전에 등록된 모임의 geohash 채우기
+ * BATCH_SIZE 개씩 각각의 트랜잭션으로 저장하고, 저장한 모임은 영속성 컨텍스트에서 비운다.
+ */
+@Slf4j
+@Component
+public class PartyGeohashBackfillHandler {
+    private static final int BATCH_SIZE = 500;
+
+    private final PartyRepository partyRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public PartyGeohashBackfillHandler(PartyRepository partyRepository,
+                                       EntityManager entityManager,
+                                       PlatformTransactionManager transactionManager) {
+        this.partyRepository = partyRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void handle() {
+        int count = 0;
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> backfillBatch());
+            if (updated == null || updated == 0) {
+                break;
+            }
+            count += updated;
+        }
+
+        if (count > 0) {
+            log.info("PartyGeohashBackfillHandler updated : {}", count);
+        }
+    }
+
+    private int backfillBatch() {
+        List<Party> partyList = partyRepository.getPartyWithoutGeohash(PageRequest.of(0, BATCH_SIZE));
+        for (Party party : partyList) {
+            party.updateGeohash();
+        }
+        partyRepository.flush();
+        entityManager.clear();
+        return partyList.size();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.villagerservice.party.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버가 1대일 때 사용하는 전달 방식 (이 서버에 연결된 구독자에게만 전달)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "party.chat.fanout", havingValue = "local", matchIfMissing = true)
+public class LocalPartyChatFanout implements PartyChatFanout {
+    private final SimpMessagingTemplate template;
+
+    @Override
+    public void publish(Long roomId, Object payload) {
+        template.convertAndSend(PartyChatFanout.destinationOf(roomId), payload);
+    }
+}
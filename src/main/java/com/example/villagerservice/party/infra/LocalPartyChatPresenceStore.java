@@ -0,0 +1,60 @@
+package com.example.villagerservice.party.infra;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버가 1대일 때 사용하는 접속자, 읽은 위치 저장소
+ */
+@Component
+@ConditionalOnProperty(name = "party.chat.fanout", havingValue = "local", matchIfMissing = true)
+public class LocalPartyChatPresenceStore implements PartyChatPresenceStore {
+    // 채팅방 id -> (닉네임 -> 세션 수)
+    private final Map<Long, Map<String, Integer>> onlineMap = new ConcurrentHashMap<>();
+    // 읽은 위치 키 -> (채팅방 id -> 읽은 seq)
+    private final Map<String, Map<Long, Long>> readMap = new ConcurrentHashMap<>();
+
+    public LocalPartyChatPresenceStore(MeterRegistry meterRegistry) {
+        Gauge.builder("party.chat.presence.rooms", onlineMap, Map::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void join(Long roomId, String nickname) {
+        onlineMap.computeIfAbsent(roomId, id -> new ConcurrentHashMap<>())
+                .merge(nickname, 1, Integer::sum);
+    }
+
+    @Override
+    public void leave(Long roomId, String nickname) {
+        onlineMap.computeIfPresent(roomId, (id, online) -> {
+            online.computeIfPresent(nickname, (key, count) -> count <= 1 ? null : count - 1);
+            return online.isEmpty() ? null : online;
+        });
+    }
+
+    @Override
+    public Set<String> getOnline(Long roomId) {
+        Map<String, Integer> online = onlineMap.get(roomId);
+        return online == null ? Set.of() : Set.copyOf(online.keySet());
+    }
+
+    @Override
+    public void markRead(String reader, Long roomId, long seq) {
+        readMap.computeIfAbsent(reader, key -> new ConcurrentHashMap<>())
+                .merge(roomId, seq, Math::max);
+    }
+
+    @Override
+    public Map<Long, Long> getReadPositions(String reader) {
+        Map<Long, Long> readPositions = readMap.get(reader);
+        return readPositions == null ? Map.of() : new HashMap<>(readPositions);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.repository.PartyChatMessageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버가 1대일 때 사용하는 seq 발급 방식
+ * 카운터는 DB 와 최근 메세지 버퍼의 마지막 seq 중 큰 값에서 시작한다. (쓰기 스레드가 아직 저장하지 않은 메세지는 버퍼에만 있다)
+ * inactive-minutes 동안 쓰지 않은 채팅방의 카운터는 제거하고, 다시 쓰면 같은 방법으로 채운다.
+ */
+@Component
+@ConditionalOnProperty(name = "party.chat.fanout", havingValue = "local", matchIfMissing = true)
+public class LocalPartyChatSequencer implements PartyChatSequencer {
+    private final PartyChatMessageRepository partyChatMessageRepository;
+    private final PartyChatRecentBuffer partyChatRecentBuffer;
+    private final long inactiveMillis;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public LocalPartyChatSequencer(PartyChatMessageRepository partyChatMessageRepository,
+                                   PartyChatRecentBuffer partyChatRecentBuffer,
+                                   @Value("${party.chat.sequencer.inactive-minutes:60}") long inactiveMinutes) {
+        this.partyChatMessageRepository = partyChatMessageRepository;
+        this.partyChatRecentBuffer = partyChatRecentBuffer;
+        this.inactiveMillis = inactiveMinutes * 60 * 1000;
+    }
+
+    @Override
+    public long next(Long roomId) {
+        // 제거와 겹치지 않도록 compute 안에서 증가
+        return counters.compute(roomId, (id, counter) -> {
+            Counter target = counter == null ? load(id) : counter;
+            target.seq++;
+            target.lastAccess = System.currentTimeMillis();
+            return target;
+        }).seq;
+    }
+
+    @Override
+    public long current(Long roomId) {
+        return counters.computeIfAbsent(roomId, this::load).seq;
+    }
+
+    /**
+     * 오래 쓰지 않은 채팅방의 카운터 제거
+     */
+    @Scheduled(fixedDelayString = "${party.chat.sequencer.evict-delay-ms:60000}")
+    public void evictInactive() {
+        long deadline = System.currentTimeMillis() - inactiveMillis;
+        for (Long roomId : counters.keySet()) {
+            counters.computeIfPresent(roomId, (id, counter) -> counter.lastAccess <= deadline ? null : counter);
+        }
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    private Counter load(Long roomId) {
+        Long maxSeq = partyChatMessageRepository.findMaxSeqByRoomId(roomId);
+        return new Counter(Math.max(maxSeq == null ? 0 : maxSeq, partyChatRecentBuffer.getLastSeq(roomId)));
+    }
+
+    // compute 안에서만 변경한다
+    private static class Counter {
+        private volatile long seq;
+        private volatile long lastAccess;
+
+        private Counter(long seq) {
+            this.seq = seq;
+            this.lastAccess = System.currentTimeMillis();
+        }
+    }
+}
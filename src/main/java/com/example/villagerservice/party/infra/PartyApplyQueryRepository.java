@@ -1,30 +1,100 @@
 package com.example.villagerservice.party.infra;
 
-import com.example.villagerservice.party.domain.PartyApply;
 import com.example.villagerservice.party.domain.QPartyApply;
 import com.example.villagerservice.party.dto.PartyApplyDto;
-import com.example.villagerservice.party.service.PartyApplyQueryService;
-import com.querydsl.core.types.Projections;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Repository
 @RequiredArgsConstructor
 public class PartyApplyQueryRepository {
+    private static final String METRIC_START_LOCK = "party.start.lock";
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
 
-    public List<PartyApply> getPartyApply(Long partyId, String email) {
+    /**
+     * 모임 신청을 허락, 미허락으로 나눠서 개수 조회
+     * @param partyId
+     * @return
+     */
+    public PartyApplyDto.Count getPartyApplyCount(Long partyId) {
         QPartyApply p = QPartyApply.partyApply;
 
-        List<PartyApply> result = queryFactory
-            .select(p)
+        List<Tuple> result = queryFactory
+            .select(p.isAccept, p.count())
             .from(p)
-            .where(p.party.id.eq(partyId)
-                .and(p.party.member.email.eq(email)))
+            .where(p.party.id.eq(partyId))
+            .groupBy(p.isAccept)
             .fetch();
 
-        return result;
+        long acceptCount = 0;
+        long rejectCount = 0;
+        for (Tuple tuple : result) {
+            if (Boolean.TRUE.equals(tuple.get(p.isAccept))) {
+                acceptCount = tuple.get(p.count());
+            } else {
+                rejectCount = tuple.get(p.count());
+            }
+        }
+
+        return PartyApplyDto.Count.builder()
+            .acceptCount(acceptCount)
+            .rejectCount(rejectCount)
+            .build();
+    }
+
+    /**
+     * 허락된 신청을 모임원으로 옮기고 모임 신청 전체 삭제
+     * 신청 수와 관계없이 INSERT ... SELECT 1번, 삭제 1번으로 처리한다.
+     * INSERT ... SELECT 가 읽은 신청 행에 잠금을 잡으므로 그 사이 허락, 신청이 끼어들어 삭제만 되는 일이 없다.
+     * 첫 쿼리부터 트랜잭션 종료까지 잠금을 잡고 있는 시간을 party.start.lock 으로 기록한다.
+     * @param partyId
+     * @return 모임원으로 옮긴 수
+     */
+    public int promoteAcceptedApply(Long partyId) {
+        long startedAt = System.nanoTime();
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        if (inTransaction) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    recordLockTime(startedAt);
+                }
+            });
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int memberCount = jdbcTemplate.update(
+            " insert into party_member (member_id , party_id , created_at , modified_at) " +
+                " select pa.target_member_id , pa.party_id , ? , ? from party_apply as pa " +
+                " where pa.party_id = ? and pa.is_accept = true ",
+            now, now, partyId);
+
+        QPartyApply p = QPartyApply.partyApply;
+        queryFactory
+            .delete(p)
+            .where(p.party.id.eq(partyId))
+            .execute();
+
+        // 트랜잭션 밖이면 각 쿼리가 바로 커밋되므로 여기까지 기록
+        if (!inTransaction) {
+            recordLockTime(startedAt);
+        }
+        return memberCount;
+    }
+
+    private void recordLockTime(long startedAt) {
+        meterRegistry.timer(METRIC_START_LOCK).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
     }
 }
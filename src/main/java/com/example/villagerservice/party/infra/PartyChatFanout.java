@@ -0,0 +1,37 @@
+package com.example.villagerservice.party.infra;
+
+/**
+ * 채팅방 구독자에게 메세지를 전달하는 방법 (party.chat.fanout)
+ * local : 이 서버의 SimpleBroker 로 바로 전달 (서버 1대)
+ * redis : 채팅방별 Redis 채널로 발행하고, 그 채팅방 구독자가 있는 서버만 받아서 전달 (서버 여러 대)
+ */
+public interface PartyChatFanout {
+    String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+
+    /**
+     * 채팅방 구독자 전체에게 전달
+     * @param roomId
+     * @param payload
+     */
+    void publish(Long roomId, Object payload);
+
+    static String destinationOf(Long roomId) {
+        return ROOM_DESTINATION_PREFIX + roomId;
+    }
+
+    /**
+     * 채팅방 구독 경로의 채팅방 id (채팅방 경로가 아니면 null)
+     * @param destination
+     * @return
+     */
+    static Long roomIdOf(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(ROOM_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
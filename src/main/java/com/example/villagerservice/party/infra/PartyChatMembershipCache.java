@@ -0,0 +1,133 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.domain.PartyChatRoom;
+import com.example.villagerservice.party.repository.PartyChatRoomRepository;
+import com.example.villagerservice.party.repository.PartyMemberRepository;
+import com.example.villagerservice.party.repository.PartyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방별 구독, 전송 가능한 회원 id (모임장 + 모임원)
+ * STOMP 프레임마다 DB 를 조회하지 않도록 채팅방마다 한 번 읽어 둔다.
+ * 모임이 시작되어 모임원이 바뀌면 PartyChangedEvent 로 비우고, 다른 서버의 변경은 ttl-seconds 안에 반영된다.
+ * 모임과 연결되지 않은 채팅방은 개설한 회원만 사용할 수 있다. (open-rooms: true 이면 로그인한 회원 누구나)
+ */
+@Component
+public class PartyChatMembershipCache {
+    private final PartyChatRoomRepository partyChatRoomRepository;
+    private final PartyRepository partyRepository;
+    private final PartyMemberRepository partyMemberRepository;
+    private final long ttlMillis;
+    private final boolean openRooms;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private final Map<Long, Membership> rooms = new ConcurrentHashMap<>();
+
+    public PartyChatMembershipCache(PartyChatRoomRepository partyChatRoomRepository,
+                                    PartyRepository partyRepository,
+                                    PartyMemberRepository partyMemberRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${party.chat.membership.ttl-seconds:300}") long ttlSeconds,
+                                    @Value("${party.chat.membership.open-rooms:false}") boolean openRooms) {
+        this.partyChatRoomRepository = partyChatRoomRepository;
+        this.partyRepository = partyRepository;
+        this.partyMemberRepository = partyMemberRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.openRooms = openRooms;
+
+        this.hitCounter = meterRegistry.counter("party.chat.membership", "result", "hit");
+        this.missCounter = meterRegistry.counter("party.chat.membership", "result", "miss");
+        Gauge.builder("party.chat.membership.rooms", rooms, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채팅방을 사용할 수 있는 회원인지 (없는 채팅방이면 false)
+     * @param roomId
+     * @param memberId
+     * @return
+     */
+    public boolean isMember(Long roomId, Long memberId) {
+        if (roomId == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        Membership membership = rooms.get(roomId);
+        if (membership == null || membership.isExpired(now)) {
+            missCounter.increment();
+            membership = rooms.compute(roomId, (id, old) -> old != null && !old.isExpired(now) ? old : load(id, now));
+        } else {
+            hitCounter.increment();
+        }
+        return membership.contains(memberId);
+    }
+
+    /**
+     * 모임원이 바뀐 모임의 채팅방 제거
+     * @param partyId
+     */
+    public void evictParty(Long partyId) {
+        rooms.values().removeIf(membership -> partyId.equals(membership.partyId));
+    }
+
+    public void clear() {
+        rooms.clear();
+    }
+
+    private Membership load(Long roomId, long now) {
+        Optional<PartyChatRoom> room = partyChatRoomRepository.findById(roomId);
+        if (room.isEmpty()) {
+            return new Membership(null, false, Set.of(), now + ttlMillis);
+        }
+
+        Long partyId = room.get().getPartyId();
+        if (partyId == null) {
+            if (openRooms) {
+                return new Membership(null, true, null, now + ttlMillis);
+            }
+            Long hostMemberId = room.get().getHostMemberId();
+            return new Membership(null, true, hostMemberId == null ? Set.of() : Set.of(hostMemberId), now + ttlMillis);
+        }
+        Set<Long> memberIdSet = new HashSet<>(partyMemberRepository.findMemberIdByPartyId(partyId));
+        partyRepository.findHostMemberIdById(partyId).ifPresent(memberIdSet::add);
+        return new Membership(partyId, true, memberIdSet, now + ttlMillis);
+    }
+
+    private static class Membership {
+        private final Long partyId;
+        private final boolean exists;
+        // null 이면 누구나 사용할 수 있는 채팅방 (open-rooms)
+        private final Set<Long> memberIdSet;
+        private final long expiresAt;
+
+        private Membership(Long partyId, boolean exists, Set<Long> memberIdSet, long expiresAt) {
+            this.partyId = partyId;
+            this.exists = exists;
+            this.memberIdSet = memberIdSet;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        private boolean contains(Long memberId) {
+            if (!exists) {
+                return false;
+            }
+            return memberIdSet == null || (memberId != null && memberIdSet.contains(memberId));
+        }
+    }
+}
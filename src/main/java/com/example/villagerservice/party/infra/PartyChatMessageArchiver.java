@@ -0,0 +1,309 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.domain.PartyChatMessageArchive;
+import com.example.villagerservice.party.dto.PartyChatMessageDto;
+import com.example.villagerservice.party.repository.PartyChatMessageArchiveRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 기간(retention-months)이 지난 채팅 메세지를 월별 압축 보관 테이블(party_chat_message_archive)로 옮긴다.
+ * 최근 메세지 테이블은 보관 기간만큼만 남아 작게 유지되고, 대화내용 조회는 최근 테이블이 끝나야 보관 테이블을 읽는다.
+ * 채팅방마다 batch-size 개씩 짧은 트랜잭션으로 옮기므로 한 번에 잠기는 행은 batch-size 개를 넘지 않는다.
+ * 여러 서버에서 동시에 실행되면 먼저 지운 서버만 옮기고 나머지는 되돌린다.
+ * 보관 테이블은 이 작업에서만 바뀌므로 마지막 보관 메세지 id 는 최근 메세지 버퍼에 두고, 채팅방을 옮길 때마다 다시 읽게 한다.
+ * (모든 서버가 같은 시각에 실행하고, 다른 서버가 옮기는 중이면 그 서버가 커밋한 뒤에 끝나므로 각 서버의 값도 바뀐다)
+ */
+@Slf4j
+@Component
+public class PartyChatMessageArchiver {
+    private static final String METRIC_PREFIX = "party.chat.archive";
+    private static final String SELECT_ROOM_SQL = " select distinct room_id from party_chat_message where created_at < ? ";
+    private static final String SELECT_SQL = " select id , seq , writer_nickname , message , created_at " +
+            " from party_chat_message where room_id = ? and created_at < ? order by id limit ? ";
+    private static final String DELETE_SQL = " delete from party_chat_message where id in ";
+    private static final TypeReference<List<ArchivedMessage>> MESSAGE_LIST_TYPE = new TypeReference<>() {};
+    private static final RowMapper<ArchivedMessage> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new ArchivedMessage(
+                rs.getLong("id"),
+                rs.getObject("seq") == null ? null : rs.getLong("seq"),
+                rs.getString("writer_nickname"),
+                rs.getString("message"),
+                createdAt == null ? null : createdAt.toLocalDateTime());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PartyChatMessageArchiveRepository partyChatMessageArchiveRepository;
+    private final PartyChatRecentBuffer partyChatRecentBuffer;
+    private final ObjectMapper objectMapper;
+    private final int retentionMonths;
+    private final int batchSize;
+
+    private final Timer runTimer;
+    private final Counter archivedCounter;
+    private final Counter conflictCounter;
+
+    public PartyChatMessageArchiver(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    PartyChatMessageArchiveRepository partyChatMessageArchiveRepository,
+                                    PartyChatRecentBuffer partyChatRecentBuffer,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${party.chat.archive.retention-months:3}") int retentionMonths,
+                                    @Value("${party.chat.archive.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partyChatMessageArchiveRepository = partyChatMessageArchiveRepository;
+        this.partyChatRecentBuffer = partyChatRecentBuffer;
+        this.objectMapper = objectMapper;
+        this.retentionMonths = retentionMonths;
+        this.batchSize = batchSize;
+
+        this.runTimer = meterRegistry.timer(METRIC_PREFIX + ".run");
+        this.archivedCounter = meterRegistry.counter(METRIC_PREFIX + ".messages");
+        this.conflictCounter = meterRegistry.counter(METRIC_PREFIX + ".conflict");
+    }
+
+    @Scheduled(cron = "${party.chat.archive.cron:0 30 4 * * *}")
+    public void rollover() {
+        runTimer.record(() -> rollover(LocalDate.now()));
+    }
+
+    /**
+     * 기준일이 속한 달에서 retention-months 개월 전 1일보다 오래된 메세지를 옮긴다.
+     * @param today
+     * @return 옮긴 메세지 수
+     */
+    public int rollover(LocalDate today) {
+        LocalDateTime cutoff = YearMonth.from(today).minusMonths(retentionMonths).atDay(1).atStartOfDay();
+        List<Long> roomIdList = jdbcTemplate.queryForList(SELECT_ROOM_SQL, Long.class, cutoff);
+
+        int total = 0;
+        for (Long roomId : roomIdList) {
+            try {
+                total += archiveRoom(roomId, cutoff);
+            } catch (RuntimeException e) {
+                // 다음 실행에서 다시 옮긴다
+                log.error("PartyChatMessageArchiver archive failed : {}", roomId, e);
+            } finally {
+                partyChatRecentBuffer.resetLastArchivedId(roomId);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 커서(메세지 id)보다 오래된 보관 메세지 (최근 메세지부터)
+     * @param roomId
+     * @param beforeId
+     * @param limit
+     * @return
+     */
+    public List<PartyChatMessageDto> findBefore(Long roomId, Long beforeId, int limit) {
+        List<PartyChatMessageDto> result = new ArrayList<>();
+        Long cursor = beforeId;
+        while (result.size() < limit) {
+            Optional<PartyChatMessageArchive> archive = partyChatMessageArchiveRepository
+                    .findFirstByRoomIdAndFirstIdLessThanOrderByFirstIdDesc(roomId, cursor);
+            if (archive.isEmpty()) {
+                break;
+            }
+            List<ArchivedMessage> messageList = decode(archive.get().getPayload());
+            for (int i = messageList.size() - 1; i >= 0 && result.size() < limit; i--) {
+                if (messageList.get(i).getId() < beforeId) {
+                    result.add(messageList.get(i).toDto(roomId));
+                }
+            }
+            cursor = archive.get().getFirstId();
+        }
+        return result;
+    }
+
+    /**
+     * seq 이후 보관 메세지 (오래된 메세지부터)
+     * @param roomId
+     * @param afterSeq
+     * @param limit
+     * @return
+     */
+    public List<PartyChatMessageDto> findAfter(Long roomId, Long afterSeq, int limit) {
+        List<PartyChatMessageDto> result = new ArrayList<>();
+        Long cursor = afterSeq;
+        while (result.size() < limit) {
+            Optional<PartyChatMessageArchive> archive = partyChatMessageArchiveRepository
+                    .findFirstByRoomIdAndLastSeqGreaterThanOrderByLastSeqAsc(roomId, cursor);
+            if (archive.isEmpty()) {
+                break;
+            }
+            for (ArchivedMessage message : decode(archive.get().getPayload())) {
+                if (result.size() < limit && message.getSeq() != null && message.getSeq() > cursor) {
+                    result.add(message.toDto(roomId));
+                }
+            }
+            cursor = archive.get().getLastSeq();
+        }
+        return result;
+    }
+
+    /**
+     * 가장 최근에 보관된 메세지 id (보관된 메세지가 없으면 null)
+     * 최근 메세지 버퍼에 있으면 보관 테이블을 조회하지 않는다.
+     * @param roomId
+     * @return
+     */
+    public Long getLastArchivedId(Long roomId) {
+        return partyChatRecentBuffer.getLastArchivedId(roomId, id -> partyChatMessageArchiveRepository
+                .findFirstByRoomIdOrderByFirstIdDesc(id)
+                .map(PartyChatMessageArchive::getLastId)
+                .orElse(null));
+    }
+
+    private int archiveRoom(Long roomId, LocalDateTime cutoff) {
+        int total = 0;
+        while (true) {
+            List<ArchivedMessage> messageList = jdbcTemplate.query(SELECT_SQL, ROW_MAPPER, roomId, cutoff, batchSize);
+            if (messageList.isEmpty()) {
+                return total;
+            }
+
+            Integer moved = transactionTemplate.execute(status -> {
+                // 먼저 지워서 다른 서버가 같은 메세지를 옮기는 중이면 (지운 행 수가 다르면) 되돌린다
+                int deleted = delete(messageList);
+                if (deleted != messageList.size()) {
+                    status.setRollbackOnly();
+                    return 0;
+                }
+                partyChatMessageArchiveRepository.saveAll(toArchiveList(roomId, messageList));
+                return deleted;
+            });
+            if (moved == null || moved == 0) {
+                conflictCounter.increment();
+                return total;
+            }
+
+            archivedCounter.increment(moved);
+            total += moved;
+            if (messageList.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private int delete(List<ArchivedMessage> messageList) {
+        String sql = DELETE_SQL + "(" + String.join(" , ", Collections.nCopies(messageList.size(), "?")) + ")";
+        return jdbcTemplate.update(sql, messageList.stream().map(ArchivedMessage::getId).toArray());
+    }
+
+    // id 순서대로 읽은 메세지를 작성 월이 바뀔 때마다 나눈다
+    private List<PartyChatMessageArchive> toArchiveList(Long roomId, List<ArchivedMessage> messageList) {
+        List<PartyChatMessageArchive> archiveList = new ArrayList<>();
+        int from = 0;
+        for (int i = 1; i <= messageList.size(); i++) {
+            if (i == messageList.size() || monthOf(messageList.get(i)) != monthOf(messageList.get(from))) {
+                archiveList.add(toArchive(roomId, messageList.subList(from, i)));
+                from = i;
+            }
+        }
+        return archiveList;
+    }
+
+    private PartyChatMessageArchive toArchive(Long roomId, List<ArchivedMessage> messageList) {
+        Long firstSeq = null;
+        Long lastSeq = null;
+        for (ArchivedMessage message : messageList) {
+            if (message.getSeq() != null) {
+                firstSeq = firstSeq == null ? message.getSeq() : Math.min(firstSeq, message.getSeq());
+                lastSeq = lastSeq == null ? message.getSeq() : Math.max(lastSeq, message.getSeq());
+            }
+        }
+        return PartyChatMessageArchive.builder()
+                .roomId(roomId)
+                .archiveMonth(monthOf(messageList.get(0)))
+                .firstId(messageList.get(0).getId())
+                .lastId(messageList.get(messageList.size() - 1).getId())
+                .firstSeq(firstSeq)
+                .lastSeq(lastSeq)
+                .messageCount(messageList.size())
+                .payload(encode(messageList))
+                .build();
+    }
+
+    private static int monthOf(ArchivedMessage message) {
+        LocalDateTime createdAt = message.getCreatedAt();
+        return createdAt == null ? 0 : createdAt.getYear() * 100 + createdAt.getMonthValue();
+    }
+
+    private byte[] encode(List<ArchivedMessage> messageList) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, messageList);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<ArchivedMessage> decode(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(in, MESSAGE_LIST_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class ArchivedMessage {
+        private Long id;
+        private Long seq;
+        private String writerNickname;
+        private String message;
+        private LocalDateTime createdAt;
+
+        private PartyChatMessageDto toDto(Long roomId) {
+            return PartyChatMessageDto.builder()
+                    .id(id)
+                    .roomId(roomId)
+                    .seq(seq)
+                    .writerNickname(writerNickname)
+                    .message(message)
+                    .build();
+        }
+    }
+}
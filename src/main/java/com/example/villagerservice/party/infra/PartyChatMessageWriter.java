@@ -0,0 +1,257 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.dto.PartyChatMessageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메세지를 큐에 모았다가 여러 행 insert 한 번으로 저장하는 쓰기 스레드
+ * 메세지는 구독자에게 먼저 전송되고 저장은 뒤따르므로, 서버가 비정상 종료되면 큐에 남은 메세지(최대 queue-capacity 개,
+ * 보통 linger-ms + insert 1번 시간 동안 받은 메세지)는 저장되지 않는다. 정상 종료 시에는 큐를 모두 저장하고 내려간다.
+ * 큐가 가득 차면 요청 스레드에서 바로 저장해서 느려지더라도 메세지를 버리지 않는다.
+ * 저장이 끝나면 생성된 id 를 메세지에 넣는다. (최근 메세지 버퍼가 같은 메세지를 가지고 있다)
+ * insert 가 실패하면 retry-backoff-ms 부터 두 배씩 기다리며 max-retries 번 다시 시도하고, 그래도 실패하면 한 행씩 저장해서
+ * 저장할 수 없는 메세지만 버린다. (잘못된 행 때문에 실패한 경우에는 기다리지 않고 바로 한 행씩 저장)
+ */
+@Slf4j
+@Component
+public class PartyChatMessageWriter {
+    private static final String METRIC_PREFIX = "party.chat.write";
+    private static final String INSERT_SQL = " insert into party_chat_message " +
+            " (party_chat_room_id , room_id , seq , writer_nickname , message , created_at , modified_at) values ";
+    private static final String INSERT_VALUES = "(? , ? , ? , ? , ? , ? , ?)";
+    private static final long STOP_TIMEOUT_MILLIS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<Row> queue;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final long offerTimeoutMillis;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+
+    private final Timer insertTimer;
+    private final DistributionSummary batchSummary;
+    private final Counter directWriteCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public PartyChatMessageWriter(JdbcTemplate jdbcTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${party.chat.writer.queue-capacity:50000}") int queueCapacity,
+                                  @Value("${party.chat.writer.batch-size:500}") int batchSize,
+                                  @Value("${party.chat.writer.linger-ms:5}") long lingerMillis,
+                                  @Value("${party.chat.writer.offer-timeout-ms:50}") long offerTimeoutMillis,
+                                  @Value("${party.chat.writer.max-retries:3}") int maxRetries,
+                                  @Value("${party.chat.writer.retry-backoff-ms:100}") long retryBackoffMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        this.insertTimer = meterRegistry.timer(METRIC_PREFIX + ".insert");
+        this.batchSummary = meterRegistry.summary(METRIC_PREFIX + ".batch");
+        this.directWriteCounter = meterRegistry.counter(METRIC_PREFIX + ".direct");
+        this.retriedCounter = meterRegistry.counter(METRIC_PREFIX + ".retried");
+        this.failedCounter = meterRegistry.counter(METRIC_PREFIX + ".failed");
+        Gauge.builder(METRIC_PREFIX + ".queue", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "party-chat-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 큐에 남은 메세지를 모두 저장한 뒤 종료
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(STOP_TIMEOUT_MILLIS);
+        }
+    }
+
+    /**
+     * 저장할 메세지 추가 (받은 시각을 작성 시각으로 저장)
+     * @param message
+     */
+    public void write(PartyChatMessageDto message) {
+        Row row = new Row(message, LocalDateTime.now());
+        try {
+            if (running && queue.offer(row, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        directWriteCounter.increment();
+        insert(Collections.singletonList(row));
+    }
+
+    private void run() {
+        List<Row> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Row first = queue.poll(lingerMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - batch.size());
+
+                // 모자라면 linger-ms 만큼 더 모은다
+                if (batch.size() < batchSize) {
+                    Row next = queue.poll(lingerMillis, TimeUnit.MILLISECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                        queue.drainTo(batch, batchSize - batch.size());
+                    }
+                }
+                insert(batch);
+            } catch (InterruptedException e) {
+                // 종료 중에는 남은 메세지를 마저 저장
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void insert(List<Row> rowList) {
+        if (rowList.isEmpty()) {
+            return;
+        }
+
+        RuntimeException failure = tryInsert(rowList);
+        for (int retry = 0; failure != null && retry < maxRetries
+                && !(failure instanceof DataIntegrityViolationException); retry++) {
+            if (!backoff(retry)) {
+                break;
+            }
+            retriedCounter.increment();
+            failure = tryInsert(rowList);
+        }
+        if (failure == null) {
+            return;
+        }
+
+        if (rowList.size() == 1) {
+            drop(rowList.get(0), failure);
+            return;
+        }
+        // 다시 시도해도 실패하면 한 행씩 저장해서 저장할 수 없는 메세지만 버린다
+        log.warn("PartyChatMessageWriter batch insert failed, insert one by one : {}", rowList.size(), failure);
+        for (Row row : rowList) {
+            RuntimeException rowFailure = tryInsert(Collections.singletonList(row));
+            if (rowFailure != null) {
+                drop(row, rowFailure);
+            }
+        }
+    }
+
+    // 실패하면 예외를 반환
+    private RuntimeException tryInsert(List<Row> rowList) {
+        String sql = INSERT_SQL + String.join(" , ", Collections.nCopies(rowList.size(), INSERT_VALUES));
+        List<Object> args = new ArrayList<>(rowList.size() * 7);
+        for (Row row : rowList) {
+            args.add(row.message.getRoomId());
+            args.add(row.message.getRoomId());
+            args.add(row.message.getSeq());
+            args.add(row.message.getWriterNickname());
+            args.add(row.message.getMessage());
+            args.add(row.createdAt);
+            args.add(row.createdAt);
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            insertTimer.record(() -> jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                for (int i = 0; i < args.size(); i++) {
+                    ps.setObject(i + 1, args.get(i));
+                }
+                return ps;
+            }, keyHolder));
+            batchSummary.record(rowList.size());
+        } catch (RuntimeException e) {
+            return e;
+        }
+
+        // 생성된 id 는 insert 한 행 순서대로 돌려받는다
+        List<Map<String, Object>> keyList = keyHolder.getKeyList();
+        if (keyList.size() != rowList.size()) {
+            return null;
+        }
+        for (int i = 0; i < rowList.size(); i++) {
+            Object key = keyList.get(i).values().iterator().next();
+            rowList.get(i).message.setId(((Number) key).longValue());
+        }
+        return null;
+    }
+
+    // retry 번째 재시도 전 대기 (종료 중이거나 인터럽트되면 기다리지 않는다)
+    private boolean backoff(int retry) {
+        if (retryBackoffMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(retryBackoffMillis << Math.min(retry, 10));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drop(Row row, RuntimeException failure) {
+        failedCounter.increment();
+        log.error("PartyChatMessageWriter insert failed, message dropped : {} {}",
+                row.message.getRoomId(), row.message.getSeq(), failure);
+    }
+
+    private static class Row {
+        private final PartyChatMessageDto message;
+        private final LocalDateTime createdAt;
+
+        private Row(PartyChatMessageDto message, LocalDateTime createdAt) {
+            this.message = message;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.config.StompAuthChannelInterceptor;
+import com.example.villagerservice.member.domain.Member;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 연결, 구독 이벤트로 채팅방 접속자와 읽은 위치를 갱신한다.
+ * 접속자는 CONNECT 에서 인증한 회원의 닉네임(인증을 사용하지 않으면 nickname 헤더)으로 보여주고,
+ * 읽은 위치는 인증한 회원이면 회원 id 로 저장한다. (PartyChatPresenceStore.readerOf)
+ * 채팅방을 구독하는 동안 받은 메세지는 읽은 것으로 보고, 구독할 때와 구독을 끝낼 때 읽은 위치를 마지막 seq 로 옮긴다.
+ */
+@Component
+public class PartyChatPresenceRegistry {
+    public static final String NICKNAME_HEADER = "nickname";
+
+    private final PartyChatPresenceStore presenceStore;
+    private final PartyChatSequencer partyChatSequencer;
+
+    // 세션 id -> 회원, 구독 중인 채팅방
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    public PartyChatPresenceRegistry(PartyChatPresenceStore presenceStore, PartyChatSequencer partyChatSequencer) {
+        this.presenceStore = presenceStore;
+        this.partyChatSequencer = partyChatSequencer;
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Member member = StompAuthChannelInterceptor.getMember(event.getUser());
+        String nickname = member != null && member.getMemberDetail() != null
+                ? member.getMemberDetail().getNickname()
+                : accessor.getFirstNativeHeader(NICKNAME_HEADER);
+        if (nickname == null || accessor.getSessionId() == null) {
+            return;
+        }
+        String reader = PartyChatPresenceStore.readerOf(member == null ? null : member.getId(), nickname);
+        sessions.put(accessor.getSessionId(), new Session(nickname, reader));
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = PartyChatFanout.roomIdOf(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), roomId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    public void subscribe(String sessionId, String subscriptionId, Long roomId) {
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        Long previous = session.subscriptions.put(subscriptionId, roomId);
+        if (previous != null) {
+            leave(session, previous);
+        }
+        presenceStore.join(roomId, session.nickname);
+        presenceStore.markRead(session.reader, roomId, partyChatSequencer.current(roomId));
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        Long roomId = session.subscriptions.remove(subscriptionId);
+        if (roomId != null) {
+            leave(session, roomId);
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        Session session = sessionId == null ? null : sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        session.subscriptions.values().forEach(roomId -> leave(session, roomId));
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private void leave(Session session, Long roomId) {
+        presenceStore.leave(roomId, session.nickname);
+        presenceStore.markRead(session.reader, roomId, partyChatSequencer.current(roomId));
+    }
+
+    private static class Session {
+        private final String nickname;
+        // 읽은 위치 키
+        private final String reader;
+        // 구독 id -> 채팅방 id
+        private final Map<String, Long> subscriptions = new ConcurrentHashMap<>();
+
+        private Session(String nickname, String reader) {
+            this.nickname = nickname;
+            this.reader = reader;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.villagerservice.party.infra;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅방 접속자와 회원별 읽은 위치(seq) 저장소 (party.chat.fanout 과 같은 값을 사용)
+ * local : 서버 메모리 (서버 1대)
+ * redis : Redis 해시 (서버 여러 대가 공유)
+ * 안 읽은 메세지 수는 채팅방의 마지막 seq - 읽은 위치 로 계산하므로 메세지마다 회원별 카운터를 올리지 않는다.
+ * 접속자는 닉네임으로, 읽은 위치는 readerOf 로 만든 키(인증한 회원은 회원 id)로 저장한다.
+ */
+public interface PartyChatPresenceStore {
+    String MEMBER_READER_PREFIX = "member:";
+
+    /**
+     * 접속 (같은 회원이 여러 세션으로 접속하면 세션 수만큼 센다)
+     * @param roomId
+     * @param nickname
+     */
+    void join(Long roomId, String nickname);
+
+    void leave(Long roomId, String nickname);
+
+    /**
+     * 접속 중인 회원 닉네임
+     * @param roomId
+     * @return
+     */
+    Set<String> getOnline(Long roomId);
+
+    /**
+     * 읽은 위치 갱신 (지금보다 뒤일 때만)
+     * @param reader
+     * @param roomId
+     * @param seq
+     */
+    void markRead(String reader, Long roomId, long seq);
+
+    /**
+     * 회원이 읽은 위치가 있는 채팅방 전체 (채팅방 id -> 읽은 seq)
+     * @param reader
+     * @return
+     */
+    Map<Long, Long> getReadPositions(String reader);
+
+    /**
+     * 읽은 위치의 키 (인증한 회원은 회원 id, 인증을 사용하지 않으면 닉네임)
+     * 닉네임을 바꾸거나 같은 닉네임을 보내도 다른 회원의 읽은 위치와 섞이지 않도록 회원 id 를 우선한다.
+     * @param memberId
+     * @param nickname
+     * @return
+     */
+    static String readerOf(Long memberId, String nickname) {
+        return memberId != null ? MEMBER_READER_PREFIX + memberId : nickname;
+    }
+}
@@ -0,0 +1,313 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.dto.PartyChatMessageDto;
+import com.example.villagerservice.party.repository.PartyChatMessageRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방별 최근 메세지 N 개를 보관하는 원형 버퍼
+ * 메세지를 보낼 때와 다른 서버가 보낸 메세지를 받을 때 채우고, 채팅방을 처음 조회할 때 DB 에서 최근 메세지를 읽어 합친다.
+ * 메세지는 seq 순서로 보관하며 늦게 도착한 메세지는 제자리에 넣고, 이미 있는 seq 는 다시 넣지 않는다.
+ * 조회할 때 seq 가 빠져 있거나 채팅방의 마지막 seq 까지 없으면 DB 에서 다시 읽어 합친다.
+ * 채팅방의 마지막 보관 메세지 id 도 함께 보관해, 보관 작업(PartyChatMessageArchiver)이 바꾸기 전까지 다시 읽지 않는다.
+ * 일정 시간 메세지도 조회도 없는 채팅방은 제거한다.
+ */
+@Component
+public class PartyChatRecentBuffer {
+    private final PartyChatMessageRepository partyChatMessageRepository;
+    private final int size;
+    private final long inactiveMillis;
+
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+
+    public PartyChatRecentBuffer(PartyChatMessageRepository partyChatMessageRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${party.chat.recent.size:50}") int size,
+                                 @Value("${party.chat.recent.inactive-minutes:30}") long inactiveMinutes) {
+        this.partyChatMessageRepository = partyChatMessageRepository;
+        this.size = size;
+        this.inactiveMillis = inactiveMinutes * 60 * 1000;
+
+        Gauge.builder("party.chat.recent.rooms", rooms, Map::size)
+                .register(meterRegistry);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * 보낸 메세지, 다른 서버에서 받은 메세지 추가
+     * @param message
+     */
+    public void append(PartyChatMessageDto message) {
+        long now = System.currentTimeMillis();
+        // 제거와 겹치지 않도록 compute 안에서 추가
+        rooms.compute(message.getRoomId(), (roomId, room) -> {
+            Room target = room == null ? new Room(size) : room;
+            target.append(message, now);
+            return target;
+        });
+    }
+
+    /**
+     * 최근 메세지 (오래된 메세지부터, 복사본)
+     * @param roomId
+     * @return
+     */
+    public List<PartyChatMessageDto> getRecent(Long roomId) {
+        return getRecent(roomId, 0);
+    }
+
+    /**
+     * 최근 메세지 (오래된 메세지부터, 복사본)
+     * 버퍼의 seq 가 중간에 빠져 있거나 lastSeq 까지 없으면 (이 서버가 받지 못한 메세지가 있으면) DB 에서 다시 읽어 합친다.
+     * @param roomId
+     * @param lastSeq 채팅방의 마지막 seq
+     * @return
+     */
+    public List<PartyChatMessageDto> getRecent(Long roomId, long lastSeq) {
+        long now = System.currentTimeMillis();
+        Room room = rooms.computeIfAbsent(roomId, id -> new Room(size));
+        room.touch(now);
+        if (!room.isLoaded() || !room.isComplete(lastSeq)) {
+            List<PartyChatMessageDto> loadedList = partyChatMessageRepository
+                    .findByRoomIdOrderByIdDesc(roomId, PageRequest.of(0, size)).stream()
+                    .map(PartyChatMessageDto::toDto)
+                    .collect(Collectors.toList());
+            Collections.reverse(loadedList);
+            room.load(loadedList, lastSeq);
+        }
+        return room.toList();
+    }
+
+    /**
+     * 버퍼에 있는 메세지의 마지막 seq (DB 는 조회하지 않고, 없으면 0)
+     * 아직 저장되지 않은 메세지도 포함하므로 seq 발급을 다시 시작할 때 DB 의 마지막 seq 와 함께 본다.
+     * @param roomId
+     * @return
+     */
+    public long getLastSeq(Long roomId) {
+        Room room = rooms.get(roomId);
+        return room == null ? 0 : room.lastSeq();
+    }
+
+    /**
+     * 가장 최근에 보관된 메세지 id (처음에만 loader 로 읽고, 보관 작업이 resetLastArchivedId 를 부르면 다시 읽는다)
+     * @param roomId
+     * @param loader 보관 테이블에서 읽는 방법 (보관된 메세지가 없으면 null)
+     * @return
+     */
+    public Long getLastArchivedId(Long roomId, Function<Long, Long> loader) {
+        Room room = rooms.computeIfAbsent(roomId, id -> new Room(size));
+        room.touch(System.currentTimeMillis());
+        long version;
+        synchronized (room) {
+            if (room.archiveLoaded) {
+                return room.lastArchivedId;
+            }
+            version = room.archiveVersion;
+        }
+        Long lastArchivedId = loader.apply(roomId);
+        room.setLastArchivedId(lastArchivedId, version);
+        return lastArchivedId;
+    }
+
+    /**
+     * 보관 작업이 채팅방의 메세지를 옮긴 뒤 마지막 보관 메세지 id 를 다시 읽도록 한다
+     * @param roomId
+     */
+    public void resetLastArchivedId(Long roomId) {
+        Room room = rooms.get(roomId);
+        if (room != null) {
+            room.resetArchive();
+        }
+    }
+
+    /**
+     * 오래 사용하지 않은 채팅방 제거
+     */
+    @Scheduled(fixedDelayString = "${party.chat.recent.evict-delay-ms:60000}")
+    public void evictInactive() {
+        long deadline = System.currentTimeMillis() - inactiveMillis;
+        for (Long roomId : rooms.keySet()) {
+            rooms.computeIfPresent(roomId, (id, room) -> room.lastAccess <= deadline ? null : room);
+        }
+    }
+
+    public void clear() {
+        rooms.clear();
+    }
+
+    private static class Room {
+        private final PartyChatMessageDto[] messages;
+        // 다음에 쓸 위치
+        private int head;
+        private int count;
+        private boolean loaded;
+        private volatile long lastAccess;
+        // 가장 최근에 보관된 메세지 id (archiveLoaded 가 false 면 다시 읽는다)
+        private Long lastArchivedId;
+        private boolean archiveLoaded;
+        // 읽는 중에 보관 작업이 바꾸면 읽은 값을 버린다
+        private long archiveVersion;
+
+        private Room(int size) {
+            this.messages = new PartyChatMessageDto[size];
+        }
+
+        private void touch(long now) {
+            lastAccess = now;
+        }
+
+        private synchronized void setLastArchivedId(Long lastArchivedId, long version) {
+            if (archiveVersion == version) {
+                this.lastArchivedId = lastArchivedId;
+                archiveLoaded = true;
+            }
+        }
+
+        private synchronized void resetArchive() {
+            archiveVersion++;
+            archiveLoaded = false;
+        }
+
+        private synchronized boolean isLoaded() {
+            return loaded;
+        }
+
+        private synchronized void append(PartyChatMessageDto message, long now) {
+            lastAccess = now;
+            Long seq = message.getSeq();
+            PartyChatMessageDto last = count == 0 ? null : messages[(head - 1 + messages.length) % messages.length];
+            if (seq == null || last == null || last.getSeq() == null || seq > last.getSeq()) {
+                put(message);
+                return;
+            }
+
+            // 늦게 도착한 메세지는 seq 순서 자리에 넣는다 (이미 있으면 무시)
+            List<PartyChatMessageDto> list = ordered();
+            int index = list.size();
+            for (int i = 0; i < list.size(); i++) {
+                Long current = list.get(i).getSeq();
+                if (seq.equals(current)) {
+                    return;
+                }
+                if (current != null && current > seq) {
+                    index = i;
+                    break;
+                }
+            }
+            // 가득 찬 버퍼의 가장 오래된 메세지보다 오래되었으면 넣지 않는다
+            if (index == 0 && count == messages.length) {
+                return;
+            }
+            list.add(index, message);
+            fill(list);
+        }
+
+        // DB 에서 읽은 메세지와 그 사이 추가된 메세지를 seq 순서로 합친다 (이미 저장되어 DB 결과에 있는 메세지는 제외)
+        // 저장 직후에는 메세지에 id 가 아직 없을 수 있어 seq 로도 비교한다
+        private synchronized void load(List<PartyChatMessageDto> loadedList, long lastSeq) {
+            if (loaded && isComplete(lastSeq)) {
+                return;
+            }
+
+            Set<Long> loadedIdSet = new HashSet<>();
+            Set<Long> loadedSeqSet = new HashSet<>();
+            loadedList.forEach(message -> {
+                loadedIdSet.add(message.getId());
+                if (message.getSeq() != null) {
+                    loadedSeqSet.add(message.getSeq());
+                }
+            });
+            List<PartyChatMessageDto> merged = new ArrayList<>(loadedList);
+            for (PartyChatMessageDto message : ordered()) {
+                boolean saved = (message.getId() != null && loadedIdSet.contains(message.getId()))
+                        || (message.getSeq() != null && loadedSeqSet.contains(message.getSeq()));
+                if (!saved) {
+                    merged.add(message);
+                }
+            }
+            // seq 가 없는 메세지는 seq 를 붙이기 전에 저장된 메세지라 가장 앞에 둔다
+            merged.sort(Comparator.comparing(PartyChatMessageDto::getSeq, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+            fill(merged);
+            loaded = true;
+        }
+
+        private void put(PartyChatMessageDto message) {
+            messages[head] = message;
+            head = (head + 1) % messages.length;
+            count = Math.min(count + 1, messages.length);
+        }
+
+        // 최근 메세지 N 개로 다시 채운다
+        private void fill(List<PartyChatMessageDto> list) {
+            head = 0;
+            count = 0;
+            Arrays.fill(messages, null);
+            for (PartyChatMessageDto message : list.subList(Math.max(0, list.size() - messages.length), list.size())) {
+                put(message);
+            }
+        }
+
+        // seq 가 빠짐없이 lastSeq 까지 있는지 (seq 가 없는 메세지는 제외)
+        private synchronized boolean isComplete(long lastSeq) {
+            long previousSeq = 0;
+            for (PartyChatMessageDto message : ordered()) {
+                Long seq = message.getSeq();
+                if (seq == null) {
+                    continue;
+                }
+                if (previousSeq != 0 && seq != previousSeq + 1) {
+                    return false;
+                }
+                previousSeq = seq;
+            }
+            return previousSeq >= lastSeq;
+        }
+
+        private synchronized long lastSeq() {
+            long lastSeq = 0;
+            for (PartyChatMessageDto message : ordered()) {
+                if (message.getSeq() != null) {
+                    lastSeq = Math.max(lastSeq, message.getSeq());
+                }
+            }
+            return lastSeq;
+        }
+
+        private synchronized List<PartyChatMessageDto> toList() {
+            return ordered().stream()
+                    .map(PartyChatMessageDto::copy)
+                    .collect(Collectors.toList());
+        }
+
+        private List<PartyChatMessageDto> ordered() {
+            List<PartyChatMessageDto> result = new ArrayList<>(count);
+            int start = (head - count + messages.length) % messages.length;
+            for (int i = 0; i < count; i++) {
+                result.add(messages[(start + i) % messages.length]);
+            }
+            return result;
+        }
+    }
+}
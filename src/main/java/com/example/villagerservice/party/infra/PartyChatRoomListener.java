@@ -0,0 +1,10 @@
+package com.example.villagerservice.party.infra;
+
+/**
+ * 이 서버에 채팅방 구독자가 처음 생기거나 모두 없어질 때 호출
+ */
+public interface PartyChatRoomListener {
+    void onRoomOpened(Long roomId);
+
+    void onRoomClosed(Long roomId);
+}
@@ -0,0 +1,24 @@
+package com.example.villagerservice.party.infra;
+
+/**
+ * 채팅방별 메세지 순서(seq) 발급 (party.chat.fanout 과 같은 값을 사용)
+ * local : 서버 메모리의 채팅방별 카운터 (서버 1대)
+ * redis : 채팅방별 Redis INCR (서버 여러 대)
+ * 채팅방을 처음 사용할 때만 DB 의 마지막 seq 를 읽고, 이후에는 DB 를 조회하지 않는다.
+ */
+public interface PartyChatSequencer {
+
+    /**
+     * 다음 seq (채팅방 안에서 1 부터 증가)
+     * @param roomId
+     * @return
+     */
+    long next(Long roomId);
+
+    /**
+     * 마지막으로 발급한 seq (메세지가 없으면 0)
+     * @param roomId
+     * @return
+     */
+    long current(Long roomId);
+}
@@ -0,0 +1,155 @@
+package com.example.villagerservice.party.infra;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 서버에 연결된 세션이 구독 중인 채팅방
+ * 채팅방별 구독 수를 세어 첫 구독, 마지막 구독 해제 시 PartyChatRoomListener 에 알린다.
+ * 리스너는 Redis 구독 등 네트워크 I/O 를 하므로 구독 수 잠금을 푼 뒤 채팅방별 잠금 안에서 알린다.
+ * 알리기 직전에 현재 구독 수를 다시 보고 마지막으로 알린 상태와 다를 때만 알리므로, 순서가 엇갈려도 결국 현재 상태와 같아진다.
+ */
+@Component
+public class PartyChatSubscriptionRegistry {
+    private static final int NOTIFY_STRIPES = 64;
+
+    private final ObjectProvider<PartyChatRoomListener> roomListeners;
+
+    // 세션 id -> (구독 id -> 채팅방 id)
+    private final Map<String, Map<String, Long>> subscriptionsBySession = new HashMap<>();
+    // 채팅방 id -> 이 서버의 구독 수
+    private final Map<Long, Integer> subscriberCounts = new HashMap<>();
+    // 리스너에 열림으로 알린 채팅방 (채팅방별 알림 잠금 안에서만 변경)
+    private final Set<Long> openedRoomIds = ConcurrentHashMap.newKeySet();
+    private final Object[] notifyLocks = new Object[NOTIFY_STRIPES];
+
+    public PartyChatSubscriptionRegistry(ObjectProvider<PartyChatRoomListener> roomListeners,
+                                         MeterRegistry meterRegistry) {
+        this.roomListeners = roomListeners;
+        for (int i = 0; i < NOTIFY_STRIPES; i++) {
+            notifyLocks[i] = new Object();
+        }
+
+        Gauge.builder("party.chat.rooms", this, PartyChatSubscriptionRegistry::getRoomCount)
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = PartyChatFanout.roomIdOf(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), roomId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    public void subscribe(String sessionId, String subscriptionId, Long roomId) {
+        Set<Long> changedRoomIds = new HashSet<>();
+        synchronized (this) {
+            Long previous = subscriptionsBySession.computeIfAbsent(sessionId, id -> new HashMap<>())
+                    .put(subscriptionId, roomId);
+            if (previous != null) {
+                decrease(previous, changedRoomIds);
+            }
+            increase(roomId, changedRoomIds);
+        }
+        notifyListeners(changedRoomIds);
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        Set<Long> changedRoomIds = new HashSet<>();
+        synchronized (this) {
+            Map<String, Long> subscriptions = subscriptionsBySession.get(sessionId);
+            if (subscriptions == null) {
+                return;
+            }
+            Long roomId = subscriptions.remove(subscriptionId);
+            if (subscriptions.isEmpty()) {
+                subscriptionsBySession.remove(sessionId);
+            }
+            if (roomId != null) {
+                decrease(roomId, changedRoomIds);
+            }
+        }
+        notifyListeners(changedRoomIds);
+    }
+
+    public void disconnect(String sessionId) {
+        Set<Long> changedRoomIds = new HashSet<>();
+        synchronized (this) {
+            Map<String, Long> subscriptions = subscriptionsBySession.remove(sessionId);
+            if (subscriptions != null) {
+                subscriptions.values().forEach(roomId -> decrease(roomId, changedRoomIds));
+            }
+        }
+        notifyListeners(changedRoomIds);
+    }
+
+    public synchronized Set<Long> getRoomIdSet() {
+        return new HashSet<>(subscriberCounts.keySet());
+    }
+
+    public synchronized int getRoomCount() {
+        return subscriberCounts.size();
+    }
+
+    public synchronized int getSubscriberCount(Long roomId) {
+        return subscriberCounts.getOrDefault(roomId, 0);
+    }
+
+    // 첫 구독이면 changedRoomIds 에 추가
+    private void increase(Long roomId, Set<Long> changedRoomIds) {
+        if (subscriberCounts.merge(roomId, 1, Integer::sum) == 1) {
+            changedRoomIds.add(roomId);
+        }
+    }
+
+    // 마지막 구독 해제면 changedRoomIds 에 추가
+    private void decrease(Long roomId, Set<Long> changedRoomIds) {
+        if (!subscriberCounts.containsKey(roomId)) {
+            return;
+        }
+        Integer count = subscriberCounts.computeIfPresent(roomId, (id, value) -> value <= 1 ? null : value - 1);
+        if (count == null) {
+            changedRoomIds.add(roomId);
+        }
+    }
+
+    private void notifyListeners(Set<Long> changedRoomIds) {
+        for (Long roomId : changedRoomIds) {
+            synchronized (notifyLocks[Math.floorMod(roomId.hashCode(), NOTIFY_STRIPES)]) {
+                boolean opened = getSubscriberCount(roomId) > 0;
+                if (opened && openedRoomIds.add(roomId)) {
+                    roomListeners.orderedStream().forEach(listener -> listener.onRoomOpened(roomId));
+                } else if (!opened && openedRoomIds.remove(roomId)) {
+                    roomListeners.orderedStream().forEach(listener -> listener.onRoomClosed(roomId));
+                }
+            }
+        }
+    }
+}
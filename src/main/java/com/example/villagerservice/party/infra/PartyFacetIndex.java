@@ -0,0 +1,372 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.domain.Party;
+import com.example.villagerservice.party.domain.PartyTag;
+import com.example.villagerservice.party.dto.PartyFacetDTO;
+import com.example.villagerservice.party.dto.PartySearchCond;
+import com.example.villagerservice.party.type.PartyAmountType;
+import com.example.villagerservice.party.type.PartyFacetRange;
+import com.example.villagerservice.party.type.PartyNumberPeopleType;
+import com.example.villagerservice.party.type.PartyScoreType;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * 진행중인 모임의 태그, 참가비, 인원, 매너점수 구간별 모임 id 비트맵 인덱스
+ * 검색 조건은 비트맵 교집합으로 거르고, 거리 순 정렬은 PartyGeoIndex 에서 한다.
+ * 등록/수정/삭제가 커밋되면 해당 모임을 DB 에서 다시 읽어 기존 값을 빼고 새 값을 넣는다. (refresh)
+ * 다른 서버의 변경은 reload-ms 마다 전체를 다시 읽어 반영한다.
+ * 모임 수(getFacets)는 거리 조건 없이 진행중인 모임 전체 기준이다.
+ */
+@Slf4j
+@Component
+public class PartyFacetIndex {
+    private static final long NO_END_DAY = Long.MAX_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int tagFacetLimit;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> tagBitmaps = new HashMap<>();
+    private final Map<PartyAmountType, RoaringBitmap> amountBitmaps = new EnumMap<>(PartyAmountType.class);
+    private final Map<PartyNumberPeopleType, RoaringBitmap> numberPeopleBitmaps = new EnumMap<>(PartyNumberPeopleType.class);
+    private final Map<PartyScoreType, RoaringBitmap> scoreBitmaps = new EnumMap<>(PartyScoreType.class);
+    // 모임별 색인된 값 (수정, 삭제 시 기존 값을 빼기 위해 보관)
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    // 적재 중에 변경된 모임 (적재한 값으로 덮어쓰지 않는다)
+    private Set<Integer> changedWhileLoading;
+    private volatile boolean loaded;
+
+    public PartyFacetIndex(JdbcTemplate jdbcTemplate,
+                           @Value("${party.facet-index.tag-facet-limit:20}") int tagFacetLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tagFacetLimit = tagFacetLimit;
+    }
+
+    /**
+     * 서버 시작 시, 이후 reload-ms 마다 진행중인 모임 전체 적재 (DB 에 없거나 종료된 모임은 뺀다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${party.facet-index.reload-ms:300000}",
+            initialDelayString = "${party.facet-index.reload-ms:300000}")
+    public synchronized void load() {
+        lock.writeLock().lock();
+        try {
+            changedWhileLoading = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Integer, Entry> loadedEntries = selectEntries(" p.end_dt is null or p.end_dt >= ? ",
+                Date.valueOf(LocalDate.now()));
+
+        lock.writeLock().lock();
+        try {
+            List<Integer> removedIdList = entries.keySet().stream()
+                    .filter(id -> !loadedEntries.containsKey(id) && !changedWhileLoading.contains(id))
+                    .collect(Collectors.toList());
+            removedIdList.forEach(id -> write(id, null));
+            loadedEntries.forEach((id, entry) -> {
+                if (!changedWhileLoading.contains(id)) {
+                    write(id, entry);
+                }
+            });
+            changedWhileLoading = null;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("PartyFacetIndex loaded : {}", loadedEntries.size());
+    }
+
+    /**
+     * 커밋된 모임 정보와 태그를 다시 읽어 반영 (없거나 종료된 모임이면 제거)
+     * @param partyId
+     */
+    public void refresh(Long partyId) {
+        Entry entry = selectEntries(" p.party_id = ? ", partyId).get(toIndexId(partyId));
+        change(toIndexId(partyId), entry == null || entry.endDay < LocalDate.now().toEpochDay() ? null : entry);
+    }
+
+    private Map<Integer, Entry> selectEntries(String where, Object arg) {
+        Map<Integer, Entry> loadedEntries = new HashMap<>();
+        jdbcTemplate.query(" select p.party_id , p.amount , p.number_people , p.score , p.end_dt from party as p " +
+                        " where " + where,
+                (RowCallbackHandler) rs -> {
+                    Date endDt = rs.getDate("end_dt");
+                    loadedEntries.put(toIndexId(rs.getLong("party_id")), new Entry(
+                            new ArrayList<>(),
+                            PartyFacetRange.of(PartyAmountType.class, getInteger(rs.getInt("amount"), rs.wasNull())),
+                            PartyFacetRange.of(PartyNumberPeopleType.class, getInteger(rs.getInt("number_people"), rs.wasNull())),
+                            PartyFacetRange.of(PartyScoreType.class, getInteger(rs.getInt("score"), rs.wasNull())),
+                            endDt == null ? NO_END_DAY : endDt.toLocalDate().toEpochDay()));
+                },
+                arg);
+        jdbcTemplate.query(" select t.party_id , t.tag_name from party_tag as t " +
+                        " join party as p on p.party_id = t.party_id " +
+                        " where " + where,
+                (RowCallbackHandler) rs -> {
+                    Entry entry = loadedEntries.get(toIndexId(rs.getLong("party_id")));
+                    if (entry != null) {
+                        entry.tagNameList.add(rs.getString("tag_name"));
+                    }
+                },
+                arg);
+        return loadedEntries;
+    }
+
+    /**
+     * 종료된 모임 제거
+     */
+    @Scheduled(cron = "${party.facet-index.evict-cron:0 5 0 * * *}")
+    public void evictEnded() {
+        long today = LocalDate.now().toEpochDay();
+        lock.writeLock().lock();
+        try {
+            List<Integer> endedIdList = entries.entrySet().stream()
+                    .filter(entry -> entry.getValue().endDay < today)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            endedIdList.forEach(id -> write(id, null));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return all.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(Party party) {
+        List<String> tagNameList = party.getTagList() == null ? new ArrayList<>() : party.getTagList().stream()
+                .map(PartyTag::getTagName)
+                .collect(Collectors.toList());
+        put(party.getId(), tagNameList, party.getAmount(), party.getNumberPeople(), party.getScore(), party.getEndDt());
+    }
+
+    public void put(Long partyId, List<String> tagNameList, Integer amount, Integer numberPeople,
+                    Integer score, LocalDate endDt) {
+        long endDay = endDt == null ? NO_END_DAY : endDt.toEpochDay();
+        Entry entry = endDay < LocalDate.now().toEpochDay() ? null : new Entry(
+                new ArrayList<>(tagNameList),
+                PartyFacetRange.of(PartyAmountType.class, amount),
+                PartyFacetRange.of(PartyNumberPeopleType.class, numberPeople),
+                PartyFacetRange.of(PartyScoreType.class, score),
+                endDay);
+        change(toIndexId(partyId), entry);
+    }
+
+    public void remove(Long partyId) {
+        change(toIndexId(partyId), null);
+    }
+
+    /**
+     * 검색 조건에 맞는 모임 id 인지 확인하는 조건 반환 (조회 시점의 결과를 복사해 lock 없이 사용)
+     * @param searchCond
+     * @return
+     */
+    public LongPredicate match(PartySearchCond searchCond) {
+        RoaringBitmap matched = new RoaringBitmap();
+        lock.readLock().lock();
+        try {
+            matched.or(intersect(all,
+                    union(tagBitmaps, searchCond.getTagList()),
+                    union(amountBitmaps, searchCond.getAmountList()),
+                    union(numberPeopleBitmaps, searchCond.getNumberPeopleList()),
+                    union(scoreBitmaps, searchCond.getScoreList())));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return partyId -> partyId >= 0 && partyId <= Integer.MAX_VALUE && matched.contains((int) partyId);
+    }
+
+    /**
+     * 검색 필터 항목별 모임 수 (거리 조건은 적용하지 않은 진행중인 모임 전체 기준)
+     * 각 항목은 자기 항목을 제외한 나머지 조건만 적용해서 센다.
+     * @param searchCond
+     * @return
+     */
+    public PartyFacetDTO getFacets(PartySearchCond searchCond) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap tagMatched = union(tagBitmaps, searchCond.getTagList());
+            RoaringBitmap amountMatched = union(amountBitmaps, searchCond.getAmountList());
+            RoaringBitmap numberPeopleMatched = union(numberPeopleBitmaps, searchCond.getNumberPeopleList());
+            RoaringBitmap scoreMatched = union(scoreBitmaps, searchCond.getScoreList());
+
+            RoaringBitmap tagBase = intersect(all, amountMatched, numberPeopleMatched, scoreMatched);
+            List<PartyFacetDTO.Count> tagCountList = tagBitmaps.entrySet().stream()
+                    .map(entry -> PartyFacetDTO.Count.builder()
+                            .value(entry.getKey())
+                            .description(entry.getKey())
+                            .count(RoaringBitmap.andCardinality(tagBase, entry.getValue()))
+                            .build())
+                    .filter(count -> count.getCount() > 0)
+                    .sorted(Comparator.comparingInt(PartyFacetDTO.Count::getCount).reversed()
+                            .thenComparing(PartyFacetDTO.Count::getValue))
+                    .limit(tagFacetLimit)
+                    .collect(Collectors.toList());
+
+            return PartyFacetDTO.builder()
+                    .tagList(tagCountList)
+                    .amountList(countRanges(PartyAmountType.class, amountBitmaps,
+                            intersect(all, tagMatched, numberPeopleMatched, scoreMatched)))
+                    .numberPeopleList(countRanges(PartyNumberPeopleType.class, numberPeopleBitmaps,
+                            intersect(all, tagMatched, amountMatched, scoreMatched)))
+                    .scoreList(countRanges(PartyScoreType.class, scoreBitmaps,
+                            intersect(all, tagMatched, amountMatched, numberPeopleMatched)))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void change(int id, Entry entry) {
+        lock.writeLock().lock();
+        try {
+            if (changedWhileLoading != null) {
+                changedWhileLoading.add(id);
+            }
+            write(id, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // write lock 안에서 호출, entry 가 null 이면 삭제
+    private void write(int id, Entry entry) {
+        Entry old = entry == null ? entries.remove(id) : entries.put(id, entry);
+        if (old != null) {
+            old.tagNameList.forEach(tagName -> removeId(tagBitmaps, tagName, id));
+            removeId(amountBitmaps, old.amount, id);
+            removeId(numberPeopleBitmaps, old.numberPeople, id);
+            removeId(scoreBitmaps, old.score, id);
+            all.remove(id);
+        }
+        if (entry != null) {
+            entry.tagNameList.forEach(tagName -> addId(tagBitmaps, tagName, id));
+            addId(amountBitmaps, entry.amount, id);
+            addId(numberPeopleBitmaps, entry.numberPeople, id);
+            addId(scoreBitmaps, entry.score, id);
+            all.add(id);
+        }
+    }
+
+    private <E extends Enum<E> & PartyFacetRange> List<PartyFacetDTO.Count> countRanges(
+            Class<E> type, Map<E, RoaringBitmap> bitmaps, RoaringBitmap base) {
+        List<PartyFacetDTO.Count> countList = new ArrayList<>();
+        for (E range : type.getEnumConstants()) {
+            RoaringBitmap bitmap = bitmaps.get(range);
+            countList.add(PartyFacetDTO.Count.builder()
+                    .value(range.name())
+                    .description(range.getDescription())
+                    .count(bitmap == null ? 0 : RoaringBitmap.andCardinality(base, bitmap))
+                    .build());
+        }
+        return countList;
+    }
+
+    private static <K> void addId(Map<K, RoaringBitmap> bitmaps, K key, int id) {
+        if (key != null) {
+            bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private static <K> void removeId(Map<K, RoaringBitmap> bitmaps, K key, int id) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    // 선택한 값 중 하나라도 해당하는 모임 (선택한 값이 없으면 null = 조건 없음)
+    private static <K> RoaringBitmap union(Map<K, RoaringBitmap> bitmaps, Collection<K> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return null;
+        }
+        RoaringBitmap result = new RoaringBitmap();
+        for (K key : new LinkedHashSet<>(keys)) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                result.or(bitmap);
+            }
+        }
+        return result;
+    }
+
+    // 조건이 없으면(null) 건너뛰고 교집합, 모두 없으면 base 그대로 반환
+    private static RoaringBitmap intersect(RoaringBitmap base, RoaringBitmap... conditions) {
+        RoaringBitmap result = base;
+        for (RoaringBitmap condition : conditions) {
+            if (condition != null) {
+                result = RoaringBitmap.and(result, condition);
+            }
+        }
+        return result;
+    }
+
+    private static Integer getInteger(int value, boolean wasNull) {
+        return wasNull ? null : value;
+    }
+
+    private static int toIndexId(Long partyId) {
+        return Math.toIntExact(partyId);
+    }
+
+    private static class Entry {
+        private final List<String> tagNameList;
+        private final PartyAmountType amount;
+        private final PartyNumberPeopleType numberPeople;
+        private final PartyScoreType score;
+        private final long endDay;
+
+        private Entry(List<String> tagNameList, PartyAmountType amount, PartyNumberPeopleType numberPeople,
+                      PartyScoreType score, long endDay) {
+            this.tagNameList = tagNameList;
+            this.amount = amount;
+            this.numberPeople = numberPeople;
+            this.score = score;
+            this.endDay = endDay;
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.common.utils.GeoHashUtils;
+import com.example.villagerservice.party.domain.Party;
+import com.example.villagerservice.party.dto.PartyListCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * 진행중인(종료일이 지나지 않은) 모임의 위치를 메모리에 올려두고 가까운 모임을 찾는 인덱스
+ * 위경도를 단위 구의 3차원 좌표로 바꿔 KD-tree 로 구성한다. (현 거리 순서 = 구면 거리 순서)
+ * 조회는 lock 없이 스냅샷을 읽고, 등록/수정/삭제는 overlay 에 쌓았다가 일정 개수가 넘으면 트리를 다시 만든다.
+ * 변경은 커밋 후 DB 에서 다시 읽어 반영하고(refresh), 다른 서버의 변경은 reload-ms 마다 전체를 다시 읽어 반영한다.
+ */
+@Slf4j
+@Component
+public class PartyGeoIndex {
+    private static final double EARTH_RADIUS_KM = GeoHashUtils.EARTH_RADIUS_KM;
+    private static final long NO_END_DAY = Long.MAX_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double maxRadiusKm;
+    private final int rebuildThreshold;
+
+    private volatile Snapshot snapshot = new Snapshot(KdTree.build(new ArrayList<>()), Collections.emptyMap());
+    private volatile boolean loaded;
+    // 적재 중에 변경된 모임 (적재가 끝나면 overlay 로 유지)
+    private Map<Long, Point> changedWhileLoading;
+    private final Object loadLock = new Object();
+
+    public PartyGeoIndex(JdbcTemplate jdbcTemplate,
+                         @Value("${party.geo-index.max-radius-km:30}") double maxRadiusKm,
+                         @Value("${party.geo-index.rebuild-threshold:256}") int rebuildThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxRadiusKm = maxRadiusKm;
+        this.rebuildThreshold = rebuildThreshold;
+    }
+
+    /**
+     * 서버 시작 시, 이후 reload-ms 마다 진행중인 모임 전체 적재 (조회하는 동안에도 변경은 막지 않는다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${party.geo-index.reload-ms:300000}",
+            initialDelayString = "${party.geo-index.reload-ms:300000}")
+    public void load() {
+        synchronized (loadLock) {
+            synchronized (this) {
+                changedWhileLoading = new HashMap<>();
+            }
+            List<Point> pointList = selectPointList();
+            synchronized (this) {
+                snapshot = new Snapshot(KdTree.build(pointList), changedWhileLoading);
+                changedWhileLoading = null;
+                loaded = true;
+            }
+            log.info("PartyGeoIndex loaded : {}", pointList.size());
+        }
+    }
+
+    /**
+     * 커밋된 모임 정보를 다시 읽어 반영 (없으면 제거)
+     * @param partyId
+     */
+    public void refresh(Long partyId) {
+        List<Point> pointList = jdbcTemplate.query(
+                " select party_id , latitude , longitude , end_dt from party " +
+                        " where party_id = ? and latitude is not null and longitude is not null ",
+                (rs, rowNum) -> toPoint(rs),
+                partyId);
+        synchronized (this) {
+            write(partyId, pointList.isEmpty() ? null : pointList.get(0));
+        }
+    }
+
+    private List<Point> selectPointList() {
+        return jdbcTemplate.query(
+                " select party_id , latitude , longitude , end_dt from party " +
+                        " where latitude is not null and longitude is not null " +
+                        " and (end_dt is null or end_dt >= ?) ",
+                (rs, rowNum) -> toPoint(rs),
+                Date.valueOf(LocalDate.now()));
+    }
+
+    private static Point toPoint(ResultSet rs) throws SQLException {
+        Date endDt = rs.getDate("end_dt");
+        return Point.of(rs.getLong("party_id"),
+                rs.getDouble("latitude"),
+                rs.getDouble("longitude"),
+                endDt == null ? NO_END_DAY : endDt.toLocalDate().toEpochDay());
+    }
+
+    /**
+     * 종료된 모임 제거 (조회 시에도 걸러지지만 메모리 회수를 위해 매일 정리)
+     */
+    @Scheduled(cron = "${party.geo-index.evict-cron:0 5 0 * * *}")
+    public synchronized void evictEnded() {
+        rebuild(LocalDate.now().toEpochDay());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        int size = 0;
+        long today = LocalDate.now().toEpochDay();
+        for (int i = 0; i < current.tree.size(); i++) {
+            if (!current.overlay.containsKey(current.tree.ids[i]) && current.tree.endDays[i] >= today) {
+                size++;
+            }
+        }
+        for (Point point : current.overlay.values()) {
+            if (point != null && point.endDay >= today) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    public void put(Party party) {
+        put(party.getId(), party.getLatitude(), party.getLongitude(), party.getEndDt());
+    }
+
+    public synchronized void put(Long partyId, Double latitude, Double longitude, LocalDate endDt) {
+        if (latitude == null || longitude == null) {
+            remove(partyId);
+            return;
+        }
+        write(partyId, Point.of(partyId, latitude, longitude,
+                endDt == null ? NO_END_DAY : endDt.toEpochDay()));
+    }
+
+    public synchronized void remove(Long partyId) {
+        write(partyId, null);
+    }
+
+    /**
+     * 가까운 순(거리, 모임 id)으로 최대 limit 개의 모임 id 반환
+     * @param latitude
+     * @param longitude
+     * @param limit
+     * @return
+     */
+    public List<Long> search(double latitude, double longitude, int limit) {
+        return search(latitude, longitude, null, limit).stream()
+                .map(PartyListCursor::getPartyId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * cursor 이후의 모임을 가까운 순(거리, 모임 id)으로 최대 limit 개 반환
+     * 반환한 위치의 거리(km)를 다음 페이지의 cursor 로 그대로 사용할 수 있다.
+     * @param latitude
+     * @param longitude
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param limit
+     * @return
+     */
+    public List<PartyListCursor> search(double latitude, double longitude, PartyListCursor cursor, int limit) {
+        return search(latitude, longitude, cursor, limit, null);
+    }
+
+    /**
+     * filter 를 만족하는 모임 중 cursor 이후의 모임을 가까운 순으로 최대 limit 개 반환
+     * @param latitude
+     * @param longitude
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param limit
+     * @param filter 모임 id 조건 (조건이 없으면 null)
+     * @return
+     */
+    public List<PartyListCursor> search(double latitude, double longitude, PartyListCursor cursor, int limit,
+                                        LongPredicate filter) {
+        Snapshot current = snapshot;
+        long today = LocalDate.now().toEpochDay();
+        double[] query = toUnitVector(latitude, longitude);
+        Candidates candidates = new Candidates(limit, maxChordSquare(), cursor, filter);
+
+        current.tree.search(query, today, current.overlay, candidates);
+        for (Point point : current.overlay.values()) {
+            if (point != null && point.endDay >= today) {
+                candidates.offer(point.distanceSquare(query), point.id);
+            }
+        }
+        return candidates.toCursorList();
+    }
+
+    private void write(Long partyId, Point point) {
+        if (changedWhileLoading != null) {
+            changedWhileLoading.put(partyId, point);
+        }
+        Map<Long, Point> overlay = new HashMap<>(snapshot.overlay);
+        overlay.put(partyId, point);
+        snapshot = new Snapshot(snapshot.tree, overlay);
+
+        if (overlay.size() >= rebuildThreshold) {
+            rebuild(LocalDate.now().toEpochDay());
+        }
+    }
+
+    private void rebuild(long today) {
+        Snapshot current = snapshot;
+        List<Point> pointList = new ArrayList<>(current.tree.size() + current.overlay.size());
+        for (int i = 0; i < current.tree.size(); i++) {
+            long id = current.tree.ids[i];
+            if (!current.overlay.containsKey(id) && current.tree.endDays[i] >= today) {
+                pointList.add(current.tree.point(i));
+            }
+        }
+        for (Point point : current.overlay.values()) {
+            if (point != null && point.endDay >= today) {
+                pointList.add(point);
+            }
+        }
+        snapshot = new Snapshot(KdTree.build(pointList), Collections.emptyMap());
+    }
+
+    private double maxChordSquare() {
+        if (maxRadiusKm <= 0 || maxRadiusKm >= Math.PI * EARTH_RADIUS_KM) {
+            return Double.MAX_VALUE;
+        }
+        double chord = 2 * Math.sin(maxRadiusKm / (2 * EARTH_RADIUS_KM));
+        return chord * chord;
+    }
+
+    // 단위 구의 현 길이 제곱을 구면 거리(km)로 변환
+    private static double toDistanceKm(double chordSquare) {
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(chordSquare) / 2));
+    }
+
+    private static double[] toUnitVector(double latitude, double longitude) {
+        double lat = Math.toRadians(latitude);
+        double lng = Math.toRadians(longitude);
+        return new double[]{
+                Math.cos(lat) * Math.cos(lng),
+                Math.cos(lat) * Math.sin(lng),
+                Math.sin(lat)
+        };
+    }
+
+    private static class Snapshot {
+        private final KdTree tree;
+        // 트리 생성 이후 변경된 모임 (null 이면 삭제)
+        private final Map<Long, Point> overlay;
+
+        private Snapshot(KdTree tree, Map<Long, Point> overlay) {
+            this.tree = tree;
+            this.overlay = overlay;
+        }
+    }
+
+    private static class Point {
+        private final long id;
+        private final double x;
+        private final double y;
+        private final double z;
+        private final long endDay;
+
+        private Point(long id, double x, double y, double z, long endDay) {
+            this.id = id;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.endDay = endDay;
+        }
+
+        private static Point of(long id, double latitude, double longitude, long endDay) {
+            double[] vector = toUnitVector(latitude, longitude);
+            return new Point(id, vector[0], vector[1], vector[2], endDay);
+        }
+
+        private double distanceSquare(double[] query) {
+            double dx = x - query[0];
+            double dy = y - query[1];
+            double dz = z - query[2];
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    /**
+     * 배열 기반 KD-tree, [lo, hi) 구간의 가운데 원소가 노드이고 깊이에 따라 x, y, z 축으로 나눈다.
+     */
+    private static class KdTree {
+        private final double[][] coords;
+        private final long[] ids;
+        private final long[] endDays;
+
+        private KdTree(double[][] coords, long[] ids, long[] endDays) {
+            this.coords = coords;
+            this.ids = ids;
+            this.endDays = endDays;
+        }
+
+        private static KdTree build(List<Point> pointList) {
+            int size = pointList.size();
+            double[][] coords = new double[3][size];
+            long[] ids = new long[size];
+            long[] endDays = new long[size];
+            for (int i = 0; i < size; i++) {
+                Point point = pointList.get(i);
+                coords[0][i] = point.x;
+                coords[1][i] = point.y;
+                coords[2][i] = point.z;
+                ids[i] = point.id;
+                endDays[i] = point.endDay;
+            }
+
+            KdTree tree = new KdTree(coords, ids, endDays);
+            tree.build(0, size, 0);
+            return tree;
+        }
+
+        private int size() {
+            return ids.length;
+        }
+
+        private Point point(int i) {
+            return new Point(ids[i], coords[0][i], coords[1][i], coords[2][i], endDays[i]);
+        }
+
+        private void build(int lo, int hi, int depth) {
+            if (hi - lo <= 1) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi - 1, mid, depth % 3);
+            build(lo, mid, depth + 1);
+            build(mid + 1, hi, depth + 1);
+        }
+
+        // quickselect : k 번째 원소를 제자리에 두고 왼쪽은 작거나 같게, 오른쪽은 크거나 같게 정렬
+        private void select(int left, int right, int k, int axis) {
+            double[] values = coords[axis];
+            while (left < right) {
+                double pivot = values[(left + right) >>> 1];
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (values[i] < pivot) {
+                        i++;
+                    }
+                    while (values[j] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        swap(i, j);
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void swap(int i, int j) {
+            for (double[] values : coords) {
+                double value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+            long id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+            long endDay = endDays[i];
+            endDays[i] = endDays[j];
+            endDays[j] = endDay;
+        }
+
+        private void search(double[] query, long today, Map<Long, Point> overlay, Candidates candidates) {
+            search(0, size(), 0, query, today, overlay, candidates);
+        }
+
+        private void search(int lo, int hi, int depth, double[] query, long today,
+                            Map<Long, Point> overlay, Candidates candidates) {
+            if (lo >= hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            int axis = depth % 3;
+
+            if (endDays[mid] >= today && (overlay.isEmpty() || !overlay.containsKey(ids[mid]))) {
+                double dx = coords[0][mid] - query[0];
+                double dy = coords[1][mid] - query[1];
+                double dz = coords[2][mid] - query[2];
+                candidates.offer(dx * dx + dy * dy + dz * dz, ids[mid]);
+            }
+
+            double diff = query[axis] - coords[axis][mid];
+            if (diff < 0) {
+                search(lo, mid, depth + 1, query, today, overlay, candidates);
+                if (diff * diff <= candidates.bound()) {
+                    search(mid + 1, hi, depth + 1, query, today, overlay, candidates);
+                }
+            } else {
+                search(mid + 1, hi, depth + 1, query, today, overlay, candidates);
+                if (diff * diff <= candidates.bound()) {
+                    search(lo, mid, depth + 1, query, today, overlay, candidates);
+                }
+            }
+        }
+    }
+
+    /**
+     * 거리(같으면 모임 id) 기준 상위 limit 개만 유지하는 후보 목록
+     * cursor 가 있으면 그 위치 이후의 모임만, filter 가 있으면 조건을 만족하는 모임만 받는다.
+     */
+    private static class Candidates {
+        private final int limit;
+        private final double maxDistanceSquare;
+        private final PartyListCursor cursor;
+        private final LongPredicate filter;
+        private final double[] distances;
+        private final long[] ids;
+        private int size;
+
+        private Candidates(int limit, double maxDistanceSquare, PartyListCursor cursor, LongPredicate filter) {
+            this.limit = limit;
+            this.maxDistanceSquare = maxDistanceSquare;
+            this.cursor = cursor;
+            this.filter = filter;
+            this.distances = new double[limit];
+            this.ids = new long[limit];
+        }
+
+        private double bound() {
+            return size < limit ? maxDistanceSquare : Math.min(distances[size - 1], maxDistanceSquare);
+        }
+
+        private void offer(double distance, long id) {
+            if (limit == 0 || distance > maxDistanceSquare) {
+                return;
+            }
+            if (size == limit && !isBefore(distance, id, size - 1)) {
+                return;
+            }
+            if (cursor != null && !cursor.isBefore(toDistanceKm(distance), id)) {
+                return;
+            }
+            if (filter != null && !filter.test(id)) {
+                return;
+            }
+
+            int i = size == limit ? size - 1 : size++;
+            while (i > 0 && isBefore(distance, id, i - 1)) {
+                distances[i] = distances[i - 1];
+                ids[i] = ids[i - 1];
+                i--;
+            }
+            distances[i] = distance;
+            ids[i] = id;
+        }
+
+        private boolean isBefore(double distance, long id, int index) {
+            return distance < distances[index] || (distance == distances[index] && id < ids[index]);
+        }
+
+        private List<PartyListCursor> toCursorList() {
+            List<PartyListCursor> cursorList = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                cursorList.add(PartyListCursor.of(toDistanceKm(distances[i]), ids[i]));
+            }
+            return cursorList;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.domain.Party;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 모임별 좋아요 수와 회원별 좋아요한 모임 목록을 메모리에 두는 카운터
+ * 좋아요 행(party_like)은 요청마다 바로 저장하고, 모임의 like_count 는 변화량을 모아 주기적으로 한 번에 반영한다.
+ * 반영 전에 서버가 내려가 잃은 변화량이나 여러 서버 사이의 어긋남은 reconcile 에서 party_like 행 수로 맞춘다.
+ * reconcile 은 모임 id 구간별로 나눠 어긋난 모임만 갱신하므로 party 전체를 잠그지 않는다.
+ * 회원별 좋아요 목록은 ttl-seconds 가 지나면 DB 에서 다시 읽어 다른 서버에서 바뀐 좋아요를 반영한다.
+ */
+@Slf4j
+@Component
+public class PartyLikeCounter {
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxMembers;
+    private final long ttlMillis;
+    private final int reconcileBatchSize;
+
+    // 같은 모임, 같은 회원의 좋아요 요청만 순서대로 처리하기 위한 잠금 (전체 잠금 없이 해시로 나눈다)
+    private final Lock[] stripes;
+    // 모임 id 별로 아직 DB 에 반영하지 않은 좋아요 수 변화량 (0 이 되면 제거)
+    private final Map<Long, Long> pendingMap = new ConcurrentHashMap<>();
+    // 회원 email 별 좋아요한 모임 id, 접근 순서로 정렬해서 가장 오래 안 쓴 회원부터 제거
+    private final LinkedHashMap<String, LikeSet> likeSets = new LinkedHashMap<>(16, 0.75f, true);
+    // reconcile 중에 좋아요가 바뀐 모임 (행 수와 변화량을 같은 시점에 읽을 수 없으므로 이번에는 건너뛴다)
+    private final Set<Long> touchedIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean reconciling;
+
+    public PartyLikeCounter(JdbcTemplate jdbcTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${party.like.stripes:64}") int stripes,
+                            @Value("${party.like.max-members:100000}") int maxMembers,
+                            @Value("${party.like.ttl-seconds:60}") long ttlSeconds,
+                            @Value("${party.like.reconcile-batch-size:1000}") int reconcileBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxMembers = maxMembers;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.reconcileBatchSize = reconcileBatchSize;
+        this.stripes = new Lock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+
+        Gauge.builder("party.like.pending", pendingMap, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 모임, 회원 조합의 잠금
+     * @param partyId
+     * @param email
+     * @return
+     */
+    public Lock lockOf(Long partyId, String email) {
+        return stripes[Math.floorMod(Objects.hash(partyId, email), stripes.length)];
+    }
+
+    /**
+     * 좋아요 여부 (회원의 좋아요 목록이 없으면 DB 에서 한 번 읽어둔다)
+     * @param partyId
+     * @param email
+     * @return
+     */
+    public boolean isLike(Long partyId, String email) {
+        return getLikePartyIdSet(email).contains(partyId);
+    }
+
+    /**
+     * 좋아요 행을 저장한 뒤 호출
+     * @param partyId
+     * @param email
+     */
+    public void like(Long partyId, String email) {
+        getLikePartyIdSet(email).add(partyId);
+        addDelta(partyId, 1L);
+    }
+
+    /**
+     * 좋아요 행을 삭제한 뒤 호출
+     * @param partyId
+     * @param email
+     */
+    public void unlike(Long partyId, String email) {
+        getLikePartyIdSet(email).remove(partyId);
+        addDelta(partyId, -1L);
+    }
+
+    /**
+     * DB 에 반영된 좋아요 수 + 아직 반영하지 않은 변화량
+     * @param party
+     * @return
+     */
+    public long getLikeCount(Party party) {
+        long likeCount = party.getLikeCount() == null ? 0 : party.getLikeCount();
+        return Math.max(0, likeCount + pendingMap.getOrDefault(party.getId(), 0L));
+    }
+
+    /**
+     * 회원의 좋아요 목록 제거 (다음 요청에서 DB 값으로 다시 읽는다)
+     * @param email
+     */
+    public synchronized void evictMember(String email) {
+        likeSets.remove(email);
+    }
+
+    public synchronized void clear() {
+        likeSets.clear();
+        pendingMap.clear();
+    }
+
+    /**
+     * 모아둔 변화량을 batch update 한 번으로 반영
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${party.like.flush-delay-ms:1000}")
+    public void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long partyId : pendingMap.keySet()) {
+            Long delta = pendingMap.remove(partyId);
+            if (delta != null) {
+                batchArgs.add(new Object[]{delta, partyId});
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(" update party set like_count = coalesce(like_count , 0) + ? where party_id = ? ",
+                    batchArgs);
+        } catch (RuntimeException e) {
+            // 반영하지 못한 변화량은 다시 넣어두고 다음 주기에 반영
+            batchArgs.forEach(args -> addDelta((Long) args[1], (Long) args[0]));
+            log.warn("PartyLikeCounter flush failed : {}", batchArgs.size(), e);
+        }
+    }
+
+    /**
+     * like_count 가 party_like 행 수와 다른 모임을 행 수로 맞춘다.
+     * 모임 id 구간별로 행 수를 읽어 어긋난 모임만 읽은 값과 같을 때 갱신한다. (그 사이 반영된 변화량은 덮어쓰지 않는다)
+     * 아직 반영하지 않은 변화량은 행 수에서 빼고, 도중에 좋아요가 바뀐 모임은 다음 주기에 맞춘다.
+     * @return 바로잡은 모임 수
+     */
+    @Scheduled(cron = "${party.like.reconcile-cron:0 */10 * * * *}")
+    public int reconcile() {
+        touchedIds.clear();
+        reconciling = true;
+        try {
+            flush();
+            Map<String, Object> range = jdbcTemplate.queryForMap(
+                    " select min(party_id) as min_id , max(party_id) as max_id from party ");
+            if (range.get("min_id") == null) {
+                return 0;
+            }
+
+            long maxId = ((Number) range.get("max_id")).longValue();
+            int repaired = 0;
+            for (long fromId = ((Number) range.get("min_id")).longValue(); fromId <= maxId; fromId += reconcileBatchSize) {
+                repaired += reconcileRange(fromId, fromId + reconcileBatchSize);
+            }
+            if (repaired > 0) {
+                log.info("PartyLikeCounter reconciled : {}", repaired);
+            }
+            return repaired;
+        } finally {
+            reconciling = false;
+            touchedIds.clear();
+        }
+    }
+
+    private int reconcileRange(long fromId, long toId) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        jdbcTemplate.query(" select p.party_id , coalesce(p.like_count , 0) as like_count , count(pl.party_like_id) as like_rows " +
+                        " from party as p left join party_like as pl on pl.party_id = p.party_id " +
+                        " where p.party_id >= ? and p.party_id < ? " +
+                        " group by p.party_id , p.like_count ",
+                (RowCallbackHandler) rs -> {
+                    long partyId = rs.getLong("party_id");
+                    if (touchedIds.contains(partyId)) {
+                        return;
+                    }
+                    long likeCount = rs.getLong("like_count");
+                    long expected = rs.getLong("like_rows") - pendingMap.getOrDefault(partyId, 0L);
+                    if (expected != likeCount) {
+                        batchArgs.add(new Object[]{expected, partyId, likeCount});
+                    }
+                },
+                fromId, toId);
+        if (batchArgs.isEmpty()) {
+            return 0;
+        }
+
+        int repaired = 0;
+        for (int count : jdbcTemplate.batchUpdate(" update party set like_count = ? " +
+                " where party_id = ? and coalesce(like_count , 0) = ? ", batchArgs)) {
+            repaired += Math.max(count, 0);
+        }
+        return repaired;
+    }
+
+    private void addDelta(Long partyId, Long delta) {
+        if (reconciling) {
+            touchedIds.add(partyId);
+        }
+        pendingMap.merge(partyId, delta, (oldValue, value) -> {
+            long sum = oldValue + value;
+            return sum == 0 ? null : sum;
+        });
+    }
+
+    private Set<Long> getLikePartyIdSet(String email) {
+        synchronized (this) {
+            LikeSet likeSet = likeSets.get(email);
+            if (likeSet != null && !likeSet.isExpired(System.currentTimeMillis(), ttlMillis)) {
+                return likeSet.partyIds;
+            }
+        }
+
+        // DB 조회 중에는 다른 회원의 요청을 막지 않는다
+        long loadedAt = System.currentTimeMillis();
+        Set<Long> loaded = ConcurrentHashMap.newKeySet();
+        loaded.addAll(jdbcTemplate.queryForList(" select pl.party_id from party_like as pl " +
+                " join member as m on m.member_id = pl.member_id where m.email = ? ", Long.class, email));
+
+        synchronized (this) {
+            // 그 사이 다시 읽은 목록이 있으면 그 목록을 쓴다
+            LikeSet likeSet = likeSets.get(email);
+            if (likeSet != null && likeSet.loadedAt >= loadedAt) {
+                return likeSet.partyIds;
+            }
+            likeSets.put(email, new LikeSet(loaded, loadedAt));
+
+            Iterator<String> eldest = likeSets.keySet().iterator();
+            while (likeSets.size() > maxMembers && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+            return loaded;
+        }
+    }
+
+    private static class LikeSet {
+        private final Set<Long> partyIds;
+        private final long loadedAt;
+
+        private LikeSet(Set<Long> partyIds, long loadedAt) {
+            this.partyIds = partyIds;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return now - loadedAt >= ttlMillis;
+        }
+    }
+}
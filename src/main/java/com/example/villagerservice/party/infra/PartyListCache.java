@@ -0,0 +1,199 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.dto.PartyListDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 모임 목록에 보여줄 모임 정보(관심모임 여부 제외)를 모임 id 별로 보관하는 캐시
+ * 가까운 순서는 매번 PartyGeoIndex 에서 계산하고, DB 에서 읽어야 하는 모임 정보만 캐시한다.
+ * 조회 위치와 관계없이 모임마다 한 벌만 보관하므로 모임이 수정, 삭제되면 그 모임만 비운다.
+ */
+@Component
+public class PartyListCache {
+    private static final String METRIC_REQUESTS = "party.list.cache.requests";
+    private static final String METRIC_EVICTIONS = "party.list.cache.evictions";
+
+    private final int maxParties;
+    private final long ttlMillis;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter partyEvictionCounter;
+    private final Counter sizeEvictionCounter;
+    private final Counter expiredEvictionCounter;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    // 최대 개수를 넘었을 때 한 스레드만 정리한다
+    private final ReentrantLock trimLock = new ReentrantLock();
+    // 모임이 변경될 때마다 증가, 조회 중에 변경이 있었으면 그 조회 결과는 캐시하지 않는다
+    private final AtomicLong stamp = new AtomicLong();
+
+    public PartyListCache(MeterRegistry meterRegistry,
+                          @Value("${party.list-cache.max-parties:50000}") int maxParties,
+                          @Value("${party.list-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.maxParties = maxParties;
+        this.ttlMillis = ttlSeconds * 1000;
+
+        this.hitCounter = meterRegistry.counter(METRIC_REQUESTS, "result", "hit");
+        this.missCounter = meterRegistry.counter(METRIC_REQUESTS, "result", "miss");
+        this.partyEvictionCounter = meterRegistry.counter(METRIC_EVICTIONS, "cause", "party");
+        this.sizeEvictionCounter = meterRegistry.counter(METRIC_EVICTIONS, "cause", "size");
+        this.expiredEvictionCounter = meterRegistry.counter(METRIC_EVICTIONS, "cause", "expired");
+        Gauge.builder("party.list.cache.parties", this, PartyListCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * DB 조회 전에 받아두고 put 할 때 그대로 전달
+     * @return
+     */
+    public long stamp() {
+        return stamp.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 캐시에 있는 모임 정보 반환 (요청한 모임이 모두 있으면 hit)
+     * 반환한 모임 정보는 복사본이라 관심모임 여부를 바로 설정해도 된다.
+     * @param partyIdList
+     * @return
+     */
+    public Map<Long, PartyListDTO> get(List<Long> partyIdList) {
+        Map<Long, PartyListDTO> result = new HashMap<>();
+        long now = System.currentTimeMillis();
+        for (Long partyId : partyIdList) {
+            Entry entry = entries.get(partyId);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.isExpired(now, ttlMillis)) {
+                if (entries.remove(partyId, entry)) {
+                    expiredEvictionCounter.increment();
+                }
+                continue;
+            }
+            entry.lastAccess = now;
+            result.put(partyId, copy(entry.party));
+        }
+
+        if (result.size() == partyIdList.size()) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+        return result;
+    }
+
+    /**
+     * DB 에서 읽은 모임 정보를 추가 (stamp 이후 모임 변경이 있었으면 버린다)
+     * @param partyList
+     * @param stamp
+     */
+    public void put(List<PartyListDTO> partyList, long stamp) {
+        if (stamp != this.stamp.get() || partyList.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (PartyListDTO party : partyList) {
+            Entry entry = new Entry(copy(party), now);
+            entries.put(party.getPartyId(), entry);
+            // 넣는 사이 변경이 있었으면 evict 가 지우기 전에 넣었을 수 있으므로 직접 지운다
+            if (stamp != this.stamp.get()) {
+                entries.remove(party.getPartyId(), entry);
+                return;
+            }
+        }
+
+        if (entries.size() > maxParties) {
+            trim();
+        }
+    }
+
+    /**
+     * 모임 정보 제거
+     * @param partyId
+     */
+    public void evict(Long partyId) {
+        stamp.incrementAndGet();
+        if (entries.remove(partyId) != null) {
+            partyEvictionCounter.increment();
+        }
+    }
+
+    public void clear() {
+        stamp.incrementAndGet();
+        entries.clear();
+    }
+
+    // 오래 안 쓴 모임부터 최대 개수의 90% 까지 제거 (정리 중인 스레드가 있으면 넘어간다)
+    private void trim() {
+        if (!trimLock.tryLock()) {
+            return;
+        }
+        try {
+            int removeCount = entries.size() - maxParties * 9 / 10;
+            if (removeCount <= 0) {
+                return;
+            }
+            // 정렬 중에 접근 시각이 바뀌지 않도록 먼저 읽어둔다
+            List<long[]> accessList = new ArrayList<>(entries.size());
+            entries.forEach((partyId, entry) -> accessList.add(new long[]{entry.lastAccess, partyId}));
+            accessList.sort(Comparator.comparingLong(access -> access[0]));
+            for (int i = 0; i < removeCount && i < accessList.size(); i++) {
+                if (entries.remove(accessList.get(i)[1]) != null) {
+                    sizeEvictionCounter.increment();
+                }
+            }
+        } finally {
+            trimLock.unlock();
+        }
+    }
+
+    private static PartyListDTO copy(PartyListDTO party) {
+        return PartyListDTO.builder()
+                .partyId(party.getPartyId())
+                .partyName(party.getPartyName())
+                .startDt(party.getStartDt())
+                .endDt(party.getEndDt())
+                .nickname(party.getNickname())
+                .content(party.getContent())
+                .location(party.getLocation())
+                .tagNameList(party.getTagNameList() == null ? new ArrayList<>() : new ArrayList<>(party.getTagNameList()))
+                .partyLike(false)
+                .memberId(party.getMemberId())
+                .build();
+    }
+
+    private static class Entry {
+        private final PartyListDTO party;
+        private final long createdAt;
+        private volatile long lastAccess;
+
+        private Entry(PartyListDTO party, long createdAt) {
+            this.party = party;
+            this.createdAt = createdAt;
+            this.lastAccess = createdAt;
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return ttlMillis > 0 && now - createdAt >= ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.domain.Party;
+import com.example.villagerservice.party.repository.PartyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 모임별 허락 인원 카운터
+ * 모임마다 따로 둔 메모리 카운터로 남은 자리만큼만 DB 조건부 update 를 보내고, 정원이 찬 뒤의 요청은 DB 까지 가지 않고 거절한다.
+ * 정원 초과 여부는 DB 조건부 update 가 최종 판단하므로 서버가 여러 대여도 정원을 넘지 않는다.
+ * accept_count 추가 이전에 만든 모임(허락 인원이 null)은 허락된 신청 수로 시작한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PartySeatCounter {
+    private final PartyRepository partyRepository;
+
+    // 모임 id 별로 이 서버가 알고 있는 허락 인원 (진행 중인 허락 포함)
+    private final Map<Long, AtomicInteger> seatMap = new ConcurrentHashMap<>();
+
+    /**
+     * 자리 하나 확보 (신청을 허락한 뒤 같은 트랜잭션에서 호출, 트랜잭션이 롤백되면 반환)
+     * @param party
+     * @return 정원이 다 찼으면 false
+     */
+    public boolean tryAcquire(Party party) {
+        Integer capacity = party.getNumberPeople();
+        // 허락된 신청 수에는 이번 신청도 들어 있다
+        AtomicInteger taken = getSeat(party, 1);
+        if (!reserve(taken, capacity)) {
+            return false;
+        }
+
+        int updated;
+        try {
+            updated = partyRepository.increaseAcceptCount(party.getId());
+        } catch (RuntimeException e) {
+            taken.decrementAndGet();
+            throw e;
+        }
+
+        if (updated == 0) {
+            // 다른 서버에서 먼저 정원을 채웠으면 이후 요청은 바로 거절
+            taken.decrementAndGet();
+            if (capacity != null) {
+                taken.accumulateAndGet(capacity, Math::max);
+            }
+            return false;
+        }
+
+        releaseOnRollback(taken);
+        return true;
+    }
+
+    /**
+     * 정원이 다 찼는지 확인 (신청 단계에서 DB 조회 없이 거절하기 위한 용도)
+     * @param party
+     * @return
+     */
+    public boolean isFull(Party party) {
+        Integer capacity = party.getNumberPeople();
+        return capacity != null && getSeat(party, 0).get() >= capacity;
+    }
+
+    /**
+     * 모임 정보가 바뀌거나 삭제되면 카운터 제거 (다음 요청에서 DB 값으로 다시 시작)
+     * @param partyId
+     */
+    public void evict(Long partyId) {
+        seatMap.remove(partyId);
+    }
+
+    private AtomicInteger getSeat(Party party, int pending) {
+        AtomicInteger taken = seatMap.get(party.getId());
+        if (taken != null) {
+            return taken;
+        }
+
+        int acceptCount = party.getAcceptCount() != null
+                ? party.getAcceptCount()
+                : (int) Math.max(0, partyRepository.countAcceptedApply(party.getId()) - pending);
+        return seatMap.computeIfAbsent(party.getId(), partyId -> new AtomicInteger(acceptCount));
+    }
+
+    // 정원 안에서만 증가
+    private boolean reserve(AtomicInteger taken, Integer capacity) {
+        if (capacity == null) {
+            taken.incrementAndGet();
+            return true;
+        }
+
+        int current;
+        do {
+            current = taken.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!taken.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void releaseOnRollback(AtomicInteger taken) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    taken.decrementAndGet();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.dto.PartyChatMessageDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버가 여러 대일 때 사용하는 전달 방식
+ * 메세지는 채팅방별 Redis 채널(party:chat:room:{roomId})로 발행하고, 각 서버는 자기에게 구독자가 있는 채팅방 채널만 구독한다.
+ * 보낸 서버도 Redis 를 거쳐 받으므로 모든 서버에서 같은 순서로 전달된다.
+ * 받은 채팅 메세지(seq 가 있는 메세지)는 이 서버의 최근 메세지 버퍼에도 넣어 다른 서버에서 보낸 메세지도 이어받기, 대화내용 조회에 포함한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "party.chat.fanout", havingValue = "redis")
+public class RedisPartyChatFanout implements PartyChatFanout, PartyChatRoomListener {
+    private static final String CHANNEL_PREFIX = "party:chat:room:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SimpMessagingTemplate template;
+    private final ObjectMapper objectMapper;
+    private final PartyChatRecentBuffer partyChatRecentBuffer;
+
+    private final Counter publishCounter;
+    private final Counter receiveCounter;
+
+    // 이 서버가 구독 중인 채팅방 채널
+    private final Map<Long, MessageListener> listenerMap = new ConcurrentHashMap<>();
+
+    public RedisPartyChatFanout(RedisTemplate<String, Object> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                SimpMessagingTemplate template,
+                                ObjectMapper objectMapper,
+                                PartyChatRecentBuffer partyChatRecentBuffer,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.template = template;
+        this.objectMapper = objectMapper;
+        this.partyChatRecentBuffer = partyChatRecentBuffer;
+
+        this.publishCounter = meterRegistry.counter("party.chat.fanout", "type", "publish");
+        this.receiveCounter = meterRegistry.counter("party.chat.fanout", "type", "receive");
+    }
+
+    @Override
+    public void publish(Long roomId, Object payload) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+        redisTemplate.convertAndSend(channelOf(roomId), body);
+        publishCounter.increment();
+    }
+
+    @Override
+    public void onRoomOpened(Long roomId) {
+        MessageListener listener = (message, pattern) -> deliver(roomId, message.getBody());
+        if (listenerMap.putIfAbsent(roomId, listener) == null) {
+            listenerContainer.addMessageListener(listener, new ChannelTopic(channelOf(roomId)));
+        }
+    }
+
+    @Override
+    public void onRoomClosed(Long roomId) {
+        MessageListener listener = listenerMap.remove(roomId);
+        if (listener != null) {
+            listenerContainer.removeMessageListener(listener, new ChannelTopic(channelOf(roomId)));
+        }
+    }
+
+    public boolean isSubscribed(Long roomId) {
+        return listenerMap.containsKey(roomId);
+    }
+
+    // 받은 JSON 을 다시 변환하지 않고 그대로 이 서버의 구독자에게 전달
+    private void deliver(Long roomId, byte[] body) {
+        appendRecent(roomId, body);
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        try {
+            template.send(PartyChatFanout.destinationOf(roomId), MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+            receiveCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("RedisPartyChatFanout deliver failed : {} {}", roomId, new String(body, StandardCharsets.UTF_8), e);
+        }
+    }
+
+    // 이 서버에서 보낸 메세지도 다시 받지만 버퍼는 같은 seq 를 두 번 넣지 않는다
+    private void appendRecent(Long roomId, byte[] body) {
+        try {
+            PartyChatMessageDto message = objectMapper.readValue(body, PartyChatMessageDto.class);
+            if (message.getSeq() != null && roomId.equals(message.getRoomId())) {
+                partyChatRecentBuffer.append(message);
+            }
+        } catch (IOException e) {
+            log.warn("RedisPartyChatFanout read failed : {} {}", roomId, new String(body, StandardCharsets.UTF_8), e);
+        }
+    }
+
+    private static String channelOf(Long roomId) {
+        return CHANNEL_PREFIX + roomId;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.villagerservice.party.infra;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 서버가 여러 대일 때 사용하는 접속자, 읽은 위치 저장소
+ * party:chat:online:{roomId}:{서버 id} = {닉네임: 세션 수}, party:chat:online:{roomId}:nodes = {접속자가 있는 서버 id}
+ * party:chat:read:{읽은 위치 키} = {채팅방 id: 읽은 seq}
+ * 접속자는 서버별 해시에 나눠 저장하고 서버가 heartbeat-ms 마다 만료 시간(ttl-ms)을 갱신한다.
+ * 서버가 비정상 종료되면 그 서버의 해시는 만료되고, 접속자 조회 시 만료된 서버는 목록에서 지운다.
+ */
+@Component
+@ConditionalOnProperty(name = "party.chat.fanout", havingValue = "redis")
+public class RedisPartyChatPresenceStore implements PartyChatPresenceStore {
+    private static final String ONLINE_KEY_PREFIX = "party:chat:online:";
+    private static final String NODES_KEY_SUFFIX = "nodes";
+    private static final String READ_KEY_PREFIX = "party:chat:read:";
+
+    // 지금 값보다 클 때만 저장
+    private static final RedisScript<Long> MARK_READ_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if (not current) or tonumber(current) < tonumber(ARGV[2]) then " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) return 1 " +
+            "end " +
+            "return 0", Long.class);
+
+    // 서버 해시에 세션 수를 올리고 서버 목록에 등록 (둘 다 만료 시간 갱신)
+    private static final RedisScript<Long> JOIN_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('HINCRBY', KEYS[1], ARGV[1], 1) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "redis.call('SADD', KEYS[2], ARGV[3]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+            "return count", Long.class);
+
+    // 0 이하가 되면 필드 삭제
+    private static final RedisScript<Long> LEAVE_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('HINCRBY', KEYS[1], ARGV[1], -1) " +
+            "if count <= 0 then redis.call('HDEL', KEYS[1], ARGV[1]) end " +
+            "return count", Long.class);
+
+    // 서버 해시가 남아 있으면 만료 시간 갱신
+    private static final RedisScript<Long> HEARTBEAT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('PEXPIRE', KEYS[1], ARGV[1]) == 1 then " +
+            "  redis.call('SADD', KEYS[2], ARGV[2]) " +
+            "  redis.call('PEXPIRE', KEYS[2], ARGV[1]) return 1 " +
+            "end " +
+            "return 0", Long.class);
+
+    // 서버 목록의 해시를 합치고, 만료된 서버는 목록에서 제거
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ONLINE_SCRIPT = new DefaultRedisScript<>(
+            "local result = {} " +
+            "for _, node in ipairs(redis.call('SMEMBERS', KEYS[1])) do " +
+            "  local names = redis.call('HKEYS', ARGV[1] .. node) " +
+            "  if #names == 0 then redis.call('SREM', KEYS[1], node) end " +
+            "  for _, name in ipairs(names) do table.insert(result, name) end " +
+            "end " +
+            "return result", List.class);
+
+    // 해시 필드, 값도 문자열로 저장
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final long ttlMillis;
+
+    // 이 서버의 채팅방별 세션 수 (세션이 있는 채팅방만 만료 시간을 갱신)
+    private final Map<Long, Integer> sessionCounts = new ConcurrentHashMap<>();
+
+    public RedisPartyChatPresenceStore(StringRedisTemplate redisTemplate,
+                                       @Value("${party.chat.presence.ttl-ms:30000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public void join(Long roomId, String nickname) {
+        sessionCounts.merge(roomId, 1, Integer::sum);
+        redisTemplate.execute(JOIN_SCRIPT, List.of(nodeKeyOf(roomId), nodesKeyOf(roomId)),
+                nickname, String.valueOf(ttlMillis), nodeId);
+    }
+
+    @Override
+    public void leave(Long roomId, String nickname) {
+        sessionCounts.computeIfPresent(roomId, (id, count) -> count <= 1 ? null : count - 1);
+        redisTemplate.execute(LEAVE_SCRIPT, List.of(nodeKeyOf(roomId)), nickname);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<String> getOnline(Long roomId) {
+        List<String> nicknames = redisTemplate.execute(ONLINE_SCRIPT, List.of(nodesKeyOf(roomId)), ONLINE_KEY_PREFIX + roomId + ":");
+        return nicknames == null ? new HashSet<>() : new HashSet<>(nicknames);
+    }
+
+    /**
+     * 이 서버에 세션이 있는 채팅방의 접속자 해시 만료 시간 갱신
+     */
+    @Scheduled(fixedDelayString = "${party.chat.presence.heartbeat-ms:10000}")
+    public void heartbeat() {
+        for (Long roomId : sessionCounts.keySet()) {
+            redisTemplate.execute(HEARTBEAT_SCRIPT, List.of(nodeKeyOf(roomId), nodesKeyOf(roomId)),
+                    String.valueOf(ttlMillis), nodeId);
+        }
+    }
+
+    @Override
+    public void markRead(String reader, Long roomId, long seq) {
+        redisTemplate.execute(MARK_READ_SCRIPT, List.of(READ_KEY_PREFIX + reader),
+                String.valueOf(roomId), String.valueOf(seq));
+    }
+
+    @Override
+    public Map<Long, Long> getReadPositions(String reader) {
+        Map<String, String> entries = hashOperations().entries(READ_KEY_PREFIX + reader);
+        return entries.entrySet().stream()
+                .collect(Collectors.toMap(
+                        entry -> Long.valueOf(entry.getKey()),
+                        entry -> Long.valueOf(entry.getValue()),
+                        Math::max,
+                        HashMap::new));
+    }
+
+    private String nodeKeyOf(Long roomId) {
+        return ONLINE_KEY_PREFIX + roomId + ":" + nodeId;
+    }
+
+    private static String nodesKeyOf(Long roomId) {
+        return ONLINE_KEY_PREFIX + roomId + ":" + NODES_KEY_SUFFIX;
+    }
+
+    private HashOperations<String, String, String> hashOperations() {
+        return redisTemplate.opsForHash();
+    }
+}
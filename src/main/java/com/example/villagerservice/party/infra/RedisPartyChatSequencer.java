@@ -0,0 +1,58 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.repository.PartyChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버가 여러 대일 때 사용하는 seq 발급 방식 (party:chat:seq:{roomId} 를 INCR)
+ * 키가 없으면 DB 와 최근 메세지 버퍼의 마지막 seq 중 큰 값으로 한 번만 채운다. (여러 서버가 동시에 채워도 SETNX 라 하나만 반영된다)
+ * 버퍼에는 쓰기 스레드가 아직 저장하지 않은 메세지가 있으므로, 키가 만료되거나 지워져도 이 서버가 발급한 seq 와 겹치지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "party.chat.fanout", havingValue = "redis")
+public class RedisPartyChatSequencer implements PartyChatSequencer {
+    private static final String KEY_PREFIX = "party:chat:seq:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final PartyChatMessageRepository partyChatMessageRepository;
+    private final PartyChatRecentBuffer partyChatRecentBuffer;
+
+    // 이 서버에서 키를 확인한 채팅방
+    private final Set<Long> initializedRoomIdSet = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public long next(Long roomId) {
+        String key = initialize(roomId);
+        Long seq = redisTemplate.opsForValue().increment(key);
+        if (seq == null) {
+            throw new IllegalStateException("party chat seq increment failed : " + roomId);
+        }
+        return seq;
+    }
+
+    @Override
+    public long current(Long roomId) {
+        Object seq = redisTemplate.opsForValue().get(initialize(roomId));
+        return seq == null ? 0 : Long.parseLong(seq.toString());
+    }
+
+    private String initialize(Long roomId) {
+        String key = KEY_PREFIX + roomId;
+        if (!initializedRoomIdSet.contains(roomId)) {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                Long maxSeq = partyChatMessageRepository.findMaxSeqByRoomId(roomId);
+                long lastSeq = Math.max(maxSeq == null ? 0 : maxSeq, partyChatRecentBuffer.getLastSeq(roomId));
+                redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(lastSeq));
+            }
+            initializedRoomIdSet.add(roomId);
+        }
+        return key;
+    }
+}
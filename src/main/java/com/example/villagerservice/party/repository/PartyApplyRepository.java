@@ -5,6 +5,9 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PartyApplyRepository extends JpaRepository<PartyApply, Long> {
     boolean existsByTargetMemberIdAndParty_Id(Long Id, Long partyId);
@@ -14,4 +17,9 @@ public interface PartyApplyRepository extends JpaRepository<PartyApply, Long> {
     Optional<PartyApply> findByParty_IdAndTargetMemberId(Long partyId, Long targetMemberId);
 
     Optional<PartyApply> findFirstByOrderByIdDesc();
+
+    // 아직 허락되지 않은 신청만 허락 (허락했으면 1, 이미 허락된 신청이면 0)
+    @Modifying
+    @Query("update PartyApply p set p.isAccept = true where p.id = :id and p.isAccept = false")
+    int acceptPartyApply(@Param("id") Long id);
 }
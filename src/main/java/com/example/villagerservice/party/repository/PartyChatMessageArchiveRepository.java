@@ -0,0 +1,11 @@
+package com.example.villagerservice.party.repository;
+
+import com.example.villagerservice.party.domain.PartyChatMessageArchive;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PartyChatMessageArchiveRepository extends JpaRepository<PartyChatMessageArchive, Long> {
+    Optional<PartyChatMessageArchive> findFirstByRoomIdAndFirstIdLessThanOrderByFirstIdDesc(Long roomId, Long id);
+    Optional<PartyChatMessageArchive> findFirstByRoomIdAndLastSeqGreaterThanOrderByLastSeqAsc(Long roomId, Long seq);
+    Optional<PartyChatMessageArchive> findFirstByRoomIdOrderByFirstIdDesc(Long roomId);
+}
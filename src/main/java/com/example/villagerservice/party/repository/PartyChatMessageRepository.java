@@ -1,7 +1,17 @@
 package com.example.villagerservice.party.repository;
 
 import com.example.villagerservice.party.domain.PartyChatMessage;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PartyChatMessageRepository extends JpaRepository<PartyChatMessage, Long> {
+    List<PartyChatMessage> findByRoomIdOrderByIdDesc(Long roomId, Pageable pageable);
+    List<PartyChatMessage> findByRoomIdAndIdLessThanOrderByIdDesc(Long roomId, Long id, Pageable pageable);
+    List<PartyChatMessage> findByRoomIdAndSeqGreaterThanOrderBySeqAsc(Long roomId, Long seq, Pageable pageable);
+
+    @Query("select max(m.seq) from PartyChatMessage m where m.roomId = :roomId")
+    Long findMaxSeqByRoomId(@Param("roomId") Long roomId);
 }
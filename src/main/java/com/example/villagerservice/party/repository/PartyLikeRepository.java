@@ -1,12 +1,15 @@
 package com.example.villagerservice.party.repository;
 
 import com.example.villagerservice.party.domain.PartyLike;
-import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface PartyLikeRepository extends JpaRepository<PartyLike, Long> {
-    Optional<PartyLike> findByParty_IdAndMember_Email(Long partyId, String email);
-    boolean existsByParty_IdAndMember_Email(Long partyId, String email);
+    @Transactional
+    @Modifying
+    @Query("delete from PartyLike p where p.party.id = :partyId and p.member.id = :memberId")
+    int deletePartyLike(@Param("partyId") Long partyId, @Param("memberId") Long memberId);
 }
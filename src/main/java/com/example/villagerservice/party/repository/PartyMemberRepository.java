@@ -1,7 +1,12 @@
 package com.example.villagerservice.party.repository;
 
 import com.example.villagerservice.party.domain.PartyMember;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PartyMemberRepository extends JpaRepository<PartyMember, Long> {
+    @Query("select pm.memberId from PartyMember pm where pm.party.id = :partyId")
+    List<Long> findMemberIdByPartyId(@Param("partyId") Long partyId);
 }
@@ -1,11 +1,64 @@
 package com.example.villagerservice.party.repository;
 
 import com.example.villagerservice.party.domain.Party;
+import com.example.villagerservice.party.dto.PartyCommentDTO;
+import com.example.villagerservice.party.dto.PartyDTO;
+import com.example.villagerservice.party.dto.PartyListCursor;
 import com.example.villagerservice.party.dto.PartyListDTO;
+import com.example.villagerservice.party.dto.PartyListPageDTO;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public interface PartyQueryRepository {
 
-    public List<PartyListDTO> getPartyList(String email , Double lat , Double lnt);
+    /**
+     * 가까운 순으로 모임 목록 조회
+     * @param email
+     * @param lat
+     * @param lnt
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @return
+     */
+    public PartyListPageDTO getPartyList(String email , Double lat , Double lnt , PartyListCursor cursor);
+
+    /**
+     * 모임 id 순서대로 모임 목록 조회
+     * @param email
+     * @param partyIdList
+     * @return
+     */
+    List<PartyListDTO> getPartyListByIds(String email, List<Long> partyIdList);
+
+    /**
+     * 모임 id 순서대로 관심모임 여부를 제외한 모임 목록 조회
+     * @param partyIdList
+     * @return
+     */
+    List<PartyListDTO> getPartyInfoListByIds(List<Long> partyIdList);
+
+    /**
+     * 모임 id 중 회원이 관심모임으로 등록한 모임 id 조회
+     * @param email
+     * @param partyIdList
+     * @return
+     */
+    Set<Long> getLikePartyIdSet(String email, List<Long> partyIdList);
+
+    /**
+     * 모임 상세 조회 (모임, 주최자, 태그, 관심모임 여부를 한번에 조회하고 댓글은 첫 페이지만 포함)
+     * @param partyId
+     * @param email
+     * @return
+     */
+    Optional<PartyDTO.Response> getParty(Long partyId, String email);
+
+    /**
+     * 모임 댓글을 등록 순으로 조회
+     * @param partyId
+     * @param cursor 이전 페이지의 마지막 댓글 id (첫 페이지면 null)
+     * @return
+     */
+    PartyCommentDTO.PageResponse getPartyCommentList(Long partyId, Long cursor);
 }
@@ -4,11 +4,37 @@ import com.example.villagerservice.party.domain.Party;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface PartyRepository extends JpaRepository<Party, Long> {
     boolean existsById(Long partyId);
+
+    @Query("select p from Party p " +
+            " where p.geohash is null " +
+            " and p.latitude is not null " +
+            " and p.longitude is not null")
+    List<Party> getPartyWithoutGeohash(Pageable pageable);
+
+    @Query("select p.member.id from Party p where p.id = :partyId")
+    Optional<Long> findHostMemberIdById(@Param("partyId") Long partyId);
+
+    // 이번 신청을 뺀 허락된 신청 수 (accept_count 추가 이전에 만든 모임의 허락 인원)
+    String ACCEPTED_BEFORE_COUNT = "(select count(*) - 1 from party_apply as a where a.party_id = :partyId and a.is_accept = true)";
+
+    // 이번 신청을 허락한 뒤에 호출, 정원이 남아 있을 때만 허락된 인원 증가 (증가했으면 1, 정원이 찼으면 0)
+    // accept_count 가 비어 있는 모임은 허락된 신청 수로 채운다
+    @Modifying
+    @Query(value = "update party set accept_count = coalesce(accept_count, " + ACCEPTED_BEFORE_COUNT + ") + 1 " +
+            " where party_id = :partyId " +
+            " and (number_people is null or coalesce(accept_count, " + ACCEPTED_BEFORE_COUNT + ") < number_people)",
+            nativeQuery = true)
+    int increaseAcceptCount(@Param("partyId") Long partyId);
+
+    @Query("select count(a) from PartyApply a where a.party.id = :partyId and a.isAccept = true")
+    long countAcceptedApply(@Param("partyId") Long partyId);
 }
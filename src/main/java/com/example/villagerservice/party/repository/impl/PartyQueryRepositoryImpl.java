@@ -1,59 +1,342 @@
 package com.example.villagerservice.party.repository.impl;
 
+import com.example.villagerservice.common.utils.GeoHashUtils;
 import com.example.villagerservice.party.domain.Party;
+import com.example.villagerservice.party.dto.PartyCommentDTO;
+import com.example.villagerservice.party.dto.PartyDTO;
+import com.example.villagerservice.party.dto.PartyListCursor;
 import com.example.villagerservice.party.dto.PartyListDTO;
-import com.example.villagerservice.party.repository.PartyLikeRepository;
+import com.example.villagerservice.party.dto.PartyListPageDTO;
 import com.example.villagerservice.party.repository.PartyQueryRepository;
-import lombok.RequiredArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
-import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.sql.Date;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Repository
-@RequiredArgsConstructor
 public class PartyQueryRepositoryImpl implements PartyQueryRepository {
 
+    private final static int DEFAULT_LIMIT = 5;
+    // 탐색 시작 셀 크기 (약 1.2km x 0.6km), 후보가 부족하면 한 단계씩 넓힌다
+    private final static int START_PRECISION = 6;
+    private final static int MIN_PRECISION = 2;
+    // 모임 상세, 댓글 조회 시 한번에 보여줄 댓글 수
+    private final static int COMMENT_LIMIT = 20;
+
     private final JdbcTemplate jdbcTemplate;
+    // PartyGeoIndex 와 같은 최대 탐색 반경 (0 이하면 제한 없음)
+    private final double maxRadiusKm;
 
-    private final PartyLikeRepository partyLikeRepository;
+    public PartyQueryRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                    @Value("${party.geo-index.max-radius-km:30}") double maxRadiusKm) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxRadiusKm = maxRadiusKm;
+    }
 
     @Override
-    public List<PartyListDTO> getPartyList(String email ,Double LAT, Double LNT) {
+    public PartyListPageDTO getPartyList(String email ,Double LAT, Double LNT, PartyListCursor cursor) {
+        List<PartyDistance> result = getNearPartyList(LAT, LNT, cursor);
 
-        List<PartyListDTO> partyList = jdbcTemplate.query(getQuery(), mapRow(), LAT, LNT, LAT);
-        for (PartyListDTO partyListDTO : partyList) {
-            List<String> tagNameList = getTagNameList(partyListDTO.getPartyId());
-            for (String tagName : tagNameList) {
-                partyListDTO.getTagNameList().add(tagName);
-            }
+        // 한 페이지를 채웠으면 마지막 모임 위치를 다음 페이지 토큰으로 전달
+        String nextCursor = null;
+        if (result.size() == DEFAULT_LIMIT) {
+            PartyDistance last = result.get(result.size() - 1);
+            nextCursor = PartyListCursor.of(last.getDistance(), last.getParty().getPartyId())
+                    .withOrigin(LAT, LNT)
+                    .encode();
+        }
+
+        List<PartyListDTO> partyList = result.stream()
+                .map(PartyDistance::getParty)
+                .collect(Collectors.toList());
+        return PartyListPageDTO.builder()
+                .partyList(enrichPartyList(email, partyList))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    public List<PartyListDTO> getPartyListByIds(String email, List<Long> partyIdList) {
+        return enrichPartyList(email, getPartyRowListByIds(partyIdList));
+    }
 
-            boolean partyLike = partyLikeRepository.existsByParty_IdAndMember_Email(partyListDTO.getPartyId(), email);
-            partyListDTO.setPartyLike(partyLike);
+    @Override
+    public List<PartyListDTO> getPartyInfoListByIds(List<Long> partyIdList) {
+        List<PartyListDTO> partyList = getPartyRowListByIds(partyIdList);
+        if (!partyList.isEmpty()) {
+            addTagNameList(partyList, getPartyIdList(partyList));
+        }
+        return partyList;
+    }
+
+    @Override
+    public Optional<PartyDTO.Response> getParty(Long partyId, String email) {
+        // 모임, 주최자, 태그(최대 4개라 태그 수만큼 행이 늘어남), 관심모임 여부를 한번에 조회
+        PartyDTO.Response.ResponseBuilder party = jdbcTemplate.query(
+                " SELECT p.party_name , p.score , p.start_dt , p.end_dt , p.amount , p.number_people , " +
+                        " p.location , p.content , p.member_id , m.nickname , m.point , t.tag_name , " +
+                        " (select count(*) from party_like as pl join member as lm on lm.member_id = pl.member_id " +
+                        "   where pl.party_id = p.party_id and lm.email = ?) as like_count " +
+                        " FROM party as p join member_detail as m on m.member_id = p.member_id " +
+                        " left join party_tag as t on t.party_id = p.party_id " +
+                        " WHERE p.party_id = ? " +
+                        " ORDER BY t.party_tag_id ",
+                mapPartyDetail(),
+                email, partyId);
+
+        if (party == null) {
+            return Optional.empty();
+        }
+
+        PartyCommentDTO.PageResponse commentPage = getPartyCommentList(partyId, null);
+        return Optional.of(party
+                .commentList(commentPage.getCommentList())
+                .commentNextCursor(commentPage.getNextCursor())
+                .build());
+    }
+
+    @Override
+    public PartyCommentDTO.PageResponse getPartyCommentList(Long partyId, Long cursor) {
+        List<Object> args = new ArrayList<>();
+        args.add(partyId);
+        if (cursor != null) {
+            args.add(cursor);
+        }
+
+        // 한 개 더 조회해서 다음 페이지가 있는지 확인
+        List<PartyCommentDTO.Response> commentList = jdbcTemplate.query(
+                " select party_comment_id , contents , party_id from party_comment " +
+                        " where party_id = ? " + (cursor == null ? "" : " and party_comment_id > ? ") +
+                        " order by party_comment_id " +
+                        " limit " + (COMMENT_LIMIT + 1),
+                (rs, rowNum) -> PartyCommentDTO.Response.builder()
+                        .partyCommentId(rs.getLong("party_comment_id"))
+                        .contents(rs.getString("contents"))
+                        .partyId(rs.getLong("party_id"))
+                        .build(),
+                args.toArray());
+
+        Long nextCursor = null;
+        if (commentList.size() > COMMENT_LIMIT) {
+            commentList = new ArrayList<>(commentList.subList(0, COMMENT_LIMIT));
+            nextCursor = commentList.get(COMMENT_LIMIT - 1).getPartyCommentId();
+        }
+
+        return PartyCommentDTO.PageResponse.builder()
+                .commentList(commentList)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private List<PartyListDTO> getPartyRowListByIds(List<Long> partyIdList) {
+        if (partyIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, PartyListDTO> partyMap = new HashMap<>();
+        jdbcTemplate.query(" SELECT " + getColumns() +
+                        " FROM party as p join member_detail as m on m.member_id = p.member_id " +
+                        " WHERE p.party_id in (" + getInCondition(partyIdList.size()) + ") ",
+                mapRow(),
+                partyIdList.toArray())
+                .forEach(party -> partyMap.put(party.getPartyId(), party));
+
+        // 요청한 id 순서(가까운 순) 유지, 그 사이 삭제된 모임은 제외
+        return partyIdList.stream()
+                .map(partyMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private List<PartyListDTO> enrichPartyList(String email, List<PartyListDTO> partyList) {
+        if (partyList.isEmpty()) {
+            return partyList;
+        }
+
+        // 조회된 모임 id 로 태그, 관심모임 여부를 한번에 조회
+        List<Long> partyIdList = getPartyIdList(partyList);
+        addTagNameList(partyList, partyIdList);
+        Set<Long> likePartyIdSet = getLikePartyIdSet(email, partyIdList);
+
+        for (PartyListDTO partyListDTO : partyList) {
+            partyListDTO.setPartyLike(likePartyIdSet.contains(partyListDTO.getPartyId()));
         }
 
         return partyList;
     }
 
-    private List<String> getTagNameList(Long partyId) {
-        return jdbcTemplate.query(" select tag_name from party_tag where party_id = ? ", new RowMapper<String>() {
-            @Override
-            public String mapRow(ResultSet rs, int rowNum) throws SQLException {
-                return rs.getString("tag_name");
+    private void addTagNameList(List<PartyListDTO> partyList, List<Long> partyIdList) {
+        Map<Long, List<String>> tagNameMap = getTagNameMap(partyIdList);
+        for (PartyListDTO partyListDTO : partyList) {
+            partyListDTO.getTagNameList().addAll(
+                    tagNameMap.getOrDefault(partyListDTO.getPartyId(), Collections.emptyList()));
+        }
+    }
+
+    private List<Long> getPartyIdList(List<PartyListDTO> partyList) {
+        return partyList.stream()
+                .map(PartyListDTO::getPartyId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 주변 geohash 셀 안의 모임만 거리 계산
+     * PartyGeoIndex 와 같이 진행중인 모임 중 최대 탐색 반경 안의 모임만 조회한다.
+     * 9개 셀이 보장하는 반경 안에서 DEFAULT_LIMIT 개를 채우거나, 보장 반경이 최대 탐색 반경 이상이면 전체 조회와 결과가 같다.
+     * 채우지 못하면 셀을 넓혀 다시 조회하고, 끝까지 못 채우면 이전 페이지 위치 이후부터 전체 조회로 대체한다.
+     * 다음 페이지는 이전 페이지 마지막 위치 이후부터 조회하며, 그 거리보다 좁은 셀은 건너뛴다.
+     * @param LAT
+     * @param LNT
+     * @param cursor
+     * @return
+     */
+    private List<PartyDistance> getNearPartyList(Double LAT, Double LNT, PartyListCursor cursor) {
+        for (int precision = START_PRECISION; precision >= MIN_PRECISION; precision--) {
+            double coveredRadiusKm = GeoHashUtils.coveredRadiusKm(LAT, precision);
+            if (cursor != null && cursor.getDistance() >= coveredRadiusKm) {
+                continue;
             }
-        }, partyId);
+
+            List<String> cells = GeoHashUtils.cellWithNeighbours(GeoHashUtils.encode(LAT, LNT, precision));
+            List<PartyDistance> result = jdbcTemplate.query(getCellQuery(cells.size(), cursor), mapDistanceRow(),
+                    getQueryArgs(LAT, LNT, cells, cursor));
+
+            if ((hasMaxRadius() && maxRadiusKm <= coveredRadiusKm)
+                    || (result.size() == DEFAULT_LIMIT
+                    && result.get(result.size() - 1).getDistance() < coveredRadiusKm)) {
+                return result;
+            }
+        }
+
+        // 가장 넓은 셀로도 한 페이지를 채우지 못하면 셀 밖까지 포함해 가까운 순으로 조회
+        return jdbcTemplate.query(getQuery(cursor), mapDistanceRow(),
+                getQueryArgs(LAT, LNT, Collections.emptyList(), cursor));
+    }
+
+    private Map<Long, List<String>> getTagNameMap(List<Long> partyIdList) {
+        Map<Long, List<String>> tagNameMap = new HashMap<>();
+        jdbcTemplate.query(" select party_id , tag_name from party_tag " +
+                        " where party_id in (" + getInCondition(partyIdList.size()) + ") " +
+                        " order by party_tag_id ",
+                (RowCallbackHandler) rs -> tagNameMap
+                        .computeIfAbsent(rs.getLong("party_id"), partyId -> new ArrayList<>())
+                        .add(rs.getString("tag_name")),
+                partyIdList.toArray());
+        return tagNameMap;
+    }
+
+    @Override
+    public Set<Long> getLikePartyIdSet(String email, List<Long> partyIdList) {
+        if (partyIdList.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        List<Object> args = new ArrayList<>();
+        args.add(email);
+        args.addAll(partyIdList);
+
+        return new HashSet<>(jdbcTemplate.query(" select pl.party_id from party_like as pl " +
+                        " join member as m on m.member_id = pl.member_id " +
+                        " where m.email = ? and pl.party_id in (" + getInCondition(partyIdList.size()) + ") ",
+                (rs, rowNum) -> rs.getLong("party_id"),
+                args.toArray()));
+    }
+
+    private String getInCondition(int size) {
+        return String.join(" , ", Collections.nCopies(size, "?"));
+    }
+
+    private String getQuery(PartyListCursor cursor){
+
+        return getPageQuery(" p.latitude is not null and p.longitude is not null ", cursor);
     }
 
-    private String getQuery(){
+    private String getCellQuery(int cellCount, PartyListCursor cursor) {
+        String cellCondition = String.join(" or ", Collections.nCopies(cellCount, "p.geohash like ?"));
 
-        return " SELECT p.party_id ,p.party_name ,p.start_dt , p.end_dt ,m.nickname , p.content, p.location , m.member_id ,(6371*acos(cos(radians(?))*cos(radians(p.latitude))*cos(radians(p.longitude)-radians(?))+sin(radians(?))*sin(radians(p.latitude)))) AS distance " +
+        return getPageQuery(" (" + cellCondition + ") ", cursor);
+    }
+
+    private String getPageQuery(String condition, PartyListCursor cursor) {
+        String query = " SELECT " + getColumns() + " , " + getDistanceColumn() +
                 " FROM party as p join member_detail as m on m.member_id = p.member_id " +
-                " ORDER BY distance " +
-                " limit 5 ";
+                " WHERE " + condition + " and (p.end_dt is null or p.end_dt >= ?) ";
+
+        if (cursor == null && !hasMaxRadius()) {
+            return query +
+                    " ORDER BY distance , p.party_id " +
+                    " limit " + DEFAULT_LIMIT;
+        }
+
+        // 최대 탐색 반경 안에서 이전 페이지 마지막 모임의 (거리, 모임 id) 이후부터 조회 (OFFSET 없이 다음 페이지)
+        List<String> pageConditionList = new ArrayList<>();
+        if (hasMaxRadius()) {
+            pageConditionList.add(" t.distance <= ? ");
+        }
+        if (cursor != null) {
+            pageConditionList.add(" (t.distance > ? or (t.distance = ? and t.party_id > ?)) ");
+        }
+        return " SELECT * FROM (" + query + ") as t " +
+                " WHERE " + String.join(" and ", pageConditionList) +
+                " ORDER BY t.distance , t.party_id " +
+                " limit " + DEFAULT_LIMIT;
+    }
+
+    private boolean hasMaxRadius() {
+        return maxRadiusKm > 0 && maxRadiusKm < Math.PI * GeoHashUtils.EARTH_RADIUS_KM;
+    }
+
+    private String getColumns() {
+        return " p.party_id ,p.party_name ,p.start_dt , p.end_dt ,m.nickname , p.content, p.location , m.member_id ";
+    }
+
+    /**
+     * haversine 거리(km), PartyGeoIndex 의 현 거리 변환(2R * asin(현 / 2))과 같은 식이라 어느 쪽 토큰으로도 이어서 조회할 수 있다.
+     * 지름(2R)은 파라미터로 넘겨 double 로 계산한다. (소수 리터럴을 곱하면 DB 에 따라 decimal 로 계산되어 토큰의 거리와 어긋난다)
+     * @return
+     */
+    private String getDistanceColumn() {
+        return "(?*asin(least(1, sqrt(" +
+                "power(sin(radians(p.latitude-?)/2),2)" +
+                "+cos(radians(?))*cos(radians(p.latitude))*power(sin(radians(p.longitude-?)/2),2))))) AS distance ";
+    }
+
+    private Object[] getQueryArgs(Double LAT, Double LNT, List<String> cells, PartyListCursor cursor) {
+        List<Object> args = new ArrayList<>();
+        args.add(2 * GeoHashUtils.EARTH_RADIUS_KM);
+        args.add(LAT);
+        args.add(LAT);
+        args.add(LNT);
+        for (String cell : cells) {
+            args.add(cell + "%");
+        }
+        args.add(Date.valueOf(LocalDate.now()));
+        if (hasMaxRadius()) {
+            args.add(maxRadiusKm);
+        }
+        if (cursor != null) {
+            args.add(cursor.getDistance());
+            args.add(cursor.getDistance());
+            args.add(cursor.getPartyId());
+        }
+        return args.toArray();
     }
 
     private RowMapper<PartyListDTO> mapRow() {
@@ -71,4 +354,50 @@ public class PartyQueryRepositoryImpl implements PartyQueryRepository {
                 rs.getLong("member_id")
         ));
     }
+
+    private ResultSetExtractor<PartyDTO.Response.ResponseBuilder> mapPartyDetail() {
+
+        return (rs -> {
+            PartyDTO.Response.ResponseBuilder party = null;
+            List<String> tagNameList = new ArrayList<>();
+            while (rs.next()) {
+                if (party == null) {
+                    party = PartyDTO.Response.builder()
+                            .partyName(rs.getString("party_name"))
+                            .score(rs.getObject("score", Integer.class))
+                            .startDt(rs.getObject("start_dt", LocalDate.class))
+                            .endDt(rs.getObject("end_dt", LocalDate.class))
+                            .amount(rs.getObject("amount", Integer.class))
+                            .numberPeople(rs.getObject("number_people", Integer.class))
+                            .location(rs.getString("location"))
+                            .content(rs.getString("content"))
+                            .tagNameList(tagNameList)
+                            .nickname(rs.getString("nickname"))
+                            .mannerPoint(rs.getObject("point", Integer.class))
+                            .PartyLike(rs.getLong("like_count") > 0)
+                            .memberId(rs.getLong("member_id"));
+                }
+                String tagName = rs.getString("tag_name");
+                if (tagName != null) {
+                    tagNameList.add(tagName);
+                }
+            }
+            return party;
+        });
+    }
+
+    private RowMapper<PartyDistance> mapDistanceRow() {
+        RowMapper<PartyListDTO> partyRowMapper = mapRow();
+        return ((rs, rowNum) -> new PartyDistance(
+                partyRowMapper.mapRow(rs, rowNum),
+                rs.getDouble("distance")
+        ));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class PartyDistance {
+        private PartyListDTO party;
+        private double distance;
+    }
 }
@@ -1,9 +1,8 @@
 package com.example.villagerservice.party.service;
 
-import com.example.villagerservice.party.domain.PartyApply;
-import java.util.List;
+import com.example.villagerservice.party.dto.PartyApplyDto;
 
 public interface PartyApplyQueryService {
 
-    List<PartyApply> getPartyApplyId(Long partyId, String email);
+    PartyApplyDto.Count getPartyApplyCount(Long partyId);
 }
@@ -1,75 +1,314 @@
 package com.example.villagerservice.party.service;
 
 import static com.example.villagerservice.party.exception.PartyErrorCode.PARTY_CHAT_ROOM_NOT_FOUND;
+import static com.example.villagerservice.party.exception.PartyErrorCode.PARTY_CHAT_ROOM_NOT_HOST;
+import static com.example.villagerservice.party.exception.PartyErrorCode.PARTY_NOT_FOUND;
 
-import com.example.villagerservice.party.domain.PartyChatMessage;
 import com.example.villagerservice.party.domain.PartyChatRoom;
 import com.example.villagerservice.party.dto.PartyChatMessageDto;
+import com.example.villagerservice.party.dto.PartyChatPresenceDto;
 import com.example.villagerservice.party.exception.PartyException;
+import com.example.villagerservice.party.infra.PartyChatFanout;
+import com.example.villagerservice.party.infra.PartyChatMessageArchiver;
+import com.example.villagerservice.party.infra.PartyChatMessageWriter;
+import com.example.villagerservice.party.infra.PartyChatPresenceStore;
+import com.example.villagerservice.party.infra.PartyChatRecentBuffer;
+import com.example.villagerservice.party.infra.PartyChatSequencer;
 import com.example.villagerservice.party.repository.PartyChatMessageRepository;
 import com.example.villagerservice.party.repository.PartyChatRoomRepository;
+import com.example.villagerservice.party.repository.PartyRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class PartyChatService {
-    private final SimpMessagingTemplate template; //특정 Broker로 메세지를 전달
+    private final static int MESSAGE_LIMIT = 50;
+    private final static int ROOM_LOCK_STRIPES = 64;
+
+    private final PartyChatFanout partyChatFanout; //채팅방 구독자에게 메세지를 전달
     private final PartyChatRoomRepository partyChatRoomRepository;
     private final PartyChatMessageRepository partyChatMessageRepository;
+    private final PartyChatMessageWriter partyChatMessageWriter;
+    private final PartyChatRecentBuffer partyChatRecentBuffer;
+    private final PartyChatSequencer partyChatSequencer;
+    private final PartyChatPresenceStore partyChatPresenceStore;
+    private final PartyChatMessageArchiver partyChatMessageArchiver; //보관 기간이 지난 메세지
+    private final PartyRepository partyRepository;
+
+    // 존재를 확인한 채팅방 id (채팅방은 삭제되지 않으므로 채팅방마다 한 번만 조회)
+    private final Set<Long> roomIdSet = ConcurrentHashMap.newKeySet();
+    // 채팅방별 seq 발급, 버퍼 추가 순서 (같은 채팅방은 한 번에 하나씩)
+    private final Object[] roomLocks = createRoomLocks();
 
     /**
-     * 처음 접속 시
+     * 처음 접속 시 (이전 대화내용은 getMessageList 로 조회)
      * @param message
      */
     public void enter(PartyChatMessageDto message) {
+        checkRoom(message.getRoomId());
         message.setMessage(message.getWriterNickname() + "님이 모임에 참여하였습니다.");
 
-        // 새로 참여했으니 원래 있었던 대화내용 가져오기
-        // 채팅방
-        PartyChatRoom partyChatRoom = partyChatRoomRepository.findById(message.getRoomId()).orElseThrow(
-            () -> new PartyException(PARTY_CHAT_ROOM_NOT_FOUND)
-        );
-        // 채팅방 메세지 가져와서 메세지 세팅
-        List<PartyChatMessage> partyChatMessageList = partyChatRoom.getPartyChatMessageList();
-        for(PartyChatMessage partyChatMessage: partyChatMessageList){
-            message.setWriterNickname(partyChatMessage.getWriterNickname());
-            message.setMessage(partyChatMessage.getMessage());
+        // 가공한 메세지 전송
+        partyChatFanout.publish(message.getRoomId(), message);
+    }
+
+    /**
+     * 대화내용 조회
+     * 커서가 없으면 최근 메세지 버퍼에서, 있으면 커서(메세지 id)보다 오래된 메세지를 DB 에서 조회한다.
+     * 최근 메세지 테이블에 더 오래된 메세지가 없으면 보관 테이블에서 이어서 조회한다.
+     * @param roomId
+     * @param cursor
+     * @return
+     */
+    public PartyChatMessageDto.PageResponse getMessageList(Long roomId, Long cursor) {
+        checkRoom(roomId);
+
+        if (cursor == null) {
+            // 이 서버가 받지 못한 메세지가 있으면 버퍼를 DB 에서 다시 채운다
+            List<PartyChatMessageDto> messageList = partyChatRecentBuffer.getRecent(roomId, partyChatSequencer.current(roomId));
+            Long oldestId = messageList.stream()
+                .map(PartyChatMessageDto::getId)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+            // 버퍼가 가득 차 있으면 더 오래된 메세지가 있을 수 있고, 아니면 보관된 메세지가 있을 때만 있다
+            Long nextCursor = oldestId;
+            if (messageList.size() < partyChatRecentBuffer.getSize()) {
+                Long lastArchivedId = partyChatMessageArchiver.getLastArchivedId(roomId);
+                if (lastArchivedId == null) {
+                    nextCursor = null;
+                } else if (oldestId == null) {
+                    nextCursor = lastArchivedId + 1;
+                }
+            }
+            return PartyChatMessageDto.PageResponse.builder()
+                .messageList(messageList)
+                .nextCursor(nextCursor)
+                .build();
         }
 
-        // 가공한 메세지 전송
-        template.convertAndSend("/sub/chat/ room/" + message.getRoomId(), message);
+        List<PartyChatMessageDto> messageList = partyChatMessageRepository
+            .findByRoomIdAndIdLessThanOrderByIdDesc(roomId, cursor, PageRequest.of(0, MESSAGE_LIMIT + 1)).stream()
+            .map(PartyChatMessageDto::toDto)
+            .collect(Collectors.toList());
+        if (messageList.size() <= MESSAGE_LIMIT) {
+            Long beforeId = messageList.isEmpty() ? cursor : messageList.get(messageList.size() - 1).getId();
+            messageList.addAll(partyChatMessageArchiver.findBefore(roomId, beforeId, MESSAGE_LIMIT + 1 - messageList.size()));
+        }
+        Long nextCursor = null;
+        if (messageList.size() > MESSAGE_LIMIT) {
+            messageList = new ArrayList<>(messageList.subList(0, MESSAGE_LIMIT));
+            nextCursor = messageList.get(MESSAGE_LIMIT - 1).getId();
+        }
+        Collections.reverse(messageList);
+        return PartyChatMessageDto.PageResponse.builder()
+            .messageList(messageList)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    /**
+     * 재접속 시 이어받기
+     * 마지막으로 받은 seq 이후 메세지를 오래된 순서로 최대 50개 조회한다.
+     * 최근 메세지 버퍼에 빠진 메세지가 채팅방의 마지막 seq 까지 빠짐없이 있으면 DB 를 조회하지 않는다.
+     * @param roomId
+     * @param afterSeq
+     * @return
+     */
+    public PartyChatMessageDto.PageResponse getMessageListAfter(Long roomId, Long afterSeq) {
+        checkRoom(roomId);
+
+        long lastSeq = partyChatSequencer.current(roomId);
+        List<PartyChatMessageDto> recentList = partyChatRecentBuffer.getRecent(roomId, lastSeq).stream()
+            .filter(message -> message.getSeq() != null && message.getSeq() > afterSeq)
+            .sorted(Comparator.comparing(PartyChatMessageDto::getSeq))
+            .collect(Collectors.toList());
+        // 다른 서버에서 보낸 메세지가 아직 버퍼에 없을 수 있으므로 마지막 seq 까지 있을 때만 버퍼로 응답한다
+        if (isContiguous(recentList, afterSeq, lastSeq)) {
+            return toResumeResponse(recentList);
+        }
+
+        List<PartyChatMessageDto> messageList = partyChatMessageRepository
+            .findByRoomIdAndSeqGreaterThanOrderBySeqAsc(roomId, afterSeq, PageRequest.of(0, MESSAGE_LIMIT + 1)).stream()
+            .map(PartyChatMessageDto::toDto)
+            .collect(Collectors.toList());
+        // 최근 메세지 테이블의 첫 메세지가 이어지지 않으면 그 사이 메세지는 보관 테이블에 있다
+        if (messageList.isEmpty() || messageList.get(0).getSeq() > afterSeq + 1) {
+            List<PartyChatMessageDto> archivedList = partyChatMessageArchiver.findAfter(roomId, afterSeq, MESSAGE_LIMIT + 1);
+            if (!archivedList.isEmpty()) {
+                archivedList.addAll(messageList);
+                messageList = archivedList;
+            }
+        }
+        if (messageList.size() > MESSAGE_LIMIT) {
+            messageList = new ArrayList<>(messageList.subList(0, MESSAGE_LIMIT));
+            return PartyChatMessageDto.PageResponse.builder()
+                .messageList(messageList)
+                .nextCursor(messageList.get(MESSAGE_LIMIT - 1).getSeq())
+                .build();
+        }
+
+        // 아직 저장되지 않은 최근 메세지는 버퍼에서 붙인다
+        long savedSeq = messageList.isEmpty() ? afterSeq : messageList.get(messageList.size() - 1).getSeq();
+        recentList.stream()
+            .filter(message -> message.getSeq() > savedSeq)
+            .forEach(messageList::add);
+        return toResumeResponse(messageList);
     }
 
     /**
      * 메세지 전송
      * @param message
+     * @param writerId 인증한 회원이면 회원 id (읽은 위치 키)
      */
-    public void message(PartyChatMessageDto message){
+    public void message(PartyChatMessageDto message, Long writerId){
+        // 채팅방 검사
+        checkRoom(message.getRoomId());
+
+        // 같은 채팅방은 seq 순서대로 버퍼에 추가되도록 seq 발급과 버퍼 추가만 묶는다
+        // (Redis, DB 를 기다리는 전송, 읽음 처리, 저장 요청은 잠금 밖에서 해서 같은 잠금을 쓰는 다른 채팅방을 막지 않는다)
+        synchronized (roomLock(message.getRoomId())) {
+            message.setSeq(partyChatSequencer.next(message.getRoomId()));
+            partyChatRecentBuffer.append(message);
+        }
+
+        // 보낸 사람은 자기 메세지까지 읽은 것으로 본다
+        String reader = PartyChatPresenceStore.readerOf(writerId, message.getWriterNickname());
+        if (reader != null) {
+            partyChatPresenceStore.markRead(reader, message.getRoomId(), message.getSeq());
+        }
+
         // 바로 메세지 전송
-        template.convertAndSend("/sub/chat/room/" + message.getRoomId(), message);
-
-        // DB에 채팅내용 저장
-        PartyChatRoom partyChatRoom = partyChatRoomRepository.findById(message.getId()).orElseThrow(
-            () -> new PartyException(PARTY_CHAT_ROOM_NOT_FOUND)
-        );
-        PartyChatMessage partyChatMessage = PartyChatMessage.toEntity(message, partyChatRoom);
-        // 메세지 저장
-        partyChatMessageRepository.save(partyChatMessage);
-        // 채팅방 업데이트
-        partyChatRoom.update(partyChatMessage);
-        // 채팅방 저장
-        partyChatRoomRepository.save(partyChatRoom);
+        partyChatFanout.publish(message.getRoomId(), message);
+
+        // DB에 채팅내용 저장 (모아서 저장)
+        partyChatMessageWriter.write(message);
     }
 
     /**
-     * 채팅방 개설
+     * 회원이 참여한 채팅방 전체의 안 읽은 메세지 수 (채팅방의 마지막 seq - 읽은 seq)
+     * @param memberId
+     * @return
+     */
+    public List<PartyChatPresenceDto.UnreadResponse> getUnreadList(Long memberId) {
+        List<PartyChatPresenceDto.UnreadResponse> unreadList = new ArrayList<>();
+        String reader = PartyChatPresenceStore.readerOf(memberId, null);
+        for (Map.Entry<Long, Long> entry : partyChatPresenceStore.getReadPositions(reader).entrySet()) {
+            long lastSeq = partyChatSequencer.current(entry.getKey());
+            unreadList.add(PartyChatPresenceDto.UnreadResponse.builder()
+                .roomId(entry.getKey())
+                .lastSeq(lastSeq)
+                .readSeq(entry.getValue())
+                .unreadCount(Math.max(0, lastSeq - entry.getValue()))
+                .build());
+        }
+        unreadList.sort(Comparator.comparing(PartyChatPresenceDto.UnreadResponse::getRoomId));
+        return unreadList;
+    }
+
+    /**
+     * 읽은 위치 저장 (seq 가 없으면 마지막 메세지까지)
+     * @param memberId
+     * @param roomId
+     * @param seq
+     */
+    public void read(Long memberId, Long roomId, Long seq) {
+        checkRoom(roomId);
+        long lastSeq = partyChatSequencer.current(roomId);
+        partyChatPresenceStore.markRead(PartyChatPresenceStore.readerOf(memberId, null), roomId, seq == null ? lastSeq : Math.min(seq, lastSeq));
+    }
+
+    /**
+     * 채팅방 접속자
+     * @param roomId
+     * @return
+     */
+    public PartyChatPresenceDto.OnlineResponse getOnline(Long roomId) {
+        checkRoom(roomId);
+        return PartyChatPresenceDto.OnlineResponse.builder()
+            .roomId(roomId)
+            .nicknameList(partyChatPresenceStore.getOnline(roomId).stream()
+                .sorted()
+                .collect(Collectors.toList()))
+            .build();
+    }
+
+    /**
+     * 채팅방 개설 (모임 채팅방은 모임장만 개설 가능)
+     * @param hostMemberId
      * @param hostNickname
      * @param roomName
+     * @param partyId 모임 채팅방이면 모임 id
      */
-    public void create(String hostNickname, String roomName) {
-        partyChatRoomRepository.save(PartyChatRoom.toEntity(hostNickname, roomName));
+    public void create(Long hostMemberId, String hostNickname, String roomName, Long partyId) {
+        if (partyId != null) {
+            Long partyHostId = partyRepository.findHostMemberIdById(partyId)
+                .orElseThrow(() -> new PartyException(PARTY_NOT_FOUND));
+            if (!partyHostId.equals(hostMemberId)) {
+                throw new PartyException(PARTY_CHAT_ROOM_NOT_HOST);
+            }
+        }
+        partyChatRoomRepository.save(PartyChatRoom.toEntity(hostMemberId, hostNickname, roomName, partyId));
+    }
+
+    private PartyChatMessageDto.PageResponse toResumeResponse(List<PartyChatMessageDto> messageList) {
+        if (messageList.size() <= MESSAGE_LIMIT) {
+            return PartyChatMessageDto.PageResponse.builder()
+                .messageList(messageList)
+                .build();
+        }
+        List<PartyChatMessageDto> limitedList = new ArrayList<>(messageList.subList(0, MESSAGE_LIMIT));
+        return PartyChatMessageDto.PageResponse.builder()
+            .messageList(limitedList)
+            .nextCursor(limitedList.get(MESSAGE_LIMIT - 1).getSeq())
+            .build();
+    }
+
+    // afterSeq 다음 seq 부터 빠진 seq 없이 lastSeq 까지 이어지는지
+    private static boolean isContiguous(List<PartyChatMessageDto> recentList, long afterSeq, long lastSeq) {
+        long expectedSeq = afterSeq + 1;
+        for (PartyChatMessageDto message : recentList) {
+            if (message.getSeq() != expectedSeq) {
+                return false;
+            }
+            expectedSeq++;
+        }
+        return expectedSeq > lastSeq;
+    }
+
+    private Object roomLock(Long roomId) {
+        return roomLocks[Math.floorMod(roomId.hashCode(), ROOM_LOCK_STRIPES)];
+    }
+
+    private static Object[] createRoomLocks() {
+        Object[] locks = new Object[ROOM_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private void checkRoom(Long roomId) {
+        if (roomId == null) {
+            throw new PartyException(PARTY_CHAT_ROOM_NOT_FOUND);
+        }
+        if (roomIdSet.contains(roomId)) {
+            return;
+        }
+        if (!partyChatRoomRepository.existsById(roomId)) {
+            throw new PartyException(PARTY_CHAT_ROOM_NOT_FOUND);
+        }
+        roomIdSet.add(roomId);
     }
 }
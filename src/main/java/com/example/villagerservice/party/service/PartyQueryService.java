@@ -1,12 +1,29 @@
 package com.example.villagerservice.party.service;
 
 import com.example.villagerservice.party.domain.Party;
-import com.example.villagerservice.party.dto.PartyListDTO;
-
-import java.util.List;
+import com.example.villagerservice.party.dto.PartyCommentDTO;
+import com.example.villagerservice.party.dto.PartyListPageDTO;
+import com.example.villagerservice.party.dto.PartySearchCond;
 
 public interface PartyQueryService {
 
-    public List<PartyListDTO> getPartyList(String email , Double lat , Double lnt);
+    /**
+     * 가까운 순으로 모임 목록 조회
+     * @param email
+     * @param lat
+     * @param lnt
+     * @param cursor 이전 응답의 다음 페이지 토큰 (첫 페이지면 null)
+     * @param searchCond 태그, 참가비, 인원, 매너점수 검색 조건
+     * @return
+     */
+    public PartyListPageDTO getPartyList(String email , Double lat , Double lnt , String cursor , PartySearchCond searchCond);
+
+    /**
+     * 모임 댓글을 등록 순으로 조회
+     * @param partyId
+     * @param cursor 이전 응답의 다음 댓글 조회 토큰 (첫 페이지면 null)
+     * @return
+     */
+    PartyCommentDTO.PageResponse getPartyCommentList(Long partyId , Long cursor);
 
 }
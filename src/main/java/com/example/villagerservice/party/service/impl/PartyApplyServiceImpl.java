@@ -5,32 +5,44 @@ import static com.example.villagerservice.party.exception.PartyApplyErrorCode.*;
 import com.example.villagerservice.party.domain.Party;
 import com.example.villagerservice.party.domain.PartyApply;
 import com.example.villagerservice.party.exception.PartyApplyException;
+import com.example.villagerservice.party.infra.PartySeatCounter;
 import com.example.villagerservice.party.repository.PartyApplyRepository;
 import com.example.villagerservice.party.repository.PartyRepository;
 import com.example.villagerservice.party.dto.PartyApplyDto;
 import com.example.villagerservice.party.dto.PartyApplyDto.Response;
 import com.example.villagerservice.party.service.PartyApplyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class PartyApplyServiceImpl implements PartyApplyService {
     private final PartyRepository partyRepository;
     private final PartyApplyRepository partyApplyRepository;
+    private final PartySeatCounter partySeatCounter;
 
     @Override
     public PartyApplyDto.Response applyParty(Long targetMemberId, Long partyId) {
         Party party = partyRepository.findById(partyId).orElseThrow(
             () -> new PartyApplyException(PARTY_NOT_FOUND)
         );
+        if(partySeatCounter.isFull(party)){
+            throw new PartyApplyException(PARTY_IS_FULL);
+        }
         if(partyApplyRepository.existsByTargetMemberIdAndParty_Id(targetMemberId, partyId)){
             throw new PartyApplyException(ALREADY_BEAN_APPLIED);
         }
 
-        return Response.toDto(partyApplyRepository.save(PartyApply.createPartyList(party, targetMemberId)));
+        // 동시에 들어온 같은 신청은 (모임, 신청자) 유니크 제약으로 하나만 저장
+        try {
+            return Response.toDto(partyApplyRepository.save(PartyApply.createPartyList(party, targetMemberId)));
+        } catch (DataIntegrityViolationException e) {
+            throw new PartyApplyException(ALREADY_BEAN_APPLIED);
+        }
     }
 
     @Override
@@ -44,6 +56,7 @@ public class PartyApplyServiceImpl implements PartyApplyService {
     }
 
     @Override
+    @Transactional
     public Response partyPermission(Long partyId, Long targetMemberId, String email) {
         // 모임 가져오기
         Party party = partyRepository.findById(partyId).orElseThrow(
@@ -62,8 +75,17 @@ public class PartyApplyServiceImpl implements PartyApplyService {
             throw new PartyApplyException(ALREADY_ACCEPT_APPLY);
         }
 
-        // 허가 후 저장
-        partyApply.setAccept(true);
-        return PartyApplyDto.Response.toDto(partyApplyRepository.save(partyApply));
+        // 동시에 들어온 같은 신청의 허가는 하나만 통과
+        if(partyApplyRepository.acceptPartyApply(partyApply.getId()) == 0){
+            throw new PartyApplyException(ALREADY_ACCEPT_APPLY);
+        }
+        // 정원 안에서 자리 확보 (실패하면 롤백되어 허가도 취소)
+        if(!partySeatCounter.tryAcquire(party)){
+            throw new PartyApplyException(PARTY_IS_FULL);
+        }
+
+        Response response = PartyApplyDto.Response.toDto(partyApply);
+        response.setAccept(true);
+        return response;
     }
 }
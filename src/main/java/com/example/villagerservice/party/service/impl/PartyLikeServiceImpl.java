@@ -1,16 +1,20 @@
 package com.example.villagerservice.party.service.impl;
 
+import com.example.villagerservice.common.infra.LiveCounterBroadcaster;
+import com.example.villagerservice.common.infra.LiveCounterType;
 import com.example.villagerservice.member.domain.Member;
 import com.example.villagerservice.party.domain.Party;
 import com.example.villagerservice.party.domain.PartyLike;
 import com.example.villagerservice.party.exception.PartyErrorCode;
 import com.example.villagerservice.party.exception.PartyException;
+import com.example.villagerservice.party.infra.PartyLikeCounter;
 import com.example.villagerservice.party.repository.PartyLikeRepository;
 import com.example.villagerservice.party.repository.PartyRepository;
 import com.example.villagerservice.party.dto.PartyLikeDto;
 import com.example.villagerservice.party.service.PartyLikeService;
-import java.util.Optional;
+import java.util.concurrent.locks.Lock;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 
@@ -19,6 +23,8 @@ import org.springframework.stereotype.Service;
 public class PartyLikeServiceImpl implements PartyLikeService {
     private final PartyLikeRepository partyLikeRepository;
     private final PartyRepository partyRepository;
+    private final PartyLikeCounter partyLikeCounter;
+    private final LiveCounterBroadcaster liveCounterBroadcaster;
 
     @Override
     public PartyLikeDto.Response partyLike(Long partyId, Member member) {
@@ -27,26 +33,65 @@ public class PartyLikeServiceImpl implements PartyLikeService {
             () -> new PartyException(PartyErrorCode.PARTY_NOT_FOUND)
         );
 
-        // 좋아요가 존재하는지 검사
-        Optional<PartyLike> optionalPartyLike =
-            partyLikeRepository.findByParty_IdAndMember_Email(partyId, member.getEmail());
+        // 같은 모임, 같은 회원의 요청은 순서대로 처리
+        Lock lock = partyLikeCounter.lockOf(partyId, member.getEmail());
+        lock.lock();
+        try {
+            Boolean like = toggle(party, member);
+            if (like == null) {
+                // 다른 서버에서 먼저 바뀌었으면 좋아요 목록을 다시 읽고 바뀐 상태에서 다시 반영
+                partyLikeCounter.evictMember(member.getEmail());
+                like = toggle(party, member);
+            }
+            if (like == null) {
+                // 그 사이 또 바뀌었으면 DB 상태를 그대로 돌려준다
+                partyLikeCounter.evictMember(member.getEmail());
+                like = partyLikeCounter.isLike(partyId, member.getEmail());
+            }
+            return PartyLikeDto.Response.toDto(like, broadcastLikeCount(party));
+        } finally {
+            lock.unlock();
+        }
+    }
 
+    /**
+     * 좋아요 상태를 뒤집는다
+     * @param party
+     * @param member
+     * @return 좋아요 여부 (다른 서버에서 먼저 바뀌어 반영하지 못했으면 null)
+     */
+    private Boolean toggle(Party party, Member member) {
         // 이미 좋아요 존재하면 삭제 후, false 리턴
-        if(optionalPartyLike.isPresent()){
-            partyLikeRepository.delete(optionalPartyLike.get());
-            return PartyLikeDto.Response.toDto(false);
+        if (partyLikeCounter.isLike(party.getId(), member.getEmail())) {
+            if (partyLikeRepository.deletePartyLike(party.getId(), member.getId()) == 0) {
+                return null;
+            }
+            partyLikeCounter.unlike(party.getId(), member.getEmail());
+            return false;
         }
 
         // 존재하지 않으면 추가 후, true 리턴
-        partyLikeRepository.save(PartyLike.builder()
-                .party(party)
-                .member(member)
-                .build());
-        return PartyLikeDto.Response.toDto(true);
+        try {
+            partyLikeRepository.save(PartyLike.builder()
+                    .party(party)
+                    .member(member)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            return null;
+        }
+        partyLikeCounter.like(party.getId(), member.getEmail());
+        return true;
+    }
+
+    // 구독자에게는 주기마다 마지막 값만 전송
+    private long broadcastLikeCount(Party party) {
+        long likeCount = partyLikeCounter.getLikeCount(party);
+        liveCounterBroadcaster.update(LiveCounterType.PARTY_LIKE, party.getId(), likeCount);
+        return likeCount;
     }
 
     @Override
     public boolean isPartyLike(Long partyId, String email) {
-        return partyLikeRepository.existsByParty_IdAndMember_Email(partyId, email);
+        return partyLikeCounter.isLike(partyId, email);
     }
 }
@@ -1,22 +1,115 @@
 package com.example.villagerservice.party.service.impl;
 
 import com.example.villagerservice.party.domain.Party;
+import com.example.villagerservice.party.dto.PartyCommentDTO;
+import com.example.villagerservice.party.dto.PartyListCursor;
 import com.example.villagerservice.party.dto.PartyListDTO;
+import com.example.villagerservice.party.dto.PartyListPageDTO;
+import com.example.villagerservice.party.dto.PartySearchCond;
+import com.example.villagerservice.party.exception.PartyErrorCode;
+import com.example.villagerservice.party.exception.PartyException;
+import com.example.villagerservice.party.infra.PartyFacetIndex;
+import com.example.villagerservice.party.infra.PartyGeoIndex;
+import com.example.villagerservice.party.infra.PartyListCache;
 import com.example.villagerservice.party.repository.PartyQueryRepository;
 import com.example.villagerservice.party.service.PartyQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PartyQueryServiceImpl implements PartyQueryService {
+    private static final int DEFAULT_LIMIT = 5;
 
     private final PartyQueryRepository partyQueryRepository;
+    private final PartyGeoIndex partyGeoIndex;
+    private final PartyFacetIndex partyFacetIndex;
+    private final PartyListCache partyListCache;
 
     @Override
-    public List<PartyListDTO> getPartyList(String email ,Double LAT, Double LNT) {
-        return partyQueryRepository.getPartyList(email , LAT , LNT);
+    public PartyListPageDTO getPartyList(String email ,Double LAT, Double LNT, String cursor, PartySearchCond searchCond) {
+        PartyListCursor partyListCursor = PartyListCursor.decode(cursor);
+        if (partyListCursor != null) {
+            partyListCursor.validateOrigin(LAT, LNT);
+        }
+        boolean hasFilter = searchCond != null && searchCond.hasFilter();
+
+        // 메모리 인덱스 적재 전에는 DB 에서 조회 (검색 조건은 인덱스로만 처리)
+        if (!partyGeoIndex.isLoaded() || !partyFacetIndex.isLoaded()) {
+            if (hasFilter) {
+                throw new PartyException(PartyErrorCode.PARTY_SEARCH_NOT_READY);
+            }
+            return partyQueryRepository.getPartyList(email , LAT , LNT , partyListCursor);
+        }
+
+        // 검색 조건은 비트맵 교집합으로 거른 뒤 가까운 순으로 정렬
+        LongPredicate filter = hasFilter ? partyFacetIndex.match(searchCond) : null;
+        List<PartyListCursor> cursorList = partyGeoIndex.search(LAT, LNT, partyListCursor, DEFAULT_LIMIT, filter);
+        List<Long> partyIdList = cursorList.stream()
+                .map(PartyListCursor::getPartyId)
+                .collect(Collectors.toList());
+        List<PartyListDTO> partyList = getPartyListByIds(email, partyIdList);
+
+        // 그 사이 삭제된 모임이 빠져도 인덱스에서 찾은 마지막 위치부터 이어서 조회
+        String nextCursor = cursorList.size() == DEFAULT_LIMIT
+                ? cursorList.get(cursorList.size() - 1).withOrigin(LAT, LNT).encode()
+                : null;
+        return PartyListPageDTO.builder()
+                .partyList(partyList)
+                .nextCursor(nextCursor)
+                .facets(partyListCursor == null
+                        ? partyFacetIndex.getFacets(searchCond == null ? new PartySearchCond() : searchCond)
+                        : null)
+                .build();
+    }
+
+    @Override
+    public PartyCommentDTO.PageResponse getPartyCommentList(Long partyId , Long cursor) {
+        return partyQueryRepository.getPartyCommentList(partyId, cursor);
+    }
+
+    /**
+     * 캐시된 모임 정보를 먼저 쓰고 없는 모임만 DB 에서 읽는다.
+     * 관심모임 여부는 회원마다 다르므로 캐시하지 않고 매번 조회한다.
+     */
+    private List<PartyListDTO> getPartyListByIds(String email, List<Long> partyIdList) {
+        if (partyIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        long stamp = partyListCache.stamp();
+        Map<Long, PartyListDTO> partyMap = partyListCache.get(partyIdList);
+
+        List<Long> missingIdList = partyIdList.stream()
+                .filter(partyId -> !partyMap.containsKey(partyId))
+                .collect(Collectors.toList());
+        if (!missingIdList.isEmpty()) {
+            List<PartyListDTO> loadedList = partyQueryRepository.getPartyInfoListByIds(missingIdList);
+            partyListCache.put(loadedList, stamp);
+            loadedList.forEach(party -> partyMap.put(party.getPartyId(), party));
+        }
+
+        // 그 사이 삭제된 모임은 제외
+        List<PartyListDTO> partyList = partyIdList.stream()
+                .map(partyMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (partyList.isEmpty()) {
+            return partyList;
+        }
+
+        Set<Long> likePartyIdSet = partyQueryRepository.getLikePartyIdSet(email, partyList.stream()
+                .map(PartyListDTO::getPartyId)
+                .collect(Collectors.toList()));
+        partyList.forEach(party -> party.setPartyLike(likePartyIdSet.contains(party.getPartyId())));
+        return partyList;
     }
 }
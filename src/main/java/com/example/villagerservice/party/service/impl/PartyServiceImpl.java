@@ -5,20 +5,20 @@ import static com.example.villagerservice.party.exception.PartyErrorCode.PARTY_I
 import static com.example.villagerservice.party.exception.PartyErrorCode.PARTY_NOT_FOUND;
 import static com.example.villagerservice.party.exception.PartyErrorCode.PARTY_NOT_FOUND_MEMBER;
 
+import com.example.villagerservice.config.events.Events;
 import com.example.villagerservice.events.service.PartyCreatedEventService;
 import com.example.villagerservice.member.domain.Member;
 import com.example.villagerservice.member.domain.MemberRepository;
 import com.example.villagerservice.party.domain.Party;
-import com.example.villagerservice.party.domain.PartyApply;
+import com.example.villagerservice.party.domain.PartyChangedEvent;
 import com.example.villagerservice.party.domain.PartyComment;
-import com.example.villagerservice.party.domain.PartyMember;
 import com.example.villagerservice.party.dto.PartyApplyDto;
 import com.example.villagerservice.party.dto.PartyDTO;
 import com.example.villagerservice.party.dto.UpdatePartyDTO;
 import com.example.villagerservice.party.exception.PartyErrorCode;
 import com.example.villagerservice.party.exception.PartyException;
-import com.example.villagerservice.party.repository.PartyApplyRepository;
-import com.example.villagerservice.party.repository.PartyMemberRepository;
+import com.example.villagerservice.party.infra.PartyApplyQueryRepository;
+import com.example.villagerservice.party.repository.PartyQueryRepository;
 import com.example.villagerservice.party.repository.PartyRepository;
 import com.example.villagerservice.party.repository.PartyTagRepository;
 import com.example.villagerservice.party.service.PartyApplyQueryService;
@@ -26,7 +26,6 @@ import com.example.villagerservice.party.service.PartyCommentService;
 import com.example.villagerservice.party.service.PartyLikeService;
 import com.example.villagerservice.party.service.PartyService;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -38,14 +37,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class PartyServiceImpl implements PartyService {
 
     private final PartyRepository partyRepository;
+    private final PartyQueryRepository partyQueryRepository;
     private final MemberRepository memberRepository;
     private final PartyTagRepository partyTagRepository;
     private final PartyCommentService partyCommentService;
     private final PartyCreatedEventService partyCreatedEventService;
     private final PartyLikeService partyLikeService;
     private final PartyApplyQueryService partyApplyQueryService;
-    private final PartyApplyRepository partyApplyRepository;
-    private final PartyMemberRepository partyMemberRepository;
+    private final PartyApplyQueryRepository partyApplyQueryRepository;
 
     @Override
     @Transactional
@@ -53,6 +52,7 @@ public class PartyServiceImpl implements PartyService {
         Member member = memberCheckedById(memberId);
         Party party = Party.createParty(partyRequest, member);
         partyRepository.save(party);
+        Events.raise(new PartyChangedEvent(party.getId()));
 
         partyCreatedEventService.raise(
                 partyRequest.getLatitude(),
@@ -74,16 +74,14 @@ public class PartyServiceImpl implements PartyService {
 
     @Override
     public PartyDTO.Response getParty(Long partyId , String email) {
-        Party party = partyCheckedById(partyId);
-        List<PartyComment> commentList = partyCommentService.getAllComment(partyId);
-        boolean partyLike = partyLikeService.isPartyLike(partyId, email);
 
-        System.out.println("party.getMember().getId() = " + party.getMember().getId());
-        return PartyDTO.Response.createPartyResponse(party , commentList , partyLike);
+        return partyQueryRepository.getParty(partyId, email).orElseThrow(
+                () -> new PartyException(PARTY_NOT_FOUND)
+        );
     }
 
     @Override
-    @Transactional
+    @Transactional(timeout = 10)
     public void startParty(Long partyId, Member member) {
         // 모임장인지 검사
         Party party = partyRepository.findById(partyId).orElseThrow(
@@ -98,29 +96,15 @@ public class PartyServiceImpl implements PartyService {
             throw new PartyException(PARTY_IS_NOT_TIME);
         }
 
-        // 파티신청자 불러오기
-        List<PartyApply> partyApplyList = partyApplyQueryService.getPartyApplyId(partyId, member.getEmail());
-        // 허락신청자 블러오기
-        List<PartyApply> acceptPartyApplyList = new ArrayList<>();
-        for(PartyApply partyApply: partyApplyList){
-            if(partyApply.isAccept()){
-                acceptPartyApplyList.add(partyApply);
-            }
-        }
         // 허락된 멤버가 한명도 없을 경우
-        if(acceptPartyApplyList.size() == 0){
+        PartyApplyDto.Count partyApplyCount = partyApplyQueryService.getPartyApplyCount(partyId);
+        if(partyApplyCount.getAcceptCount() == 0){
             throw new PartyException(PARTY_MEMBER_EMPTY);
         }
 
-        // 신청 테이블 삭제
-        for(PartyApply partyApply: partyApplyList){
-            partyApplyRepository.delete(partyApply);
-        }
-
-        // 모임원 테이블 insert
-        for(PartyApply acceptPartyApply: acceptPartyApplyList){
-            partyMemberRepository.save(PartyMember.createPartyMember(acceptPartyApply));
-        }
+        // 허락된 신청자를 모임원 테이블로 옮기고 신청 테이블 삭제
+        partyApplyQueryRepository.promoteAcceptedApply(partyId);
+        Events.raise(new PartyChangedEvent(partyId));
     }
 
     @Override
@@ -130,6 +114,7 @@ public class PartyServiceImpl implements PartyService {
         partyCommentService.deleteAllComment(party.getId());
         partyTagRepository.deleteAllByParty_id(party.getId());
         partyRepository.deleteById(party.getId());
+        Events.raise(new PartyChangedEvent(party.getId()));
     }
 
     private Member memberCheckedById(Long memberId) {
@@ -148,10 +133,14 @@ public class PartyServiceImpl implements PartyService {
     }
 
     private PartyDTO.Response updatePartyInfo(Party party , UpdatePartyDTO.Request updatePartyRequest , String email) {
-        partyTagRepository.deleteAllByParty_id(party.getId());
+        // 태그를 바꾸는 경우에만 기존 태그를 지운다
+        if (updatePartyRequest.getTagList() != null) {
+            partyTagRepository.deleteAllByParty_id(party.getId());
+        }
         List<PartyComment> commentList = partyCommentService.getAllComment(party.getId());
         boolean partyLike = partyLikeService.isPartyLike(party.getId(), email);
         party.updatePartyInfo(updatePartyRequest);
+        Events.raise(new PartyChangedEvent(party.getId()));
         return PartyDTO.Response.createPartyResponse(party , commentList , partyLike);
     }
 
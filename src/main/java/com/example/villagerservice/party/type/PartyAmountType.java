@@ -0,0 +1,19 @@
+package com.example.villagerservice.party.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PartyAmountType implements PartyFacetRange {
+    FREE("무료", Integer.MIN_VALUE, 0),
+    UNDER_10000("1만원 이하", 1, 10000),
+    UNDER_30000("3만원 이하", 10001, 30000),
+    UNDER_50000("5만원 이하", 30001, 50000),
+    OVER_50000("5만원 초과", 50001, Integer.MAX_VALUE)
+    ;
+
+    private final String description;
+    private final int min;
+    private final int max;
+}
@@ -0,0 +1,35 @@
+package com.example.villagerservice.party.type;
+
+/**
+ * 모임 검색 필터의 구간 (min 이상 max 이하)
+ */
+public interface PartyFacetRange {
+
+    int getMin();
+
+    int getMax();
+
+    String getDescription();
+
+    default boolean contains(int value) {
+        return getMin() <= value && value <= getMax();
+    }
+
+    /**
+     * 값이 속한 구간 반환 (값이 없거나 속한 구간이 없으면 null)
+     * @param type
+     * @param value
+     * @return
+     */
+    static <E extends Enum<E> & PartyFacetRange> E of(Class<E> type, Integer value) {
+        if (value == null) {
+            return null;
+        }
+        for (E range : type.getEnumConstants()) {
+            if (range.contains(value)) {
+                return range;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.villagerservice.party.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PartyNumberPeopleType implements PartyFacetRange {
+    SMALL("4명 이하", 1, 4),
+    MEDIUM("5~8명", 5, 8),
+    LARGE("9명 이상", 9, Integer.MAX_VALUE)
+    ;
+
+    private final String description;
+    private final int min;
+    private final int max;
+}
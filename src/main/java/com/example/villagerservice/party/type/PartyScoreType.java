@@ -0,0 +1,18 @@
+package com.example.villagerservice.party.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PartyScoreType implements PartyFacetRange {
+    UNDER_30("매너점수 30 이하", Integer.MIN_VALUE, 30),
+    UNDER_50("매너점수 50 이하", 31, 50),
+    UNDER_70("매너점수 70 이하", 51, 70),
+    OVER_70("매너점수 70 초과", 71, Integer.MAX_VALUE)
+    ;
+
+    private final String description;
+    private final int min;
+    private final int max;
+}
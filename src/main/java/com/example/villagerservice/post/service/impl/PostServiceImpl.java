@@ -1,5 +1,7 @@
 package com.example.villagerservice.post.service.impl;
 
+import com.example.villagerservice.common.infra.LiveCounterBroadcaster;
+import com.example.villagerservice.common.infra.LiveCounterType;
 import com.example.villagerservice.member.domain.Member;
 import com.example.villagerservice.member.domain.MemberRepository;
 import com.example.villagerservice.member.exception.MemberException;
@@ -34,6 +36,7 @@ public class PostServiceImpl implements PostService {
     private final CategoryRepository categoryRepository;
     private final PostRepository postRepository;
     private final FileUploadService fileUploadService;
+    private final LiveCounterBroadcaster liveCounterBroadcaster;
 
     @Override
     public void createPost(Long memberId, CreatePost.Request request, List<MultipartFile> images) {
@@ -80,6 +83,7 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostException(POST_NOT_FOUND));
         post.postViewUp();
+        liveCounterBroadcaster.update(LiveCounterType.POST_VIEW, postId, post.getViewCount());
     }
 
     @Override
@@ -0,0 +1,66 @@
+package com.example.villagerservice.common.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LiveCounterBroadcasterTest {
+
+    @Mock
+    private SimpMessagingTemplate template;
+
+    private LiveCounterBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new LiveCounterBroadcaster(new LocalLiveCounterFanout(template), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("주기 안의 변경은 카운터마다 마지막 값 한 번만 보내는지 테스트")
+    void broadcastTest() {
+        // given
+        for (long i = 1; i <= 100; i++) {
+            broadcaster.update(LiveCounterType.POST_VIEW, 1L, i);
+        }
+        broadcaster.update(LiveCounterType.PARTY_LIKE, 1L, 3);
+
+        // when
+        broadcaster.broadcast();
+        broadcaster.broadcast();
+
+        // then
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(template, times(1)).convertAndSend(eq("/sub/counters/post-view/1"), payloadCaptor.capture());
+        verify(template, times(1)).convertAndSend(eq("/sub/counters/party-like/1"), any(Object.class));
+        LiveCounterBroadcaster.Payload payload = (LiveCounterBroadcaster.Payload) payloadCaptor.getValue();
+        assertThat(payload.getType()).isEqualTo("post-view");
+        assertThat(payload.getValue()).isEqualTo(100L);
+        assertThat(broadcaster.getPendingSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("바뀐 값이 없으면 보내지 않는지 테스트")
+    void broadcastEmptyTest() {
+        // when
+        broadcaster.broadcast();
+
+        // then
+        verify(template, never()).convertAndSend(anyString(), any(Object.class));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.villagerservice.common.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 Redis(localhost:6379, 예: docker run -p 6379:6379 redis) 로 서버 2대를 흉내내는 테스트
+ * Redis 가 없으면 건너뛴다.
+ */
+class RedisLiveCounterFanoutTest {
+    private static final long TIMEOUT_MILLIS = 3000;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private Node node1;
+    private Node node2;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+        assumeTrue(isRedisAvailable(), "local redis is not running");
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        node1 = new Node();
+        node2 = new Node();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (node1 != null) {
+            node1.stop();
+            node2.stop();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("한 서버에서 바뀐 카운터 값이 모든 서버의 구독자에게 전달되는지 테스트")
+    void broadcastTest() {
+        // given
+        waitForSubscription();
+        node2.broadcaster.update(LiveCounterType.PARTY_LIKE, 1L, 3);
+
+        // when
+        node2.broadcaster.broadcast();
+
+        // then
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(node1.template, timeout(TIMEOUT_MILLIS)).convertAndSend(eq("/sub/counters/party-like/1"), payloadCaptor.capture());
+        verify(node2.template, timeout(TIMEOUT_MILLIS)).convertAndSend(eq("/sub/counters/party-like/1"), any(Object.class));
+        LiveCounterBroadcaster.Payload payload = (LiveCounterBroadcaster.Payload) payloadCaptor.getValue();
+        assertThat(payload.getType()).isEqualTo("party-like");
+        assertThat(payload.getId()).isEqualTo(1L);
+        assertThat(payload.getValue()).isEqualTo(3L);
+    }
+
+    private boolean isRedisAvailable() {
+        try {
+            connectionFactory.getConnection().close();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // 채널 구독은 비동기로 처리된다
+    private void waitForSubscription() {
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class Node {
+        private final SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+        private final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        private final LiveCounterBroadcaster broadcaster;
+
+        private Node() {
+            container.setConnectionFactory(connectionFactory);
+            container.afterPropertiesSet();
+            container.start();
+            broadcaster = new LiveCounterBroadcaster(new RedisLiveCounterFanout(redisTemplate, container, template,
+                    new ObjectMapper(), new SimpleMeterRegistry()), new SimpleMeterRegistry());
+        }
+
+        private void stop() throws Exception {
+            container.stop();
+            container.destroy();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.villagerservice.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoHashUtilsTest {
+
+    @Test
+    @DisplayName("geohash 인코딩 테스트")
+    void encodeTest() {
+        // given
+        double latitude = 57.64911;
+        double longitude = 10.40744;
+
+        // when
+        String geohash = GeoHashUtils.encode(latitude, longitude, 11);
+
+        // then
+        assertThat(geohash).isEqualTo("u4pruydqqvj");
+    }
+
+    @Test
+    @DisplayName("주변 셀 조회 테스트")
+    void cellWithNeighboursTest() {
+        // when
+        List<String> cells = GeoHashUtils.cellWithNeighbours("wydm9q");
+
+        // then
+        assertThat(cells).hasSize(9);
+        assertThat(cells).contains("wydm9q", "wydm9m", "wydm9t", "wydm9n",
+                "wydm9w", "wydm9j", "wydm9p", "wydm9r", "wydm9x");
+    }
+
+    @Test
+    @DisplayName("보장 반경 안의 지점은 주변 셀에 포함되는지 테스트")
+    void coveredRadiusTest() {
+        // given
+        Random random = new Random(1);
+
+        for (int i = 0; i < 10000; i++) {
+            int precision = 2 + random.nextInt(6);
+            double latitude = 33 + random.nextDouble() * 5;
+            double longitude = 125 + random.nextDouble() * 5;
+            double radius = GeoHashUtils.coveredRadiusKm(latitude, precision);
+            double offset = radius / 111;
+            double targetLatitude = latitude + (random.nextDouble() * 2 - 1) * offset;
+            double targetLongitude = longitude + (random.nextDouble() * 2 - 1) * offset;
+
+            // when
+            List<String> cells = GeoHashUtils.cellWithNeighbours(GeoHashUtils.encode(latitude, longitude, precision));
+
+            // then
+            if (distance(latitude, longitude, targetLatitude, targetLongitude) < radius) {
+                assertThat(cells).contains(GeoHashUtils.encode(targetLatitude, targetLongitude, precision));
+            }
+        }
+    }
+
+    private double distance(double lat1, double lng1, double lat2, double lng2) {
+        return 6371 * Math.acos(Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.cos(Math.toRadians(lng2) - Math.toRadians(lng1))
+                + Math.sin(Math.toRadians(lat1)) * Math.sin(Math.toRadians(lat2)));
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.villagerservice.config;
+
+import com.example.villagerservice.common.jwt.JwtTokenException;
+import com.example.villagerservice.common.jwt.JwtTokenProvider;
+import com.example.villagerservice.member.domain.Member;
+import com.example.villagerservice.party.exception.PartyException;
+import com.example.villagerservice.party.infra.PartyChatMembershipCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private PartyChatMembershipCache partyChatMembershipCache;
+
+    @Mock
+    private MessageChannel channel;
+
+    private StompAuthChannelInterceptor interceptor;
+
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompAuthChannelInterceptor(jwtTokenProvider, partyChatMembershipCache, true);
+        Member member = Member.builder().email("test@gmail.com").nickname("hello").build();
+        member.setJwtMemberId(1L);
+        authentication = new UsernamePasswordAuthenticationToken(member, "", null);
+    }
+
+    @Test
+    @DisplayName("CONNECT 에서 JWT 를 검증하고 세션 사용자로 저장하는지 테스트")
+    void connectTest() {
+        // given
+        given(jwtTokenProvider.getAuthentication("token"))
+                .willReturn(authentication);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.addNativeHeader("Authorization", "Bearer token");
+        accessor.setLeaveMutable(true);
+
+        // when
+        Message<?> result = interceptor.preSend(message(accessor), channel);
+
+        // then
+        verify(jwtTokenProvider).validateAccessToken("token");
+        assertThat(StompHeaderAccessor.wrap(result).getUser()).isSameAs(authentication);
+    }
+
+    @Test
+    @DisplayName("토큰 없이 CONNECT 하면 실패하는지 테스트")
+    void connectFailTest() {
+        // given
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setLeaveMutable(true);
+
+        // when, then
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor), channel))
+                .isInstanceOf(JwtTokenException.class);
+    }
+
+    @Test
+    @DisplayName("채팅방 구독은 캐시로 모임원인지 확인하는지 테스트")
+    void subscribeTest() {
+        // given
+        given(partyChatMembershipCache.isMember(1L, 1L))
+                .willReturn(true);
+        given(partyChatMembershipCache.isMember(2L, 1L))
+                .willReturn(false);
+
+        // when, then
+        interceptor.preSend(subscribe("/sub/chat/room/1"), channel);
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/sub/chat/room/2"), channel))
+                .isInstanceOf(PartyException.class);
+        // 채팅방이 아닌 경로는 로그인만 확인
+        interceptor.preSend(subscribe("/sub/counters/post-view/1"), channel);
+        verify(partyChatMembershipCache, never()).isMember(null, 1L);
+    }
+
+    @Test
+    @DisplayName("인증하지 않은 세션의 구독, 전송은 실패하는지 테스트")
+    void unauthenticatedTest() {
+        // given
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination("/pub/api/v1/parties/chat/message");
+        accessor.setLeaveMutable(true);
+
+        // when, then
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor), channel))
+                .isInstanceOf(JwtTokenException.class);
+        verify(partyChatMembershipCache, never()).isMember(anyLong(), anyLong());
+    }
+
+    private Message<byte[]> subscribe(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setSubscriptionId("sub1");
+        accessor.setUser(authentication);
+        accessor.setLeaveMutable(true);
+        return message(accessor);
+    }
+
+    private Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
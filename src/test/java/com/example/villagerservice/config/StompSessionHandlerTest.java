@@ -0,0 +1,121 @@
+package com.example.villagerservice.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class StompSessionHandlerTest {
+
+    @Mock
+    private MessageChannel clientInboundChannel;
+
+    @Mock
+    private SubscribableChannel clientOutboundChannel;
+
+    @Mock
+    private WebSocketSession session;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final CountDownLatch sending = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+
+        // 첫 메세지 전송이 끝나지 않는 느린 클라이언트
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(session).sendMessage(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("TERMINATE 정책에서 버퍼 크기 제한을 넘으면 세션을 끊고 카운트하는지 테스트")
+    void terminateTest() throws Exception {
+        // given
+        WebSocketSession decorated = decorate(OverflowStrategy.TERMINATE);
+        startSlowSend(decorated);
+
+        // when
+        decorated.sendMessage(message());
+
+        // then
+        assertThatThrownBy(() -> decorated.sendMessage(message()))
+                .isInstanceOf(SessionLimitExceededException.class);
+        assertThat(meterRegistry.counter("party.chat.session.dropped", "reason", "buffer-size").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.counter("party.chat.outbound.dropped").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("DROP 정책에서 버퍼 크기 제한을 넘으면 오래된 메세지를 버리고 세션은 유지하는지 테스트")
+    void dropTest() throws Exception {
+        // given
+        WebSocketSession decorated = decorate(OverflowStrategy.DROP);
+        startSlowSend(decorated);
+
+        // when
+        decorated.sendMessage(message());
+        decorated.sendMessage(message());
+        decorated.sendMessage(message());
+
+        // then
+        assertThat(meterRegistry.counter("party.chat.outbound.dropped").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("party.chat.session.dropped", "reason", "buffer-size").count())
+                .isZero();
+        assertThat(meterRegistry.timer("party.chat.outbound.send").count()).isEqualTo(3);
+    }
+
+    // 보내기 시간 제한 10초, 버퍼 크기 제한 25 byte (10 byte 메세지 2개까지)
+    private WebSocketSession decorate(OverflowStrategy overflowStrategy) {
+        StompSessionHandler handler = new StompSessionHandler(clientInboundChannel, clientOutboundChannel,
+                overflowStrategy, meterRegistry);
+        handler.setSendTimeLimit(10000);
+        handler.setSendBufferSizeLimit(25);
+        return handler.decorateSession(session);
+    }
+
+    private void startSlowSend(WebSocketSession decorated) throws InterruptedException {
+        executorService.submit(() -> {
+            decorated.sendMessage(message());
+            return null;
+        });
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static TextMessage message() {
+        return new TextMessage("0123456789");
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.villagerservice.config.events;
+
+import com.example.villagerservice.events.domain.EventOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EventProducerTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EventProducer eventProducer;
+
+    // 보낸 순서대로의 confirm 결과 (null 이면 confirm 이 오지 않음)
+    private final List<Boolean> confirmList = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // confirm 대기 100ms, in-flight 최대 10개
+        eventProducer = new EventProducer(rabbitTemplate, meterRegistry, "exchange", "routing", 100, 10);
+
+        willAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            Boolean ack = confirmList.remove(0);
+            if (ack != null) {
+                correlationData.getFuture().set(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            }
+            return null;
+        }).given(rabbitTemplate).send(eq("exchange"), eq("routing"), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    @DisplayName("모두 보낸 뒤 앞에서부터 연속으로 ack 된 이벤트 수를 돌려주는지 테스트")
+    void publishConfirmedTest() {
+        // given
+        confirmList.addAll(List.of(true, true, false, true));
+
+        // when
+        int confirmed = eventProducer.publishConfirmed(outboxList(4));
+
+        // then
+        assertThat(confirmed).isEqualTo(2);
+        verify(rabbitTemplate, times(4)).send(eq("exchange"), eq("routing"), any(Message.class), any(CorrelationData.class));
+        assertThat(meterRegistry.counter("events.publish.nack").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("events.publish.confirm").count()).isEqualTo(4);
+        assertThat(meterRegistry.get("events.publish.in-flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("confirm 이 오지 않은 이벤트부터는 확인되지 않은 것으로 보고 in-flight 로 남기는지 테스트")
+    void confirmTimeoutTest() {
+        // given
+        confirmList.add(true);
+        confirmList.add(null);
+
+        // when
+        int confirmed = eventProducer.publishConfirmed(outboxList(2));
+
+        // then
+        assertThat(confirmed).isEqualTo(1);
+        assertThat(meterRegistry.counter("events.publish.timeout").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("events.publish.in-flight").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이전 converter 와 같은 형식으로 메세지를 만드는지 테스트")
+    void messageTest() {
+        // given
+        confirmList.add(true);
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+
+        // when
+        eventProducer.publishConfirmed(outboxList(1));
+
+        // then
+        verify(rabbitTemplate).send(eq("exchange"), eq("routing"), captor.capture(), any(CorrelationData.class));
+        Message message = captor.getValue();
+        assertThat(message.getMessageProperties().getMessageId()).isEqualTo("outbox-1");
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo("application/json");
+        assertThat((String) message.getMessageProperties().getHeader("__TypeId__")).isEqualTo("PartyCreatedEvent");
+        assertThat(new String(message.getBody())).isEqualTo("{\"partyId\":1}");
+    }
+
+    private List<EventOutbox> outboxList(int count) {
+        List<EventOutbox> outboxList = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            EventOutbox outbox = EventOutbox.builder()
+                    .eventType("PARTY_CREATED_EVENT")
+                    .typeId("PartyCreatedEvent")
+                    .contentType("application/json")
+                    .payload(("{\"partyId\":" + id + "}").getBytes(StandardCharsets.UTF_8))
+                    .build();
+            ReflectionTestUtils.setField(outbox, "id", id);
+            outboxList.add(outbox);
+        }
+        return outboxList;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.villagerservice.config.events.codec;
+
+import com.example.villagerservice.notification.dto.PartyCreatedMessage;
+import com.example.villagerservice.party.domain.PartyCreatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryEventCodecTest {
+
+    private BinaryEventCodec binaryEventCodec;
+    private JsonEventCodec jsonEventCodec;
+
+    @BeforeEach
+    void setUp() {
+        binaryEventCodec = new BinaryEventCodec(List.of(new PartyCreatedEventSchema()));
+        jsonEventCodec = new JsonEventCodec(new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("바이너리로 보낸 PartyCreatedEvent 를 받는 쪽 형식으로 읽는지 테스트")
+    void roundTripTest() {
+        // given
+        PartyCreatedEvent event = createEvent(1168010100L, List.of("등산", "주말"));
+
+        // when
+        PartyCreatedMessage message = binaryEventCodec.decode(binaryEventCodec.encode(event), PartyCreatedMessage.class);
+
+        // then
+        assertThat(message.getEventType()).isEqualTo("PARTY_CREATED_EVENT");
+        assertThat(message.getTimestamp()).isEqualTo(event.getTimestamp());
+        PartyCreatedMessage.Body body = message.getBody();
+        assertThat(body.getTownId()).isEqualTo(1168010100L);
+        assertThat(body.getLatitude()).isEqualTo(37.4979);
+        assertThat(body.getLongitude()).isEqualTo(127.0276);
+        assertThat(body.getMannerPoint()).isEqualTo(36);
+        assertThat(body.getMemberCount()).isEqualTo(4);
+        assertThat(body.getPartyId()).isEqualTo(15L);
+        assertThat(body.getAmount()).isEqualTo(-1);
+        assertThat(body.getPartyName()).isEqualTo("주말 등산 모임");
+        assertThat(body.getTags()).containsExactly("등산", "주말");
+    }
+
+    @Test
+    @DisplayName("값이 없는 필드는 null 로 읽는지 테스트")
+    void nullFieldTest() {
+        // given
+        PartyCreatedEvent event = createEvent(null, null);
+
+        // when
+        PartyCreatedMessage message = binaryEventCodec.decode(binaryEventCodec.encode(event), PartyCreatedMessage.class);
+
+        // then
+        assertThat(message.getBody().getTownId()).isNull();
+        assertThat(message.getBody().getTags()).isNull();
+        assertThat(message.getBody().getPartyName()).isEqualTo("주말 등산 모임");
+    }
+
+    @Test
+    @DisplayName("더 새 본문 version 은 아는 필드까지만 읽고 뒤에 추가된 필드는 버리는지 테스트")
+    void newerVersionTest() {
+        // given
+        byte[] encoded = binaryEventCodec.encode(createEvent(1L, List.of("등산")));
+        byte[] newer = Arrays.copyOf(encoded, encoded.length + 3);
+        // magic, 형식 version, 이벤트 번호 다음이 본문 version
+        newer[3] = 2;
+        newer[encoded.length] = 7;
+
+        // when
+        PartyCreatedMessage message = binaryEventCodec.decode(newer, PartyCreatedMessage.class);
+
+        // then
+        assertThat(message.getBody().getTownId()).isEqualTo(1L);
+        assertThat(message.getBody().getTags()).containsExactly("등산");
+    }
+
+    @Test
+    @DisplayName("모르는 형식 version 이나 중간에 끝난 본문은 읽지 않는지 테스트")
+    void invalidPayloadTest() {
+        // given
+        byte[] encoded = binaryEventCodec.encode(createEvent(1L, List.of("등산")));
+        byte[] unknownFormat = encoded.clone();
+        unknownFormat[1] = 2;
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 2);
+
+        // when // then
+        assertThatThrownBy(() -> binaryEventCodec.decode(unknownFormat, PartyCreatedMessage.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> binaryEventCodec.decode(truncated, PartyCreatedMessage.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("content type 으로 형식을 골라 이전 JSON 메세지도 읽는지 테스트")
+    void registryTest() {
+        // given
+        EventCodecRegistry registry = new EventCodecRegistry(jsonEventCodec, binaryEventCodec, "binary");
+        PartyCreatedEvent event = createEvent(1L, List.of("등산"));
+        byte[] json = jsonEventCodec.encode(event);
+        byte[] binary = registry.getWriteCodec().encode(event);
+
+        // when
+        PartyCreatedMessage fromJson = registry.decode("application/json", json, PartyCreatedMessage.class);
+        PartyCreatedMessage fromBinary = registry.decode(BinaryEventCodec.CONTENT_TYPE, binary, PartyCreatedMessage.class);
+
+        // then
+        assertThat(fromJson.getBody().getPartyName()).isEqualTo(fromBinary.getBody().getPartyName());
+        assertThat(fromJson.getBody().getTags()).isEqualTo(fromBinary.getBody().getTags());
+        assertThat(fromJson.getTimestamp()).isEqualTo(fromBinary.getTimestamp());
+        assertThat(binary.length).isLessThan(json.length / 2);
+        assertThatThrownBy(() -> registry.decode("text/plain", json, PartyCreatedMessage.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PartyCreatedEvent createEvent(Long townId, List<String> tags) {
+        return PartyCreatedEvent.createEvent(townId, 37.4979, 127.0276, 36, 4, 15L,
+                -1, "주말 등산 모임", tags);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.villagerservice.events.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EventOutboxLeaderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("lease 가 없으면 만들고, lease 의 절반이 지나기 전에는 DB 를 다시 조회하지 않는지 테스트")
+    void acquireTest() {
+        // given
+        EventOutboxLeader leader = new EventOutboxLeader(jdbcTemplate, 60000);
+        given(jdbcTemplate.update(startsWith(" update event_outbox_lease"), any(), any(), any(), any(), any()))
+                .willReturn(0);
+
+        // when
+        boolean first = leader.acquire();
+        boolean second = leader.acquire();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(jdbcTemplate, times(1)).update(startsWith(" insert into event_outbox_lease"), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("lease 의 절반이 지나면 갱신하는지 테스트")
+    void renewTest() {
+        // given
+        EventOutboxLeader leader = new EventOutboxLeader(jdbcTemplate, 60000);
+        given(jdbcTemplate.update(startsWith(" update event_outbox_lease"), any(), any(), any(), any(), any()))
+                .willReturn(1);
+        leader.acquire();
+        ReflectionTestUtils.setField(leader, "leaseUntil", System.currentTimeMillis() + 10000);
+
+        // when
+        boolean renewed = leader.acquire();
+
+        // then
+        assertThat(renewed).isTrue();
+        verify(jdbcTemplate, times(2)).update(startsWith(" update event_outbox_lease"), any(), any(), any(), any(), any());
+        verify(jdbcTemplate, never()).update(startsWith(" insert"), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 lease 를 가지고 있으면 보내지 않고 lease 의 절반이 지나야 다시 시도하는지 테스트")
+    void otherLeaderTest() {
+        // given
+        EventOutboxLeader leader = new EventOutboxLeader(jdbcTemplate, 60000);
+        given(jdbcTemplate.update(startsWith(" update event_outbox_lease"), any(), any(), any(), any(), any()))
+                .willReturn(0);
+        given(jdbcTemplate.update(startsWith(" insert into event_outbox_lease"), anyString(), anyString(), any()))
+                .willThrow(new DuplicateKeyException("event-outbox-relay"));
+
+        // when
+        boolean first = leader.acquire();
+        boolean second = leader.acquire();
+        ReflectionTestUtils.setField(leader, "nextAttemptAt", 0L);
+        boolean retried = leader.acquire();
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(retried).isFalse();
+        verify(jdbcTemplate, times(2)).update(startsWith(" update event_outbox_lease"), any(), any(), any(), any(), any());
+    }
+}
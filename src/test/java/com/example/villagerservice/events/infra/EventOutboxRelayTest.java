@@ -0,0 +1,176 @@
+package com.example.villagerservice.events.infra;
+
+import com.example.villagerservice.events.domain.EventOutbox;
+import com.example.villagerservice.events.repository.EventOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EventOutboxRelayTest {
+
+    @Mock
+    private EventOutboxRepository eventOutboxRepository;
+
+    @Mock
+    private EventOutboxPublisher eventOutboxPublisher;
+
+    @Mock
+    private EventOutboxLeader eventOutboxLeader;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EventOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 2개씩 보내고 실패하면 1분 뒤 재시도
+        relay = new EventOutboxRelay(eventOutboxRepository, eventOutboxPublisher, eventOutboxLeader, meterRegistry,
+                2, 60000, 60000);
+    }
+
+    @Test
+    @DisplayName("쌓인 이벤트를 묶음으로 보내고 confirm 된 묶음만 지우는지 테스트")
+    void drainTest() {
+        // given
+        given(eventOutboxLeader.acquire())
+                .willReturn(true);
+        List<EventOutbox> first = outboxList(1, 2);
+        List<EventOutbox> second = outboxList(3, 3);
+        given(eventOutboxRepository.findAllByOrderByIdAsc(any(Pageable.class)))
+                .willReturn(first, second);
+        given(eventOutboxPublisher.publishConfirmed(first))
+                .willReturn(2);
+        given(eventOutboxPublisher.publishConfirmed(second))
+                .willReturn(1);
+
+        // when
+        int published = relay.drain();
+
+        // then
+        assertThat(published).isEqualTo(3);
+        verify(eventOutboxPublisher).publishConfirmed(first);
+        verify(eventOutboxPublisher).publishConfirmed(second);
+        verify(eventOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(eventOutboxRepository).deleteAllByIdInBatch(List.of(3L));
+        assertThat(meterRegistry.counter("events.outbox.published").count()).isEqualTo(3);
+        assertThat(meterRegistry.get("events.outbox.lag").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("앞에서부터 confirm 된 이벤트만 지우고 확인되지 않은 이벤트부터 다시 보내는지 테스트")
+    void partialConfirmTest() {
+        // given
+        given(eventOutboxLeader.acquire())
+                .willReturn(true);
+        List<EventOutbox> first = outboxList(1, 2);
+        List<EventOutbox> rest = outboxList(2, 2);
+        given(eventOutboxRepository.findAllByOrderByIdAsc(any(Pageable.class)))
+                .willReturn(first, rest);
+        // 2번 이벤트 nack
+        given(eventOutboxPublisher.publishConfirmed(first))
+                .willReturn(1);
+        given(eventOutboxPublisher.publishConfirmed(rest))
+                .willReturn(1);
+
+        // when
+        int published = relay.drain();
+        ReflectionTestUtils.setField(relay, "nextAttemptAt", 0L);
+        int retried = relay.drain();
+
+        // then
+        assertThat(published).isEqualTo(1);
+        assertThat(retried).isEqualTo(1);
+        verify(eventOutboxRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(eventOutboxRepository).deleteAllByIdInBatch(List.of(2L));
+        assertThat(meterRegistry.counter("events.outbox.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보내기에 실패하면 지우지 않고 재시도 시각까지 기다렸다가 같은 묶음부터 다시 보내는지 테스트")
+    void retryTest() {
+        // given
+        given(eventOutboxLeader.acquire())
+                .willReturn(true);
+        List<EventOutbox> first = outboxList(1, 2);
+        given(eventOutboxRepository.findAllByOrderByIdAsc(any(Pageable.class)))
+                .willReturn(first);
+        willThrow(new AmqpException("nack"))
+                .given(eventOutboxPublisher).publishConfirmed(first);
+
+        // when
+        int published = relay.drain();
+        int skipped = relay.drain();
+
+        // then
+        assertThat(published).isZero();
+        assertThat(skipped).isZero();
+        verify(eventOutboxPublisher, times(1)).publishConfirmed(anyList());
+        verify(eventOutboxRepository, never()).deleteAllByIdInBatch(anyList());
+        assertThat(meterRegistry.counter("events.outbox.failed").count()).isEqualTo(2);
+
+        // 재시도 시각이 지나면 실패한 묶음부터 다시 보낸다
+        ReflectionTestUtils.setField(relay, "nextAttemptAt", 0L);
+        relay.drain();
+        verify(eventOutboxPublisher, times(2)).publishConfirmed(first);
+    }
+
+    @Test
+    @DisplayName("lease 가 없는 서버는 이벤트 저장소를 읽지 않고, 보내는 중에 lease 를 잃으면 멈추는지 테스트")
+    void notLeaderTest() {
+        // given
+        List<EventOutbox> first = outboxList(1, 2);
+        given(eventOutboxLeader.acquire())
+                .willReturn(false, true, false);
+        given(eventOutboxRepository.findAllByOrderByIdAsc(any(Pageable.class)))
+                .willReturn(first);
+        given(eventOutboxPublisher.publishConfirmed(first))
+                .willReturn(2);
+
+        // when
+        int skipped = relay.drain();
+        int published = relay.drain();
+
+        // then
+        assertThat(skipped).isZero();
+        assertThat(published).isEqualTo(2);
+        verify(eventOutboxRepository, times(1)).findAllByOrderByIdAsc(any(Pageable.class));
+        verify(eventOutboxPublisher, times(1)).publishConfirmed(anyList());
+    }
+
+    private List<EventOutbox> outboxList(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> {
+                    EventOutbox outbox = EventOutbox.builder()
+                            .eventType("PARTY_CREATED_EVENT")
+                            .typeId("com.example.villagerservice.party.domain.PartyCreatedEvent")
+                            .contentType("application/json")
+                            .payload(new byte[0])
+                            .build();
+                    ReflectionTestUtils.setField(outbox, "id", id);
+                    return outbox;
+                })
+                .collect(Collectors.toList());
+    }
+}
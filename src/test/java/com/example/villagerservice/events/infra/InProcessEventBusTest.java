@@ -0,0 +1,167 @@
+package com.example.villagerservice.events.infra;
+
+import com.example.villagerservice.config.events.EventMessageHandler;
+import com.example.villagerservice.config.events.EventType;
+import com.example.villagerservice.config.events.codec.BinaryEventCodec;
+import com.example.villagerservice.config.events.codec.EventCodecRegistry;
+import com.example.villagerservice.config.events.codec.JsonEventCodec;
+import com.example.villagerservice.config.events.codec.PartyCreatedEventSchema;
+import com.example.villagerservice.events.domain.EventOutbox;
+import com.example.villagerservice.notification.dto.PartyCreatedMessage;
+import com.example.villagerservice.party.domain.PartyCreatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InProcessEventBusTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventCodecRegistry eventCodecRegistry;
+    private InProcessEventBus eventBus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventCodecRegistry = new EventCodecRegistry(new JsonEventCodec(new ObjectMapper()),
+                new BinaryEventCodec(List.of(new PartyCreatedEventSchema())), "binary");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (eventBus != null) {
+            eventBus.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("버퍼보다 많은 이벤트도 consumer 들이 나눠 모두 한 번씩 처리하는지 테스트")
+    void publishTest() throws InterruptedException {
+        // given
+        Set<Long> handledSet = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(100);
+        eventBus = start(message -> {
+            handledSet.add(message.getBody().getPartyId());
+            latch.countDown();
+        }, 4, 2, 5000);
+
+        // when
+        int confirmed = eventBus.publishConfirmed(outboxList(1, 100));
+
+        // then
+        assertThat(confirmed).isEqualTo(100);
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handledSet).hasSize(100);
+        assertThat(meterRegistry.counter("events.in-process.handled").count()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 넣은 이벤트 수까지만 돌려주고, 비워지면 다시 받는지 테스트")
+    void fullTest() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger handled = new AtomicInteger();
+        eventBus = start(message -> {
+            awaitQuietly(release);
+            handled.incrementAndGet();
+        }, 2, 1, 50);
+
+        // when
+        int confirmed = eventBus.publishConfirmed(outboxList(1, 5));
+
+        // then
+        assertThat(confirmed).isEqualTo(2);
+        assertThat(meterRegistry.counter("events.in-process.full").count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(eventBus.publishConfirmed(outboxList(3, 5))).isEqualTo(3);
+        eventBus.stop();
+        assertThat(handled.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("핸들러가 바빠서 거절하면 버리지 않고 다시 넘기는지 테스트")
+    void rejectedTest() throws InterruptedException {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        eventBus = start(message -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new RejectedExecutionException("busy");
+            }
+            latch.countDown();
+        }, 4, 1, 1000);
+
+        // when
+        eventBus.publishConfirmed(outboxList(1, 1));
+
+        // then
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("events.in-process.failed").count()).isZero();
+    }
+
+    private InProcessEventBus start(Consumer<PartyCreatedMessage> consumer, int bufferSize, int consumers,
+                                    long publishTimeoutMillis) {
+        EventMessageHandler<PartyCreatedMessage> handler = new EventMessageHandler<>() {
+            @Override
+            public EventType getEventType() {
+                return EventType.PARTY_CREATED_EVENT;
+            }
+
+            @Override
+            public Class<PartyCreatedMessage> getMessageClass() {
+                return PartyCreatedMessage.class;
+            }
+
+            @Override
+            public void handle(PartyCreatedMessage message) {
+                consumer.accept(message);
+            }
+        };
+        InProcessEventBus bus = new InProcessEventBus(eventCodecRegistry, List.of(handler), meterRegistry,
+                bufferSize, consumers, publishTimeoutMillis);
+        bus.start();
+        return bus;
+    }
+
+    private List<EventOutbox> outboxList(long fromId, long toId) {
+        List<EventOutbox> outboxList = new ArrayList<>();
+        for (long id = fromId; id <= toId; id++) {
+            PartyCreatedEvent event = PartyCreatedEvent.createEvent(1L, 37.4979, 127.0276, 36, 4, id,
+                    0, "모임" + id, List.of("등산"));
+            EventOutbox outbox = EventOutbox.builder()
+                    .eventType(event.getEventType())
+                    .typeId(PartyCreatedEvent.class.getName())
+                    .contentType(eventCodecRegistry.getWriteCodec().getContentType())
+                    .payload(eventCodecRegistry.getWriteCodec().encode(event))
+                    .build();
+            ReflectionTestUtils.setField(outbox, "id", id);
+            outboxList.add(outbox);
+        }
+        return outboxList;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.villagerservice.notification.infra;
+
+import com.example.villagerservice.member.domain.MemberRepository;
+import com.example.villagerservice.member.domain.MemberTownRepository;
+import com.example.villagerservice.notification.dto.PartyCreatedMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PartyNotificationFanoutTest {
+
+    @Mock
+    private MemberTownRepository memberTownRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ObjectMapper objectMapper;
+
+    private PartyNotificationFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        objectMapper = new ObjectMapper();
+        // 회원은 2명씩 읽고 알림은 2개씩 저장
+        fanout = new PartyNotificationFanout(memberTownRepository, memberRepository, jdbcTemplate, objectMapper,
+                meterRegistry, 2, 2, 1, 10, 60000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        fanout.stop();
+    }
+
+    @Test
+    @DisplayName("동네 회원을 나눠 읽고 알림을 묶음으로 저장하는지 테스트")
+    void fanoutPagingTest() {
+        // given
+        given(memberTownRepository.getTownMemberPage(eq(1L), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(townMember(1L, 100L), townMember(2L, 200L)));
+        given(memberTownRepository.getTownMemberPage(eq(1L), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(townMember(3L, 300L)));
+        given(jdbcTemplate.update(anyString(), (Object[]) any()))
+                .willAnswer(invocation -> rowCount(invocation.getArgument(0)));
+
+        // when
+        int inserted = fanout.fanout(party(Collections.emptyList()));
+
+        // then
+        assertThat(inserted).isEqualTo(3);
+        verify(jdbcTemplate, times(2)).update(startsWith(" insert into notification_inbox"), (Object[]) any());
+        verify(memberRepository, never()).findIdByIdInAndTagNameIn(anyCollection(), anyCollection());
+        assertThat(meterRegistry.counter("notification.fanout.inserted").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("모임에 태그가 있으면 관심 태그가 맞는 회원에게만 저장하는지 테스트")
+    void fanoutTagTest() {
+        // given
+        given(memberTownRepository.getTownMemberPage(eq(1L), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(townMember(1L, 100L), townMember(2L, 200L)));
+        given(memberTownRepository.getTownMemberPage(eq(1L), eq(2L), any(Pageable.class)))
+                .willReturn(Collections.emptyList());
+        given(memberRepository.findIdByIdInAndTagNameIn(anyCollection(), eq(List.of("등산"))))
+                .willReturn(List.of(200L));
+        given(jdbcTemplate.update(anyString(), (Object[]) any()))
+                .willAnswer(invocation -> rowCount(invocation.getArgument(0)));
+
+        // when
+        int inserted = fanout.fanout(party(List.of("등산")));
+
+        // then
+        assertThat(inserted).isEqualTo(1);
+        verify(jdbcTemplate).update(anyString(), eq(200L), eq(10L), eq("PARTY_CREATED"), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("묶음 저장 중 중복이 있으면 한 건씩 저장하고 중복은 건너뛰는지 테스트")
+    void fanoutDuplicateTest() {
+        // given
+        given(memberTownRepository.getTownMemberPage(eq(1L), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(townMember(1L, 100L)));
+        given(jdbcTemplate.update(startsWith(" insert into notification_inbox"), (Object[]) any()))
+                .willThrow(new DuplicateKeyException("uk_notification_inbox_party_member"));
+
+        // when
+        int inserted = fanout.fanout(party(Collections.emptyList()));
+
+        // then
+        assertThat(inserted).isZero();
+        verify(jdbcTemplate, times(2)).update(startsWith(" insert into notification_inbox"), (Object[]) any());
+    }
+
+    @Test
+    @DisplayName("작업을 저장한 뒤 저장된 진행 위치부터 실행하고 끝나면 작업을 지우는지 테스트")
+    void submitTest() throws Exception {
+        // given
+        PartyCreatedMessage.Body party = party(Collections.emptyList());
+        String body = objectMapper.writeValueAsString(party);
+        given(jdbcTemplate.query(startsWith(" select body"), any(RowMapper.class), eq(10L)))
+                .willAnswer(invocation -> List.<Object[]>of(new Object[]{body, 2L}));
+        given(memberTownRepository.getTownMemberPage(eq(1L), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(townMember(3L, 300L)));
+        given(jdbcTemplate.update(anyString(), (Object[]) any()))
+                .willAnswer(invocation -> rowCount(invocation.getArgument(0)));
+
+        // when
+        fanout.submit(party);
+        fanout.stop();
+
+        // then
+        verify(jdbcTemplate).update(startsWith(" insert into notification_fanout_job"), eq(10L), eq(body), any(), any());
+        verify(jdbcTemplate).update(anyString(), eq(300L), eq(10L), eq("PARTY_CREATED"), anyString(), any(), any());
+        verify(jdbcTemplate).update(startsWith(" update notification_fanout_job"), eq(3L), any(), eq(10L));
+        verify(jdbcTemplate).update(startsWith(" delete from notification_fanout_job"), eq(10L));
+        verify(memberTownRepository, never()).getTownMemberPage(eq(1L), eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("같은 모임의 작업이 이미 있으면 다시 실행하지 않는지 테스트")
+    void submitDuplicateTest() throws Exception {
+        // given
+        given(jdbcTemplate.update(startsWith(" insert into notification_fanout_job"), (Object[]) any()))
+                .willThrow(new DuplicateKeyException("PRIMARY"));
+
+        // when
+        fanout.submit(party(Collections.emptyList()));
+        fanout.stop();
+
+        // then
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), anyLong());
+    }
+
+    private static int rowCount(String sql) {
+        return sql.split("false", -1).length - 1;
+    }
+
+    private static PartyCreatedMessage.Body party(List<String> tags) {
+        return PartyCreatedMessage.Body.builder()
+                .townId(1L)
+                .partyId(10L)
+                .partyName("주말 등산")
+                .tags(tags)
+                .build();
+    }
+
+    private static MemberTownRepository.TownMember townMember(Long memberTownId, Long memberId) {
+        return new MemberTownRepository.TownMember() {
+            @Override
+            public Long getMemberTownId() {
+                return memberTownId;
+            }
+
+            @Override
+            public Long getMemberId() {
+                return memberId;
+            }
+        };
+    }
+}
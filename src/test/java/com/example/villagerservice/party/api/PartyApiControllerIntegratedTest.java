@@ -2,6 +2,7 @@ package com.example.villagerservice.party.api;
 
 
 import static com.example.villagerservice.party.type.PartyLikeResponseType.*;
+import static io.restassured.RestAssured.given;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 
@@ -13,12 +14,16 @@ import com.example.villagerservice.config.AuthConfig;
 import com.example.villagerservice.member.domain.Member;
 import com.example.villagerservice.member.domain.MemberRepository;
 import com.example.villagerservice.party.domain.*;
+import com.example.villagerservice.party.dto.PartyCommentDTO;
 import com.example.villagerservice.party.dto.PartyDTO;
-import com.example.villagerservice.party.dto.PartyListDTO;
+import com.example.villagerservice.party.dto.PartyListPageDTO;
 import com.example.villagerservice.party.dto.UpdatePartyDTO;
 import com.example.villagerservice.party.repository.*;
 import com.example.villagerservice.party.dto.PartyApplyDto;
 import com.example.villagerservice.party.dto.PartyLikeDto;
+import com.example.villagerservice.party.infra.PartyFacetIndex;
+import com.example.villagerservice.party.infra.PartyLikeCounter;
+import com.example.villagerservice.party.infra.PartyGeoIndex;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.restassured.response.Response;
@@ -70,8 +75,18 @@ public class PartyApiControllerIntegratedTest extends BaseDocumentation {
     @Autowired
     private PartyTagRepository partyTagRepository;
 
+    @Autowired
+    private PartyGeoIndex partyGeoIndex;
+
+    @Autowired
+    private PartyFacetIndex partyFacetIndex;
+
+    @Autowired
+    private PartyLikeCounter partyLikeCounter;
+
     @BeforeEach
     void clean() {
+        partyLikeCounter.clear();
         partyApplyRepository.deleteAll();
         partyLikeRepository.deleteAll();
         partyRepository.deleteAll();
@@ -140,10 +155,51 @@ public class PartyApiControllerIntegratedTest extends BaseDocumentation {
         response
                 .then()
                 .statusCode(HttpStatus.OK.value())
-                .body("partyName",Matchers.equalTo("test-party"));
+                .body("partyName",Matchers.equalTo("test-party"))
+                .body("commentList.size()",Matchers.equalTo(1));
 
     }
 
+    @Test
+    @DisplayName("모임 댓글 조회 테스트")
+    void getPartyCommentList() throws Exception {
+
+        JwtTokenResponse jwtTokenResponse = getJwtTokenResponse();
+        Member member = createMember("testparty@gmail.com", "홍길동");
+        Party party = saveParty(member);
+        for (int i = 0; i < 21; i++) {
+            createPartyComment(party);
+        }
+        Long partyId = party.getId();
+
+        Response first = givenAuth("",
+                template.allRestDocumentation("모임 댓글 조회",
+                        getPartyPathParameterFields(),
+                        getPartyCommentPageResponseFields(),
+                        PartyCommentDTO.PageResponse.class.getName()
+                ))
+                .when()
+                .header(AUTHORIZATION, "Bearer " + jwtTokenResponse.getAccessToken())
+                .get("/api/v1/parties/{partyId}/comment", partyId);
+
+        first
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("commentList.size()",Matchers.equalTo(20))
+                .body("nextCursor",Matchers.notNullValue());
+
+        Long nextCursor = first.jsonPath().getLong("nextCursor");
+
+        given()
+                .header(AUTHORIZATION, "Bearer " + jwtTokenResponse.getAccessToken())
+                .when()
+                .get("/api/v1/parties/{partyId}/comment?cursor={cursor}", partyId, nextCursor)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("commentList.size()",Matchers.equalTo(1))
+                .body("nextCursor",Matchers.nullValue());
+    }
+
     @Test
     @DisplayName("모임 삭제 테스트")
     void deleteParty() throws Exception {
@@ -230,7 +286,7 @@ public class PartyApiControllerIntegratedTest extends BaseDocumentation {
                 template.allRestDocumentation("모임 전체 조회",
                         getPartyAllPathParameterFields(),
                         getPartyListDtoResponseFields(),
-                        PartyListDTO.class.getName()
+                        PartyListPageDTO.class.getName()
 
                 ))
                 .when()
@@ -336,6 +392,8 @@ public class PartyApiControllerIntegratedTest extends BaseDocumentation {
                 .build());
 
         partyRepository.save(party);
+        partyGeoIndex.put(party);
+        partyFacetIndex.put(party);
 
         return party;
     }
@@ -486,7 +544,8 @@ public class PartyApiControllerIntegratedTest extends BaseDocumentation {
         response
             .then()
             .statusCode(HttpStatus.OK.value())
-            .body("response", Matchers.equalTo(관심모임등록.toString()));
+            .body("response", Matchers.equalTo(관심모임등록.toString()))
+            .body("likeCount", Matchers.equalTo(1));
     }
 
     @Test
@@ -561,7 +620,8 @@ public class PartyApiControllerIntegratedTest extends BaseDocumentation {
     @NotNull
     private List<FieldDescriptor> getPartyLikeDtoResponseFields() {
         return Arrays.asList(
-            fieldWithPath("response").description("좋아요결과")
+            fieldWithPath("response").description("좋아요결과"),
+            fieldWithPath("likeCount").type(JsonFieldType.NUMBER).description("좋아요 수")
         );
     }
 
@@ -639,23 +699,48 @@ public class PartyApiControllerIntegratedTest extends BaseDocumentation {
                 fieldWithPath("nickname").type(JsonFieldType.STRING).description("주최자 이름"),
                 fieldWithPath("mannerPoint").type(JsonFieldType.NUMBER).description("주최자 매너점수"),
                 fieldWithPath("partyLike").type(JsonFieldType.BOOLEAN).description("모임 좋아요"),
-                fieldWithPath("memberId").type(JsonFieldType.NUMBER).description("주최자 id")
+                fieldWithPath("memberId").type(JsonFieldType.NUMBER).description("주최자 id"),
+                fieldWithPath("commentNextCursor").type(JsonFieldType.NUMBER).description("다음 댓글 조회 토큰 (남은 댓글이 없으면 null)").optional()
+        );
+    }
+
+    private List<FieldDescriptor> getPartyCommentPageResponseFields() {
+        return List.of(
+                fieldWithPath("commentList").type(JsonFieldType.ARRAY).description("모임 댓글 목록"),
+                fieldWithPath("commentList[].contents").type(JsonFieldType.STRING).description("모임 댓글 내용"),
+                fieldWithPath("commentList[].partyCommentId").type(JsonFieldType.NUMBER).description("모임 댓글 id"),
+                fieldWithPath("commentList[].partyId").type(JsonFieldType.NUMBER).description("모임 id"),
+                fieldWithPath("nextCursor").type(JsonFieldType.NUMBER).description("다음 댓글 조회 토큰 (남은 댓글이 없으면 null)").optional()
         );
     }
 
     private List<FieldDescriptor> getPartyListDtoResponseFields() {
         return List.of(
 
-                fieldWithPath("[].partyId").type(JsonFieldType.NUMBER).description("모임 id"),
-                fieldWithPath("[].partyName").type(JsonFieldType.STRING).description("모임이름"),
-                fieldWithPath("[].startDt").type(JsonFieldType.STRING).description("모임 시작 시간"),
-                fieldWithPath("[].endDt").type(JsonFieldType.STRING).description("모임 종료 시간"),
-                fieldWithPath("[].nickname").type(JsonFieldType.STRING).description("주최자 이름"),
-                fieldWithPath("[].content").type(JsonFieldType.STRING).description("모임 상세 내용"),
-                fieldWithPath("[].location").type(JsonFieldType.STRING).description("모임 장소"),
-                fieldWithPath("[].tagNameList").type(JsonFieldType.ARRAY).description("모임 태그 목록"),
-                fieldWithPath("[].partyLike").type(JsonFieldType.BOOLEAN).description("모임 좋아요"),
-                fieldWithPath("[].memberId").type(JsonFieldType.NUMBER).description("모임 주최자 id")
+                fieldWithPath("partyList[].partyId").type(JsonFieldType.NUMBER).description("모임 id"),
+                fieldWithPath("partyList[].partyName").type(JsonFieldType.STRING).description("모임이름"),
+                fieldWithPath("partyList[].startDt").type(JsonFieldType.STRING).description("모임 시작 시간"),
+                fieldWithPath("partyList[].endDt").type(JsonFieldType.STRING).description("모임 종료 시간"),
+                fieldWithPath("partyList[].nickname").type(JsonFieldType.STRING).description("주최자 이름"),
+                fieldWithPath("partyList[].content").type(JsonFieldType.STRING).description("모임 상세 내용"),
+                fieldWithPath("partyList[].location").type(JsonFieldType.STRING).description("모임 장소"),
+                fieldWithPath("partyList[].tagNameList").type(JsonFieldType.ARRAY).description("모임 태그 목록"),
+                fieldWithPath("partyList[].partyLike").type(JsonFieldType.BOOLEAN).description("모임 좋아요"),
+                fieldWithPath("partyList[].memberId").type(JsonFieldType.NUMBER).description("모임 주최자 id"),
+                fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 페이지 조회 토큰 (마지막 페이지면 null)").optional(),
+                fieldWithPath("facets").type(JsonFieldType.OBJECT).description("검색 필터 항목별 모임 수, 거리 조건 미적용 (첫 페이지에만 포함)").optional(),
+                fieldWithPath("facets.tagList[].value").type(JsonFieldType.STRING).description("태그").optional(),
+                fieldWithPath("facets.tagList[].description").type(JsonFieldType.STRING).description("태그 설명").optional(),
+                fieldWithPath("facets.tagList[].count").type(JsonFieldType.NUMBER).description("태그별 모임 수").optional(),
+                fieldWithPath("facets.amountList[].value").type(JsonFieldType.STRING).description("참가비 구간").optional(),
+                fieldWithPath("facets.amountList[].description").type(JsonFieldType.STRING).description("참가비 구간 설명").optional(),
+                fieldWithPath("facets.amountList[].count").type(JsonFieldType.NUMBER).description("참가비 구간별 모임 수").optional(),
+                fieldWithPath("facets.numberPeopleList[].value").type(JsonFieldType.STRING).description("인원 구간").optional(),
+                fieldWithPath("facets.numberPeopleList[].description").type(JsonFieldType.STRING).description("인원 구간 설명").optional(),
+                fieldWithPath("facets.numberPeopleList[].count").type(JsonFieldType.NUMBER).description("인원 구간별 모임 수").optional(),
+                fieldWithPath("facets.scoreList[].value").type(JsonFieldType.STRING).description("매너점수 구간").optional(),
+                fieldWithPath("facets.scoreList[].description").type(JsonFieldType.STRING).description("매너점수 구간 설명").optional(),
+                fieldWithPath("facets.scoreList[].count").type(JsonFieldType.NUMBER).description("매너점수 구간별 모임 수").optional()
         );
     }
 
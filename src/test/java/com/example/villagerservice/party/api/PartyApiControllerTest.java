@@ -226,7 +226,7 @@ public class PartyApiControllerTest {
                 .andExpect(status().isOk())
                 .andDo(print());
 
-        verify(partyQueryService,times(1)).getPartyList(anyString() , anyDouble() , anyDouble());
+        verify(partyQueryService,times(1)).getPartyList(anyString() , anyDouble() , anyDouble() , any() , any());
     }
 
     @Test
@@ -245,6 +245,20 @@ public class PartyApiControllerTest {
         verify(partyCommentService,times(1)).createComment(partyId , value);
     }
 
+    @Test
+    @WithMockCustomMember
+    @DisplayName("모임 댓글 조회 테스트")
+    void getPartyCommentList() throws Exception {
+
+        Long partyId = 1L;
+        mockMvc.perform(get("/api/v1/parties/{partyId}/comment", partyId)
+                        .param("cursor", "20"))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        verify(partyQueryService,times(1)).getPartyCommentList(partyId , 20L);
+    }
+
     private static PartyDTO.Request createRequest() {
         List<PartyTag> tagList = new ArrayList<>();
 
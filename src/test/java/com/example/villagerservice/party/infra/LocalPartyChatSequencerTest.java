@@ -0,0 +1,122 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.repository.PartyChatMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LocalPartyChatSequencerTest {
+
+    @Mock
+    private PartyChatMessageRepository partyChatMessageRepository;
+    @Mock
+    private PartyChatRecentBuffer partyChatRecentBuffer;
+
+    private LocalPartyChatSequencer sequencer;
+
+    @BeforeEach
+    void setUp() {
+        sequencer = new LocalPartyChatSequencer(partyChatMessageRepository, partyChatRecentBuffer, 60);
+    }
+
+    @Test
+    @DisplayName("DB 의 마지막 seq 다음부터 채팅방별로 발급하고 DB 는 처음 한 번만 조회하는지 테스트")
+    void nextTest() {
+        // given
+        given(partyChatMessageRepository.findMaxSeqByRoomId(1L))
+                .willReturn(41L);
+        given(partyChatMessageRepository.findMaxSeqByRoomId(2L))
+                .willReturn(null);
+
+        // when
+        long first = sequencer.next(1L);
+        long second = sequencer.next(1L);
+        long other = sequencer.next(2L);
+
+        // then
+        assertThat(first).isEqualTo(42L);
+        assertThat(second).isEqualTo(43L);
+        assertThat(other).isEqualTo(1L);
+        verify(partyChatMessageRepository, times(1)).findMaxSeqByRoomId(1L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 발급해도 seq 가 겹치거나 빠지지 않는지 테스트")
+    void concurrentNextTest() throws Exception {
+        // given
+        given(partyChatMessageRepository.findMaxSeqByRoomId(1L))
+                .willReturn(0L);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        Set<Long> seqSet = ConcurrentHashMap.newKeySet();
+
+        // when
+        List<Future<?>> futures = IntStream.range(0, 8)
+                .mapToObj(i -> executorService.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        seqSet.add(sequencer.next(1L));
+                    }
+                }))
+                .collect(Collectors.toList());
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(seqSet).hasSize(8000);
+        assertThat(seqSet).contains(1L, 8000L);
+    }
+
+    @Test
+    @DisplayName("아직 저장되지 않은 메세지가 버퍼에 있으면 버퍼의 마지막 seq 다음부터 발급하는지 테스트")
+    void nextWithBufferTest() {
+        // given
+        given(partyChatMessageRepository.findMaxSeqByRoomId(1L))
+                .willReturn(41L);
+        given(partyChatRecentBuffer.getLastSeq(1L))
+                .willReturn(45L);
+
+        // when
+        long seq = sequencer.next(1L);
+
+        // then
+        assertThat(seq).isEqualTo(46L);
+    }
+
+    @Test
+    @DisplayName("오래 쓰지 않은 채팅방의 카운터를 제거하고 다시 쓰면 DB 에서 채우는지 테스트")
+    void evictInactiveTest() {
+        // given
+        sequencer = new LocalPartyChatSequencer(partyChatMessageRepository, partyChatRecentBuffer, 0);
+        given(partyChatMessageRepository.findMaxSeqByRoomId(1L))
+                .willReturn(3L, 4L);
+        sequencer.next(1L);
+
+        // when
+        sequencer.evictInactive();
+        long seq = sequencer.next(1L);
+
+        // then
+        assertThat(seq).isEqualTo(5L);
+        verify(partyChatMessageRepository, times(2)).findMaxSeqByRoomId(1L);
+    }
+}
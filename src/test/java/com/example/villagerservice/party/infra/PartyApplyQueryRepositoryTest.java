@@ -0,0 +1,125 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.member.domain.Member;
+import com.example.villagerservice.party.domain.Party;
+import com.example.villagerservice.party.domain.PartyApply;
+import com.example.villagerservice.party.domain.PartyMember;
+import com.example.villagerservice.party.dto.PartyApplyDto;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class PartyApplyQueryRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PartyApplyQueryRepository partyApplyQueryRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        partyApplyQueryRepository = new PartyApplyQueryRepository(
+                new JPAQueryFactory(entityManager.getEntityManager()), new JdbcTemplate(dataSource), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("모임 신청을 허락, 미허락으로 나눠서 세는지 테스트")
+    void getPartyApplyCountTest() {
+        // given
+        Party party = saveParty(saveMember("host@gmail.com", "host"));
+        saveApplies(party, 30, 12);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        PartyApplyDto.Count result = partyApplyQueryRepository.getPartyApplyCount(party.getId());
+
+        // then
+        assertThat(result.getAcceptCount()).isEqualTo(12);
+        assertThat(result.getRejectCount()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("허락된 신청만 모임원으로 옮기고 해당 모임의 신청만 삭제하는지 테스트")
+    void promoteAcceptedApplyTest() {
+        // given
+        Member host = saveMember("host@gmail.com", "host");
+        Party party = saveParty(host);
+        Party otherParty = saveParty(host);
+        saveApplies(party, 300, 120);
+        saveApplies(otherParty, 5, 5);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        int memberCount = partyApplyQueryRepository.promoteAcceptedApply(party.getId());
+
+        // then
+        List<PartyMember> partyMemberList = entityManager.getEntityManager()
+                .createQuery("select pm from PartyMember pm where pm.party.id = :partyId", PartyMember.class)
+                .setParameter("partyId", party.getId())
+                .getResultList();
+        assertThat(memberCount).isEqualTo(120);
+        assertThat(partyMemberList.stream().map(PartyMember::getMemberId).collect(Collectors.toList()))
+                .containsExactlyInAnyOrderElementsOf(
+                        LongStream.rangeClosed(1, 120).boxed().collect(Collectors.toList()));
+        assertThat(partyMemberList).allSatisfy(partyMember -> assertThat(partyMember.getCreatedAt()).isNotNull());
+        assertThat(partyApplyQueryRepository.getPartyApplyCount(party.getId()).getRejectCount()).isZero();
+        assertThat(partyApplyQueryRepository.getPartyApplyCount(otherParty.getId()).getAcceptCount()).isEqualTo(5);
+
+        // 트랜잭션이 끝나야 잠금 시간이 기록된다
+        assertThat(meterRegistry.timer("party.start.lock").count()).isZero();
+        TestTransaction.end();
+        assertThat(meterRegistry.timer("party.start.lock").count()).isEqualTo(1);
+    }
+
+    private Member saveMember(String email, String nickname) {
+        return entityManager.persist(Member.builder()
+                .email(email)
+                .nickname(nickname)
+                .encodedPassword("1234")
+                .build());
+    }
+
+    private Party saveParty(Member member) {
+        return entityManager.persist(Party.builder()
+                .partyName("party")
+                .startDt(LocalDate.now())
+                .endDt(LocalDate.now().plusDays(2))
+                .member(member)
+                .build());
+    }
+
+    // 앞에서부터 acceptCount 개는 허락된 신청
+    private void saveApplies(Party party, int applyCount, int acceptCount) {
+        for (long i = 1; i <= applyCount; i++) {
+            entityManager.persist(PartyApply.builder()
+                    .targetMemberId(i)
+                    .isAccept(i <= acceptCount)
+                    .party(party)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.domain.PartyChatRoom;
+import com.example.villagerservice.party.repository.PartyChatRoomRepository;
+import com.example.villagerservice.party.repository.PartyMemberRepository;
+import com.example.villagerservice.party.repository.PartyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PartyChatMembershipCacheTest {
+
+    @Mock
+    private PartyChatRoomRepository partyChatRoomRepository;
+
+    @Mock
+    private PartyRepository partyRepository;
+
+    @Mock
+    private PartyMemberRepository partyMemberRepository;
+
+    private PartyChatMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PartyChatMembershipCache(partyChatRoomRepository, partyRepository, partyMemberRepository,
+                new SimpleMeterRegistry(), 300, false);
+    }
+
+    @Test
+    @DisplayName("모임장과 모임원만 허용하고 DB 는 채팅방마다 한 번만 조회하는지 테스트")
+    void isMemberTest() {
+        // given
+        given(partyChatRoomRepository.findById(1L))
+                .willReturn(Optional.of(PartyChatRoom.builder().id(1L).partyId(10L).build()));
+        given(partyMemberRepository.findMemberIdByPartyId(10L))
+                .willReturn(List.of(2L, 3L));
+        given(partyRepository.findHostMemberIdById(10L))
+                .willReturn(Optional.of(1L));
+
+        // when
+        boolean host = cache.isMember(1L, 1L);
+        boolean member = cache.isMember(1L, 2L);
+        boolean other = cache.isMember(1L, 4L);
+
+        // then
+        assertThat(host).isTrue();
+        assertThat(member).isTrue();
+        assertThat(other).isFalse();
+        verify(partyChatRoomRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("모임원이 바뀐 모임의 채팅방은 다시 조회하는지 테스트")
+    void evictPartyTest() {
+        // given
+        given(partyChatRoomRepository.findById(1L))
+                .willReturn(Optional.of(PartyChatRoom.builder().id(1L).partyId(10L).build()));
+        given(partyMemberRepository.findMemberIdByPartyId(10L))
+                .willReturn(List.of(), List.of(5L));
+        given(partyRepository.findHostMemberIdById(10L))
+                .willReturn(Optional.of(1L));
+        assertThat(cache.isMember(1L, 5L)).isFalse();
+
+        // when
+        cache.evictParty(10L);
+
+        // then
+        assertThat(cache.isMember(1L, 5L)).isTrue();
+        verify(partyChatRoomRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("모임과 연결되지 않은 채팅방은 개설한 회원만, 없는 채팅방은 아무도 사용할 수 없는지 테스트")
+    void hostRoomTest() {
+        // given
+        given(partyChatRoomRepository.findById(1L))
+                .willReturn(Optional.of(PartyChatRoom.toEntity(100L, "host", "room", null)));
+        given(partyChatRoomRepository.findById(2L))
+                .willReturn(Optional.empty());
+        given(partyChatRoomRepository.findById(3L))
+                .willReturn(Optional.of(PartyChatRoom.toEntity("host", "room")));
+
+        // when, then
+        assertThat(cache.isMember(1L, 100L)).isTrue();
+        assertThat(cache.isMember(1L, 200L)).isFalse();
+        assertThat(cache.isMember(2L, 100L)).isFalse();
+        assertThat(cache.isMember(3L, 100L)).isFalse();
+        assertThat(cache.isMember(null, 100L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("open-rooms 이면 모임과 연결되지 않은 채팅방은 누구나 사용할 수 있는지 테스트")
+    void openRoomTest() {
+        // given
+        PartyChatMembershipCache openCache = new PartyChatMembershipCache(partyChatRoomRepository, partyRepository,
+                partyMemberRepository, new SimpleMeterRegistry(), 300, true);
+        given(partyChatRoomRepository.findById(1L))
+                .willReturn(Optional.of(PartyChatRoom.toEntity(100L, "host", "room", null)));
+
+        // when, then
+        assertThat(openCache.isMember(1L, 200L)).isTrue();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.domain.PartyChatMessageArchive;
+import com.example.villagerservice.party.domain.PartyChatRoom;
+import com.example.villagerservice.party.dto.PartyChatMessageDto;
+import com.example.villagerservice.party.repository.PartyChatMessageArchiveRepository;
+import com.example.villagerservice.party.repository.PartyChatMessageRepository;
+import com.example.villagerservice.party.repository.PartyChatRoomRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 트랜잭션을 나눠서 옮기므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartyChatMessageArchiverTest {
+    private static final LocalDate TODAY = LocalDate.of(2023, 6, 15);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PartyChatRoomRepository partyChatRoomRepository;
+
+    @Autowired
+    private PartyChatMessageArchiveRepository partyChatMessageArchiveRepository;
+
+    @Autowired
+    private PartyChatMessageRepository partyChatMessageRepository;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PartyChatMessageArchiver archiver;
+
+    private PartyChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        meterRegistry = new SimpleMeterRegistry();
+        // 보관 기간 3개월, 10개씩 옮긴다
+        archiver = new PartyChatMessageArchiver(jdbcTemplate, transactionManager, partyChatMessageArchiveRepository,
+                new PartyChatRecentBuffer(partyChatMessageRepository, meterRegistry, 50, 30),
+                new ObjectMapper().findAndRegisterModules(), meterRegistry, 3, 10);
+        room = partyChatRoomRepository.save(PartyChatRoom.toEntity("host", "room"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from party_chat_message");
+        partyChatMessageArchiveRepository.deleteAll();
+        partyChatRoomRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 달의 메세지만 월별로 나눠서 보관 테이블로 옮기는지 테스트")
+    void rolloverTest() {
+        // given
+        // seq 1 ~ 15 : 2023-01, seq 16 ~ 20 : 2023-02, seq 21 ~ 25 : 2023-03 (보관 기간 안)
+        for (long seq = 1; seq <= 25; seq++) {
+            int month = seq <= 15 ? 1 : seq <= 20 ? 2 : 3;
+            insert(seq, LocalDateTime.of(2023, month, 10, 12, 0));
+        }
+
+        // when
+        int moved = archiver.rollover(TODAY);
+        int movedAgain = archiver.rollover(TODAY);
+
+        // then
+        assertThat(moved).isEqualTo(20);
+        assertThat(movedAgain).isZero();
+        assertThat(jdbcTemplate.queryForObject("select min(seq) from party_chat_message", Long.class))
+                .isEqualTo(21L);
+        // 10개씩 옮기면서 달이 바뀌면 나눈다 : [1 ~ 10], [11 ~ 15], [16 ~ 20]
+        List<PartyChatMessageArchive> archiveList = partyChatMessageArchiveRepository.findAll();
+        assertThat(archiveList).extracting(PartyChatMessageArchive::getArchiveMonth)
+                .containsExactlyInAnyOrder(202301, 202301, 202302);
+        assertThat(archiveList).extracting(PartyChatMessageArchive::getMessageCount)
+                .containsExactlyInAnyOrder(10, 5, 5);
+        assertThat(meterRegistry.counter("party.chat.archive.messages").count()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("보관된 메세지를 id 커서, seq 로 이어서 조회하는지 테스트")
+    void findTest() {
+        // given
+        for (long seq = 1; seq <= 25; seq++) {
+            insert(seq, LocalDateTime.of(2023, 1, 10, 12, 0));
+        }
+        archiver.rollover(TODAY);
+        Long lastArchivedId = archiver.getLastArchivedId(room.getId());
+
+        // when
+        List<PartyChatMessageDto> beforeList = archiver.findBefore(room.getId(), lastArchivedId + 1, 12);
+        List<PartyChatMessageDto> afterList = archiver.findAfter(room.getId(), 5L, 12);
+
+        // then
+        assertThat(beforeList).extracting(PartyChatMessageDto::getSeq)
+                .containsExactly(25L, 24L, 23L, 22L, 21L, 20L, 19L, 18L, 17L, 16L, 15L, 14L);
+        assertThat(beforeList.get(0).getMessage()).isEqualTo("message25");
+        assertThat(afterList).extracting(PartyChatMessageDto::getSeq)
+                .containsExactly(6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L);
+        assertThat(archiver.getLastArchivedId(room.getId() + 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("마지막 보관 메세지 id 를 버퍼에 두고 메세지를 옮긴 뒤에만 다시 읽는지 테스트")
+    void getLastArchivedIdTest() {
+        // given
+        for (long seq = 1; seq <= 5; seq++) {
+            insert(seq, LocalDateTime.of(2023, 1, 10, 12, 0));
+        }
+        Long before = archiver.getLastArchivedId(room.getId());
+
+        // when
+        archiver.rollover(TODAY);
+        Long lastArchivedId = archiver.getLastArchivedId(room.getId());
+        partyChatMessageArchiveRepository.deleteAll();
+        Long cached = archiver.getLastArchivedId(room.getId());
+
+        // then
+        assertThat(before).isNull();
+        assertThat(lastArchivedId).isNotNull();
+        assertThat(cached).isEqualTo(lastArchivedId);
+    }
+
+    private void insert(long seq, LocalDateTime createdAt) {
+        jdbcTemplate.update("insert into party_chat_message " +
+                        " (party_chat_room_id , room_id , seq , writer_nickname , message , created_at , modified_at) " +
+                        " values (? , ? , ? , ? , ? , ? , ?)",
+                room.getId(), room.getId(), seq, "writer", "message" + seq, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.domain.PartyChatRoom;
+import com.example.villagerservice.party.dto.PartyChatMessageDto;
+import com.example.villagerservice.party.repository.PartyChatRoomRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 쓰기 스레드가 저장한 행을 읽어야 하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartyChatMessageWriterTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PartyChatRoomRepository partyChatRoomRepository;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PartyChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        meterRegistry = new SimpleMeterRegistry();
+        room = partyChatRoomRepository.save(PartyChatRoom.toEntity("host", "room"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from party_chat_message");
+        partyChatRoomRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("메세지를 여러 행 insert 로 모아서 저장하고 종료 시 남은 메세지를 모두 저장하는지 테스트")
+    void writeTest() throws Exception {
+        // given
+        PartyChatMessageWriter writer = new PartyChatMessageWriter(jdbcTemplate, meterRegistry, 10000, 500, 5, 50, 3, 100);
+        writer.start();
+
+        List<PartyChatMessageDto> messageList = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 1200; i++) {
+            PartyChatMessageDto message = message("message" + i);
+            messageList.add(message);
+            writer.write(message);
+        }
+        writer.stop();
+
+        // then
+        DistributionSummary batchSummary = meterRegistry.summary("party.chat.write.batch");
+        assertThat(countMessages()).isEqualTo(1200);
+        assertThat(batchSummary.totalAmount()).isEqualTo(1200);
+        assertThat(batchSummary.count()).isLessThan(1200);
+        assertThat(batchSummary.max()).isLessThanOrEqualTo(500);
+        assertThat(meterRegistry.counter("party.chat.write.direct").count()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from party_chat_message where party_chat_room_id = ? and room_id = ? and created_at is not null",
+                Integer.class, room.getId(), room.getId())).isEqualTo(1200);
+        // 저장 후 생성된 id 를 메세지에 넣는다
+        assertThat(messageList).extracting(PartyChatMessageDto::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(jdbcTemplate.queryForObject("select message from party_chat_message where id = ?",
+                String.class, messageList.get(700).getId())).isEqualTo("message700");
+    }
+
+    @Test
+    @DisplayName("큐에 넣을 수 없으면 바로 저장하는지 테스트")
+    void directWriteTest() {
+        // given
+        // 쓰기 스레드를 시작하지 않은 상태
+        PartyChatMessageWriter writer = new PartyChatMessageWriter(jdbcTemplate, meterRegistry, 1, 500, 5, 0, 3, 100);
+
+        // when
+        writer.write(message("message1"));
+        writer.write(message("message2"));
+
+        // then
+        assertThat(countMessages()).isEqualTo(2);
+        assertThat(meterRegistry.counter("party.chat.write.direct").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장할 수 없는 메세지가 섞여 있으면 한 행씩 저장해서 그 메세지만 버리는지 테스트")
+    void writeWithInvalidRowTest() throws Exception {
+        // given
+        PartyChatMessageWriter writer = new PartyChatMessageWriter(jdbcTemplate, meterRegistry, 10000, 500, 100, 50, 3, 100);
+        writer.start();
+
+        // when
+        writer.write(message("message1"));
+        writer.write(message("x".repeat(300)));
+        writer.write(message("message3"));
+        writer.stop();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("select message from party_chat_message order by id", String.class))
+                .containsExactly("message1", "message3");
+        assertThat(meterRegistry.counter("party.chat.write.failed").count()).isEqualTo(1);
+        // 잘못된 행 때문에 실패하면 기다리며 다시 시도하지 않는다
+        assertThat(meterRegistry.counter("party.chat.write.retried").count()).isZero();
+    }
+
+    private PartyChatMessageDto message(String message) {
+        return PartyChatMessageDto.builder()
+                .roomId(room.getId())
+                .writerNickname("writer")
+                .message(message)
+                .build();
+    }
+
+    private Integer countMessages() {
+        return jdbcTemplate.queryForObject("select count(*) from party_chat_message", Integer.class);
+    }
+}
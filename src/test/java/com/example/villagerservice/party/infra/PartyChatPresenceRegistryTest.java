@@ -0,0 +1,125 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.member.domain.Member;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PartyChatPresenceRegistryTest {
+
+    @Mock
+    private PartyChatSequencer partyChatSequencer;
+
+    private LocalPartyChatPresenceStore presenceStore;
+
+    private PartyChatPresenceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        presenceStore = new LocalPartyChatPresenceStore(new SimpleMeterRegistry());
+        registry = new PartyChatPresenceRegistry(presenceStore, partyChatSequencer);
+    }
+
+    @Test
+    @DisplayName("구독하면 접속자에 추가되고 읽은 위치가 마지막 seq 로 옮겨지는지 테스트")
+    void subscribeTest() {
+        // given
+        given(partyChatSequencer.current(1L))
+                .willReturn(10L);
+        registry.onConnect(new SessionConnectEvent(this, connect("session1", "hello")));
+        registry.onConnect(new SessionConnectEvent(this, connect("session2", "hello")));
+        registry.onConnect(new SessionConnectEvent(this, connect("session3", "world")));
+
+        // when
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("session1", "sub1", "/sub/chat/room/1")));
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("session2", "sub1", "/sub/chat/room/1")));
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("session3", "sub1", "/sub/chat/room/1")));
+        // 채팅방이 아닌 경로는 무시
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("session3", "sub2", "/sub/counters/post-view/1")));
+
+        // then
+        assertThat(presenceStore.getOnline(1L)).containsExactlyInAnyOrder("hello", "world");
+        assertThat(presenceStore.getReadPositions("hello")).containsEntry(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("같은 회원의 세션이 모두 끊겨야 접속자에서 제거되고 끊긴 시점까지 읽은 것으로 보는지 테스트")
+    void disconnectTest() {
+        // given
+        given(partyChatSequencer.current(1L))
+                .willReturn(10L, 10L, 25L);
+        registry.onConnect(new SessionConnectEvent(this, connect("session1", "hello")));
+        registry.onConnect(new SessionConnectEvent(this, connect("session2", "hello")));
+        registry.subscribe("session1", "sub1", 1L);
+        registry.subscribe("session2", "sub1", 1L);
+
+        // when
+        registry.onDisconnect(new SessionDisconnectEvent(this, disconnect("session1"), "session1", CloseStatus.NORMAL));
+        assertThat(presenceStore.getOnline(1L)).containsExactly("hello");
+        registry.onDisconnect(new SessionDisconnectEvent(this, disconnect("session2"), "session2", CloseStatus.NORMAL));
+
+        // then
+        assertThat(presenceStore.getOnline(1L)).isEmpty();
+        assertThat(presenceStore.getReadPositions("hello")).containsEntry(1L, 25L);
+        assertThat(registry.getSessionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("인증한 회원은 nickname 헤더 대신 회원 닉네임으로 접속하고 읽은 위치는 회원 id 로 저장하는지 테스트")
+    void authenticatedSubscribeTest() {
+        // given
+        given(partyChatSequencer.current(1L))
+                .willReturn(10L);
+        Member member = Member.builder().email("test@gmail.com").nickname("hello").build();
+        member.setJwtMemberId(3L);
+        registry.onConnect(new SessionConnectEvent(this, connect("session1", "world"),
+                new UsernamePasswordAuthenticationToken(member, "", null)));
+
+        // when
+        registry.subscribe("session1", "sub1", 1L);
+
+        // then
+        assertThat(presenceStore.getOnline(1L)).containsExactly("hello");
+        assertThat(presenceStore.getReadPositions("member:3")).containsEntry(1L, 10L);
+        assertThat(presenceStore.getReadPositions("hello")).isEmpty();
+        assertThat(presenceStore.getReadPositions("world")).isEmpty();
+    }
+
+    private Message<byte[]> connect(String sessionId, String nickname) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.addNativeHeader(PartyChatPresenceRegistry.NICKNAME_HEADER, nickname);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
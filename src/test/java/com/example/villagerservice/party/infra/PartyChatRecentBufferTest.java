@@ -0,0 +1,223 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.domain.PartyChatMessage;
+import com.example.villagerservice.party.dto.PartyChatMessageDto;
+import com.example.villagerservice.party.repository.PartyChatMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PartyChatRecentBufferTest {
+
+    @Mock
+    private PartyChatMessageRepository partyChatMessageRepository;
+
+    @Test
+    @DisplayName("최근 메세지 N 개만 오래된 순서로 보관하는지 테스트")
+    void appendTest() {
+        // given
+        PartyChatRecentBuffer buffer = new PartyChatRecentBuffer(partyChatMessageRepository, new SimpleMeterRegistry(), 3, 30);
+        given(partyChatMessageRepository.findByRoomIdOrderByIdDesc(anyLong(), any(Pageable.class)))
+                .willReturn(new ArrayList<>());
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            buffer.append(message(1L, null, "message" + i));
+        }
+        buffer.append(message(2L, null, "other"));
+        List<PartyChatMessageDto> first = buffer.getRecent(1L);
+        List<PartyChatMessageDto> second = buffer.getRecent(1L);
+
+        // then
+        assertThat(toMessages(first)).containsExactly("message3", "message4", "message5");
+        assertThat(toMessages(second)).containsExactly("message3", "message4", "message5");
+        // DB 는 채팅방마다 처음 한 번만 조회
+        verify(partyChatMessageRepository, times(1)).findByRoomIdOrderByIdDesc(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽은 메세지와 그 사이 보낸 메세지를 중복 없이 합치는지 테스트")
+    void loadTest() {
+        // given
+        PartyChatRecentBuffer buffer = new PartyChatRecentBuffer(partyChatMessageRepository, new SimpleMeterRegistry(), 5, 30);
+        // 이미 저장된 메세지(id 3)와 아직 저장되지 않은 메세지
+        buffer.append(message(1L, 3L, "message3"));
+        buffer.append(message(1L, null, "message4"));
+        given(partyChatMessageRepository.findByRoomIdOrderByIdDesc(anyLong(), any(Pageable.class)))
+                .willReturn(List.of(entity(3L, "message3"), entity(2L, "message2"), entity(1L, "message1")));
+
+        // when
+        List<PartyChatMessageDto> result = buffer.getRecent(1L);
+
+        // then
+        assertThat(toMessages(result)).containsExactly("message1", "message2", "message3", "message4");
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 메세지는 seq 순서 자리에 넣고 같은 seq 는 한 번만 보관하는지 테스트")
+    void appendOutOfOrderTest() {
+        // given
+        PartyChatRecentBuffer buffer = new PartyChatRecentBuffer(partyChatMessageRepository, new SimpleMeterRegistry(), 3, 30);
+        given(partyChatMessageRepository.findByRoomIdOrderByIdDesc(anyLong(), any(Pageable.class)))
+                .willReturn(new ArrayList<>());
+
+        // when
+        buffer.append(seqMessage(2L, "message2"));
+        buffer.append(seqMessage(4L, "message4"));
+        buffer.append(seqMessage(3L, "message3"));
+        // 보낸 서버가 다시 받은 자기 메세지
+        buffer.append(seqMessage(4L, "message4"));
+        buffer.append(seqMessage(5L, "message5"));
+        // 가장 오래된 메세지보다 오래된 메세지
+        buffer.append(seqMessage(1L, "message1"));
+
+        // then
+        assertThat(toMessages(buffer.getRecent(1L))).containsExactly("message3", "message4", "message5");
+        assertThat(buffer.getLastSeq(1L)).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("버퍼에 빠진 seq 가 있거나 채팅방의 마지막 seq 가 없으면 DB 에서 다시 읽어 합치는지 테스트")
+    void getRecentStaleTest() {
+        // given
+        PartyChatRecentBuffer buffer = new PartyChatRecentBuffer(partyChatMessageRepository, new SimpleMeterRegistry(), 5, 30);
+        given(partyChatMessageRepository.findByRoomIdOrderByIdDesc(anyLong(), any(Pageable.class)))
+                .willReturn(List.of(seqEntity(1L)), List.of(seqEntity(3L), seqEntity(2L), seqEntity(1L)),
+                        List.of(seqEntity(5L), seqEntity(4L), seqEntity(3L), seqEntity(2L), seqEntity(1L)));
+        buffer.getRecent(1L, 1L);
+        // 이 서버가 보낸 아직 저장되지 않은 메세지 (다른 서버가 보낸 seq 2, 3 은 받지 못했다)
+        buffer.append(seqMessage(4L, "message4"));
+
+        // when
+        List<PartyChatMessageDto> gap = buffer.getRecent(1L, 4L);
+        List<PartyChatMessageDto> cached = buffer.getRecent(1L, 4L);
+        // 다른 서버가 seq 5 를 보냈고 이 서버는 받지 못했다
+        List<PartyChatMessageDto> behind = buffer.getRecent(1L, 5L);
+
+        // then
+        assertThat(toMessages(gap)).containsExactly("message1", "message2", "message3", "message4");
+        assertThat(toMessages(cached)).containsExactly("message1", "message2", "message3", "message4");
+        assertThat(toMessages(behind)).containsExactly("message1", "message2", "message3", "message4", "message5");
+        verify(partyChatMessageRepository, times(3)).findByRoomIdOrderByIdDesc(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("오래 사용하지 않은 채팅방을 제거하는지 테스트")
+    void evictInactiveTest() {
+        // given
+        PartyChatRecentBuffer buffer = new PartyChatRecentBuffer(partyChatMessageRepository, new SimpleMeterRegistry(), 5, 0);
+        buffer.append(message(1L, null, "message1"));
+
+        // when
+        buffer.evictInactive();
+        given(partyChatMessageRepository.findByRoomIdOrderByIdDesc(anyLong(), any(Pageable.class)))
+                .willReturn(new ArrayList<>());
+        List<PartyChatMessageDto> result = buffer.getRecent(1L);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반환한 메세지를 바꿔도 버퍼에 영향이 없는지 테스트")
+    void copyTest() {
+        // given
+        PartyChatRecentBuffer buffer = new PartyChatRecentBuffer(partyChatMessageRepository, new SimpleMeterRegistry(), 5, 30);
+        given(partyChatMessageRepository.findByRoomIdOrderByIdDesc(anyLong(), any(Pageable.class)))
+                .willReturn(new ArrayList<>());
+        buffer.append(message(1L, null, "message1"));
+
+        // when
+        buffer.getRecent(1L).get(0).setMessage("changed");
+
+        // then
+        assertThat(toMessages(buffer.getRecent(1L))).containsExactly("message1");
+        verify(partyChatMessageRepository, never()).findByRoomIdAndIdLessThanOrderByIdDesc(anyLong(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("마지막 보관 메세지 id 를 한 번만 읽고 보관 작업 이후에 다시 읽는지 테스트")
+    void getLastArchivedIdTest() {
+        // given
+        PartyChatRecentBuffer buffer = new PartyChatRecentBuffer(partyChatMessageRepository, new SimpleMeterRegistry(), 5, 30);
+        AtomicLong lastArchivedId = new AtomicLong(10L);
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<Long, Long> loader = roomId -> {
+            loadCount.incrementAndGet();
+            return lastArchivedId.get();
+        };
+
+        // when
+        Long first = buffer.getLastArchivedId(1L, loader);
+        Long cached = buffer.getLastArchivedId(1L, loader);
+        lastArchivedId.set(20L);
+        buffer.resetLastArchivedId(1L);
+        Long reloaded = buffer.getLastArchivedId(1L, loader);
+
+        // then
+        assertThat(first).isEqualTo(10L);
+        assertThat(cached).isEqualTo(10L);
+        assertThat(reloaded).isEqualTo(20L);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private PartyChatMessageDto message(Long roomId, Long id, String message) {
+        return PartyChatMessageDto.builder()
+                .id(id)
+                .roomId(roomId)
+                .writerNickname("writer")
+                .message(message)
+                .build();
+    }
+
+    private PartyChatMessageDto seqMessage(Long seq, String message) {
+        PartyChatMessageDto dto = message(1L, null, message);
+        dto.setSeq(seq);
+        return dto;
+    }
+
+    private PartyChatMessage seqEntity(Long seq) {
+        return PartyChatMessage.builder()
+                .id(seq)
+                .seq(seq)
+                .roomId(1L)
+                .writerNickname("writer")
+                .message("message" + seq)
+                .build();
+    }
+
+    private PartyChatMessage entity(Long id, String message) {
+        return PartyChatMessage.builder()
+                .id(id)
+                .roomId(1L)
+                .writerNickname("writer")
+                .message(message)
+                .build();
+    }
+
+    private List<String> toMessages(List<PartyChatMessageDto> messageList) {
+        return messageList.stream()
+                .map(PartyChatMessageDto::getMessage)
+                .collect(Collectors.toList());
+    }
+}
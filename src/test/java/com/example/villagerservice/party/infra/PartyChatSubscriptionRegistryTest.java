@@ -0,0 +1,151 @@
+package com.example.villagerservice.party.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PartyChatSubscriptionRegistryTest {
+
+    @Mock
+    private ObjectProvider<PartyChatRoomListener> roomListeners;
+
+    @Mock
+    private PartyChatRoomListener roomListener;
+
+    private PartyChatSubscriptionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new PartyChatSubscriptionRegistry(roomListeners, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("채팅방 첫 구독과 마지막 구독 해제 때만 알리는지 테스트")
+    void subscribeTest() {
+        // given
+        given(roomListeners.orderedStream()).willAnswer(invocation -> Stream.of(roomListener));
+
+        // when
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("session1", "sub1", "/sub/chat/room/1")));
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("session2", "sub1", "/sub/chat/room/1")));
+        registry.onUnsubscribe(new SessionUnsubscribeEvent(this, unsubscribe("session1", "sub1")));
+
+        // then
+        assertThat(registry.getSubscriberCount(1L)).isEqualTo(1);
+        verify(roomListener, times(1)).onRoomOpened(1L);
+        verify(roomListener, never()).onRoomClosed(anyLong());
+
+        // when
+        registry.onUnsubscribe(new SessionUnsubscribeEvent(this, unsubscribe("session2", "sub1")));
+
+        // then
+        assertThat(registry.getRoomIdSet()).isEmpty();
+        verify(roomListener, times(1)).onRoomClosed(1L);
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 그 세션의 구독을 모두 해제하는지 테스트")
+    void disconnectTest() {
+        // given
+        given(roomListeners.orderedStream()).willAnswer(invocation -> Stream.of(roomListener));
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("session1", "sub1", "/sub/chat/room/1")));
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("session1", "sub2", "/sub/chat/room/2")));
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("session2", "sub1", "/sub/chat/room/2")));
+
+        // when
+        registry.onDisconnect(new SessionDisconnectEvent(this, unsubscribe("session1", null), "session1", CloseStatus.NORMAL));
+
+        // then
+        assertThat(registry.getRoomIdSet()).containsExactly(2L);
+        verify(roomListener).onRoomClosed(1L);
+        verify(roomListener, never()).onRoomClosed(2L);
+    }
+
+    @Test
+    @DisplayName("구독 수 잠금을 푼 뒤에 리스너에 알리는지 테스트")
+    void notifyOutsideLockTest() {
+        // given
+        List<Boolean> lockHeld = new ArrayList<>();
+        given(roomListeners.orderedStream()).willAnswer(invocation -> Stream.of(roomListener));
+        willAnswer(invocation -> lockHeld.add(Thread.holdsLock(registry))).given(roomListener).onRoomOpened(1L);
+        willAnswer(invocation -> lockHeld.add(Thread.holdsLock(registry))).given(roomListener).onRoomClosed(1L);
+
+        // when
+        registry.subscribe("session1", "sub1", 1L);
+        registry.disconnect("session1");
+
+        // then
+        assertThat(lockHeld).containsExactly(false, false);
+    }
+
+    @Test
+    @DisplayName("같은 구독 id 로 같은 채팅방을 다시 구독하면 알리지 않는지 테스트")
+    void resubscribeTest() {
+        // given
+        given(roomListeners.orderedStream()).willAnswer(invocation -> Stream.of(roomListener));
+        registry.subscribe("session1", "sub1", 1L);
+
+        // when
+        registry.subscribe("session1", "sub1", 1L);
+
+        // then
+        assertThat(registry.getSubscriberCount(1L)).isEqualTo(1);
+        verify(roomListener, times(1)).onRoomOpened(1L);
+        verify(roomListener, never()).onRoomClosed(anyLong());
+    }
+
+    @Test
+    @DisplayName("채팅방이 아닌 구독은 무시하는지 테스트")
+    void ignoreTest() {
+        // when
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("session1", "sub1", "/sub/counters/party/1")));
+        registry.onSubscribe(new SessionSubscribeEvent(this, subscribe("session1", "sub2", "/sub/chat/room/abc")));
+
+        // then
+        assertThat(registry.getRoomCount()).isZero();
+        verify(roomListeners, never()).orderedStream();
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
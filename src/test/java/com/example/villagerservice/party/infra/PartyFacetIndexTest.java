@@ -0,0 +1,181 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.dto.PartyFacetDTO;
+import com.example.villagerservice.party.dto.PartySearchCond;
+import com.example.villagerservice.party.type.PartyAmountType;
+import com.example.villagerservice.party.type.PartyFacetRange;
+import com.example.villagerservice.party.type.PartyNumberPeopleType;
+import com.example.villagerservice.party.type.PartyScoreType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartyFacetIndexTest {
+
+    private static final List<String> TAG_LIST = List.of("낚시", "볼링", "등산", "독서", "요리");
+
+    @Test
+    @DisplayName("검색 조건에 맞는 모임만 찾는지 테스트")
+    void matchTest() {
+        // given
+        PartyFacetIndex partyFacetIndex = new PartyFacetIndex(null, 20);
+        Map<Long, TestParty> partyMap = createParties(partyFacetIndex, new Random(1), 500);
+        Random random = new Random(2);
+
+        for (int i = 0; i < 100; i++) {
+            PartySearchCond searchCond = randomSearchCond(random);
+
+            // when
+            LongPredicate filter = partyFacetIndex.match(searchCond);
+
+            // then
+            for (TestParty party : partyMap.values()) {
+                assertThat(filter.test(party.id)).isEqualTo(party.matches(searchCond, null));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("항목별 모임 수는 자기 항목을 제외한 조건으로 세는지 테스트")
+    void getFacetsTest() {
+        // given
+        PartyFacetIndex partyFacetIndex = new PartyFacetIndex(null, 20);
+        Map<Long, TestParty> partyMap = createParties(partyFacetIndex, new Random(3), 500);
+        Random random = new Random(4);
+
+        for (int i = 0; i < 50; i++) {
+            PartySearchCond searchCond = randomSearchCond(random);
+
+            // when
+            PartyFacetDTO facets = partyFacetIndex.getFacets(searchCond);
+
+            // then
+            for (PartyFacetDTO.Count count : facets.getTagList()) {
+                assertThat(count.getCount()).isEqualTo(partyMap.values().stream()
+                        .filter(party -> party.matches(searchCond, "tag") && party.tagNameList.contains(count.getValue()))
+                        .count());
+            }
+            for (PartyFacetDTO.Count count : facets.getAmountList()) {
+                assertThat(count.getCount()).isEqualTo(partyMap.values().stream()
+                        .filter(party -> party.matches(searchCond, "amount") && party.amount.name().equals(count.getValue()))
+                        .count());
+            }
+            for (PartyFacetDTO.Count count : facets.getScoreList()) {
+                assertThat(count.getCount()).isEqualTo(partyMap.values().stream()
+                        .filter(party -> party.matches(searchCond, "score") && party.score.name().equals(count.getValue()))
+                        .count());
+            }
+            assertThat(facets.getAmountList()).hasSize(PartyAmountType.values().length);
+            assertThat(facets.getNumberPeopleList()).hasSize(PartyNumberPeopleType.values().length);
+        }
+    }
+
+    @Test
+    @DisplayName("모임 수정, 삭제, 종료 시 기존 값이 빠지는지 테스트")
+    void updateAndRemoveTest() {
+        // given
+        PartyFacetIndex partyFacetIndex = new PartyFacetIndex(null, 20);
+        partyFacetIndex.put(1L, List.of("낚시"), 0, 2, 50, LocalDate.now().plusDays(1));
+        partyFacetIndex.put(2L, List.of("낚시", "볼링"), 20000, 6, 80, LocalDate.now());
+        partyFacetIndex.put(3L, List.of("볼링"), 0, 2, 50, LocalDate.now().minusDays(1));
+
+        PartySearchCond fishing = new PartySearchCond();
+        fishing.getTagList().add("낚시");
+
+        // when
+        partyFacetIndex.put(1L, List.of("등산"), 0, 2, 50, LocalDate.now().plusDays(1));
+        LongPredicate afterUpdate = partyFacetIndex.match(fishing);
+        partyFacetIndex.remove(2L);
+        LongPredicate afterRemove = partyFacetIndex.match(fishing);
+
+        // then
+        assertThat(afterUpdate.test(1L)).isFalse();
+        assertThat(afterUpdate.test(2L)).isTrue();
+        assertThat(afterUpdate.test(3L)).isFalse();
+        assertThat(afterRemove.test(2L)).isFalse();
+        assertThat(partyFacetIndex.size()).isEqualTo(1);
+        assertThat(partyFacetIndex.getFacets(new PartySearchCond()).getTagList())
+                .extracting(PartyFacetDTO.Count::getValue)
+                .containsExactly("등산");
+    }
+
+    private Map<Long, TestParty> createParties(PartyFacetIndex partyFacetIndex, Random random, int size) {
+        Map<Long, TestParty> partyMap = new HashMap<>();
+        for (long id = 1; id <= size; id++) {
+            List<String> tagNameList = TAG_LIST.stream()
+                    .filter(tagName -> random.nextInt(3) == 0)
+                    .collect(Collectors.toList());
+            int amount = random.nextInt(4) == 0 ? 0 : random.nextInt(80000);
+            int numberPeople = 1 + random.nextInt(12);
+            int score = random.nextInt(100);
+
+            partyFacetIndex.put(id, tagNameList, amount, numberPeople, score, LocalDate.now().plusDays(1));
+            partyMap.put(id, new TestParty(id, tagNameList,
+                    PartyFacetRange.of(PartyAmountType.class, amount),
+                    PartyFacetRange.of(PartyNumberPeopleType.class, numberPeople),
+                    PartyFacetRange.of(PartyScoreType.class, score)));
+        }
+        return partyMap;
+    }
+
+    private PartySearchCond randomSearchCond(Random random) {
+        PartySearchCond searchCond = new PartySearchCond();
+        TAG_LIST.stream().filter(tagName -> random.nextInt(4) == 0).forEach(searchCond.getTagList()::add);
+        for (PartyAmountType amount : PartyAmountType.values()) {
+            if (random.nextInt(4) == 0) {
+                searchCond.getAmountList().add(amount);
+            }
+        }
+        for (PartyNumberPeopleType numberPeople : PartyNumberPeopleType.values()) {
+            if (random.nextInt(4) == 0) {
+                searchCond.getNumberPeopleList().add(numberPeople);
+            }
+        }
+        for (PartyScoreType score : PartyScoreType.values()) {
+            if (random.nextInt(4) == 0) {
+                searchCond.getScoreList().add(score);
+            }
+        }
+        return searchCond;
+    }
+
+    private static class TestParty {
+        private final long id;
+        private final List<String> tagNameList;
+        private final PartyAmountType amount;
+        private final PartyNumberPeopleType numberPeople;
+        private final PartyScoreType score;
+
+        private TestParty(long id, List<String> tagNameList, PartyAmountType amount,
+                          PartyNumberPeopleType numberPeople, PartyScoreType score) {
+            this.id = id;
+            this.tagNameList = new ArrayList<>(tagNameList);
+            this.amount = amount;
+            this.numberPeople = numberPeople;
+            this.score = score;
+        }
+
+        // excluded 항목을 제외한 검색 조건을 모두 만족하는지 확인
+        private boolean matches(PartySearchCond searchCond, String excluded) {
+            boolean tagMatched = "tag".equals(excluded) || searchCond.getTagList().isEmpty()
+                    || searchCond.getTagList().stream().anyMatch(tagNameList::contains);
+            boolean amountMatched = "amount".equals(excluded) || searchCond.getAmountList().isEmpty()
+                    || searchCond.getAmountList().contains(amount);
+            boolean numberPeopleMatched = "numberPeople".equals(excluded) || searchCond.getNumberPeopleList().isEmpty()
+                    || searchCond.getNumberPeopleList().contains(numberPeople);
+            boolean scoreMatched = "score".equals(excluded) || searchCond.getScoreList().isEmpty()
+                    || searchCond.getScoreList().contains(score);
+            return tagMatched && amountMatched && numberPeopleMatched && scoreMatched;
+        }
+    }
+}
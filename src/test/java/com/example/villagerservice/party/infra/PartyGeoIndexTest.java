@@ -0,0 +1,162 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.dto.PartyListCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartyGeoIndexTest {
+
+    @Test
+    @DisplayName("가까운 순으로 모임을 찾는지 테스트")
+    void searchTest() {
+        // given
+        PartyGeoIndex partyGeoIndex = new PartyGeoIndex(null, 0, 16);
+        Random random = new Random(1);
+        Map<Long, double[]> locationMap = new HashMap<>();
+        for (long id = 1; id <= 1000; id++) {
+            double latitude = 37 + random.nextDouble();
+            double longitude = 126.5 + random.nextDouble();
+            locationMap.put(id, new double[]{latitude, longitude});
+            partyGeoIndex.put(id, latitude, longitude, LocalDate.now().plusDays(1));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            double latitude = 37 + random.nextDouble();
+            double longitude = 126.5 + random.nextDouble();
+
+            // when
+            List<Long> result = partyGeoIndex.search(latitude, longitude, 5);
+
+            // then
+            List<Long> expected = locationMap.entrySet().stream()
+                    .sorted(Comparator.comparingDouble((Map.Entry<Long, double[]> entry) ->
+                                    distance(latitude, longitude, entry.getValue()))
+                            .thenComparing(Map.Entry::getKey))
+                    .limit(5)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("최대 반경 밖의 모임은 제외하는지 테스트")
+    void searchMaxRadiusTest() {
+        // given
+        PartyGeoIndex partyGeoIndex = new PartyGeoIndex(null, 10, 16);
+        partyGeoIndex.put(1L, 37.5665, 126.9780, LocalDate.now());
+        partyGeoIndex.put(2L, 37.4563, 126.7052, LocalDate.now());
+
+        // when
+        List<Long> result = partyGeoIndex.search(37.5700, 126.9800, 5);
+
+        // then
+        assertThat(result).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("종료된 모임은 제외하고 정리되는지 테스트")
+    void evictEndedTest() {
+        // given
+        PartyGeoIndex partyGeoIndex = new PartyGeoIndex(null, 30, 16);
+        partyGeoIndex.put(1L, 37.5665, 126.9780, LocalDate.now().minusDays(1));
+        partyGeoIndex.put(2L, 37.5666, 126.9781, LocalDate.now());
+        partyGeoIndex.put(3L, 37.5667, 126.9782, null);
+
+        // when
+        List<Long> result = partyGeoIndex.search(37.5665, 126.9780, 5);
+        partyGeoIndex.evictEnded();
+
+        // then
+        assertThat(result).containsExactly(2L, 3L);
+        assertThat(partyGeoIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("모임 수정, 삭제가 트리 재생성 전후 모두 반영되는지 테스트")
+    void updateAndRemoveTest() {
+        // given
+        PartyGeoIndex partyGeoIndex = new PartyGeoIndex(null, 30, 4);
+        List<Long> partyIdList = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            partyGeoIndex.put(id, 37.5 + id * 0.001, 127.0, LocalDate.now().plusDays(1));
+            partyIdList.add(id);
+        }
+
+        // when
+        partyGeoIndex.put(10L, 37.5, 127.0, LocalDate.now().plusDays(1));
+        partyGeoIndex.remove(1L);
+        partyGeoIndex.put(2L, null, null, null);
+
+        // then
+        assertThat(partyGeoIndex.search(37.5, 127.0, 3)).containsExactly(10L, 3L, 4L);
+        assertThat(partyGeoIndex.size()).isEqualTo(partyIdList.size() - 2);
+    }
+
+    @Test
+    @DisplayName("다음 페이지 위치로 이어서 조회하면 중복, 누락 없이 전체 모임을 가까운 순으로 반환하는지 테스트")
+    void searchNextPageTest() {
+        // given
+        PartyGeoIndex partyGeoIndex = new PartyGeoIndex(null, 0, 16);
+        Random random = new Random(2);
+        for (long id = 1; id <= 300; id++) {
+            partyGeoIndex.put(id, 37 + random.nextDouble(), 126.5 + random.nextDouble(), LocalDate.now().plusDays(1));
+        }
+
+        // when
+        List<PartyListCursor> result = new ArrayList<>();
+        PartyListCursor cursor = null;
+        while (true) {
+            List<PartyListCursor> page = partyGeoIndex.search(37.5, 127.0, cursor, 7);
+            result.addAll(page);
+            if (page.size() < 7) {
+                break;
+            }
+            cursor = page.get(page.size() - 1);
+        }
+
+        // then
+        assertThat(result).extracting(PartyListCursor::getPartyId)
+                .doesNotHaveDuplicates()
+                .hasSize(300);
+        for (int i = 1; i < result.size(); i++) {
+            assertThat(result.get(i - 1).isBefore(result.get(i).getDistance(), result.get(i).getPartyId())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("다음 페이지 조회 전에 등록된 더 가까운 모임은 다음 페이지에 포함되지 않는지 테스트")
+    void searchNextPageWithInsertTest() {
+        // given
+        PartyGeoIndex partyGeoIndex = new PartyGeoIndex(null, 30, 16);
+        for (long id = 1; id <= 6; id++) {
+            partyGeoIndex.put(id, 37.5 + id * 0.001, 127.0, LocalDate.now().plusDays(1));
+        }
+        List<PartyListCursor> first = partyGeoIndex.search(37.5, 127.0, null, 3);
+
+        // when
+        partyGeoIndex.put(7L, 37.5, 127.0, LocalDate.now().plusDays(1));
+        List<PartyListCursor> second = partyGeoIndex.search(37.5, 127.0, first.get(first.size() - 1), 3);
+
+        // then
+        assertThat(first).extracting(PartyListCursor::getPartyId).containsExactly(1L, 2L, 3L);
+        assertThat(second).extracting(PartyListCursor::getPartyId).containsExactly(4L, 5L, 6L);
+    }
+
+    private double distance(double latitude, double longitude, double[] location) {
+        return 6371 * Math.acos(Math.min(1, Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(location[0]))
+                * Math.cos(Math.toRadians(location[1]) - Math.toRadians(longitude))
+                + Math.sin(Math.toRadians(latitude)) * Math.sin(Math.toRadians(location[0]))));
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.member.domain.Member;
+import com.example.villagerservice.party.domain.Party;
+import com.example.villagerservice.party.domain.PartyLike;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+@DataJpaTest
+class PartyLikeCounterTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private PartyLikeCounter partyLikeCounter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        partyLikeCounter = new PartyLikeCounter(jdbcTemplate, new SimpleMeterRegistry(), 64, 100, 60, 1);
+    }
+
+    @Test
+    @DisplayName("회원의 좋아요 목록을 DB 에서 한 번 읽고 이후 변경을 반영하는지 테스트")
+    void isLikeTest() {
+        // given
+        Member member = saveMember("test@gmail.com");
+        Party party = saveParty(member);
+        Party otherParty = saveParty(member);
+        saveLike(member, party);
+        entityManager.flush();
+
+        // when
+        boolean before = partyLikeCounter.isLike(party.getId(), member.getEmail());
+        partyLikeCounter.unlike(party.getId(), member.getEmail());
+        partyLikeCounter.like(otherParty.getId(), member.getEmail());
+
+        // then
+        assertThat(before).isTrue();
+        assertThat(partyLikeCounter.isLike(party.getId(), member.getEmail())).isFalse();
+        assertThat(partyLikeCounter.isLike(otherParty.getId(), member.getEmail())).isTrue();
+        assertThat(partyLikeCounter.isLike(party.getId(), "other@gmail.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("좋아요 목록 보관 시간이 지나면 다른 서버에서 바뀐 좋아요를 DB 에서 다시 읽는지 테스트")
+    void isLikeExpiredTest() {
+        // given
+        PartyLikeCounter counter = new PartyLikeCounter(jdbcTemplate, new SimpleMeterRegistry(), 64, 100, 0, 1);
+        Member member = saveMember("test@gmail.com");
+        Party party = saveParty(member);
+        entityManager.flush();
+        boolean before = counter.isLike(party.getId(), member.getEmail());
+
+        // when
+        // 다른 서버에서 등록한 좋아요
+        saveLike(member, party);
+        entityManager.flush();
+
+        // then
+        assertThat(before).isFalse();
+        assertThat(counter.isLike(party.getId(), member.getEmail())).isTrue();
+    }
+
+    @Test
+    @DisplayName("좋아요 수 변화량을 모아서 반영하는지 테스트")
+    void flushTest() {
+        // given
+        Member member = saveMember("test@gmail.com");
+        Party party = saveParty(member);
+        Party otherParty = saveParty(member);
+        entityManager.flush();
+        for (int i = 0; i < 5; i++) {
+            partyLikeCounter.like(party.getId(), "member" + i + "@gmail.com");
+        }
+        partyLikeCounter.unlike(party.getId(), "member0@gmail.com");
+        partyLikeCounter.like(otherParty.getId(), "member0@gmail.com");
+        partyLikeCounter.unlike(otherParty.getId(), "member0@gmail.com");
+
+        // when
+        long pendingCount = partyLikeCounter.getLikeCount(party);
+        partyLikeCounter.flush();
+        partyLikeCounter.flush();
+
+        // then
+        assertThat(pendingCount).isEqualTo(4);
+        assertThat(getLikeCount(party)).isEqualTo(4);
+        assertThat(getLikeCount(otherParty)).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 party_like 행 수와 다르면 바로잡는지 테스트")
+    void reconcileTest() {
+        // given
+        Member member = saveMember("test@gmail.com");
+        Member otherMember = saveMember("other@gmail.com");
+        Party party = saveParty(member);
+        Party otherParty = saveParty(member);
+        saveLike(member, party);
+        saveLike(otherMember, party);
+        entityManager.flush();
+        // 반영 전에 서버가 내려가 변화량을 잃은 상태
+        jdbcTemplate.update("update party set like_count = 0 where party_id = ?", party.getId());
+        jdbcTemplate.update("update party set like_count = 3 where party_id = ?", otherParty.getId());
+
+        // when
+        int repaired = partyLikeCounter.reconcile();
+
+        // then
+        assertThat(repaired).isEqualTo(2);
+        assertThat(getLikeCount(party)).isEqualTo(2);
+        assertThat(getLikeCount(otherParty)).isZero();
+        assertThat(partyLikeCounter.reconcile()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 에 반영하지 못한 좋아요 수 변화량을 행 수와 겹쳐 두 번 세지 않는지 테스트")
+    void reconcileWithPendingTest() {
+        // given
+        JdbcTemplate failingJdbcTemplate = spy(jdbcTemplate);
+        doThrow(new DataAccessResourceFailureException("down"))
+                .doCallRealMethod()
+                .when(failingJdbcTemplate).batchUpdate(startsWith(" update party set like_count = coalesce"), anyList());
+        PartyLikeCounter counter = new PartyLikeCounter(failingJdbcTemplate, new SimpleMeterRegistry(), 64, 100, 60, 1);
+        Member member = saveMember("test@gmail.com");
+        Party party = saveParty(member);
+        saveLike(member, party);
+        entityManager.flush();
+        counter.like(party.getId(), member.getEmail());
+
+        // when
+        counter.reconcile();
+        counter.flush();
+
+        // then
+        assertThat(getLikeCount(party)).isEqualTo(1);
+    }
+
+    private Integer getLikeCount(Party party) {
+        return jdbcTemplate.queryForObject("select like_count from party where party_id = ?", Integer.class, party.getId());
+    }
+
+    private Member saveMember(String email) {
+        return entityManager.persist(Member.builder()
+                .email(email)
+                .nickname(email)
+                .encodedPassword("1234")
+                .build());
+    }
+
+    private Party saveParty(Member member) {
+        return entityManager.persist(Party.builder()
+                .partyName("party")
+                .startDt(LocalDate.now())
+                .endDt(LocalDate.now().plusDays(2))
+                .likeCount(0)
+                .member(member)
+                .build());
+    }
+
+    private void saveLike(Member member, Party party) {
+        entityManager.persist(PartyLike.builder()
+                .member(member)
+                .party(party)
+                .build());
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.dto.PartyListDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartyListCacheTest {
+
+    @Test
+    @DisplayName("요청한 모임이 모두 있을 때만 hit 로 세고 복사본을 반환하는지 테스트")
+    void getTest() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PartyListCache partyListCache = new PartyListCache(meterRegistry, 100, 600);
+        partyListCache.put(List.of(createParty(1L), createParty(2L)), partyListCache.stamp());
+
+        // when
+        Map<Long, PartyListDTO> hit = partyListCache.get(List.of(1L, 2L));
+        Map<Long, PartyListDTO> miss = partyListCache.get(List.of(1L, 3L));
+        hit.get(1L).setPartyLike(true);
+        hit.get(1L).getTagNameList().add("볼링");
+
+        // then
+        assertThat(hit).containsOnlyKeys(1L, 2L);
+        assertThat(miss).containsOnlyKeys(1L);
+        PartyListDTO cached = partyListCache.get(List.of(1L)).get(1L);
+        assertThat(cached.isPartyLike()).isFalse();
+        assertThat(cached.getTagNameList()).containsExactly("낚시");
+        assertThat(meterRegistry.counter("party.list.cache.requests", "result", "hit").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("party.list.cache.requests", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 모임은 여러 번 넣어도 한 벌만 보관하는지 테스트")
+    void putSamePartyTest() {
+        // given
+        PartyListCache partyListCache = new PartyListCache(new SimpleMeterRegistry(), 100, 600);
+
+        // when
+        partyListCache.put(List.of(createParty(1L), createParty(2L)), partyListCache.stamp());
+        partyListCache.put(List.of(createParty(2L), createParty(3L)), partyListCache.stamp());
+
+        // then
+        assertThat(partyListCache.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("모임이 변경되면 그 모임만 비우는지 테스트")
+    void evictTest() {
+        // given
+        PartyListCache partyListCache = new PartyListCache(new SimpleMeterRegistry(), 100, 600);
+        partyListCache.put(List.of(createParty(1L), createParty(2L), createParty(3L)), partyListCache.stamp());
+
+        // when
+        partyListCache.evict(2L);
+
+        // then
+        assertThat(partyListCache.size()).isEqualTo(2);
+        assertThat(partyListCache.get(List.of(1L, 2L, 3L))).containsOnlyKeys(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("조회 중에 모임이 변경되면 조회 결과를 캐시하지 않는지 테스트")
+    void putAfterEvictTest() {
+        // given
+        PartyListCache partyListCache = new PartyListCache(new SimpleMeterRegistry(), 100, 600);
+        long stamp = partyListCache.stamp();
+
+        // when
+        partyListCache.evict(1L);
+        partyListCache.put(List.of(createParty(1L)), stamp);
+
+        // then
+        assertThat(partyListCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("모임 수가 최대치를 넘으면 가장 오래 안 쓴 모임부터 비우는지 테스트")
+    void sizeEvictionTest() throws InterruptedException {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PartyListCache partyListCache = new PartyListCache(meterRegistry, 10, 600);
+        for (long partyId = 1; partyId <= 10; partyId++) {
+            partyListCache.put(List.of(createParty(partyId)), partyListCache.stamp());
+        }
+        Thread.sleep(5);
+        partyListCache.get(List.of(1L));
+
+        // when
+        partyListCache.put(List.of(createParty(11L)), partyListCache.stamp());
+
+        // then
+        // 최대치의 90% 까지 줄인다
+        assertThat(partyListCache.size()).isEqualTo(9);
+        assertThat(partyListCache.get(List.of(1L, 11L))).containsOnlyKeys(1L, 11L);
+        assertThat(meterRegistry.counter("party.list.cache.evictions", "cause", "size").count()).isEqualTo(2);
+    }
+
+    private PartyListDTO createParty(Long partyId) {
+        List<String> tagNameList = new ArrayList<>();
+        tagNameList.add("낚시");
+        return PartyListDTO.builder()
+                .partyId(partyId)
+                .partyName("모임" + partyId)
+                .tagNameList(tagNameList)
+                .build();
+    }
+}
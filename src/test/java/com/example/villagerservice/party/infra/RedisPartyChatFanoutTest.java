@@ -0,0 +1,173 @@
+package com.example.villagerservice.party.infra;
+
+import com.example.villagerservice.party.dto.PartyChatMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 Redis(localhost:6379, 예: docker run -p 6379:6379 redis) 로 서버 2대를 흉내내는 테스트
+ * Redis 가 없으면 건너뛴다.
+ */
+class RedisPartyChatFanoutTest {
+    private static final long TIMEOUT_MILLIS = 3000;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private Node node1;
+    private Node node2;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+        assumeTrue(isRedisAvailable(), "local redis is not running");
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        node1 = new Node();
+        node2 = new Node();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (node1 != null) {
+            node1.stop();
+            node2.stop();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("구독자가 있는 서버에만 채팅방 메세지가 전달되는지 테스트")
+    void publishTest() {
+        // given
+        node1.fanout.onRoomOpened(1L);
+        node2.fanout.onRoomOpened(2L);
+        waitForSubscription();
+
+        // when
+        // 2번 서버에서 1번 채팅방으로 보낸 메세지
+        node2.fanout.publish(1L, PartyChatMessageDto.builder()
+                .roomId(1L)
+                .writerNickname("writer")
+                .message("hello")
+                .build());
+
+        // then
+        @SuppressWarnings("rawtypes")
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(node1.template, timeout(TIMEOUT_MILLIS)).send(eq("/sub/chat/room/1"), captor.capture());
+        verify(node2.template, after(300).never()).send(anyString(), any());
+        String body = new String((byte[]) captor.getValue().getPayload(), StandardCharsets.UTF_8);
+        assertThat(body).contains("\"message\":\"hello\"");
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 보낸 채팅 메세지를 받은 서버의 최근 메세지 버퍼에 넣는지 테스트")
+    void publishRecentTest() {
+        // given
+        node1.fanout.onRoomOpened(1L);
+        waitForSubscription();
+
+        // when
+        node2.fanout.publish(1L, PartyChatMessageDto.builder()
+                .roomId(1L)
+                .seq(7L)
+                .writerNickname("writer")
+                .message("hello")
+                .build());
+        // 입장 알림은 seq 가 없다
+        node2.fanout.publish(1L, PartyChatMessageDto.builder().roomId(1L).message("enter").build());
+
+        // then
+        ArgumentCaptor<PartyChatMessageDto> captor = ArgumentCaptor.forClass(PartyChatMessageDto.class);
+        verify(node1.template, timeout(TIMEOUT_MILLIS).times(2)).send(eq("/sub/chat/room/1"), any());
+        verify(node1.buffer).append(captor.capture());
+        assertThat(captor.getValue().getSeq()).isEqualTo(7L);
+        assertThat(captor.getValue().getMessage()).isEqualTo("hello");
+        verify(node2.buffer, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("구독자가 없어진 채팅방은 더 이상 받지 않는지 테스트")
+    void roomClosedTest() {
+        // given
+        node1.fanout.onRoomOpened(1L);
+        waitForSubscription();
+        node1.fanout.onRoomClosed(1L);
+        waitForSubscription();
+
+        // when
+        node2.fanout.publish(1L, PartyChatMessageDto.builder().roomId(1L).message("hello").build());
+
+        // then
+        assertThat(node1.fanout.isSubscribed(1L)).isFalse();
+        verify(node1.template, after(300).never()).send(anyString(), any());
+    }
+
+    private boolean isRedisAvailable() {
+        try {
+            connectionFactory.getConnection().close();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // 채널 구독은 비동기로 처리된다
+    private void waitForSubscription() {
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class Node {
+        private final SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+        private final PartyChatRecentBuffer buffer = mock(PartyChatRecentBuffer.class);
+        private final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        private final RedisPartyChatFanout fanout;
+
+        private Node() {
+            container.setConnectionFactory(connectionFactory);
+            container.afterPropertiesSet();
+            container.start();
+            fanout = new RedisPartyChatFanout(redisTemplate, container, template, new ObjectMapper(), buffer,
+                    new SimpleMeterRegistry());
+        }
+
+        private void stop() throws Exception {
+            container.stop();
+            container.destroy();
+        }
+    }
+}
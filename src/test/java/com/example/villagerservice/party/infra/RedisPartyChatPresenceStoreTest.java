@@ -0,0 +1,85 @@
+package com.example.villagerservice.party.infra;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 로컬 Redis(localhost:6379, 예: docker run -p 6379:6379 redis) 로 서버 2대를 흉내내는 테스트
+ * Redis 가 없으면 건너뛴다.
+ */
+class RedisPartyChatPresenceStoreTest {
+    private static final long TTL_MILLIS = 300;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisPartyChatPresenceStore node1;
+    private RedisPartyChatPresenceStore node2;
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+        assumeTrue(isRedisAvailable(), "local redis is not running");
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        node1 = new RedisPartyChatPresenceStore(redisTemplate, TTL_MILLIS);
+        node2 = new RedisPartyChatPresenceStore(redisTemplate, TTL_MILLIS);
+        roomId = System.nanoTime();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("여러 서버의 접속자를 합치고 세션이 모두 나가면 빠지는지 테스트")
+    void getOnlineTest() {
+        // given
+        node1.join(roomId, "member1");
+        node1.join(roomId, "member1");
+        node2.join(roomId, "member2");
+
+        // when
+        node1.leave(roomId, "member1");
+        node2.leave(roomId, "member2");
+
+        // then
+        assertThat(node2.getOnline(roomId)).containsExactly("member1");
+    }
+
+    @Test
+    @DisplayName("만료 시간을 갱신하지 않은 서버(비정상 종료)의 접속자는 빠지는지 테스트")
+    void expiredNodeTest() throws InterruptedException {
+        // given
+        node1.join(roomId, "member1");
+        node2.join(roomId, "member2");
+
+        // when
+        // 1번 서버는 종료되어 갱신하지 않는다
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(TTL_MILLIS / 3);
+            node2.heartbeat();
+        }
+
+        // then
+        assertThat(node2.getOnline(roomId)).containsExactly("member2");
+    }
+
+    private boolean isRedisAvailable() {
+        try {
+            connectionFactory.getConnection().close();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
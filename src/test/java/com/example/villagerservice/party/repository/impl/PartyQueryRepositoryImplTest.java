@@ -0,0 +1,317 @@
+package com.example.villagerservice.party.repository.impl;
+
+import com.example.villagerservice.member.domain.Member;
+import com.example.villagerservice.party.domain.Party;
+import com.example.villagerservice.party.domain.PartyComment;
+import com.example.villagerservice.party.domain.PartyLike;
+import com.example.villagerservice.party.domain.PartyTag;
+import com.example.villagerservice.party.dto.PartyCommentDTO;
+import com.example.villagerservice.party.dto.PartyDTO;
+import com.example.villagerservice.party.dto.PartyListCursor;
+import com.example.villagerservice.party.dto.PartyListDTO;
+import com.example.villagerservice.party.dto.PartyListPageDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class PartyQueryRepositoryImplTest {
+
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private QueryCountJdbcTemplate jdbcTemplate;
+
+    private PartyQueryRepositoryImpl partyQueryRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new QueryCountJdbcTemplate(dataSource);
+        partyQueryRepository = new PartyQueryRepositoryImpl(jdbcTemplate, 30);
+    }
+
+    @Test
+    @DisplayName("모임 전체 조회 시 조회된 모임 수와 관계없이 쿼리 수가 일정한지 테스트")
+    void getPartyListQueryCountTest() {
+        // given
+        Member host = saveMember("host@gmail.com", "host");
+        Member viewer = saveMember("viewer@gmail.com", "viewer");
+        List<Party> partyList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            partyList.add(saveParty(host, "party" + i, LATITUDE + 0.001 * (i + 1)));
+        }
+        saveLike(viewer, partyList.get(0));
+        saveLike(viewer, partyList.get(3));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<PartyListDTO> result = partyQueryRepository.getPartyList(viewer.getEmail(), LATITUDE, LONGITUDE, null)
+                .getPartyList();
+
+        // then
+        // 주변 모임 1번 + 태그 1번 + 관심모임 1번
+        assertThat(jdbcTemplate.getQueryCount()).isEqualTo(3);
+        assertThat(result).hasSize(5);
+        assertThat(result).extracting(PartyListDTO::getPartyName)
+                .containsExactly("party0", "party1", "party2", "party3", "party4");
+        assertThat(result).allSatisfy(party ->
+                assertThat(party.getTagNameList()).containsExactly("낚시", "볼링"));
+        assertThat(result).extracting(PartyListDTO::isPartyLike)
+                .containsExactly(true, false, false, true, false);
+    }
+
+    @Test
+    @DisplayName("모임 전체 조회 시 모임이 없으면 태그, 관심모임 쿼리를 생략하는지 테스트")
+    void getPartyListEmptyTest() {
+        // when
+        List<PartyListDTO> result = partyQueryRepository.getPartyList("viewer@gmail.com", LATITUDE, LONGITUDE, null)
+                .getPartyList();
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(jdbcTemplate.getQueryCount()).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("모임 전체 조회 시 다음 페이지 토큰으로 이어서 조회하고 중간에 등록된 모임으로 밀리지 않는지 테스트")
+    void getPartyListNextPageTest() {
+        // given
+        Member host = saveMember("host@gmail.com", "host");
+        for (int i = 0; i < 12; i++) {
+            saveParty(host, "party" + i, LATITUDE + 0.001 * (i + 1));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        PartyListPageDTO first = partyQueryRepository.getPartyList(host.getEmail(), LATITUDE, LONGITUDE, null);
+
+        // 첫 페이지 조회 이후 더 가까운 모임과 더 먼 모임 등록
+        saveParty(host, "near", LATITUDE + 0.0005);
+        saveParty(host, "far", LATITUDE + 0.0125);
+        entityManager.flush();
+        entityManager.clear();
+
+        PartyListPageDTO second = partyQueryRepository.getPartyList(host.getEmail(), LATITUDE, LONGITUDE,
+                PartyListCursor.decode(first.getNextCursor()));
+        PartyListPageDTO third = partyQueryRepository.getPartyList(host.getEmail(), LATITUDE, LONGITUDE,
+                PartyListCursor.decode(second.getNextCursor()));
+
+        // then
+        assertThat(first.getPartyList()).extracting(PartyListDTO::getPartyName)
+                .containsExactly("party0", "party1", "party2", "party3", "party4");
+        assertThat(second.getPartyList()).extracting(PartyListDTO::getPartyName)
+                .containsExactly("party5", "party6", "party7", "party8", "party9");
+        assertThat(third.getPartyList()).extracting(PartyListDTO::getPartyName)
+                .containsExactly("party10", "party11", "far");
+        assertThat(third.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("모임 전체 조회 시 가장 넓은 셀 밖의 모임도 가까운 순으로 이어서 조회하는지 테스트")
+    void getPartyListSparseTest() {
+        // given
+        // 최대 탐색 반경 제한 없이 가장 넓은 셀(MIN_PRECISION)이 보장하는 반경(약 600km)보다 먼 모임
+        partyQueryRepository = new PartyQueryRepositoryImpl(jdbcTemplate, 0);
+        Member host = saveMember("host@gmail.com", "host");
+        for (int i = 0; i < 7; i++) {
+            saveParty(host, "party" + i, LATITUDE + 20 + 0.001 * i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        PartyListPageDTO first = partyQueryRepository.getPartyList(host.getEmail(), LATITUDE, LONGITUDE, null);
+        PartyListPageDTO second = partyQueryRepository.getPartyList(host.getEmail(), LATITUDE, LONGITUDE,
+                PartyListCursor.decode(first.getNextCursor()));
+
+        // then
+        assertThat(first.getPartyList()).extracting(PartyListDTO::getPartyName)
+                .containsExactly("party0", "party1", "party2", "party3", "party4");
+        assertThat(second.getPartyList()).extracting(PartyListDTO::getPartyName)
+                .containsExactly("party5", "party6");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("모임 전체 조회 시 인덱스 조회와 같이 종료된 모임과 최대 탐색 반경 밖의 모임을 제외하는지 테스트")
+    void getPartyListFilterTest() {
+        // given
+        Member host = saveMember("host@gmail.com", "host");
+        saveParty(host, "near", LATITUDE + 0.001);
+        saveParty(host, "ended", LATITUDE + 0.002, LocalDate.now().minusDays(1));
+        saveParty(host, "mid", LATITUDE + 0.2);
+        // 약 110km
+        saveParty(host, "far", LATITUDE + 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        PartyListPageDTO result = partyQueryRepository.getPartyList(host.getEmail(), LATITUDE, LONGITUDE, null);
+
+        // then
+        assertThat(result.getPartyList()).extracting(PartyListDTO::getPartyName)
+                .containsExactly("near", "mid");
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("모임 상세 조회 시 모임, 태그, 관심모임 여부, 댓글을 쿼리 2번으로 조회하는지 테스트")
+    void getPartyQueryCountTest() {
+        // given
+        Member host = saveMember("host@gmail.com", "host");
+        Member viewer = saveMember("viewer@gmail.com", "viewer");
+        Party party = saveParty(host, "party", LATITUDE);
+        saveLike(viewer, party);
+        for (int i = 0; i < 3; i++) {
+            saveComment(party, "comment" + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        PartyDTO.Response result = partyQueryRepository.getParty(party.getId(), viewer.getEmail()).orElseThrow();
+        PartyDTO.Response hostResult = partyQueryRepository.getParty(party.getId(), host.getEmail()).orElseThrow();
+
+        // then
+        // 조회마다 모임 상세 1번 + 댓글 1번
+        assertThat(jdbcTemplate.getQueryCount()).isEqualTo(4);
+        assertThat(result.getPartyName()).isEqualTo("party");
+        assertThat(result.getScore()).isEqualTo(100);
+        assertThat(result.getAmount()).isEqualTo(1000);
+        assertThat(result.getNumberPeople()).isEqualTo(2);
+        assertThat(result.getNickname()).isEqualTo("host");
+        assertThat(result.getMannerPoint()).isEqualTo(50);
+        assertThat(result.getMemberId()).isEqualTo(host.getId());
+        assertThat(result.getTagNameList()).containsExactly("낚시", "볼링");
+        assertThat(result.getCommentList()).extracting(PartyCommentDTO.Response::getContents)
+                .containsExactly("comment0", "comment1", "comment2");
+        assertThat(result.getCommentNextCursor()).isNull();
+        assertThat(result.getPartyLike()).isTrue();
+        assertThat(hostResult.getPartyLike()).isFalse();
+    }
+
+    @Test
+    @DisplayName("모임 상세 조회 시 모임이 없으면 댓글을 조회하지 않는지 테스트")
+    void getPartyEmptyTest() {
+        // when
+        Optional<PartyDTO.Response> result = partyQueryRepository.getParty(1L, "viewer@gmail.com");
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(jdbcTemplate.getQueryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모임 댓글을 다음 페이지 토큰으로 이어서 조회하는지 테스트")
+    void getPartyCommentListTest() {
+        // given
+        Member host = saveMember("host@gmail.com", "host");
+        Party party = saveParty(host, "party", LATITUDE);
+        for (int i = 0; i < 25; i++) {
+            saveComment(party, "comment" + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        PartyDTO.Response detail = partyQueryRepository.getParty(party.getId(), host.getEmail()).orElseThrow();
+        PartyCommentDTO.PageResponse second = partyQueryRepository.getPartyCommentList(party.getId(),
+                detail.getCommentNextCursor());
+
+        // then
+        assertThat(detail.getCommentList()).hasSize(20);
+        assertThat(detail.getCommentNextCursor())
+                .isEqualTo(detail.getCommentList().get(19).getPartyCommentId());
+        assertThat(second.getCommentList()).extracting(PartyCommentDTO.Response::getContents)
+                .containsExactly("comment20", "comment21", "comment22", "comment23", "comment24");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    private Member saveMember(String email, String nickname) {
+        return entityManager.persist(Member.builder()
+                .email(email)
+                .nickname(nickname)
+                .encodedPassword("1234")
+                .build());
+    }
+
+    private Party saveParty(Member member, String partyName, double latitude) {
+        return saveParty(member, partyName, latitude, LocalDate.now().plusDays(2));
+    }
+
+    private Party saveParty(Member member, String partyName, double latitude, LocalDate endDt) {
+        List<PartyTag> tagList = new ArrayList<>();
+        tagList.add(PartyTag.builder().tagName("낚시").build());
+        tagList.add(PartyTag.builder().tagName("볼링").build());
+
+        PartyDTO.Request request = PartyDTO.Request.builder()
+                .partyName(partyName)
+                .score(100)
+                .startDt(LocalDate.now())
+                .endDt(endDt)
+                .amount(1000)
+                .numberPeople(2)
+                .location("서울시")
+                .latitude(latitude)
+                .longitude(LONGITUDE)
+                .content("test")
+                .tagList(tagList)
+                .build();
+
+        return entityManager.persist(Party.createParty(request, member));
+    }
+
+    private void saveLike(Member member, Party party) {
+        entityManager.persist(PartyLike.builder()
+                .member(member)
+                .party(party)
+                .build());
+    }
+
+    private void saveComment(Party party, String contents) {
+        entityManager.persist(PartyComment.createPartyComment(contents, party));
+    }
+
+    static class QueryCountJdbcTemplate extends JdbcTemplate {
+        private int queryCount;
+
+        QueryCountJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public <T> T query(PreparedStatementCreator psc, PreparedStatementSetter pss,
+                           ResultSetExtractor<T> rse) throws DataAccessException {
+            queryCount++;
+            return super.query(psc, pss, rse);
+        }
+
+        int getQueryCount() {
+            return queryCount;
+        }
+    }
+}
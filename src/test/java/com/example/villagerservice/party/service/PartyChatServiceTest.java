@@ -0,0 +1,463 @@
+package com.example.villagerservice.party.service;
+
+import com.example.villagerservice.party.domain.PartyChatMessage;
+import com.example.villagerservice.party.dto.PartyChatMessageDto;
+import com.example.villagerservice.party.dto.PartyChatPresenceDto;
+import com.example.villagerservice.party.exception.PartyErrorCode;
+import com.example.villagerservice.party.exception.PartyException;
+import com.example.villagerservice.party.infra.PartyChatFanout;
+import com.example.villagerservice.party.infra.PartyChatMessageArchiver;
+import com.example.villagerservice.party.infra.PartyChatMessageWriter;
+import com.example.villagerservice.party.infra.PartyChatPresenceStore;
+import com.example.villagerservice.party.infra.PartyChatRecentBuffer;
+import com.example.villagerservice.party.infra.PartyChatSequencer;
+import com.example.villagerservice.party.repository.PartyChatMessageRepository;
+import com.example.villagerservice.party.repository.PartyChatRoomRepository;
+import com.example.villagerservice.party.repository.PartyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PartyChatServiceTest {
+    @Mock
+    private PartyChatFanout partyChatFanout;
+    @Mock
+    private PartyChatRoomRepository partyChatRoomRepository;
+    @Mock
+    private PartyChatMessageRepository partyChatMessageRepository;
+    @Mock
+    private PartyChatMessageWriter partyChatMessageWriter;
+    @Mock
+    private PartyChatRecentBuffer partyChatRecentBuffer;
+    @Mock
+    private PartyChatSequencer partyChatSequencer;
+    @Mock
+    private PartyChatPresenceStore partyChatPresenceStore;
+    @Mock
+    private PartyChatMessageArchiver partyChatMessageArchiver;
+    @Mock
+    private PartyRepository partyRepository;
+    @InjectMocks
+    private PartyChatService partyChatService;
+
+    @Test
+    @DisplayName("메세지 전송 - 채팅방은 처음 한 번만 조회하고 seq 를 붙여서 전송, 인증한 회원은 회원 id 로 읽은 위치 저장")
+    void messageTest() {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(true);
+        given(partyChatSequencer.next(1L))
+            .willReturn(7L, 8L);
+        PartyChatMessageDto message = message(null);
+
+        // when
+        partyChatService.message(message, null);
+        assertThat(message.getSeq()).isEqualTo(7L);
+        partyChatService.message(message, 3L);
+
+        // then
+        assertThat(message.getSeq()).isEqualTo(8L);
+        verify(partyChatPresenceStore).markRead("writer", 1L, 7L);
+        verify(partyChatPresenceStore).markRead("member:3", 1L, 8L);
+        verify(partyChatRoomRepository, times(1)).existsById(1L);
+        verify(partyChatFanout, times(2)).publish(1L, message);
+        verify(partyChatRecentBuffer, times(2)).append(message);
+        verify(partyChatMessageWriter, times(2)).write(message);
+    }
+
+    @Test
+    @DisplayName("메세지 전송 - 전송이 늦어져도 같은 잠금을 쓰는 다른 채팅방의 전송을 막지 않음")
+    void messageSlowPublishTest() throws Exception {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(true);
+        given(partyChatSequencer.next(anyLong()))
+            .willReturn(1L);
+        CountDownLatch publishing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            publishing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(partyChatFanout).publish(eq(1L), any());
+        PartyChatMessageDto slow = message(null);
+        // 채팅방 65 는 채팅방 1 과 같은 잠금을 쓴다
+        PartyChatMessageDto other = message(null);
+        other.setRoomId(65L);
+
+        // when
+        Thread thread = new Thread(() -> partyChatService.message(slow, null));
+        thread.start();
+        assertThat(publishing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> otherFuture = CompletableFuture.runAsync(() -> partyChatService.message(other, null));
+
+        // then
+        otherFuture.get(5, TimeUnit.SECONDS);
+        verify(partyChatMessageWriter).write(other);
+        release.countDown();
+        thread.join(5000);
+        verify(partyChatMessageWriter).write(slow);
+    }
+
+    @Test
+    @DisplayName("메세지 전송 실패 - 채팅방이 없음")
+    void messageFailTest() {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(false);
+
+        // when
+        PartyException exception = assertThrows(PartyException.class,
+            () -> partyChatService.message(message(null), null));
+
+        // then
+        assertEquals(PartyErrorCode.PARTY_CHAT_ROOM_NOT_FOUND.getErrorCode(), exception.getErrorCode());
+        verify(partyChatMessageWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("대화내용 조회 - 커서가 없으면 최근 메세지 버퍼에서 조회")
+    void getMessageListRecentTest() {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(true);
+        given(partyChatSequencer.current(1L))
+            .willReturn(12L);
+        given(partyChatRecentBuffer.getRecent(1L, 12L))
+            .willReturn(List.of(message(11L), message(12L)));
+        given(partyChatRecentBuffer.getSize())
+            .willReturn(2);
+
+        // when
+        PartyChatMessageDto.PageResponse response = partyChatService.getMessageList(1L, null);
+
+        // then
+        assertThat(response.getMessageList()).hasSize(2);
+        assertThat(response.getNextCursor()).isEqualTo(11L);
+        verify(partyChatMessageRepository, never()).findByRoomIdOrderByIdDesc(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("대화내용 조회 - 커서보다 오래된 메세지를 오래된 순서로 조회")
+    void getMessageListCursorTest() {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(true);
+        // id 100 부터 내림차순으로 51개
+        given(partyChatMessageRepository.findByRoomIdAndIdLessThanOrderByIdDesc(eq(1L), eq(101L), any(Pageable.class)))
+            .willReturn(LongStream.rangeClosed(0, 50)
+                .mapToObj(i -> PartyChatMessage.builder().id(100 - i).roomId(1L).build())
+                .collect(Collectors.toList()));
+
+        // when
+        PartyChatMessageDto.PageResponse response = partyChatService.getMessageList(1L, 101L);
+
+        // then
+        assertThat(response.getMessageList()).hasSize(50);
+        assertThat(response.getMessageList().get(0).getId()).isEqualTo(51L);
+        assertThat(response.getMessageList().get(49).getId()).isEqualTo(100L);
+        assertThat(response.getNextCursor()).isEqualTo(51L);
+    }
+
+    @Test
+    @DisplayName("대화내용 조회 - 최근 메세지 테이블이 끝나면 보관 테이블에서 이어서 조회")
+    void getMessageListArchiveTest() {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(true);
+        // 최근 테이블에는 id 100 ~ 81 만 남아 있음
+        given(partyChatMessageRepository.findByRoomIdAndIdLessThanOrderByIdDesc(eq(1L), eq(101L), any(Pageable.class)))
+            .willReturn(LongStream.rangeClosed(0, 19)
+                .mapToObj(i -> PartyChatMessage.builder().id(100 - i).roomId(1L).build())
+                .collect(Collectors.toList()));
+        given(partyChatMessageArchiver.findBefore(1L, 81L, 31))
+            .willReturn(LongStream.rangeClosed(0, 30)
+                .mapToObj(i -> message(80 - i))
+                .collect(Collectors.toList()));
+
+        // when
+        PartyChatMessageDto.PageResponse response = partyChatService.getMessageList(1L, 101L);
+
+        // then
+        assertThat(response.getMessageList()).hasSize(50);
+        assertThat(response.getMessageList().get(0).getId()).isEqualTo(51L);
+        assertThat(response.getNextCursor()).isEqualTo(51L);
+    }
+
+    @Test
+    @DisplayName("대화내용 조회 - 최근 메세지가 적어도 보관된 메세지가 있으면 커서를 줌")
+    void getMessageListRecentArchiveTest() {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(true);
+        given(partyChatSequencer.current(1L))
+            .willReturn(12L);
+        given(partyChatRecentBuffer.getRecent(1L, 12L))
+            .willReturn(List.of(message(11L), message(12L)), List.of());
+        given(partyChatRecentBuffer.getSize())
+            .willReturn(50);
+        given(partyChatMessageArchiver.getLastArchivedId(1L))
+            .willReturn(10L);
+
+        // when
+        PartyChatMessageDto.PageResponse response = partyChatService.getMessageList(1L, null);
+        PartyChatMessageDto.PageResponse empty = partyChatService.getMessageList(1L, null);
+
+        // then
+        assertThat(response.getNextCursor()).isEqualTo(11L);
+        assertThat(empty.getNextCursor()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("이어받기 - 최근 메세지 테이블에서 이어지지 않는 메세지는 보관 테이블에서 조회")
+    void getMessageListAfterArchiveTest() {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(true);
+        given(partyChatSequencer.current(1L))
+            .willReturn(20L);
+        given(partyChatRecentBuffer.getRecent(1L, 20L))
+            .willReturn(List.of(seqMessage(20L)));
+        given(partyChatMessageRepository.findByRoomIdAndSeqGreaterThanOrderBySeqAsc(eq(1L), eq(5L), any(Pageable.class)))
+            .willReturn(LongStream.rangeClosed(10, 20)
+                .mapToObj(seq -> PartyChatMessage.builder().id(seq).seq(seq).roomId(1L).build())
+                .collect(Collectors.toList()));
+        given(partyChatMessageArchiver.findAfter(1L, 5L, 51))
+            .willReturn(LongStream.rangeClosed(6, 9)
+                .mapToObj(this::seqMessage)
+                .collect(Collectors.toList()));
+
+        // when
+        PartyChatMessageDto.PageResponse response = partyChatService.getMessageListAfter(1L, 5L);
+
+        // then
+        assertThat(response.getMessageList()).extracting(PartyChatMessageDto::getSeq)
+            .containsExactlyElementsOf(LongStream.rangeClosed(6, 20).boxed().collect(Collectors.toList()));
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("이어받기 - 빠진 메세지가 모두 버퍼에 있으면 DB 를 조회하지 않음")
+    void getMessageListAfterRecentTest() {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(true);
+        given(partyChatSequencer.current(1L))
+            .willReturn(13L);
+        given(partyChatRecentBuffer.getRecent(1L, 13L))
+            .willReturn(List.of(seqMessage(10L), seqMessage(11L), seqMessage(12L), seqMessage(13L)));
+
+        // when
+        PartyChatMessageDto.PageResponse response = partyChatService.getMessageListAfter(1L, 11L);
+        PartyChatMessageDto.PageResponse latest = partyChatService.getMessageListAfter(1L, 13L);
+
+        // then
+        assertThat(response.getMessageList()).extracting(PartyChatMessageDto::getSeq).containsExactly(12L, 13L);
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(latest.getMessageList()).isEmpty();
+        verify(partyChatMessageRepository, never())
+            .findByRoomIdAndSeqGreaterThanOrderBySeqAsc(anyLong(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("이어받기 - 버퍼의 seq 가 중간에 빠져 있으면 DB 에서 조회")
+    void getMessageListAfterGapTest() {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(true);
+        given(partyChatSequencer.current(1L))
+            .willReturn(14L);
+        given(partyChatRecentBuffer.getRecent(1L, 14L))
+            .willReturn(List.of(seqMessage(12L), seqMessage(14L)));
+        given(partyChatMessageRepository.findByRoomIdAndSeqGreaterThanOrderBySeqAsc(eq(1L), eq(11L), any(Pageable.class)))
+            .willReturn(LongStream.rangeClosed(12, 14)
+                .mapToObj(seq -> PartyChatMessage.builder().id(seq).seq(seq).roomId(1L).build())
+                .collect(Collectors.toList()));
+
+        // when
+        PartyChatMessageDto.PageResponse response = partyChatService.getMessageListAfter(1L, 11L);
+
+        // then
+        assertThat(response.getMessageList()).extracting(PartyChatMessageDto::getSeq)
+            .containsExactly(12L, 13L, 14L);
+    }
+
+    @Test
+    @DisplayName("이어받기 - 다른 서버에서 보낸 메세지가 버퍼에 아직 없으면 DB 에서 조회")
+    void getMessageListAfterRemoteTest() {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(true);
+        // 채팅방의 마지막 seq 는 14 지만 이 서버의 버퍼에는 12 까지만 있음
+        given(partyChatSequencer.current(1L))
+            .willReturn(14L);
+        given(partyChatRecentBuffer.getRecent(1L, 14L))
+            .willReturn(List.of(seqMessage(11L), seqMessage(12L)));
+        given(partyChatMessageRepository.findByRoomIdAndSeqGreaterThanOrderBySeqAsc(eq(1L), eq(12L), any(Pageable.class)))
+            .willReturn(LongStream.rangeClosed(13, 14)
+                .mapToObj(seq -> PartyChatMessage.builder().id(seq).seq(seq).roomId(1L).build())
+                .collect(Collectors.toList()));
+
+        // when
+        PartyChatMessageDto.PageResponse response = partyChatService.getMessageListAfter(1L, 12L);
+
+        // then
+        assertThat(response.getMessageList()).extracting(PartyChatMessageDto::getSeq)
+            .containsExactly(13L, 14L);
+    }
+
+    @Test
+    @DisplayName("이어받기 - 버퍼보다 오래된 메세지는 DB 에서, 아직 저장되지 않은 메세지는 버퍼에서 조회")
+    void getMessageListAfterDbTest() {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(true);
+        given(partyChatSequencer.current(1L))
+            .willReturn(22L);
+        given(partyChatRecentBuffer.getRecent(1L, 22L))
+            .willReturn(List.of(seqMessage(20L), seqMessage(21L), seqMessage(22L)));
+        // seq 21 까지 저장됨
+        given(partyChatMessageRepository.findByRoomIdAndSeqGreaterThanOrderBySeqAsc(eq(1L), eq(17L), any(Pageable.class)))
+            .willReturn(LongStream.rangeClosed(18, 21)
+                .mapToObj(seq -> PartyChatMessage.builder().id(seq).seq(seq).roomId(1L).build())
+                .collect(Collectors.toList()));
+
+        // when
+        PartyChatMessageDto.PageResponse response = partyChatService.getMessageListAfter(1L, 17L);
+
+        // then
+        assertThat(response.getMessageList()).extracting(PartyChatMessageDto::getSeq)
+            .containsExactly(18L, 19L, 20L, 21L, 22L);
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("이어받기 - 빠진 메세지가 많으면 50개씩 나눠서 조회")
+    void getMessageListAfterPageTest() {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(true);
+        given(partyChatSequencer.current(1L))
+            .willReturn(200L);
+        given(partyChatRecentBuffer.getRecent(1L, 200L))
+            .willReturn(List.of(seqMessage(200L)));
+        given(partyChatMessageRepository.findByRoomIdAndSeqGreaterThanOrderBySeqAsc(eq(1L), eq(0L), any(Pageable.class)))
+            .willReturn(LongStream.rangeClosed(1, 51)
+                .mapToObj(seq -> PartyChatMessage.builder().id(seq).seq(seq).roomId(1L).build())
+                .collect(Collectors.toList()));
+
+        // when
+        PartyChatMessageDto.PageResponse response = partyChatService.getMessageListAfter(1L, 0L);
+
+        // then
+        assertThat(response.getMessageList()).hasSize(50);
+        assertThat(response.getNextCursor()).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("안 읽은 메세지 수 - 채팅방의 마지막 seq 와 읽은 seq 의 차이")
+    void getUnreadListTest() {
+        // given
+        given(partyChatPresenceStore.getReadPositions("member:3"))
+            .willReturn(Map.of(2L, 30L, 1L, 10L));
+        given(partyChatSequencer.current(1L))
+            .willReturn(15L);
+        given(partyChatSequencer.current(2L))
+            .willReturn(30L);
+
+        // when
+        List<PartyChatPresenceDto.UnreadResponse> unreadList = partyChatService.getUnreadList(3L);
+
+        // then
+        assertThat(unreadList).extracting(PartyChatPresenceDto.UnreadResponse::getRoomId).containsExactly(1L, 2L);
+        assertThat(unreadList).extracting(PartyChatPresenceDto.UnreadResponse::getUnreadCount).containsExactly(5L, 0L);
+    }
+
+    @Test
+    @DisplayName("읽은 위치 저장 - 마지막 seq 보다 뒤로는 저장하지 않음")
+    void readTest() {
+        // given
+        given(partyChatRoomRepository.existsById(anyLong()))
+            .willReturn(true);
+        given(partyChatSequencer.current(1L))
+            .willReturn(15L);
+
+        // when
+        partyChatService.read(3L, 1L, 100L);
+        partyChatService.read(3L, 1L, null);
+
+        // then
+        verify(partyChatPresenceStore, times(2)).markRead("member:3", 1L, 15L);
+    }
+
+    @Test
+    @DisplayName("채팅방 개설 - 모임장은 모임 채팅방을 개설")
+    void createTest() {
+        // given
+        given(partyRepository.findHostMemberIdById(10L))
+            .willReturn(Optional.of(3L));
+
+        // when
+        partyChatService.create(3L, "host", "room", 10L);
+
+        // then
+        verify(partyChatRoomRepository).save(any());
+    }
+
+    @Test
+    @DisplayName("채팅방 개설 실패 - 모임장이 아니면 모임 채팅방을 개설할 수 없음")
+    void createNotHostTest() {
+        // given
+        given(partyRepository.findHostMemberIdById(10L))
+            .willReturn(Optional.of(3L));
+
+        // when
+        PartyException exception = assertThrows(PartyException.class,
+            () -> partyChatService.create(4L, "other", "room", 10L));
+
+        // then
+        assertEquals(PartyErrorCode.PARTY_CHAT_ROOM_NOT_HOST.getErrorCode(), exception.getErrorCode());
+        verify(partyChatRoomRepository, never()).save(any());
+    }
+
+    private PartyChatMessageDto seqMessage(Long seq) {
+        PartyChatMessageDto message = message(null);
+        message.setSeq(seq);
+        return message;
+    }
+
+    private PartyChatMessageDto message(Long id) {
+        return PartyChatMessageDto.builder()
+            .id(id)
+            .roomId(1L)
+            .writerNickname("writer")
+            .message("message")
+            .build();
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.villagerservice.party.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.villagerservice.member.domain.Member;
+import com.example.villagerservice.member.domain.MemberRepository;
+import com.example.villagerservice.party.domain.Party;
+import com.example.villagerservice.party.domain.PartyApply;
+import com.example.villagerservice.party.dto.PartyDTO;
+import com.example.villagerservice.party.exception.PartyApplyErrorCode;
+import com.example.villagerservice.party.exception.PartyApplyException;
+import com.example.villagerservice.party.infra.PartySeatCounter;
+import com.example.villagerservice.party.repository.PartyApplyRepository;
+import com.example.villagerservice.party.repository.PartyRepository;
+import com.example.villagerservice.party.service.PartyApplyService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class PartyApplyConcurrencyTest {
+    private static final int REQUEST_COUNT = 1000;
+    private static final int THREAD_COUNT = 32;
+    private static final int CAPACITY = 10;
+    private static final String HOST_EMAIL = "host@gmail.com";
+
+    @Autowired
+    private PartyApplyService partyApplyService;
+    @Autowired
+    private PartyRepository partyRepository;
+    @Autowired
+    private PartyApplyRepository partyApplyRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PartySeatCounter partySeatCounter;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Party party;
+
+    @BeforeEach
+    void setUp() {
+        Member host = memberRepository.save(Member.builder()
+            .email(HOST_EMAIL)
+            .nickname("host")
+            .encodedPassword("1234")
+            .build());
+
+        party = partyRepository.save(Party.createParty(PartyDTO.Request.builder()
+            .partyName("popular-party")
+            .score(100)
+            .startDt(LocalDate.now())
+            .endDt(LocalDate.now().plusDays(2))
+            .amount(0)
+            .numberPeople(CAPACITY)
+            .location("서울시")
+            .content("test")
+            .tagList(new ArrayList<>())
+            .build(), host));
+    }
+
+    @AfterEach
+    void tearDown() {
+        partySeatCounter.evict(party.getId());
+        partyApplyRepository.deleteAll();
+        partyRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시에 1000명이 신청하고 허락되어도 정원을 넘지 않는지 테스트")
+    void applyAndPermissionConcurrencyTest() throws Exception {
+        // given
+        Map<String, AtomicInteger> resultMap = new ConcurrentHashMap<>();
+
+        // when
+        runConcurrently(memberId -> {
+            partyApplyService.applyParty(memberId, party.getId());
+            partyApplyService.partyPermission(party.getId(), memberId, HOST_EMAIL);
+        }, resultMap);
+
+        // then
+        List<PartyApply> acceptedList = partyApplyRepository.findAll().stream()
+            .filter(PartyApply::isAccept)
+            .collect(Collectors.toList());
+        assertThat(acceptedList).hasSize(CAPACITY);
+        assertThat(partyRepository.findById(party.getId()).orElseThrow().getAcceptCount()).isEqualTo(CAPACITY);
+        assertThat(resultMap.get("success").get()).isEqualTo(CAPACITY);
+        assertThat(resultMap.keySet()).containsOnly("success", PartyApplyErrorCode.PARTY_IS_FULL.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("허락 인원이 비어 있는 이전 모임도 허락된 신청 수부터 세어 정원을 넘지 않는지 테스트")
+    void legacyPartyConcurrencyTest() throws Exception {
+        // given
+        // accept_count 추가 이전에 8명이 허락된 모임
+        for (long memberId = REQUEST_COUNT + 1; memberId <= REQUEST_COUNT + 8; memberId++) {
+            PartyApply partyApply = PartyApply.createPartyList(party, memberId);
+            partyApply.setAccept(true);
+            partyApplyRepository.save(partyApply);
+        }
+        jdbcTemplate.update("update party set accept_count = null where party_id = ?", party.getId());
+        Map<String, AtomicInteger> resultMap = new ConcurrentHashMap<>();
+
+        // when
+        runConcurrently(memberId -> {
+            partyApplyService.applyParty(memberId, party.getId());
+            partyApplyService.partyPermission(party.getId(), memberId, HOST_EMAIL);
+        }, resultMap);
+
+        // then
+        long acceptedCount = partyApplyRepository.findAll().stream()
+            .filter(PartyApply::isAccept)
+            .count();
+        assertThat(acceptedCount).isEqualTo(CAPACITY);
+        assertThat(partyRepository.findById(party.getId()).orElseThrow().getAcceptCount()).isEqualTo(CAPACITY);
+        assertThat(resultMap.get("success").get()).isEqualTo(CAPACITY - 8);
+    }
+
+    @Test
+    @DisplayName("같은 회원의 신청이 동시에 들어와도 한 번만 저장되는지 테스트")
+    void duplicateApplyConcurrencyTest() throws Exception {
+        // given
+        Map<String, AtomicInteger> resultMap = new ConcurrentHashMap<>();
+
+        // when
+        // 회원 100명이 각각 10번씩 신청
+        runConcurrently(memberId -> partyApplyService.applyParty(memberId % 100 + 1, party.getId()), resultMap);
+
+        // then
+        assertThat(partyApplyRepository.count()).isEqualTo(100);
+        assertThat(resultMap.get("success").get()).isEqualTo(100);
+        assertThat(resultMap.get(PartyApplyErrorCode.ALREADY_BEAN_APPLIED.getErrorCode()).get())
+            .isEqualTo(REQUEST_COUNT - 100);
+    }
+
+    // 회원 id 1 ~ REQUEST_COUNT 로 동시에 실행하고 결과(성공 또는 에러 코드)별 개수를 센다
+    private void runConcurrently(MemberTask task, Map<String, AtomicInteger> resultMap) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futureList = new ArrayList<>();
+        for (long memberId = 1; memberId <= REQUEST_COUNT; memberId++) {
+            long targetMemberId = memberId;
+            futureList.add(executorService.submit(() -> {
+                startLatch.await();
+                String result;
+                try {
+                    task.run(targetMemberId);
+                    result = "success";
+                } catch (PartyApplyException e) {
+                    result = e.getErrorCode();
+                }
+                resultMap.computeIfAbsent(result, key -> new AtomicInteger()).incrementAndGet();
+                return null;
+            }));
+        }
+
+        startLatch.countDown();
+        for (Future<?> future : futureList) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface MemberTask {
+        void run(long memberId);
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -13,6 +14,7 @@ import com.example.villagerservice.party.domain.Party;
 import com.example.villagerservice.party.domain.PartyApply;
 import com.example.villagerservice.party.exception.PartyApplyErrorCode;
 import com.example.villagerservice.party.exception.PartyApplyException;
+import com.example.villagerservice.party.infra.PartySeatCounter;
 import com.example.villagerservice.party.repository.PartyApplyRepository;
 import com.example.villagerservice.party.repository.PartyRepository;
 import com.example.villagerservice.party.dto.PartyApplyDto;
@@ -27,6 +29,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 
@@ -37,6 +40,8 @@ class PartyApplyServiceImplTest {
     private PartyRepository partyRepository;
     @Mock
     private PartyApplyRepository partyApplyRepository;
+    @Mock
+    private PartySeatCounter partySeatCounter;
     @InjectMocks
     private PartyApplyServiceImpl partyApplyService;
 
@@ -87,6 +92,44 @@ class PartyApplyServiceImplTest {
         assertEquals(PartyApplyErrorCode.ALREADY_BEAN_APPLIED.getErrorCode(), exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("모임 신청 실패 - 동시에 들어온 같은 신청")
+    void partyApplyTestFailedDuplicateInsert() {
+        // given
+        given(partyRepository.findById(anyLong()))
+            .willReturn(Optional.of(Party.builder().id(1L).build()));
+        given(partyApplyRepository.existsByTargetMemberIdAndParty_Id(anyLong(), anyLong()))
+            .willReturn(false);
+        given(partyApplyRepository.save(any()))
+            .willThrow(new DataIntegrityViolationException("uk_party_apply_member"));
+
+        // when
+        PartyApplyException exception = assertThrows(PartyApplyException.class,
+            () -> partyApplyService.applyParty(1L, 1L));
+
+        // then
+        assertEquals(PartyApplyErrorCode.ALREADY_BEAN_APPLIED.getErrorCode(), exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("모임 신청 실패 - 정원이 다 찬 모임")
+    void partyApplyTestFailedFull() {
+        // given
+        Party party = Party.builder().id(1L).numberPeople(1).build();
+        given(partyRepository.findById(anyLong()))
+            .willReturn(Optional.of(party));
+        given(partySeatCounter.isFull(party))
+            .willReturn(true);
+
+        // when
+        PartyApplyException exception = assertThrows(PartyApplyException.class,
+            () -> partyApplyService.applyParty(1L, 1L));
+
+        // then
+        verify(partyApplyRepository, never()).save(any());
+        assertEquals(PartyApplyErrorCode.PARTY_IS_FULL.getErrorCode(), exception.getErrorCode());
+    }
+
     @Test
     @DisplayName("모임 신청 실패 - 이미 신청한 모임")
     void partyApplyTestFailedAlreadyApplied() {
@@ -166,24 +209,82 @@ class PartyApplyServiceImplTest {
                 .targetMemberId(targetMemberId)
                 .isAccept(false)
                 .build()));
-        given(partyApplyRepository.save(any()))
-            .willReturn(PartyApply.builder()
+        given(partyApplyRepository.acceptPartyApply(1L))
+            .willReturn(1);
+        given(partySeatCounter.tryAcquire(party))
+            .willReturn(true);
+
+        // when
+        PartyApplyDto.Response response
+            = partyApplyService.partyPermission(partyId, targetMemberId, email);
+
+        // then
+        verify(partyApplyRepository, times(1)).acceptPartyApply(1L);
+        assertEquals(true, response.isAccept());
+    }
+
+    @Test
+    @DisplayName("모임 허락 실패 - 정원이 다 찬 경우")
+    void 모임_허락_실패_정원이다찬경우() {
+        // given
+        Long targetMemberId = 2L;
+        String email = "host@123";
+        Party party = Party.builder()
+            .member(Member.builder().email(email).build())
+            .numberPeople(1)
+            .build();
+
+        given(partyRepository.findById(anyLong()))
+            .willReturn(Optional.ofNullable(party));
+        given(partyApplyRepository.findByParty_IdAndTargetMemberId(anyLong(), anyLong()))
+            .willReturn(Optional.ofNullable(PartyApply.builder()
                 .id(1L)
                 .party(party)
                 .targetMemberId(targetMemberId)
-                .isAccept(true)
-                .build());
+                .isAccept(false)
+                .build()));
+        given(partyApplyRepository.acceptPartyApply(1L))
+            .willReturn(1);
+        given(partySeatCounter.tryAcquire(party))
+            .willReturn(false);
 
-        ArgumentCaptor<PartyApply> captor = ArgumentCaptor.forClass(PartyApply.class);
+        // when
+        PartyApplyException exception = assertThrows(PartyApplyException.class,
+            () -> partyApplyService.partyPermission(1L, targetMemberId, email));
+
+        // then
+        assertEquals(PartyApplyErrorCode.PARTY_IS_FULL.getErrorCode(), exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("모임 허락 실패 - 동시에 들어온 같은 신청의 허가")
+    void 모임_허락_실패_동시에들어온같은신청의허가() {
+        // given
+        Long targetMemberId = 2L;
+        String email = "host@123";
+        Party party = Party.builder()
+            .member(Member.builder().email(email).build())
+            .build();
+
+        given(partyRepository.findById(anyLong()))
+            .willReturn(Optional.ofNullable(party));
+        given(partyApplyRepository.findByParty_IdAndTargetMemberId(anyLong(), anyLong()))
+            .willReturn(Optional.ofNullable(PartyApply.builder()
+                .id(1L)
+                .party(party)
+                .targetMemberId(targetMemberId)
+                .isAccept(false)
+                .build()));
+        given(partyApplyRepository.acceptPartyApply(1L))
+            .willReturn(0);
 
         // when
-        PartyApplyDto.Response response
-            = partyApplyService.partyPermission(partyId, targetMemberId, email);
+        PartyApplyException exception = assertThrows(PartyApplyException.class,
+            () -> partyApplyService.partyPermission(1L, targetMemberId, email));
 
         // then
-        verify(partyApplyRepository, times(1)).save(captor.capture());
-        assertEquals(true, captor.getValue().isAccept());
-        assertEquals(true, response.isAccept());
+        verify(partySeatCounter, never()).tryAcquire(any());
+        assertEquals(PartyApplyErrorCode.ALREADY_ACCEPT_APPLY.getErrorCode(), exception.getErrorCode());
     }
 
     @Test
@@ -7,23 +7,31 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import com.example.villagerservice.common.infra.LiveCounterBroadcaster;
+import com.example.villagerservice.common.infra.LiveCounterType;
 import com.example.villagerservice.member.domain.Member;
 import com.example.villagerservice.party.domain.Party;
 import com.example.villagerservice.party.domain.PartyLike;
 import com.example.villagerservice.party.exception.PartyErrorCode;
 import com.example.villagerservice.party.exception.PartyException;
+import com.example.villagerservice.party.infra.PartyLikeCounter;
 import com.example.villagerservice.party.repository.PartyLikeRepository;
 import com.example.villagerservice.party.repository.PartyRepository;
 import com.example.villagerservice.party.dto.PartyLikeDto;
 
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @ExtendWith(MockitoExtension.class)
 class PartyLikeServiceImplTest {
@@ -31,6 +39,10 @@ class PartyLikeServiceImplTest {
     private PartyLikeRepository partyLikeRepository;
     @Mock
     private PartyRepository partyRepository;
+    @Mock
+    private PartyLikeCounter partyLikeCounter;
+    @Mock
+    private LiveCounterBroadcaster liveCounterBroadcaster;
     @InjectMocks
     private PartyLikeServiceImpl partyLikeService;
 
@@ -38,36 +50,108 @@ class PartyLikeServiceImplTest {
     @DisplayName("좋아요 성공 - 등록")
     void 좋아요_성공_등록() {
         // given
+        Party party = Party.builder()
+            .id(1L)
+            .build();
         given(partyRepository.findById(anyLong()))
-            .willReturn(Optional.of(Party.builder()
-                .id(1L)
-                .build()));
-        given(partyLikeRepository.findByParty_IdAndMember_Email(anyLong(), anyString()))
-            .willReturn(Optional.empty());
+            .willReturn(Optional.of(party));
+        given(partyLikeCounter.lockOf(anyLong(), anyString()))
+            .willReturn(new ReentrantLock());
+        given(partyLikeCounter.isLike(anyLong(), anyString()))
+            .willReturn(false);
+        given(partyLikeCounter.getLikeCount(party))
+            .willReturn(1L);
 
         // when
         PartyLikeDto.Response response = partyLikeService.partyLike(1L, Member.builder().email("123").build());
 
         // then
         assertEquals(관심모임등록, response.getResponse());
+        assertEquals(1L, response.getLikeCount());
+        verify(partyLikeRepository).save(any(PartyLike.class));
+        verify(partyLikeCounter).like(1L, "123");
+        verify(liveCounterBroadcaster).update(LiveCounterType.PARTY_LIKE, 1L, 1L);
     }
 
     @Test
     @DisplayName("좋아요 성공 - 삭제")
     void 좋아요_성공_삭제() {
         // given
+        Party party = Party.builder()
+            .id(1L)
+            .build();
+        given(partyRepository.findById(anyLong()))
+            .willReturn(Optional.of(party));
+        given(partyLikeCounter.lockOf(anyLong(), anyString()))
+            .willReturn(new ReentrantLock());
+        given(partyLikeCounter.isLike(anyLong(), anyString()))
+            .willReturn(true);
+        given(partyLikeRepository.deletePartyLike(anyLong(), any()))
+            .willReturn(1);
+
+        // when
+        PartyLikeDto.Response response = partyLikeService.partyLike(1L, Member.builder().email("123").build());
+
+        // then
+        assertEquals(관심모임취소, response.getResponse());
+        verify(partyLikeCounter).unlike(1L, "123");
+    }
+
+    @Test
+    @DisplayName("좋아요 성공 - 다른 서버에서 이미 등록된 경우 목록을 다시 읽고 삭제")
+    void 좋아요_성공_이미등록() {
+        // given
+        Party party = Party.builder()
+            .id(1L)
+            .build();
         given(partyRepository.findById(anyLong()))
-            .willReturn(Optional.of(Party.builder()
-                .id(1L)
-                .build()));
-        given(partyLikeRepository.findByParty_IdAndMember_Email(anyLong(), anyString()))
-            .willReturn(Optional.of(PartyLike.builder().build()));
+            .willReturn(Optional.of(party));
+        given(partyLikeCounter.lockOf(anyLong(), anyString()))
+            .willReturn(new ReentrantLock());
+        // 다시 읽은 목록에는 좋아요가 있다
+        given(partyLikeCounter.isLike(anyLong(), anyString()))
+            .willReturn(false, true);
+        willThrow(new DataIntegrityViolationException("uk_party_like_member"))
+            .given(partyLikeRepository).save(any(PartyLike.class));
+        given(partyLikeRepository.deletePartyLike(anyLong(), any()))
+            .willReturn(1);
 
         // when
         PartyLikeDto.Response response = partyLikeService.partyLike(1L, Member.builder().email("123").build());
 
         // then
         assertEquals(관심모임취소, response.getResponse());
+        verify(partyLikeCounter).evictMember("123");
+        verify(partyLikeCounter).unlike(1L, "123");
+        verify(partyLikeCounter, never()).like(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("좋아요 성공 - 다른 서버에서 이미 삭제된 경우 목록을 다시 읽고 등록")
+    void 좋아요_성공_이미삭제() {
+        // given
+        Party party = Party.builder()
+            .id(1L)
+            .build();
+        given(partyRepository.findById(anyLong()))
+            .willReturn(Optional.of(party));
+        given(partyLikeCounter.lockOf(anyLong(), anyString()))
+            .willReturn(new ReentrantLock());
+        // 다시 읽은 목록에는 좋아요가 없다
+        given(partyLikeCounter.isLike(anyLong(), anyString()))
+            .willReturn(true, false);
+        given(partyLikeRepository.deletePartyLike(anyLong(), any()))
+            .willReturn(0);
+
+        // when
+        PartyLikeDto.Response response = partyLikeService.partyLike(1L, Member.builder().email("123").build());
+
+        // then
+        assertEquals(관심모임등록, response.getResponse());
+        verify(partyLikeCounter).evictMember("123");
+        verify(partyLikeRepository).save(any(PartyLike.class));
+        verify(partyLikeCounter).like(1L, "123");
+        verify(partyLikeCounter, never()).unlike(anyLong(), anyString());
     }
 
     @Test
@@ -86,7 +170,7 @@ class PartyLikeServiceImplTest {
     @DisplayName("좋아요 조회 - 존재")
     void 좋아요_조회_존재() {
         // given
-        given(partyLikeRepository.existsByParty_IdAndMember_Email(anyLong(), any()))
+        given(partyLikeCounter.isLike(anyLong(), anyString()))
             .willReturn(true);
 
         // when
@@ -100,7 +184,7 @@ class PartyLikeServiceImplTest {
     @DisplayName("좋아요 조회 - 존재하지않음")
     void 좋아요_조회_존재하지않음() {
         // given
-        given(partyLikeRepository.existsByParty_IdAndMember_Email(anyLong(), any()))
+        given(partyLikeCounter.isLike(anyLong(), anyString()))
             .willReturn(false);
 
         // when
@@ -5,28 +5,52 @@ import com.example.villagerservice.member.domain.Member;
 import com.example.villagerservice.party.domain.Party;
 import com.example.villagerservice.party.domain.PartyTag;
 import com.example.villagerservice.party.dto.PartyDTO;
+import com.example.villagerservice.party.dto.PartyFacetDTO;
+import com.example.villagerservice.party.dto.PartyListCursor;
 import com.example.villagerservice.party.dto.PartyListDTO;
+import com.example.villagerservice.party.dto.PartyListPageDTO;
+import com.example.villagerservice.party.dto.PartySearchCond;
+import com.example.villagerservice.party.exception.PartyErrorCode;
+import com.example.villagerservice.party.exception.PartyException;
+import com.example.villagerservice.party.infra.PartyFacetIndex;
+import com.example.villagerservice.party.infra.PartyGeoIndex;
+import com.example.villagerservice.party.infra.PartyListCache;
 import com.example.villagerservice.party.repository.PartyQueryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.example.villagerservice.party.type.PartyAmountType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.function.LongPredicate;
 
 @ExtendWith(MockitoExtension.class)
 public class PartyQueryServiceImplTest {
 
     @Mock
     PartyQueryRepository partyQueryRepository;
+    @Mock
+    PartyGeoIndex partyGeoIndex;
+    @Mock
+    PartyFacetIndex partyFacetIndex;
+    @Spy
+    PartyListCache partyListCache = new PartyListCache(new SimpleMeterRegistry(), 100, 600);
     @InjectMocks
     PartyQueryServiceImpl partyQueryService;
 
@@ -63,13 +87,162 @@ public class PartyQueryServiceImplTest {
                 .nickname(member.getMemberDetail().getNickname())
                 .build());
 
-        given(partyQueryRepository.getPartyList(anyString() , anyDouble() , anyDouble()))
-                .willReturn(responseList);
+        given(partyQueryRepository.getPartyList(anyString() , anyDouble() , anyDouble() , any()))
+                .willReturn(PartyListPageDTO.builder()
+                        .partyList(responseList)
+                        .build());
 
-        List<PartyListDTO> partyList = partyQueryService.getPartyList(member.getEmail(), 127.1, 127.1);
+        List<PartyListDTO> partyList = partyQueryService.getPartyList(member.getEmail(), 127.1, 127.1, null, null)
+                .getPartyList();
         org.assertj.core.api.Assertions.assertThat(partyList.size()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("모임 전체 조회 시 메모리 인덱스에서 찾은 모임 id 로 조회하는지 테스트")
+    void getAllPartyWithGeoIndex(){
+
+        List<Long> partyIdList = List.of(3L, 1L);
+        List<PartyListDTO> responseList = new ArrayList<>();
+        responseList.add(PartyListDTO.builder().partyId(3L).build());
+        responseList.add(PartyListDTO.builder().partyId(1L).build());
+
+        given(partyGeoIndex.isLoaded()).willReturn(true);
+        given(partyFacetIndex.isLoaded()).willReturn(true);
+        given(partyGeoIndex.search(37.5, 127.0, null, 5, null))
+                .willReturn(List.of(PartyListCursor.of(0.3, 3L), PartyListCursor.of(0.5, 1L)));
+        given(partyQueryRepository.getPartyInfoListByIds(partyIdList))
+                .willReturn(responseList);
+
+        PartyListPageDTO result = partyQueryService.getPartyList("test@gmail.com", 37.5, 127.0, null, null);
+
+        org.assertj.core.api.Assertions.assertThat(result.getPartyList())
+                .extracting(PartyListDTO::getPartyId)
+                .containsExactly(3L, 1L);
+        org.assertj.core.api.Assertions.assertThat(result.getNextCursor()).isNull();
+        verify(partyQueryRepository, never()).getPartyList(anyString(), anyDouble(), anyDouble(), any());
+        verify(partyFacetIndex, never()).match(any());
+    }
+
+    @Test
+    @DisplayName("모임 전체 조회 시 다음 페이지 토큰으로 이어서 조회하는지 테스트")
+    void getAllPartyNextPage(){
+
+        List<PartyListCursor> firstPage = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            firstPage.add(PartyListCursor.of(id * 0.1, id));
+        }
+        List<PartyListCursor> secondPage = List.of(PartyListCursor.of(0.6, 6L));
+
+        given(partyGeoIndex.isLoaded()).willReturn(true);
+        given(partyFacetIndex.isLoaded()).willReturn(true);
+        given(partyGeoIndex.search(37.5, 127.0, null, 5, null)).willReturn(firstPage);
+        given(partyGeoIndex.search(37.5, 127.0, PartyListCursor.of(0.5, 5L), 5, null)).willReturn(secondPage);
+
+        PartyListPageDTO first = partyQueryService.getPartyList("test@gmail.com", 37.5, 127.0, null, null);
+        PartyListPageDTO second = partyQueryService.getPartyList("test@gmail.com", 37.5, 127.0, first.getNextCursor(), null);
+
+        org.assertj.core.api.Assertions.assertThat(first.getNextCursor()).isNotNull();
+        org.assertj.core.api.Assertions.assertThat(second.getNextCursor()).isNull();
+        verify(partyQueryRepository).getPartyInfoListByIds(List.of(6L));
+    }
+
+    @Test
+    @DisplayName("모임 전체 조회 시 모임 정보는 캐시에서 읽고 관심모임 여부만 회원별로 조회하는지 테스트")
+    void getAllPartyWithCache(){
+
+        List<Long> partyIdList = List.of(3L, 1L);
+        given(partyGeoIndex.isLoaded()).willReturn(true);
+        given(partyFacetIndex.isLoaded()).willReturn(true);
+        given(partyGeoIndex.search(anyDouble(), anyDouble(), any(), anyInt(), any()))
+                .willReturn(List.of(PartyListCursor.of(0.3, 3L), PartyListCursor.of(0.5, 1L)));
+        given(partyQueryRepository.getPartyInfoListByIds(partyIdList))
+                .willReturn(List.of(
+                        PartyListDTO.builder().partyId(3L).tagNameList(new ArrayList<>()).build(),
+                        PartyListDTO.builder().partyId(1L).tagNameList(new ArrayList<>()).build()));
+        given(partyQueryRepository.getLikePartyIdSet("first@gmail.com", partyIdList))
+                .willReturn(Set.of(3L));
+        given(partyQueryRepository.getLikePartyIdSet("second@gmail.com", partyIdList))
+                .willReturn(Set.of(1L));
+
+        PartyListPageDTO first = partyQueryService.getPartyList("first@gmail.com", 37.50001, 127.00001, null, null);
+        PartyListPageDTO second = partyQueryService.getPartyList("second@gmail.com", 37.50002, 127.00002, null, null);
+
+        org.assertj.core.api.Assertions.assertThat(first.getPartyList())
+                .extracting(PartyListDTO::isPartyLike)
+                .containsExactly(true, false);
+        org.assertj.core.api.Assertions.assertThat(second.getPartyList())
+                .extracting(PartyListDTO::isPartyLike)
+                .containsExactly(false, true);
+        verify(partyQueryRepository, times(1)).getPartyInfoListByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("모임 전체 조회 실패 - 잘못된 페이지 토큰")
+    void getAllPartyInvalidCursor(){
+
+        PartyException partyException = assertThrows(PartyException.class, () ->
+                partyQueryService.getPartyList("test@gmail.com", 37.5, 127.0, "not-a-cursor", null));
+
+        org.assertj.core.api.Assertions.assertThat(partyException.getErrorCode())
+                .isEqualTo(PartyErrorCode.PARTY_INVALID_CURSOR.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("모임 전체 조회 실패 - 다른 위치에서 발급한 페이지 토큰")
+    void getAllPartyCursorOfOtherOrigin(){
+
+        String cursor = PartyListCursor.of(0.5, 5L).withOrigin(37.5, 127.0).encode();
+
+        PartyException partyException = assertThrows(PartyException.class, () ->
+                partyQueryService.getPartyList("test@gmail.com", 37.6, 127.0, cursor, null));
+
+        org.assertj.core.api.Assertions.assertThat(partyException.getErrorCode())
+                .isEqualTo(PartyErrorCode.PARTY_INVALID_CURSOR.getErrorCode());
+        verify(partyGeoIndex, never()).search(anyDouble(), anyDouble(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("모임 전체 조회 시 검색 조건에 맞는 모임만 가까운 순으로 찾고 항목별 모임 수를 포함하는지 테스트")
+    void getAllPartyWithSearchCond(){
+
+        PartySearchCond searchCond = new PartySearchCond();
+        searchCond.getTagList().add("낚시");
+        searchCond.getAmountList().add(PartyAmountType.FREE);
+        LongPredicate filter = partyId -> partyId == 2L;
+        PartyFacetDTO facets = PartyFacetDTO.builder().build();
+
+        given(partyGeoIndex.isLoaded()).willReturn(true);
+        given(partyFacetIndex.isLoaded()).willReturn(true);
+        given(partyFacetIndex.match(searchCond)).willReturn(filter);
+        given(partyFacetIndex.getFacets(searchCond)).willReturn(facets);
+        given(partyGeoIndex.search(37.5, 127.0, null, 5, filter))
+                .willReturn(List.of(PartyListCursor.of(0.3, 2L)));
+        given(partyQueryRepository.getPartyInfoListByIds(List.of(2L)))
+                .willReturn(List.of(PartyListDTO.builder().partyId(2L).build()));
+
+        PartyListPageDTO result = partyQueryService.getPartyList("test@gmail.com", 37.5, 127.0, null, searchCond);
+
+        org.assertj.core.api.Assertions.assertThat(result.getPartyList())
+                .extracting(PartyListDTO::getPartyId)
+                .containsExactly(2L);
+        org.assertj.core.api.Assertions.assertThat(result.getFacets()).isSameAs(facets);
+    }
+
+    @Test
+    @DisplayName("모임 전체 조회 실패 - 인덱스 적재 전 검색 조건 조회")
+    void getAllPartySearchNotReady(){
+
+        PartySearchCond searchCond = new PartySearchCond();
+        searchCond.getTagList().add("낚시");
+
+        PartyException partyException = assertThrows(PartyException.class, () ->
+                partyQueryService.getPartyList("test@gmail.com", 37.5, 127.0, null, searchCond));
+
+        org.assertj.core.api.Assertions.assertThat(partyException.getErrorCode())
+                .isEqualTo(PartyErrorCode.PARTY_SEARCH_NOT_READY.getErrorCode());
+        verify(partyQueryRepository, never()).getPartyList(anyString(), anyDouble(), anyDouble(), any());
+    }
+
     private static PartyDTO.Request createRequest() {
         List<PartyTag> tagList = new ArrayList<>();
 
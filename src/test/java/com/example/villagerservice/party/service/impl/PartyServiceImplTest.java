@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -15,16 +16,17 @@ import com.example.villagerservice.events.service.impl.PartyCreatedEventServiceI
 import com.example.villagerservice.member.domain.Member;
 import com.example.villagerservice.member.domain.MemberRepository;
 import com.example.villagerservice.party.domain.Party;
-import com.example.villagerservice.party.domain.PartyApply;
-import com.example.villagerservice.party.domain.PartyMember;
 import com.example.villagerservice.party.domain.PartyTag;
+import com.example.villagerservice.party.dto.PartyApplyDto;
 import com.example.villagerservice.party.dto.PartyDTO;
 import com.example.villagerservice.party.dto.PartyListDTO;
+import com.example.villagerservice.party.dto.PartyListPageDTO;
 import com.example.villagerservice.party.dto.UpdatePartyDTO;
 import com.example.villagerservice.party.exception.PartyErrorCode;
 import com.example.villagerservice.party.exception.PartyException;
-import com.example.villagerservice.party.repository.PartyApplyRepository;
-import com.example.villagerservice.party.repository.PartyMemberRepository;
+import com.example.villagerservice.party.infra.PartyApplyQueryRepository;
+import com.example.villagerservice.party.infra.PartyFacetIndex;
+import com.example.villagerservice.party.infra.PartyGeoIndex;
 import com.example.villagerservice.party.repository.PartyQueryRepository;
 import com.example.villagerservice.party.repository.PartyRepository;
 import com.example.villagerservice.party.repository.PartyTagRepository;
@@ -74,10 +76,12 @@ public class PartyServiceImplTest {
     PartyApplyQueryService partyApplyQueryService;
 
     @Mock
-    PartyApplyRepository partyApplyRepository;
+    PartyApplyQueryRepository partyApplyQueryRepository;
 
     @Mock
-    PartyMemberRepository partyMemberRepository;
+    PartyGeoIndex partyGeoIndex;
+    @Mock
+    PartyFacetIndex partyFacetIndex;
 
     @InjectMocks
     PartyServiceImpl partyService;
@@ -227,7 +231,8 @@ public class PartyServiceImplTest {
 
         Party party = Party.createParty(request , member);
 
-        given(partyRepository.findById(any())).willReturn(Optional.of(party));
+        given(partyQueryRepository.getParty(partyId , member.getEmail()))
+                .willReturn(Optional.of(PartyDTO.Response.createPartyResponse(party , new ArrayList<>() , false)));
 
         PartyDTO.Response result = partyService.getParty(partyId , member.getEmail());
 
@@ -269,11 +274,14 @@ public class PartyServiceImplTest {
                 .nickname(member.getMemberDetail().getNickname())
                 .build());
 
-        given(partyQueryRepository.getPartyList(anyString() , anyDouble() , anyDouble()))
-                .willReturn(responseList);
+        given(partyQueryRepository.getPartyList(anyString() , anyDouble() , anyDouble() , any()))
+                .willReturn(PartyListPageDTO.builder()
+                        .partyList(responseList)
+                        .build());
 
 
-        List<PartyListDTO> partyList = partyQueryService.getPartyList(member.getEmail(), 127.1, 127.1);
+        List<PartyListDTO> partyList = partyQueryService.getPartyList(member.getEmail(), 127.1, 127.1, null, null)
+                .getPartyList();
 
         Assertions.assertThat(partyList.size()).isEqualTo(2);
     }
@@ -336,20 +344,17 @@ public class PartyServiceImplTest {
         LocalDate startDt = LocalDate.now();// 시작시간
         Member member = Member.builder().email("member@naver.com").build();// 모임장
         Party party = Party.builder().member(member).startDt(startDt).build();
-        List<PartyApply> partyApplyList = new ArrayList<>();
-        for(long i = 1; i <= 10; i++){
-            partyApplyList.add(PartyApply.createPartyList(party, i));
-        }
 
         given(partyRepository.findById(anyLong()))
             .willReturn(Optional.of(party));
-        given(partyApplyQueryService.getPartyApplyId(anyLong(), anyString()))
-            .willReturn(partyApplyList);// 10개 다 허락안한 신청
+        given(partyApplyQueryService.getPartyApplyCount(anyLong()))
+            .willReturn(new PartyApplyDto.Count(0, 10));// 10개 다 허락안한 신청
 
         PartyException partyException = assertThrows(PartyException.class, () -> {
             partyService.startParty(1L, member);
         });
 
+        verify(partyApplyQueryRepository, never()).promoteAcceptedApply(anyLong());
         assertThat(partyException.getErrorCode()).isEqualTo(PartyErrorCode.PARTY_MEMBER_EMPTY.getErrorCode());
         assertThat(partyException.getErrorMessage()).isEqualTo(PartyErrorCode.PARTY_MEMBER_EMPTY.getErrorMessage());
     }
@@ -361,24 +366,17 @@ public class PartyServiceImplTest {
         LocalDate startDt = LocalDate.now();// 시작시간
         Member member = Member.builder().email("member@naver.com").build();// 모임장
         Party party = Party.builder().member(member).startDt(startDt).build();
-        List<PartyApply> partyApplyList = new ArrayList<>();
-        for(long i = 1; i <= 10; i++){
-            partyApplyList.add(PartyApply.builder()
-                    .targetMemberId(i)
-                    .isAccept(true)
-                    .party(party)
-                    .build());
-        }
 
         given(partyRepository.findById(anyLong()))
             .willReturn(Optional.of(party));
-        given(partyApplyQueryService.getPartyApplyId(anyLong(), anyString()))
-            .willReturn(partyApplyList);// 10개 다 허락안한 신청
+        given(partyApplyQueryService.getPartyApplyCount(anyLong()))
+            .willReturn(new PartyApplyDto.Count(7, 3));
 
         // when
         partyService.startParty(1L, member);
 
         // then
+        verify(partyApplyQueryRepository, times(1)).promoteAcceptedApply(1L);
     }
 
     @NotNull